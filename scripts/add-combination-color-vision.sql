@@ -0,0 +1,25 @@
+-- Migration script to add the color vision deficiency scores of combinations
+-- Required for GET /api/combinations/color-vision and the minCvdDeltaE filter (production runs
+-- with spring.jpa.hibernate.ddl-auto=validate, so the columns must exist before deploying)
+
+-- Step 1: Add the per-deficiency scores (smallest CIE76 delta E between simulated colors)
+ALTER TABLE color_combination ADD COLUMN protan_min_delta_e FLOAT;
+ALTER TABLE color_combination ADD COLUMN deutan_min_delta_e FLOAT;
+ALTER TABLE color_combination ADD COLUMN tritan_min_delta_e FLOAT;
+
+-- Step 2: Add the overall score and the scoring version; NULL until ColorVisionScoringJob scores
+-- existing rows at startup
+ALTER TABLE color_combination ADD COLUMN cvd_min_delta_e FLOAT;
+ALTER TABLE color_combination ADD COLUMN cvd_score_version INTEGER;
+
+-- Step 3: Index the ranked and filtered columns
+CREATE INDEX IF NOT EXISTS idx_comb_protan_delta_e ON color_combination (protan_min_delta_e);
+CREATE INDEX IF NOT EXISTS idx_comb_deutan_delta_e ON color_combination (deutan_min_delta_e);
+CREATE INDEX IF NOT EXISTS idx_comb_tritan_delta_e ON color_combination (tritan_min_delta_e);
+CREATE INDEX IF NOT EXISTS idx_comb_cvd_delta_e ON color_combination (cvd_min_delta_e);
+CREATE INDEX IF NOT EXISTS idx_comb_cvd_version ON color_combination (cvd_score_version);
+
+-- Verify the migration
+SELECT 'Migration completed successfully. Combinations now carry color vision scores.' AS status;
+SELECT COUNT(*) AS total_combinations, COUNT(cvd_min_delta_e) AS scored_combinations
+FROM color_combination;
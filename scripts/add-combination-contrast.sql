@@ -0,0 +1,21 @@
+-- Migration script to add the WCAG contrast columns of combinations
+-- Required for contrast filters and GET /api/combinations/{id}/contrast (production runs with
+-- spring.jpa.hibernate.ddl-auto=validate, so the columns must exist before deploying)
+
+-- Step 1: Add the contrast columns; NULL until ContrastBackfill fills existing rows at startup
+ALTER TABLE color_combination ADD COLUMN min_contrast FLOAT;
+ALTER TABLE color_combination ADD COLUMN max_contrast FLOAT;
+ALTER TABLE color_combination ADD COLUMN aa_pair_count INTEGER;
+
+-- Step 2: Add the pair ratio matrix (two-decimal ratios in upper-triangle position order)
+ALTER TABLE color_combination ADD COLUMN contrast_matrix VARCHAR(1000000);
+
+-- Step 3: Index the filterable columns
+CREATE INDEX IF NOT EXISTS idx_comb_min_contrast ON color_combination (min_contrast);
+CREATE INDEX IF NOT EXISTS idx_comb_max_contrast ON color_combination (max_contrast);
+CREATE INDEX IF NOT EXISTS idx_comb_aa_pairs ON color_combination (aa_pair_count);
+
+-- Verify the migration
+SELECT 'Migration completed successfully. Combinations now carry contrast columns.' AS status;
+SELECT COUNT(*) AS total_combinations, COUNT(min_contrast) AS scored_combinations
+FROM color_combination;
@@ -0,0 +1,13 @@
+-- Migration script to add optimistic-locking version and last-modified columns
+-- Required for ETag / If-Match support on combination views and API (production runs with
+-- spring.jpa.hibernate.ddl-auto=validate, so the columns must exist before deploying)
+
+-- Step 1: Add the version column; existing rows start at version 0
+ALTER TABLE color_combination ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Step 2: Add the last-modified column; NULL means "never modified since creation"
+ALTER TABLE color_combination ADD COLUMN updated_at TIMESTAMP;
+
+-- Verify the migration
+SELECT 'Migration completed successfully. Combinations now carry version and updated_at.' AS status;
+SELECT COUNT(*) AS total_combinations, MAX(version) AS max_version FROM color_combination;
@@ -0,0 +1,28 @@
+-- Migration script to add the palette fingerprints and duplicate clusters of combinations
+-- Required for duplicate detection (production runs with spring.jpa.hibernate.ddl-auto=validate,
+-- so the columns must exist before deploying)
+
+-- Step 1: Add the exact palette hashes (color set, and colors in position order); NULL until
+-- FingerprintBackfill fills existing rows at startup
+ALTER TABLE color_combination ADD COLUMN palette_hash BIGINT;
+ALTER TABLE color_combination ADD COLUMN palette_order_hash BIGINT;
+
+-- Step 2: Add the near-duplicate signatures (quantized CIELAB, and shifted by half a cell)
+ALTER TABLE color_combination ADD COLUMN palette_signature BIGINT;
+ALTER TABLE color_combination ADD COLUMN palette_signature_shifted BIGINT;
+
+-- Step 3: Add the duplicate cluster; NULL until DuplicateClusteringJob groups the combinations
+ALTER TABLE color_combination ADD COLUMN duplicate_cluster_id BIGINT;
+
+-- Step 4: Index the lookup columns
+CREATE INDEX IF NOT EXISTS idx_comb_palette_hash ON color_combination (palette_hash);
+CREATE INDEX IF NOT EXISTS idx_comb_palette_order_hash ON color_combination (palette_order_hash);
+CREATE INDEX IF NOT EXISTS idx_comb_palette_signature ON color_combination (palette_signature);
+CREATE INDEX IF NOT EXISTS idx_comb_palette_signature_shifted
+   ON color_combination (palette_signature_shifted);
+CREATE INDEX IF NOT EXISTS idx_comb_duplicate_cluster ON color_combination (duplicate_cluster_id);
+
+-- Verify the migration
+SELECT 'Migration completed successfully. Combinations now carry palette fingerprints.' AS status;
+SELECT COUNT(*) AS total_combinations, COUNT(palette_hash) AS fingerprinted_combinations
+FROM color_combination;
@@ -0,0 +1,29 @@
+-- Migration script to add the perceptual components of colors and combinations
+-- Required for lightness, chroma and hue filters (production runs with
+-- spring.jpa.hibernate.ddl-auto=validate, so the columns must exist before deploying)
+
+-- Step 1: Add the per-color components; NULL until PerceptualBackfill fills existing rows at
+-- startup
+ALTER TABLE color_in_combination ADD COLUMN hsl_hue FLOAT;
+ALTER TABLE color_in_combination ADD COLUMN oklch_lightness FLOAT;
+ALTER TABLE color_in_combination ADD COLUMN oklch_chroma FLOAT;
+
+-- Step 2: Add the per-combination aggregates
+ALTER TABLE color_combination ADD COLUMN avg_lightness FLOAT;
+ALTER TABLE color_combination ADD COLUMN min_lightness FLOAT;
+ALTER TABLE color_combination ADD COLUMN max_lightness FLOAT;
+ALTER TABLE color_combination ADD COLUMN avg_chroma FLOAT;
+ALTER TABLE color_combination ADD COLUMN hue_spread FLOAT;
+
+-- Step 3: Index the filterable columns
+CREATE INDEX IF NOT EXISTS idx_color_hsl_hue ON color_in_combination (hsl_hue);
+CREATE INDEX IF NOT EXISTS idx_color_oklch_lightness ON color_in_combination (oklch_lightness);
+CREATE INDEX IF NOT EXISTS idx_color_oklch_chroma ON color_in_combination (oklch_chroma);
+CREATE INDEX IF NOT EXISTS idx_comb_avg_lightness ON color_combination (avg_lightness);
+CREATE INDEX IF NOT EXISTS idx_comb_avg_chroma ON color_combination (avg_chroma);
+CREATE INDEX IF NOT EXISTS idx_comb_hue_spread ON color_combination (hue_spread);
+
+-- Verify the migration
+SELECT 'Migration completed successfully. Colors now carry perceptual components.' AS status;
+SELECT COUNT(*) AS total_colors, COUNT(oklch_lightness) AS computed_colors
+FROM color_in_combination;
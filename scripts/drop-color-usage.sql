@@ -0,0 +1,11 @@
+-- Migration script to drop the color_usage table
+-- Color usage counts are rebuilt in memory at startup and no longer persisted. Only databases
+-- where ddl-auto=update created the table have it; the script is a no-op elsewhere
+
+-- Step 1: Drop the count index and the table
+DROP INDEX IF EXISTS idx_color_usage_count;
+DROP TABLE IF EXISTS color_usage;
+
+-- Verify the migration
+SELECT 'Migration completed successfully. The color_usage table is gone.' AS status;
+SELECT COUNT(*) AS remaining_tables FROM sqlite_master WHERE name = 'color_usage';
@@ -0,0 +1,52 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks in-memory position reordering on a {@link ColorCombination}. Each invocation removes
+ * the first color (forcing every remaining color to shift down) and appends it again so the entity
+ * stays at a steady size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColorCombinationBenchmark {
+
+   @Param({"3", "10"})
+   private int colorCount;
+
+   private ColorCombination combination;
+
+   @Setup
+   public void setUp() {
+      combination = new ColorCombination("Benchmark Palette");
+      for (int i = 1; i <= colorCount; i++) {
+         String hexValue = String.format("%06X", i * 0x1A2B3C & 0xFFFFFF);
+         combination.addColor(new ColorInCombination(hexValue, i));
+      }
+   }
+
+   @Benchmark
+   public ColorCombination removeFirstAndAppend() {
+      String hexValue = combination.getColors().get(0).getHexValue();
+      combination.removeColorAtPosition(1);
+      combination.addColorAtPosition(hexValue, combination.getNextAvailablePosition());
+      return combination;
+   }
+}
@@ -0,0 +1,63 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.aspect;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import dev.kreaker.kolors.service.ColorCombinationService;
+import dev.kreaker.kolors.service.PerformanceMonitoringService;
+
+/**
+ * Measures the per-call cost of {@link PerformanceMonitoringAspect}. The difference between
+ * {@code monitored} and {@code baseline} is the overhead the aspect adds to every service call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceMonitoringAspectBenchmark {
+
+   @Param({"full", "low-overhead", "off"})
+   private String mode;
+
+   @Param({"1.0", "0.01"})
+   private double sampleRate;
+
+   private ColorCombinationService direct;
+   private ColorCombinationService monitored;
+
+   @Setup
+   public void setUp() {
+      direct = new ColorCombinationService(null, null, null, null);
+
+      AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+      factory.setProxyTargetClass(true);
+      factory.addAspect(new PerformanceMonitoringAspect(new PerformanceMonitoringService(), mode,
+               sampleRate));
+      monitored = factory.getProxy();
+   }
+
+   @Benchmark
+   public boolean baseline() {
+      return direct.isValidHexColor("FF5733");
+   }
+
+   @Benchmark
+   public boolean monitored() {
+      return monitored.isValidHexColor("FF5733");
+   }
+}
@@ -0,0 +1,88 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one conversion to and one back from each color space. Run with
+ * {@code -PjmhProfilers=gc}; every benchmark should report {@code gc.alloc.rate.norm} of 0 B/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColorSpacesBenchmark {
+
+   private static final int COLOR_COUNT = 1024;
+
+   private final int[] colors = new int[COLOR_COUNT];
+   private final double[] out = new double[3];
+   private int next;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(42);
+      for (int i = 0; i < COLOR_COUNT; i++) {
+         colors[i] = random.nextInt(0x1000000);
+      }
+   }
+
+   private int nextColor() {
+      return colors[next++ & (COLOR_COUNT - 1)];
+   }
+
+   @Benchmark
+   public int linearRoundTrip() {
+      ColorSpaces.toLinear(nextColor(), out, 0);
+      return ColorSpaces.fromLinear(out[0], out[1], out[2]);
+   }
+
+   @Benchmark
+   public int hslRoundTrip() {
+      ColorSpaces.toHsl(nextColor(), out, 0);
+      return ColorSpaces.fromHsl(out[0], out[1], out[2]);
+   }
+
+   @Benchmark
+   public int hsvRoundTrip() {
+      ColorSpaces.toHsv(nextColor(), out, 0);
+      return ColorSpaces.fromHsv(out[0], out[1], out[2]);
+   }
+
+   @Benchmark
+   public int labRoundTrip() {
+      ColorSpaces.toLab(nextColor(), out, 0);
+      return ColorSpaces.fromLab(out[0], out[1], out[2]);
+   }
+
+   @Benchmark
+   public int oklabRoundTrip() {
+      ColorSpaces.toOklab(nextColor(), out, 0);
+      return ColorSpaces.fromOklab(out[0], out[1], out[2]);
+   }
+
+   @Benchmark
+   public int oklchRoundTrip() {
+      ColorSpaces.toOklch(nextColor(), out, 0);
+      return ColorSpaces.fromOklchInGamut(out[0], out[1], out[2]);
+   }
+
+   @Benchmark
+   public int parseHex() {
+      return Rgb.parseHex("3A7BD5");
+   }
+}
@@ -0,0 +1,97 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the scalar and Vector API {@link DeltaEKernel}s on one query against {@code points}
+ * random CIELAB colors: 148 is the CSS color name list, 100000 a large library scan. The vector
+ * benchmarks fail at setup when the JVM was started without {@code jdk.incubator.vector}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeltaEKernelBenchmark {
+
+   private static final int QUERY_COUNT = 256;
+
+   @Param({"148", "1024", "100000"})
+   private int points;
+
+   private DeltaEKernel scalar;
+   private DeltaEKernel vector;
+   private float[] ls;
+   private float[] as;
+   private float[] bs;
+   private float[] out;
+   private final float[] queries = new float[QUERY_COUNT * 3];
+   private int next;
+
+   @Setup
+   public void setUp() {
+      scalar = DeltaEKernels.scalar();
+      vector = DeltaEKernels.vector().orElseThrow(
+               () -> new IllegalStateException("Run with --add-modules jdk.incubator.vector"));
+      Random random = new Random(42);
+      ls = new float[points];
+      as = new float[points];
+      bs = new float[points];
+      out = new float[points];
+      float[] lab = new float[3];
+      for (int i = 0; i < points; i++) {
+         ColorSpaces.toLab(random.nextInt(0x1000000), lab, 0);
+         ls[i] = lab[0];
+         as[i] = lab[1];
+         bs[i] = lab[2];
+      }
+      for (int i = 0; i < QUERY_COUNT; i++) {
+         ColorSpaces.toLab(random.nextInt(0x1000000), queries, i * 3);
+      }
+   }
+
+   private int nextQuery() {
+      return (next++ & (QUERY_COUNT - 1)) * 3;
+   }
+
+   @Benchmark
+   public float[] scalarDistances() {
+      int q = nextQuery();
+      scalar.squaredDistances(queries[q], queries[q + 1], queries[q + 2], ls, as, bs, points, out);
+      return out;
+   }
+
+   @Benchmark
+   public float[] vectorDistances() {
+      int q = nextQuery();
+      vector.squaredDistances(queries[q], queries[q + 1], queries[q + 2], ls, as, bs, points, out);
+      return out;
+   }
+
+   @Benchmark
+   public int scalarNearest() {
+      int q = nextQuery();
+      return scalar.nearest(queries[q], queries[q + 1], queries[q + 2], ls, as, bs, points);
+   }
+
+   @Benchmark
+   public int vectorNearest() {
+      int q = nextQuery();
+      return vector.nearest(queries[q], queries[q + 1], queries[q + 2], ls, as, bs, points);
+   }
+}
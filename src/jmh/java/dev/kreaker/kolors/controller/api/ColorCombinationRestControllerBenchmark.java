@@ -0,0 +1,87 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+import dev.kreaker.kolors.dto.ColorCombinationResponse;
+
+/**
+ * Benchmarks the AJAX response building of {@link ColorCombinationRestController}: creating the
+ * response object alone, serializing it to JSON as the message converter would, and serializing it
+ * through the pre-resolved writers of the JSON API (full and with a field selection).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColorCombinationRestControllerBenchmark {
+
+   @Param({"3", "10"})
+   private int colorCount;
+
+   private ColorCombinationRestController controller;
+   private ObjectMapper objectMapper;
+   private CombinationJsonWriters jsonWriters;
+   private ColorCombination combination;
+
+   @Setup
+   public void setUp() {
+      // Response building does not touch the service
+      objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+      controller = new ColorCombinationRestController(null, objectMapper);
+      jsonWriters = new CombinationJsonWriters(objectMapper);
+
+      combination = new ColorCombination("Benchmark Palette");
+      combination.setId(1L);
+      combination.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0));
+      for (int i = 1; i <= colorCount; i++) {
+         ColorInCombination color =
+                  new ColorInCombination(String.format("%06X", i * 0x1A2B3C & 0xFFFFFF), i);
+         color.setId((long) i);
+         combination.addColor(color);
+      }
+   }
+
+   @Benchmark
+   public ColorCombinationResponse buildResponse() {
+      return controller.createCombinationResponse(combination);
+   }
+
+   @Benchmark
+   public byte[] buildAndSerializeResponse() throws JsonProcessingException {
+      return objectMapper.writeValueAsBytes(controller.createCombinationResponse(combination));
+   }
+
+   @Benchmark
+   public byte[] buildAndWritePreResolved() throws JsonProcessingException {
+      return jsonWriters.writeDetail(controller.createCombinationResponse(combination),
+               CombinationJsonWriters.ALL_FIELDS);
+   }
+
+   @Benchmark
+   public byte[] buildAndWriteSelectedFields() throws JsonProcessingException {
+      return jsonWriters.writeDetail(controller.createCombinationResponse(combination),
+               "colors,id");
+   }
+}
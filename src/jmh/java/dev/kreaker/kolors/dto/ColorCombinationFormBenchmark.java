@@ -0,0 +1,56 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+
+/** Benchmarks for the entity/form conversions used by every edit page and form submission */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColorCombinationFormBenchmark {
+
+   @Param({"3", "10"})
+   private int colorCount;
+
+   private ColorCombination entity;
+   private ColorCombinationForm form;
+
+   @Setup
+   public void setUp() {
+      entity = new ColorCombination("Benchmark Palette");
+      entity.setId(1L);
+      // Insert in reverse so fromEntity has to sort by position
+      for (int i = colorCount; i >= 1; i--) {
+         entity.addColor(new ColorInCombination(String.format("%06X", i * 0x1A2B3C & 0xFFFFFF), i));
+      }
+      form = ColorCombinationForm.fromEntity(entity);
+   }
+
+   @Benchmark
+   public ColorCombinationForm fromEntity() {
+      return ColorCombinationForm.fromEntity(entity);
+   }
+
+   @Benchmark
+   public ColorCombination toEntity() {
+      return form.toEntity();
+   }
+}
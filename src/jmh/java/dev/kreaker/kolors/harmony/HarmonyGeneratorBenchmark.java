@@ -0,0 +1,58 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.harmony;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures palette generation per seed. Run with {@code -prof gc} to confirm that generating into
+ * reused output and scratch arrays allocates nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HarmonyGeneratorBenchmark {
+
+   private static final int SEED_COUNT = 1024;
+
+   @Param({"COMPLEMENTARY", "TRIADIC", "ANALOGOUS", "MONOCHROMATIC"})
+   private HarmonyType type;
+
+   @Param({"HSL", "OKLCH"})
+   private HarmonySpace space;
+
+   private final int[] seeds = new int[SEED_COUNT];
+   private final int[] out = new int[8];
+   private final double[] scratch = new double[HarmonyGenerator.SCRATCH_LENGTH];
+   private int next;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(42);
+      for (int i = 0; i < SEED_COUNT; i++) {
+         seeds[i] = random.nextInt(0x1000000);
+      }
+   }
+
+   @Benchmark
+   public int generate() {
+      int seed = seeds[next++ & (SEED_COUNT - 1)];
+      int count = HarmonyGenerator.generate(seed, type, space, out, scratch);
+      return out[count - 1];
+   }
+}
@@ -0,0 +1,91 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.palette;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+
+/**
+ * Measures palette extraction from a 12-megapixel (4000×3000) photo-like JPEG: the full upload
+ * path (subsampled decode plus clustering) and clustering alone over the subsampled pixels, with
+ * 1 and 4 fork/join workers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaletteExtractionBenchmark {
+
+   private static final int WIDTH = 4000;
+   private static final int HEIGHT = 3000;
+
+   @Param({"1", "4"})
+   private int parallelism;
+
+   private PaletteExtractionService service;
+   private ForkJoinPool pool;
+   private byte[] jpeg;
+   private int[] sampled;
+   private final int[] out = new int[PaletteExtractor.MAX_COLORS];
+
+   @Setup
+   public void setUp() throws IOException {
+      // Smooth gradients with noise, so most histogram bins are in use as in a real photo
+      BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+      Random random = new Random(42);
+      for (int y = 0; y < HEIGHT; y++) {
+         for (int x = 0; x < WIDTH; x++) {
+            int noise = random.nextInt(16);
+            image.setRGB(x, y, (x * 240 / WIDTH + noise) << 16 | (y * 240 / HEIGHT + noise) << 8
+                     | ((x + y) * 240 / (WIDTH + HEIGHT) + noise));
+         }
+      }
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ImageIO.write(image, "jpg", bytes);
+      jpeg = bytes.toByteArray();
+      service = new PaletteExtractionService(262_144, 100_000_000, parallelism);
+      sampled = service.decode(new ByteArrayInputStream(jpeg));
+      pool = new ForkJoinPool(parallelism);
+   }
+
+   @TearDown
+   public void tearDown() {
+      service.shutdown();
+      pool.shutdown();
+   }
+
+   @Benchmark
+   public ColorCombinationForm decodeAndExtract() throws IOException {
+      return service.extract(new ByteArrayInputStream(jpeg), "Benchmark",
+               PaletteExtractor.MAX_COLORS);
+   }
+
+   @Benchmark
+   public int extract() {
+      return PaletteExtractor.extract(sampled, sampled.length, PaletteExtractor.MAX_COLORS,
+               pool, out);
+   }
+}
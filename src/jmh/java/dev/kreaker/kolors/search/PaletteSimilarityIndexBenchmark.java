@@ -0,0 +1,78 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kreaker.kolors.dto.SimilarCombination;
+
+/**
+ * Measures similar-palette queries against libraries of random palettes. {@code exhaustive}
+ * computes the exact distance to every palette and is the cost the grid index avoids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PaletteSimilarityIndexBenchmark {
+
+   private static final int QUERY_COUNT = 256;
+
+   @Param({"100000", "1000000"})
+   private int palettes;
+
+   private PaletteSimilarityIndex index;
+   private PaletteSimilarityIndex exhaustive;
+   private final int[][] queries = new int[QUERY_COUNT][];
+   private int next;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(42);
+      index = new PaletteSimilarityIndex(null, null, 256, 20);
+      for (long id = 1; id <= palettes; id++) {
+         index.put(id, null, randomPalette(random));
+      }
+      exhaustive = new PaletteSimilarityIndex(null, null, palettes, 20);
+      for (long id = 1; id <= 10_000; id++) {
+         exhaustive.put(id, null, randomPalette(random));
+      }
+      for (int i = 0; i < QUERY_COUNT; i++) {
+         queries[i] = randomPalette(random);
+      }
+   }
+
+   private static int[] randomPalette(Random random) {
+      int[] colors = new int[2 + random.nextInt(5)];
+      for (int i = 0; i < colors.length; i++) {
+         colors[i] = random.nextInt(0x1000000);
+      }
+      return colors;
+   }
+
+   @Benchmark
+   public List<SimilarCombination> indexed() {
+      return index.findSimilar(queries[next++ & (QUERY_COUNT - 1)], 10);
+   }
+
+   /** Exact distance to 10,000 palettes; scale linearly for larger libraries */
+   @Benchmark
+   public List<SimilarCombination> exhaustive() {
+      return exhaustive.findSimilar(queries[next++ & (QUERY_COUNT - 1)], 10);
+   }
+}
@@ -0,0 +1,67 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+
+/** Benchmarks for hex validation and form validation in {@link ColorCombinationService} */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColorCombinationServiceBenchmark {
+
+   @Param({"3", "10"})
+   private int colorCount;
+
+   private ColorCombinationService service;
+   private ColorCombinationForm validForm;
+
+   @Setup
+   public void setUp() {
+      // Validation does not touch the repositories
+      service = new ColorCombinationService(null, null, null, null);
+
+      List<ColorForm> colors = new ArrayList<>();
+      for (int i = 0; i < colorCount; i++) {
+         colors.add(new ColorForm(String.format("%06X", i * 0x1A2B3C & 0xFFFFFF), i + 1));
+      }
+      validForm = new ColorCombinationForm("Benchmark Palette");
+      validForm.setColors(colors);
+   }
+
+   @Benchmark
+   public boolean isValidHexColorValid() {
+      return service.isValidHexColor("FF5733");
+   }
+
+   @Benchmark
+   public boolean isValidHexColorInvalid() {
+      return service.isValidHexColor("GG5733");
+   }
+
+   @Benchmark
+   public void validateForm(Blackhole blackhole) {
+      service.validateForm(validForm);
+      blackhole.consume(validForm);
+   }
+}
@@ -0,0 +1,75 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kreaker.kolors.service.PerformanceMonitoringService.OperationTimer;
+
+/**
+ * Measures metric recording under contention: four threads hammer either a single hot operation
+ * or a spread of operations, through the name-based API and through cached timer handles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class PerformanceMonitoringServiceBenchmark {
+
+   private static final Duration EXECUTION_TIME = Duration.ofMillis(3);
+   private static final long EXECUTION_TIME_NANOS = EXECUTION_TIME.toNanos();
+
+   @Param({"1", "16"})
+   private int operations;
+
+   private PerformanceMonitoringService service;
+   private String[] operationNames;
+   private OperationTimer[] timers;
+
+   @Setup
+   public void setUp() {
+      service = new PerformanceMonitoringService();
+      operationNames = new String[operations];
+      timers = new OperationTimer[operations];
+      for (int i = 0; i < operations; i++) {
+         operationNames[i] = "ColorCombinationRepository.operation" + i;
+         timers[i] = service.databaseOperationTimer(operationNames[i]);
+      }
+   }
+
+   @State(Scope.Thread)
+   public static class ThreadCursor {
+      int count;
+
+      /** Next index below {@code bound}; floorMod stays in range once the counter wraps */
+      int next(int bound) {
+         return Math.floorMod(count++, bound);
+      }
+   }
+
+   @Benchmark
+   public void recordDatabaseOperation(ThreadCursor cursor) {
+      service.recordDatabaseOperation(operationNames[cursor.next(operations)], EXECUTION_TIME);
+   }
+
+   @Benchmark
+   public void recordWithTimerHandle(ThreadCursor cursor) {
+      service.record(timers[cursor.next(operations)], EXECUTION_TIME_NANOS);
+   }
+}
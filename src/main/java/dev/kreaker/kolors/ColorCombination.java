@@ -6,8 +6,12 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +23,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -29,7 +34,26 @@ import jakarta.validation.constraints.Size;
          indexes = {@Index(name = "idx_comb_name", columnList = "name"),
                   @Index(name = "idx_comb_created", columnList = "created_at"),
                   @Index(name = "idx_comb_count", columnList = "color_count"),
-                  @Index(name = "idx_comb_name_count", columnList = "name, color_count")})
+                  @Index(name = "idx_comb_name_count", columnList = "name, color_count"),
+                  @Index(name = "idx_comb_min_contrast", columnList = "min_contrast"),
+                  @Index(name = "idx_comb_max_contrast", columnList = "max_contrast"),
+                  @Index(name = "idx_comb_aa_pairs", columnList = "aa_pair_count"),
+                  @Index(name = "idx_comb_protan_delta_e", columnList = "protan_min_delta_e"),
+                  @Index(name = "idx_comb_deutan_delta_e", columnList = "deutan_min_delta_e"),
+                  @Index(name = "idx_comb_tritan_delta_e", columnList = "tritan_min_delta_e"),
+                  @Index(name = "idx_comb_cvd_delta_e", columnList = "cvd_min_delta_e"),
+                  @Index(name = "idx_comb_cvd_version", columnList = "cvd_score_version"),
+                  @Index(name = "idx_comb_avg_lightness", columnList = "avg_lightness"),
+                  @Index(name = "idx_comb_avg_chroma", columnList = "avg_chroma"),
+                  @Index(name = "idx_comb_hue_spread", columnList = "hue_spread"),
+                  @Index(name = "idx_comb_palette_hash", columnList = "palette_hash"),
+                  @Index(name = "idx_comb_palette_order_hash", columnList = "palette_order_hash"),
+                  @Index(name = "idx_comb_palette_signature", columnList = "palette_signature"),
+                  @Index(name = "idx_comb_palette_signature_shifted",
+                           columnList = "palette_signature_shifted"),
+                  @Index(name = "idx_comb_duplicate_cluster", columnList = "duplicate_cluster_id")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ColorCombination {
 
    @Id
@@ -45,8 +69,18 @@ public class ColorCombination {
    @Column(nullable = false, name = "created_at")
    private LocalDateTime createdAt;
 
+   // Incremented by Hibernate on every change; exposed to clients as the entity tag
+   @Version
+   @ColumnDefault("0")
+   @Column(nullable = false)
+   private Long version;
+
+   @Column(name = "updated_at")
+   private LocalDateTime updatedAt;
+
    @OneToMany(mappedBy = "combination", cascade = CascadeType.ALL, fetch = FetchType.LAZY,
             orphanRemoval = true)
+   @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
    private List<ColorInCombination> colors = new ArrayList<>();
 
    @NotNull(message = "Must have at least one color")
@@ -54,6 +88,75 @@ public class ColorCombination {
    @Column(nullable = false, name = "color_count")
    private Integer colorCount;
 
+   // WCAG contrast of every color pair, computed on write by ColorCombinationService; null until
+   // computed, and min/max stay null for single-color combinations
+   @Column(name = "min_contrast")
+   private Double minContrast;
+
+   @Column(name = "max_contrast")
+   private Double maxContrast;
+
+   @Column(name = "aa_pair_count")
+   private Integer aaPairCount;
+
+   // Pair ratios in upper-triangle position order, see WcagContrast; empty when there are more
+   // colors than WcagContrast.MAX_STORED_COLORS
+   @Column(name = "contrast_matrix", length = 1_000_000)
+   private String contrastMatrix;
+
+   // Smallest pairwise CIELAB ΔE under each simulated color vision deficiency (see ColorVision)
+   // and the smallest of the three; null for single-color combinations
+   @Column(name = "protan_min_delta_e")
+   private Double protanopiaMinDeltaE;
+
+   @Column(name = "deutan_min_delta_e")
+   private Double deuteranopiaMinDeltaE;
+
+   @Column(name = "tritan_min_delta_e")
+   private Double tritanopiaMinDeltaE;
+
+   @Column(name = "cvd_min_delta_e")
+   private Double colorVisionMinDeltaE;
+
+   // ColorVision.SCORE_VERSION the scores were computed with; null until scored
+   @Column(name = "cvd_score_version")
+   private Integer colorVisionScoreVersion;
+
+   // Aggregates of the colors' OKLCH lightness (percent) and chroma, and the width in degrees of
+   // the smallest arc holding their HSL hues (grays excluded); null when there are no colors
+   @Column(name = "avg_lightness")
+   private Double averageLightness;
+
+   @Column(name = "min_lightness")
+   private Double minLightness;
+
+   @Column(name = "max_lightness")
+   private Double maxLightness;
+
+   @Column(name = "avg_chroma")
+   private Double averageChroma;
+
+   @Column(name = "hue_spread")
+   private Double hueSpread;
+
+   // PaletteFingerprint hashes of the colors: any order, position order, and the two quantized
+   // CIELAB signatures; null until computed
+   @Column(name = "palette_hash")
+   private Long paletteHash;
+
+   @Column(name = "palette_order_hash")
+   private Long paletteOrderHash;
+
+   @Column(name = "palette_signature")
+   private Long paletteSignature;
+
+   @Column(name = "palette_signature_shifted")
+   private Long paletteShiftedSignature;
+
+   // Lowest ID of the near-duplicate cluster found by DuplicateClusteringJob; null when alone
+   @Column(name = "duplicate_cluster_id")
+   private Long duplicateClusterId;
+
    // Constructors
    public ColorCombination() {
       this.createdAt = LocalDateTime.now();
@@ -96,6 +199,35 @@ public class ColorCombination {
       this.createdAt = createdAt;
    }
 
+   public Long getVersion() {
+      return version;
+   }
+
+   public void setVersion(Long version) {
+      this.version = version;
+   }
+
+   public LocalDateTime getUpdatedAt() {
+      return updatedAt;
+   }
+
+   public void setUpdatedAt(LocalDateTime updatedAt) {
+      this.updatedAt = updatedAt;
+   }
+
+   /** Gets the time of the last modification, or the creation time if never modified */
+   public LocalDateTime getLastModified() {
+      return updatedAt != null ? updatedAt : createdAt;
+   }
+
+   /**
+    * Marks the combination as modified. Also makes the entity dirty, so its version is incremented
+    * even when only its colors changed (e.g. position shifts)
+    */
+   public void touch() {
+      this.updatedAt = LocalDateTime.now();
+   }
+
    public String getFormattedCreatedAt() {
       if (createdAt == null) {
          return "";
@@ -126,6 +258,158 @@ public class ColorCombination {
       this.colorCount = colorCount;
    }
 
+   public Double getMinContrast() {
+      return minContrast;
+   }
+
+   public void setMinContrast(Double minContrast) {
+      this.minContrast = minContrast;
+   }
+
+   public Double getMaxContrast() {
+      return maxContrast;
+   }
+
+   public void setMaxContrast(Double maxContrast) {
+      this.maxContrast = maxContrast;
+   }
+
+   public Integer getAaPairCount() {
+      return aaPairCount;
+   }
+
+   public void setAaPairCount(Integer aaPairCount) {
+      this.aaPairCount = aaPairCount;
+   }
+
+   public String getContrastMatrix() {
+      return contrastMatrix;
+   }
+
+   public void setContrastMatrix(String contrastMatrix) {
+      this.contrastMatrix = contrastMatrix;
+   }
+
+   public Double getProtanopiaMinDeltaE() {
+      return protanopiaMinDeltaE;
+   }
+
+   public void setProtanopiaMinDeltaE(Double protanopiaMinDeltaE) {
+      this.protanopiaMinDeltaE = protanopiaMinDeltaE;
+   }
+
+   public Double getDeuteranopiaMinDeltaE() {
+      return deuteranopiaMinDeltaE;
+   }
+
+   public void setDeuteranopiaMinDeltaE(Double deuteranopiaMinDeltaE) {
+      this.deuteranopiaMinDeltaE = deuteranopiaMinDeltaE;
+   }
+
+   public Double getTritanopiaMinDeltaE() {
+      return tritanopiaMinDeltaE;
+   }
+
+   public void setTritanopiaMinDeltaE(Double tritanopiaMinDeltaE) {
+      this.tritanopiaMinDeltaE = tritanopiaMinDeltaE;
+   }
+
+   public Double getColorVisionMinDeltaE() {
+      return colorVisionMinDeltaE;
+   }
+
+   public void setColorVisionMinDeltaE(Double colorVisionMinDeltaE) {
+      this.colorVisionMinDeltaE = colorVisionMinDeltaE;
+   }
+
+   public Integer getColorVisionScoreVersion() {
+      return colorVisionScoreVersion;
+   }
+
+   public void setColorVisionScoreVersion(Integer colorVisionScoreVersion) {
+      this.colorVisionScoreVersion = colorVisionScoreVersion;
+   }
+
+   public Double getAverageLightness() {
+      return averageLightness;
+   }
+
+   public void setAverageLightness(Double averageLightness) {
+      this.averageLightness = averageLightness;
+   }
+
+   public Double getMinLightness() {
+      return minLightness;
+   }
+
+   public void setMinLightness(Double minLightness) {
+      this.minLightness = minLightness;
+   }
+
+   public Double getMaxLightness() {
+      return maxLightness;
+   }
+
+   public void setMaxLightness(Double maxLightness) {
+      this.maxLightness = maxLightness;
+   }
+
+   public Double getAverageChroma() {
+      return averageChroma;
+   }
+
+   public void setAverageChroma(Double averageChroma) {
+      this.averageChroma = averageChroma;
+   }
+
+   public Double getHueSpread() {
+      return hueSpread;
+   }
+
+   public void setHueSpread(Double hueSpread) {
+      this.hueSpread = hueSpread;
+   }
+
+   public Long getPaletteHash() {
+      return paletteHash;
+   }
+
+   public void setPaletteHash(Long paletteHash) {
+      this.paletteHash = paletteHash;
+   }
+
+   public Long getPaletteOrderHash() {
+      return paletteOrderHash;
+   }
+
+   public void setPaletteOrderHash(Long paletteOrderHash) {
+      this.paletteOrderHash = paletteOrderHash;
+   }
+
+   public Long getPaletteSignature() {
+      return paletteSignature;
+   }
+
+   public void setPaletteSignature(Long paletteSignature) {
+      this.paletteSignature = paletteSignature;
+   }
+
+   public Long getPaletteShiftedSignature() {
+      return paletteShiftedSignature;
+   }
+
+   public void setPaletteShiftedSignature(Long paletteShiftedSignature) {
+      this.paletteShiftedSignature = paletteShiftedSignature;
+   }
+
+   public Long getDuplicateClusterId() {
+      return duplicateClusterId;
+   }
+
+   public void setDuplicateClusterId(Long duplicateClusterId) {
+      this.duplicateClusterId = duplicateClusterId;
+   }
+
    // Helper methods for dynamic color management
    public void addColor(ColorInCombination color) {
       if (color != null) {
@@ -181,6 +465,6 @@ public class ColorCombination {
    @Override
    public String toString() {
       return "ColorCombination{" + "id=" + id + ", name='" + name + '\'' + ", colorCount="
-               + colorCount + ", createdAt=" + createdAt + '}';
+               + colorCount + ", createdAt=" + createdAt + ", version=" + version + '}';
    }
 }
@@ -2,26 +2,42 @@
 package dev.kreaker.kolors;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for color combinations. Hot read queries are marked cacheable; Hibernate invalidates
+ * their cached results whenever the color_combination or color_in_combination tables are written.
+ */
 @Repository
-public interface ColorCombinationRepository extends JpaRepository<ColorCombination, Long> {
+public interface ColorCombinationRepository extends JpaRepository<ColorCombination, Long>,
+         JpaSpecificationExecutor<ColorCombination>, CombinationSummaryQueries {
 
    /** Searches combinations by name (case insensitive) */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    List<ColorCombination> findByNameContainingIgnoreCase(String name);
 
    /** Searches combinations by exact number of colors */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    List<ColorCombination> findByColorCount(Integer colorCount);
 
    /** Searches combinations created within a date range */
@@ -29,15 +45,18 @@ public interface ColorCombinationRepository extends JpaRepository<ColorCombinati
 
    /** Searches combinations ordered by creation date (most recent first) */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    List<ColorCombination> findAllByOrderByCreatedAtDesc();
 
    /** Searches combinations containing a specific color (by hex value) */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    @Query("SELECT DISTINCT cc FROM ColorCombination cc " + "JOIN cc.colors cic "
             + "WHERE cic.hexValue = :hexValue")
    List<ColorCombination> findByContainingHexValue(@Param("hexValue") String hexValue);
 
    /** Searches combinations with pagination and ordering by name */
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    Page<ColorCombination> findAllByOrderByNameAsc(Pageable pageable);
 
    /** Searches combinations by name with pagination */
@@ -66,6 +85,7 @@ public interface ColorCombinationRepository extends JpaRepository<ColorCombinati
     * Searches the most popular combinations (for now only the most recent) In the future a
     * popularity or usage field could be added
     */
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    @Query("SELECT cc FROM ColorCombination cc ORDER BY cc.createdAt DESC")
    List<ColorCombination> findMostRecent(Pageable pageable);
 
@@ -82,11 +102,13 @@ public interface ColorCombinationRepository extends JpaRepository<ColorCombinati
 
    /** Searches combinations by color count range */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    List<ColorCombination> findByColorCountBetweenOrderByCreatedAtDesc(Integer minColors,
             Integer maxColors);
 
    /** Searches combinations by name and color count range */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    @Query("SELECT cc FROM ColorCombination cc "
             + "WHERE LOWER(cc.name) LIKE LOWER(CONCAT('%', :namePattern, '%')) "
             + "AND cc.colorCount BETWEEN :minColors AND :maxColors " + "ORDER BY cc.createdAt DESC")
@@ -102,6 +124,7 @@ public interface ColorCombinationRepository extends JpaRepository<ColorCombinati
             Integer maxColors, Pageable pageable);
 
    /** Complex search with multiple criteria and pagination */
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    @Query("SELECT cc FROM ColorCombination cc "
             + "WHERE (:name IS NULL OR LOWER(cc.name) LIKE LOWER(CONCAT('%', :name, '%'))) "
             + "AND (:minColors IS NULL OR cc.colorCount >= :minColors) "
@@ -112,13 +135,157 @@ public interface ColorCombinationRepository extends JpaRepository<ColorCombinati
             Pageable pageable);
 
    /** Search combinations containing specific hex value with pagination */
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    @Query("SELECT DISTINCT cc FROM ColorCombination cc " + "JOIN cc.colors cic "
             + "WHERE cic.hexValue = :hexValue " + "ORDER BY cc.createdAt DESC")
    Page<ColorCombination> findByContainingHexValueWithPagination(@Param("hexValue") String hexValue,
             Pageable pageable);
 
+   /**
+    * Summary projection of {@link #findWithFilters}: reads only the scalar columns into records,
+    * leaving hex values to {@link ColorInCombinationRepository#findHexValuesByCombinationIds}
+    */
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+   @Query(value = "SELECT new dev.kreaker.kolors.dto.ColorCombinationSummary("
+            + "cc.id, cc.name, cc.colorCount, cc.createdAt, cc.updatedAt) "
+            + "FROM ColorCombination cc "
+            + "WHERE (:name IS NULL OR LOWER(cc.name) LIKE LOWER(CONCAT('%', :name, '%'))) "
+            + "AND (:minColors IS NULL OR cc.colorCount >= :minColors) "
+            + "AND (:maxColors IS NULL OR cc.colorCount <= :maxColors) "
+            + "ORDER BY cc.createdAt DESC",
+            countQuery = "SELECT COUNT(cc) FROM ColorCombination cc WHERE (:name IS NULL "
+                     + "OR LOWER(cc.name) LIKE LOWER(CONCAT('%', :name, '%'))) "
+                     + "AND (:minColors IS NULL OR cc.colorCount >= :minColors) "
+                     + "AND (:maxColors IS NULL OR cc.colorCount <= :maxColors)")
+   Page<ColorCombinationSummary> findSummariesWithFilters(@Param("name") String name,
+            @Param("minColors") Integer minColors, @Param("maxColors") Integer maxColors,
+            Pageable pageable);
+
+   /** Summary projection of combinations containing a specific hex value */
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+   @Query(value = "SELECT new dev.kreaker.kolors.dto.ColorCombinationSummary("
+            + "cc.id, cc.name, cc.colorCount, cc.createdAt, cc.updatedAt) "
+            + "FROM ColorCombination cc WHERE EXISTS (SELECT 1 FROM ColorInCombination cic "
+            + "WHERE cic.combination = cc AND cic.hexValue = :hexValue) "
+            + "ORDER BY cc.createdAt DESC",
+            countQuery = "SELECT COUNT(cc) FROM ColorCombination cc "
+                     + "WHERE EXISTS (SELECT 1 FROM ColorInCombination cic "
+                     + "WHERE cic.combination = cc AND cic.hexValue = :hexValue)")
+   Page<ColorCombinationSummary> findSummariesByContainingHexValue(
+            @Param("hexValue") String hexValue, Pageable pageable);
+
+   /**
+    * Summary projection of combinations containing every one of the hex values, highest ID first;
+    * {@code colorCount} is the number of distinct hex values
+    */
+   @Query(value = "SELECT new dev.kreaker.kolors.dto.ColorCombinationSummary("
+            + "cc.id, cc.name, cc.colorCount, cc.createdAt, cc.updatedAt) "
+            + "FROM ColorCombination cc WHERE cc.id IN (SELECT cic.combination.id "
+            + "FROM ColorInCombination cic WHERE cic.hexValue IN :hexValues "
+            + "GROUP BY cic.combination.id HAVING COUNT(DISTINCT cic.hexValue) = :colorCount) "
+            + "ORDER BY cc.id DESC",
+            countQuery = "SELECT COUNT(cc) FROM ColorCombination cc WHERE cc.id IN ("
+                     + "SELECT cic.combination.id FROM ColorInCombination cic "
+                     + "WHERE cic.hexValue IN :hexValues GROUP BY cic.combination.id "
+                     + "HAVING COUNT(DISTINCT cic.hexValue) = :colorCount)")
+   Page<ColorCombinationSummary> findSummariesContainingAll(
+            @Param("hexValues") Collection<String> hexValues,
+            @Param("colorCount") long colorCount, Pageable pageable);
+
+   /** Summary projection of combinations containing any of the hex values, highest ID first */
+   @Query(value = "SELECT new dev.kreaker.kolors.dto.ColorCombinationSummary("
+            + "cc.id, cc.name, cc.colorCount, cc.createdAt, cc.updatedAt) "
+            + "FROM ColorCombination cc WHERE EXISTS (SELECT 1 FROM ColorInCombination cic "
+            + "WHERE cic.combination = cc AND cic.hexValue IN :hexValues) ORDER BY cc.id DESC",
+            countQuery = "SELECT COUNT(cc) FROM ColorCombination cc "
+                     + "WHERE EXISTS (SELECT 1 FROM ColorInCombination cic "
+                     + "WHERE cic.combination = cc AND cic.hexValue IN :hexValues)")
+   Page<ColorCombinationSummary> findSummariesContainingAny(
+            @Param("hexValues") Collection<String> hexValues, Pageable pageable);
+
+   /** Summary projection of the given combinations, in no particular order */
+   @Query("SELECT new dev.kreaker.kolors.dto.ColorCombinationSummary("
+            + "cc.id, cc.name, cc.colorCount, cc.createdAt, cc.updatedAt) "
+            + "FROM ColorCombination cc WHERE cc.id IN :ids")
+   List<ColorCombinationSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+   /** The given combinations with their colors, in no particular order */
+   @EntityGraph(attributePaths = {"colors"})
+   @Query("SELECT cc FROM ColorCombination cc WHERE cc.id IN :ids")
+   List<ColorCombination> findWithColorsByIds(@Param("ids") Collection<Long> ids);
+
+   /** IDs of combinations stored before their contrast columns were computed */
+   @Query("SELECT cc.id FROM ColorCombination cc WHERE cc.contrastMatrix IS NULL ORDER BY cc.id")
+   List<Long> findIdsWithoutContrast(Pageable pageable);
+
+   /** IDs of combinations with colors stored before their hue, lightness and chroma columns */
+   @Query("SELECT cc.id FROM ColorCombination cc WHERE EXISTS (SELECT 1 FROM ColorInCombination "
+            + "cic WHERE cic.combination = cc AND cic.oklchLightness IS NULL) ORDER BY cc.id")
+   List<Long> findIdsWithoutPerceptualComponents(Pageable pageable);
+
+   /** IDs of combinations whose palette fingerprints were not computed yet */
+   @Query("SELECT cc.id FROM ColorCombination cc WHERE cc.paletteHash IS NULL ORDER BY cc.id")
+   List<Long> findIdsWithoutFingerprint(Pageable pageable);
+
+   /** Combinations with the given position-order palette hash, with colors */
+   @EntityGraph(attributePaths = {"colors"})
+   List<ColorCombination> findByPaletteOrderHash(Long paletteOrderHash);
+
+   /** Combinations with the given any-order palette hash, with colors */
+   @EntityGraph(attributePaths = {"colors"})
+   List<ColorCombination> findByPaletteHash(Long paletteHash);
+
+   /** Combinations in a near-duplicate cluster, with colors */
+   @EntityGraph(attributePaths = {"colors"})
+   List<ColorCombination> findByDuplicateClusterIdOrderById(Long duplicateClusterId);
+
+   /** Palette signatures shared by more than one combination, answered from the index */
+   @Query("SELECT cc.paletteSignature FROM ColorCombination cc "
+            + "WHERE cc.paletteSignature IS NOT NULL GROUP BY cc.paletteSignature "
+            + "HAVING COUNT(cc) > 1")
+   List<Long> findSharedSignatures();
+
+   /** Shifted-grid palette signatures shared by more than one combination */
+   @Query("SELECT cc.paletteShiftedSignature FROM ColorCombination cc "
+            + "WHERE cc.paletteShiftedSignature IS NOT NULL GROUP BY cc.paletteShiftedSignature "
+            + "HAVING COUNT(cc) > 1")
+   List<Long> findSharedShiftedSignatures();
+
+   @Query("SELECT cc.id FROM ColorCombination cc WHERE cc.paletteSignature = :signature")
+   List<Long> findIdsByPaletteSignature(@Param("signature") Long signature);
+
+   @Query("SELECT cc.id FROM ColorCombination cc WHERE cc.paletteShiftedSignature = :signature")
+   List<Long> findIdsByPaletteShiftedSignature(@Param("signature") Long signature);
+
+   /** Removes every combination from its near-duplicate cluster */
+   @Modifying
+   @Query("UPDATE ColorCombination cc SET cc.duplicateClusterId = NULL "
+            + "WHERE cc.duplicateClusterId IS NOT NULL")
+   int clearDuplicateClusters();
+
+   /** Puts combinations in the near-duplicate cluster of the given lowest ID */
+   @Modifying
+   @Query("UPDATE ColorCombination cc SET cc.duplicateClusterId = :clusterId WHERE cc.id IN :ids")
+   int assignDuplicateCluster(@Param("clusterId") Long clusterId,
+            @Param("ids") Collection<Long> ids);
+
+   /** IDs of combinations not yet scored with the given color vision score version */
+   @Query("SELECT cc.id FROM ColorCombination cc WHERE cc.colorVisionScoreVersion IS NULL "
+            + "OR cc.colorVisionScoreVersion < :version ORDER BY cc.id")
+   List<Long> findIdsWithoutColorVisionScore(@Param("version") int version, Pageable pageable);
+
+   /** Number of combinations not yet scored with the given color vision score version */
+   @Query("SELECT COUNT(cc) FROM ColorCombination cc WHERE cc.colorVisionScoreVersion IS NULL "
+            + "OR cc.colorVisionScoreVersion < :version")
+   long countWithoutColorVisionScore(@Param("version") int version);
+
+   /** Ids and names of all combinations, as {@code [id, name]} rows for the name index */
+   @Query("SELECT cc.id, cc.name FROM ColorCombination cc")
+   List<Object[]> findAllIdsAndNames();
+
    /** Find by ID with optimized loading of colors */
    @EntityGraph(attributePaths = {"colors"})
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
    @Query("SELECT cc FROM ColorCombination cc WHERE cc.id = :id")
    Optional<ColorCombination> findByIdWithColors(@Param("id") Long id);
 }
@@ -3,6 +3,14 @@ package dev.kreaker.kolors;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+import dev.kreaker.kolors.color.Hues;
+import dev.kreaker.kolors.color.Rgb;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,6 +21,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -25,7 +34,12 @@ import jakarta.validation.constraints.Pattern;
          indexes = {@Index(name = "idx_color_hex", columnList = "hex_value"),
                   @Index(name = "idx_color_comb", columnList = "combination_id"),
                   @Index(name = "idx_color_pos", columnList = "position"),
-                  @Index(name = "idx_color_comb_pos", columnList = "combination_id, position")})
+                  @Index(name = "idx_color_comb_pos", columnList = "combination_id, position"),
+                  @Index(name = "idx_color_hsl_hue", columnList = "hsl_hue"),
+                  @Index(name = "idx_color_oklch_lightness", columnList = "oklch_lightness"),
+                  @Index(name = "idx_color_oklch_chroma", columnList = "oklch_chroma")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ColorInCombination {
 
    @Id
@@ -47,18 +61,39 @@ public class ColorInCombination {
    @JoinColumn(name = "combination_id", nullable = false)
    private ColorCombination combination;
 
+   // Components derived from hexValue whenever it is set: HSL hue in degrees (null for grays, see
+   // Hues.ACHROMATIC_CHROMA), OKLCH lightness in percent and OKLCH chroma
+   @Column(name = "hsl_hue")
+   private Double hslHue;
+
+   @Column(name = "oklch_lightness")
+   private Double oklchLightness;
+
+   @Column(name = "oklch_chroma")
+   private Double oklchChroma;
+
+   // "#" + hexValue, built once per value; Hibernate sets hexValue directly, so the cache records
+   // which value it was built from instead of relying on the setter
+   @Transient
+   private String formattedHex;
+
+   @Transient
+   private String formattedFrom;
+
    // Constructors
    public ColorInCombination() {}
 
    public ColorInCombination(String hexValue, Integer position) {
       this.hexValue = hexValue;
       this.position = position;
+      deriveComponents();
    }
 
    public ColorInCombination(String hexValue, Integer position, ColorCombination combination) {
       this.hexValue = hexValue;
       this.position = position;
       this.combination = combination;
+      deriveComponents();
    }
 
    // Getters and Setters
@@ -76,6 +111,7 @@ public class ColorInCombination {
 
    public void setHexValue(String hexValue) {
       this.hexValue = hexValue;
+      deriveComponents();
    }
 
    public Integer getPosition() {
@@ -94,9 +130,46 @@ public class ColorInCombination {
       this.combination = combination;
    }
 
+   public Double getHslHue() {
+      return hslHue;
+   }
+
+   public Double getOklchLightness() {
+      return oklchLightness;
+   }
+
+   public Double getOklchChroma() {
+      return oklchChroma;
+   }
+
+   /**
+    * Recomputes the hue, lightness and chroma columns from the hex value; clears them when the
+    * value is not a valid hex color
+    */
+   public void deriveComponents() {
+      if (!Rgb.isHex(hexValue)) {
+         hslHue = null;
+         oklchLightness = null;
+         oklchChroma = null;
+         return;
+      }
+      int rgb = Rgb.parseHex(hexValue);
+      double[] components = new double[6];
+      ColorSpaces.toHsl(rgb, components, 0);
+      ColorSpaces.toOklch(rgb, components, 3);
+      oklchLightness = components[3] * 100;
+      oklchChroma = components[4];
+      hslHue = components[4] < Hues.ACHROMATIC_CHROMA ? null : components[0];
+   }
+
    // Helper methods
    public String getFormattedHex() {
-      return "#" + hexValue;
+      String value = hexValue;
+      if (formattedFrom != value) {
+         formattedHex = "#" + value;
+         formattedFrom = value;
+      }
+      return formattedHex;
    }
 
    public boolean isValidHex() {
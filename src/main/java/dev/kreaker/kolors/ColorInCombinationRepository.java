@@ -1,6 +1,7 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +53,24 @@ public interface ColorInCombinationRepository extends JpaRepository<ColorInCombi
    /** Busca colores que coincidan con múltiples valores hexadecimales */
    List<ColorInCombination> findByHexValueIn(List<String> hexValues);
 
+   /**
+    * Hex values of several combinations as {@code [combinationId, hexValue]} rows, ordered by
+    * combination and position; used to complete summary projections in one round trip
+    */
+   @Query("SELECT cic.combination.id, cic.hexValue FROM ColorInCombination cic "
+            + "WHERE cic.combination.id IN :combinationIds "
+            + "ORDER BY cic.combination.id, cic.position")
+   List<Object[]> findHexValuesByCombinationIds(
+            @Param("combinationIds") Collection<Long> combinationIds);
+
+   /**
+    * Hex values of every combination as {@code [combinationId, hexValue]} rows, ordered by
+    * combination and position; used to build in-memory indexes at startup
+    */
+   @Query("SELECT cic.combination.id, cic.hexValue FROM ColorInCombination cic "
+            + "ORDER BY cic.combination.id, cic.position")
+   List<Object[]> findAllHexValues();
+
    /** Busca la posición máxima utilizada en una combinación */
    @Query("SELECT MAX(cic.position) FROM ColorInCombination cic WHERE cic.combination.id = :combinationId")
    Optional<Integer> findMaxPositionByCombinationId(@Param("combinationId") Long combinationId);
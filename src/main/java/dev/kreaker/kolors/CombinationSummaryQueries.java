@@ -0,0 +1,19 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+
+/** Summary projections of specification searches, mixed into {@link ColorCombinationRepository} */
+public interface CombinationSummaryQueries {
+
+   /**
+    * Summaries of the combinations matching {@code specification}, in the order of the pageable's
+    * sort; selects the summary columns only and leaves the hex values empty
+    */
+   Page<ColorCombinationSummary> findSummaries(Specification<ColorCombination> specification,
+            Pageable pageable);
+}
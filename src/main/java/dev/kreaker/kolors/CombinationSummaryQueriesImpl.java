@@ -0,0 +1,69 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria implementation of {@link CombinationSummaryQueries}: the specification's predicate
+ * under a constructor expression, as the JPQL summary searches do, so no entity is loaded.
+ */
+class CombinationSummaryQueriesImpl implements CombinationSummaryQueries {
+
+   @PersistenceContext
+   private EntityManager entityManager;
+
+   @Override
+   public Page<ColorCombinationSummary> findSummaries(
+            Specification<ColorCombination> specification, Pageable pageable) {
+      CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+      CriteriaQuery<ColorCombinationSummary> query =
+               cb.createQuery(ColorCombinationSummary.class);
+      Root<ColorCombination> root = query.from(ColorCombination.class);
+      query.select(cb.construct(ColorCombinationSummary.class, root.get("id"), root.get("name"),
+               root.get("colorCount"), root.get("createdAt"), root.get("updatedAt")));
+      where(query, specification.toPredicate(root, query, cb));
+      query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+      TypedQuery<ColorCombinationSummary> typed = entityManager.createQuery(query);
+      if (pageable.isUnpaged()) {
+         List<ColorCombinationSummary> all = typed.getResultList();
+         return new PageImpl<>(all, pageable, all.size());
+      }
+      typed.setFirstResult((int) pageable.getOffset());
+      typed.setMaxResults(pageable.getPageSize());
+      return PageableExecutionUtils.getPage(typed.getResultList(), pageable,
+               () -> count(specification));
+   }
+
+   private long count(Specification<ColorCombination> specification) {
+      CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+      CriteriaQuery<Long> query = cb.createQuery(Long.class);
+      Root<ColorCombination> root = query.from(ColorCombination.class);
+      query.select(cb.count(root));
+      where(query, specification.toPredicate(root, query, cb));
+      return entityManager.createQuery(query).getSingleResult();
+   }
+
+   private static void where(CriteriaQuery<?> query, Predicate predicate) {
+      if (predicate != null) {
+         query.where(predicate);
+      }
+   }
+}
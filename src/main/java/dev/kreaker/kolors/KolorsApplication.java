@@ -5,11 +5,16 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import dev.kreaker.kolors.backup.DatabaseRestoreCommand;
+
 @SpringBootApplication
 @EnableScheduling
 public class KolorsApplication {
 
    public static void main(String[] args) {
+      if (DatabaseRestoreCommand.isRequested(args)) {
+         System.exit(DatabaseRestoreCommand.execute(args));
+      }
       SpringApplication.run(KolorsApplication.class, args);
    }
 }
@@ -1,10 +1,20 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import dev.kreaker.kolors.config.StaticAssetCacheFilter;
 
 /**
  * Web MVC configuration for Kolors application. Configures static resource handling and view
@@ -13,26 +23,51 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+   /** Static asset locations, served under the same path prefixes */
+   private static final String[] ASSET_PATHS = {"css", "js", "images"};
+
    /**
     * Configure static resource handlers. Sets low order to ensure controllers have priority over
     * static resources.
+    *
+    * <p>
+    * Assets are addressed by content-hash URLs ({@code /css/theme-<md5>.css}), so they never change
+    * under a given URL and are cached for a year as immutable. Pre-compressed {@code .br} and
+    * {@code .gz} variants generated at build time are served to clients that accept them.
     */
    @Override
    public void addResourceHandlers(ResourceHandlerRegistry registry) {
       // Ensure static resources are served with lower priority than controllers
-      registry.addResourceHandler("/css/**").addResourceLocations("classpath:/static/css/")
-               .setCachePeriod(3600);
-
-      registry.addResourceHandler("/js/**").addResourceLocations("classpath:/static/js/")
-               .setCachePeriod(3600);
-
-      registry.addResourceHandler("/images/**").addResourceLocations("classpath:/static/images/")
-               .setCachePeriod(3600);
+      for (String path : ASSET_PATHS) {
+         registry.addResourceHandler("/" + path + "/**")
+                  .addResourceLocations("classpath:/static/" + path + "/")
+                  .setCacheControl(
+                           CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                  .resourceChain(true).addResolver(new EncodedResourceResolver())
+                  .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+      }
 
       // Set explicit order to ensure controllers are checked first
       registry.setOrder(Integer.MAX_VALUE);
    }
 
+   /** Rewrites {@code @{/css/...}} and {@code @{/js/...}} template links to fingerprinted URLs */
+   @Bean
+   public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+      return new ResourceUrlEncodingFilter();
+   }
+
+   /** Keeps assets requested without a fingerprint out of long-lived caches */
+   @Bean
+   public FilterRegistrationBean<StaticAssetCacheFilter> staticAssetCacheFilter() {
+      FilterRegistrationBean<StaticAssetCacheFilter> registration =
+               new FilterRegistrationBean<>(new StaticAssetCacheFilter());
+      for (String path : ASSET_PATHS) {
+         registration.addUrlPatterns("/" + path + "/*");
+      }
+      return registration;
+   }
+
    /**
     * Configure simple automated controllers pre-configured with the response status and/or a view.
     */
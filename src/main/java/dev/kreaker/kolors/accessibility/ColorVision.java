@@ -0,0 +1,100 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+
+/**
+ * How distinguishable a palette stays under simulated color vision deficiencies.
+ *
+ * <p>
+ * Each color is simulated in linear RGB with the deficiency's matrix, then the palette is scored by
+ * the smallest CIELAB ΔE (CIE76, as in {@code PaletteDistance}) between any two of its simulated
+ * colors. Below about 2 two colors look the same; above about 10 they are clearly different.
+ * Stored scores are truncated to two decimals, like contrast ratios, so thresholds are never met by
+ * rounding up.
+ */
+public final class ColorVision {
+
+   /** Bump when the simulation or the score changes, so stored scores are recomputed */
+   public static final int SCORE_VERSION = 1;
+
+   private ColorVision() {}
+
+   /** Packed color as seen with the deficiency */
+   public static int simulate(int rgb, ColorVisionDeficiency deficiency) {
+      double[] linear = new double[6];
+      ColorSpaces.toLinear(rgb, linear, 0);
+      deficiency.apply(linear[0], linear[1], linear[2], linear, 3);
+      return ColorSpaces.fromLinear(linear[3], linear[4], linear[5]);
+   }
+
+   /** Simulates every color into {@code out} */
+   public static void simulate(int[] colors, ColorVisionDeficiency deficiency, int[] out) {
+      double[] linear = new double[6];
+      for (int i = 0; i < colors.length; i++) {
+         ColorSpaces.toLinear(colors[i], linear, 0);
+         deficiency.apply(linear[0], linear[1], linear[2], linear, 3);
+         out[i] = ColorSpaces.fromLinear(linear[3], linear[4], linear[5]);
+      }
+   }
+
+   /**
+    * Indexes of the two colors closest in CIELAB, packed as {@code first << 32 | second} with
+    * {@code first < second}, or -1 for fewer than two colors
+    */
+   public static long closestPair(int[] colors) {
+      if (colors.length < 2) {
+         return -1L;
+      }
+      double[] lab = new double[colors.length * 3];
+      for (int i = 0; i < colors.length; i++) {
+         ColorSpaces.toLab(colors[i], lab, i * 3);
+      }
+      long closest = 1L;
+      double best = Double.MAX_VALUE;
+      for (int i = 0; i < colors.length; i++) {
+         for (int j = i + 1; j < colors.length; j++) {
+            double d = squaredDistance(lab, i, j);
+            if (d < best) {
+               best = d;
+               closest = (long) i << 32 | j;
+            }
+         }
+      }
+      return closest;
+   }
+
+   /** CIE76 ΔE between two packed colors */
+   public static double deltaE(int first, int second) {
+      double[] lab = new double[6];
+      ColorSpaces.toLab(first, lab, 0);
+      ColorSpaces.toLab(second, lab, 3);
+      return Math.sqrt(squaredDistance(lab, 0, 1));
+   }
+
+   /**
+    * Smallest ΔE between any two colors as seen with the deficiency, truncated to two decimals;
+    * null for fewer than two colors
+    */
+   public static Double minPairDeltaE(int[] colors, ColorVisionDeficiency deficiency) {
+      if (colors.length < 2) {
+         return null;
+      }
+      int[] simulated = new int[colors.length];
+      simulate(colors, deficiency, simulated);
+      long pair = closestPair(simulated);
+      return truncate(deltaE(simulated[(int) (pair >>> 32)], simulated[(int) pair]));
+   }
+
+   /** Two-decimal form of a score, never rounded up */
+   public static double truncate(double deltaE) {
+      return Math.floor(deltaE * 100) / 100;
+   }
+
+   private static double squaredDistance(double[] lab, int i, int j) {
+      double dl = lab[i * 3] - lab[j * 3];
+      double da = lab[i * 3 + 1] - lab[j * 3 + 1];
+      double db = lab[i * 3 + 2] - lab[j * 3 + 2];
+      return dl * dl + da * da + db * db;
+   }
+}
@@ -0,0 +1,49 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import java.util.Locale;
+
+/**
+ * Dichromatic color vision deficiencies, each with its full-severity simulation matrix from
+ * Machado, Oliveira and Fernandes (2009), applied to linear RGB.
+ */
+public enum ColorVisionDeficiency {
+
+   /** No functioning L (red) cones */
+   PROTANOPIA(0.152286, 1.052583, -0.204868, //
+            0.114503, 0.786281, 0.099216, //
+            -0.003882, -0.048116, 1.051998),
+
+   /** No functioning M (green) cones */
+   DEUTERANOPIA(0.367322, 0.860646, -0.227968, //
+            0.280085, 0.672501, 0.047413, //
+            -0.011820, 0.042940, 0.968881),
+
+   /** No functioning S (blue) cones */
+   TRITANOPIA(1.255528, -0.076749, -0.178779, //
+            -0.078411, 0.930809, 0.147602, //
+            0.004733, 0.691367, 0.303900);
+
+   // Row-major 3×3
+   private final double[] matrix;
+
+   ColorVisionDeficiency(double... matrix) {
+      this.matrix = matrix;
+   }
+
+   /** Applies the matrix to linear r, g, b and writes the result at {@code offset} */
+   void apply(double r, double g, double b, double[] out, int offset) {
+      out[offset] = matrix[0] * r + matrix[1] * g + matrix[2] * b;
+      out[offset + 1] = matrix[3] * r + matrix[4] * g + matrix[5] * b;
+      out[offset + 2] = matrix[6] * r + matrix[7] * g + matrix[8] * b;
+   }
+
+   /** Parses a deficiency name, ignoring case */
+   public static ColorVisionDeficiency fromName(String name) {
+      try {
+         return valueOf(name.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException | NullPointerException e) {
+         throw new IllegalArgumentException("Unknown color vision deficiency: " + name);
+      }
+   }
+}
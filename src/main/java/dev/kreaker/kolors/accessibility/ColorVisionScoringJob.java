@@ -0,0 +1,111 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.service.ColorCombinationService;
+import dev.kreaker.kolors.service.StartupBackfills;
+
+/**
+ * Scores the color vision columns of the whole library in the background.
+ *
+ * <p>
+ * Writes score their own combination in {@link ColorCombinationService}; this job catches up rows
+ * stored before the columns existed or scored with an older {@link ColorVision#SCORE_VERSION}.
+ * {@link StartupBackfills} runs it once the application is ready, after the other backfills, and
+ * it runs again on {@code cron}. Each batch is its own transaction and the job sleeps
+ * {@code pause-ms} between batches so request writers are not starved of the SQLite write lock.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.color-vision.scoring.enabled", havingValue = "true")
+public class ColorVisionScoringJob {
+
+   private static final Logger logger = LoggerFactory.getLogger(ColorVisionScoringJob.class);
+
+   private final ColorCombinationService colorCombinationService;
+   private final int batchSize;
+   private final long pauseMs;
+
+   private final AtomicBoolean running = new AtomicBoolean();
+   private final LongAdder runs = new LongAdder();
+   private final LongAdder scored = new LongAdder();
+   private volatile long pending = -1;
+   private volatile LocalDateTime lastRunStarted;
+   private volatile long lastRunMs;
+
+   @Autowired
+   public ColorVisionScoringJob(ColorCombinationService colorCombinationService,
+            @Value("${kolors.color-vision.scoring.batch-size:200}") int batchSize,
+            @Value("${kolors.color-vision.scoring.pause-ms:50}") long pauseMs) {
+      if (batchSize < 1 || pauseMs < 0) {
+         throw new IllegalArgumentException("Invalid color vision scoring configuration");
+      }
+      this.colorCombinationService = colorCombinationService;
+      this.batchSize = batchSize;
+      this.pauseMs = pauseMs;
+   }
+
+   @Scheduled(cron = "${kolors.color-vision.scoring.cron:0 30 3 * * *}")
+   public void scheduled() {
+      run();
+   }
+
+   /** Scores every combination still waiting; returns at once if a run is in progress */
+   public void run() {
+      if (!running.compareAndSet(false, true)) {
+         return;
+      }
+      long start = System.nanoTime();
+      lastRunStarted = LocalDateTime.now();
+      runs.increment();
+      int total = 0;
+      try {
+         pending = colorCombinationService.countUnscoredColorVision();
+         int updated;
+         do {
+            updated = colorCombinationService.scoreColorVision(batchSize);
+            total += updated;
+            scored.add(updated);
+            pending = Math.max(0, pending - updated);
+            if (updated == batchSize && pauseMs > 0) {
+               Thread.sleep(pauseMs);
+            }
+         } while (updated == batchSize);
+         pending = 0;
+         if (total > 0) {
+            logger.info("Scored color vision columns of {} combinations", total);
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         logger.info("Color vision scoring interrupted after {} combinations", total);
+      } catch (Exception e) {
+         logger.error("Error scoring color vision columns of existing combinations", e);
+      } finally {
+         lastRunMs = (System.nanoTime() - start) / 1_000_000;
+         running.set(false);
+      }
+   }
+
+   /** Gets run counters and progress */
+   public ScoringStatistics getStatistics() {
+      return new ScoringStatistics(running.get(), runs.sum(), scored.sum(), pending,
+               lastRunStarted, lastRunMs, batchSize);
+   }
+
+   /**
+    * Scoring job counters; {@code pending} is the estimate of combinations left in the current or
+    * last run, -1 before the first run
+    */
+   public record ScoringStatistics(boolean running, long runCount, long scoredCount, long pending,
+            LocalDateTime lastRunStarted, long lastRunMs, int batchSize) {}
+}
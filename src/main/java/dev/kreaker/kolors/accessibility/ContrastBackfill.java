@@ -0,0 +1,42 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Computes the contrast columns of combinations stored before they existed. New writes compute
+ * them in {@link ColorCombinationService}; this only catches up older rows, one transaction per
+ * batch, and finds nothing to do once they are filled.
+ */
+@Component
+public class ContrastBackfill {
+
+   private static final Logger logger = LoggerFactory.getLogger(ContrastBackfill.class);
+   private static final int BATCH_SIZE = 200;
+
+   private final ColorCombinationService colorCombinationService;
+
+   public ContrastBackfill(ColorCombinationService colorCombinationService) {
+      this.colorCombinationService = colorCombinationService;
+   }
+
+   public void backfill() {
+      try {
+         int total = 0;
+         int updated;
+         do {
+            updated = colorCombinationService.backfillContrast(BATCH_SIZE);
+            total += updated;
+         } while (updated == BATCH_SIZE);
+         if (total > 0) {
+            logger.info("Computed contrast columns for {} existing combinations", total);
+         }
+      } catch (Exception e) {
+         logger.error("Error computing contrast columns of existing combinations", e);
+      }
+   }
+}
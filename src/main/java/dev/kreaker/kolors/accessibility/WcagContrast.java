@@ -0,0 +1,89 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+
+/**
+ * WCAG 2.x contrast ratios between packed {@code 0xRRGGBB} colors.
+ *
+ * <p>
+ * Pair ratios are kept in an upper-triangle array in position order: (0,1), (0,2) … (0,n-1),
+ * (1,2) … so a palette of n colors has n(n-1)/2 entries. The stored form truncates each ratio to
+ * two decimals; WCAG thresholds must not be met by rounding up. Larger palettes than
+ * {@link #MAX_STORED_COLORS} are stored as an empty matrix and recomputed when read.
+ */
+public final class WcagContrast {
+
+   /** Minimum ratio for normal text at level AA */
+   public static final double AA_NORMAL_TEXT = 4.5;
+
+   /** Minimum ratio for normal text at level AAA */
+   public static final double AAA_NORMAL_TEXT = 7.0;
+
+   /** Largest palette whose pair ratios are stored; about 230 KB of text at this size */
+   public static final int MAX_STORED_COLORS = 256;
+
+   private WcagContrast() {}
+
+   /** Relative luminance of a packed color, 0 for black to 1 for white */
+   public static double relativeLuminance(int rgb) {
+      return 0.2126 * ColorSpaces.srgbToLinear(rgb >> 16)
+               + 0.7152 * ColorSpaces.srgbToLinear(rgb >> 8)
+               + 0.0722 * ColorSpaces.srgbToLinear(rgb);
+   }
+
+   /** Contrast ratio between two packed colors, from 1 to 21 */
+   public static double ratio(int first, int second) {
+      double l1 = relativeLuminance(first);
+      double l2 = relativeLuminance(second);
+      return (Math.max(l1, l2) + 0.05) / (Math.min(l1, l2) + 0.05);
+   }
+
+   /** Ratios of every pair of colors, in upper-triangle order */
+   public static double[] pairRatios(int[] colors) {
+      double[] luminance = new double[colors.length];
+      for (int i = 0; i < colors.length; i++) {
+         luminance[i] = relativeLuminance(colors[i]);
+      }
+      double[] ratios = new double[colors.length * (colors.length - 1) / 2];
+      int k = 0;
+      for (int i = 0; i < colors.length; i++) {
+         for (int j = i + 1; j < colors.length; j++) {
+            double lighter = Math.max(luminance[i], luminance[j]);
+            double darker = Math.min(luminance[i], luminance[j]);
+            ratios[k++] = (lighter + 0.05) / (darker + 0.05);
+         }
+      }
+      return ratios;
+   }
+
+   /** Stored form of pair ratios: comma-separated, truncated to two decimals */
+   public static String encode(double[] ratios) {
+      StringBuilder encoded = new StringBuilder(ratios.length * 6);
+      for (int i = 0; i < ratios.length; i++) {
+         if (i > 0) {
+            encoded.append(',');
+         }
+         encoded.append(truncate(ratios[i]));
+      }
+      return encoded.toString();
+   }
+
+   /** Truncates a ratio to the two decimals kept in the stored form */
+   public static double truncate(double ratio) {
+      return Math.floor(ratio * 100) / 100;
+   }
+
+   /** Parses the stored form written by {@link #encode(double[])} */
+   public static double[] decode(String encoded) {
+      if (encoded == null || encoded.isEmpty()) {
+         return new double[0];
+      }
+      String[] parts = encoded.split(",");
+      double[] ratios = new double[parts.length];
+      for (int i = 0; i < parts.length; i++) {
+         ratios[i] = Double.parseDouble(parts[i]);
+      }
+      return ratios;
+   }
+}
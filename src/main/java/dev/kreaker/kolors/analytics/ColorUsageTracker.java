@@ -0,0 +1,254 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.ColorInCombinationRepository;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorUsageCount;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+
+/**
+ * Color usage counts kept up to date in memory instead of aggregated over the colors table.
+ *
+ * <p>
+ * Counts live in an {@link IntIntMap} keyed by packed RGB. They are loaded once at startup and
+ * then follow committed {@link CombinationChangeEvent}s: the changed combination's colors are
+ * re-read and the difference from its previous palette is applied, so counts stay exact whatever
+ * the order of edits. The top {@code max-results} colors are cached and recomputed only after a
+ * change, so top-N reads are answered without touching the database. Colors added are also fed to
+ * {@link TrendingColors} for the recent window. Nothing is persisted: the per-combination
+ * palettes the differences need can only come from the colors table, so counts are rebuilt from
+ * it at startup.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.color-usage.enabled", havingValue = "true")
+public class ColorUsageTracker {
+
+   private static final Logger logger = LoggerFactory.getLogger(ColorUsageTracker.class);
+
+   private static final int[] NO_COLORS = new int[0];
+   private static final int INITIAL_CAPACITY = 4096;
+
+   private final ColorInCombinationRepository colorRepository;
+   private final int maxResults;
+   private final TrendingColors trending;
+
+   private final Map<Long, int[]> palettes = new HashMap<>();
+   private final IntIntMap counts = new IntIntMap(INITIAL_CAPACITY);
+   private volatile List<ColorUsageCount> top;
+
+   private final LongAdder changesApplied = new LongAdder();
+   private final LongAdder topQueries = new LongAdder();
+   private final LongAdder topRecomputations = new LongAdder();
+
+   @Autowired
+   public ColorUsageTracker(ColorInCombinationRepository colorRepository,
+            @Value("${kolors.color-usage.max-results:100}") int maxResults,
+            @Value("${kolors.color-usage.trending.buckets:24}") int trendingBuckets,
+            @Value("${kolors.color-usage.trending.bucket-minutes:60}") int bucketMinutes,
+            @Value("${kolors.color-usage.trending.capacity:256}") int trendingCapacity) {
+      if (maxResults < 1 || trendingBuckets < 1 || bucketMinutes < 1 || trendingCapacity < 1) {
+         throw new IllegalArgumentException("Invalid color usage configuration");
+      }
+      this.colorRepository = colorRepository;
+      this.maxResults = maxResults;
+      this.trending = new TrendingColors(trendingBuckets, bucketMinutes * 60_000L,
+               trendingCapacity);
+   }
+
+   /**
+    * Loads every palette. Holds the tracker monitor so change events
+    * committed during the load wait and are applied on top of it.
+    */
+   @EventListener(ApplicationReadyEvent.class)
+   public synchronized void rebuild() {
+      long start = System.nanoTime();
+      List<Object[]> rows = colorRepository.findAllHexValues();
+      palettes.clear();
+      counts.clear();
+      int from = 0;
+      while (from < rows.size()) {
+         Long id = (Long) rows.get(from)[0];
+         int to = from;
+         while (to < rows.size() && id.equals(rows.get(to)[0])) {
+            to++;
+         }
+         int[] colors = new int[to - from];
+         for (int i = from; i < to; i++) {
+            colors[i - from] = Rgb.parseHex((String) rows.get(i)[1]);
+            counts.add(colors[i - from], 1);
+         }
+         Arrays.sort(colors);
+         palettes.put(id, colors);
+         from = to;
+      }
+      top = null;
+      logger.info("Color usage counts built: {} colors in {} combinations in {} ms",
+               counts.size(), palettes.size(), (System.nanoTime() - start) / 1_000_000);
+   }
+
+   /** Applies a committed change as the difference between the old and the new palette */
+   @EventListener
+   public synchronized void onChange(CombinationChangeEvent event) {
+      if (event.combinationId() == null) {
+         return;
+      }
+      int[] after = NO_COLORS;
+      if (event.type() != CombinationChangeEvent.Type.DELETED) {
+         List<Object[]> rows =
+                  colorRepository.findHexValuesByCombinationIds(List.of(event.combinationId()));
+         after = new int[rows.size()];
+         for (int i = 0; i < after.length; i++) {
+            after[i] = Rgb.parseHex((String) rows.get(i)[1]);
+         }
+         Arrays.sort(after);
+      }
+      int[] before = after.length == 0 ? palettes.remove(event.combinationId())
+               : palettes.put(event.combinationId(), after);
+      long time = event.occurredAt().toEpochMilli();
+      int i = 0;
+      int j = 0;
+      int[] old = before != null ? before : NO_COLORS;
+      // Both palettes are sorted: walk them together and count what only one side has
+      while (i < old.length || j < after.length) {
+         if (j == after.length || i < old.length && old[i] < after[j]) {
+            change(old[i++], -1);
+         } else if (i == old.length || after[j] < old[i]) {
+            change(after[j], 1);
+            trending.offer(after[j++], time);
+         } else {
+            i++;
+            j++;
+         }
+      }
+      changesApplied.increment();
+   }
+
+   private void change(int color, int delta) {
+      counts.add(color, delta);
+      top = null;
+   }
+
+   /** Most used colors, at most {@code limit} capped by {@code max-results} */
+   public List<ColorUsageCount> topColors(int limit) {
+      topQueries.increment();
+      List<ColorUsageCount> cached = top;
+      if (cached == null) {
+         cached = recomputeTop();
+      }
+      return cached.subList(0, Math.min(Math.max(limit, 0), cached.size()));
+   }
+
+   private synchronized List<ColorUsageCount> recomputeTop() {
+      if (top != null) {
+         return top;
+      }
+      // Min-heap of the best entries so far, each packed as count << 24 | (0xFFFFFF - color) so
+      // a higher value ranks first and equal counts list the lower hex value first
+      long[] heap = new long[maxResults];
+      int[] heapSize = new int[1];
+      counts.forEach((color, count) -> {
+         long entry = (long) count << 24 | (0xFFFFFF - color);
+         if (heapSize[0] < heap.length) {
+            siftUp(heap, heapSize[0]++, entry);
+         } else if (entry > heap[0]) {
+            siftDown(heap, heapSize[0], entry);
+         }
+      });
+      long[] ranked = Arrays.copyOf(heap, heapSize[0]);
+      Arrays.sort(ranked);
+      List<ColorUsageCount> result = new ArrayList<>(ranked.length);
+      for (int i = ranked.length - 1; i >= 0; i--) {
+         result.add(new ColorUsageCount(Rgb.toHex(0xFFFFFF - (int) (ranked[i] & 0xFFFFFF)),
+                  ranked[i] >>> 24, 0));
+      }
+      topRecomputations.increment();
+      top = List.copyOf(result);
+      return top;
+   }
+
+   private static void siftUp(long[] heap, int index, long entry) {
+      while (index > 0) {
+         int parent = (index - 1) >>> 1;
+         if (heap[parent] <= entry) {
+            break;
+         }
+         heap[index] = heap[parent];
+         index = parent;
+      }
+      heap[index] = entry;
+   }
+
+   /** Replaces the smallest entry */
+   private static void siftDown(long[] heap, int size, long entry) {
+      int index = 0;
+      while (true) {
+         int child = 2 * index + 1;
+         if (child >= size) {
+            break;
+         }
+         if (child + 1 < size && heap[child + 1] < heap[child]) {
+            child++;
+         }
+         if (heap[child] >= entry) {
+            break;
+         }
+         heap[index] = heap[child];
+         index = child;
+      }
+      heap[index] = entry;
+   }
+
+   /** How many colors of stored combinations have this packed RGB value */
+   public synchronized int usageOf(int color) {
+      return counts.get(color, 0);
+   }
+
+   /**
+    * Colors added most often in the last {@code minutes}, rounded up to whole trending buckets
+    * and capped by the window kept, at most {@code limit} capped by {@code max-results}
+    */
+   public List<ColorUsageCount> trendingColors(int minutes, int limit) {
+      long bucketMinutes = trending.getBucketMillis() / 60_000L;
+      int bucketsBack = (int) Math.min(trending.getBucketCount(),
+               (Math.max(minutes, 1) + bucketMinutes - 1) / bucketMinutes);
+      return trending.top(bucketsBack, Math.min(Math.max(limit, 0), maxResults),
+               System.currentTimeMillis());
+   }
+
+   /** Longest window {@link #trendingColors(int, int)} can cover, in minutes */
+   public long getTrendingWindowMinutes() {
+      return trending.getBucketCount() * (trending.getBucketMillis() / 60_000L);
+   }
+
+   public int getMaxResults() {
+      return maxResults;
+   }
+
+   /** Gets tracked sizes and query counters */
+   public synchronized ColorUsageStatistics getStatistics() {
+      return new ColorUsageStatistics(counts.size(), palettes.size(), changesApplied.sum(),
+               topQueries.sum(), topRecomputations.sum(), getTrendingWindowMinutes(),
+               trending.getCapacity());
+   }
+
+   /** Color usage tracker counters */
+   public record ColorUsageStatistics(int distinctColors, int trackedCombinations,
+            long changesApplied, long topQueries, long topRecomputations,
+            long trendingWindowMinutes, int trendingCapacity) {}
+}
@@ -0,0 +1,161 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative int keys, such as packed RGB colors, to int values.
+ * Linear probing over parallel arrays, so lookups and updates never box; removals shift the
+ * following entries back instead of leaving tombstones. Not thread-safe.
+ */
+final class IntIntMap {
+
+   private static final int EMPTY = -1;
+   private static final int MIN_CAPACITY = 16;
+
+   private int[] keys;
+   private int[] values;
+   private int mask;
+   private int size;
+
+   IntIntMap(int expectedSize) {
+      allocate(Math.max(MIN_CAPACITY,
+               Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+   }
+
+   /** Value of {@code key}, or {@code missing} if absent */
+   int get(int key, int missing) {
+      int slot = find(key);
+      return slot >= 0 ? values[slot] : missing;
+   }
+
+   boolean containsKey(int key) {
+      return find(key) >= 0;
+   }
+
+   void put(int key, int value) {
+      if (key < 0) {
+         throw new IllegalArgumentException("Keys cannot be negative");
+      }
+      int slot = index(key);
+      while (keys[slot] != EMPTY) {
+         if (keys[slot] == key) {
+            values[slot] = value;
+            return;
+         }
+         slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      values[slot] = value;
+      if (++size * 2 > keys.length) {
+         resize(keys.length * 2);
+      }
+   }
+
+   /** Adds {@code delta} to the value of {@code key}, absent meaning 0; a result of 0 removes it */
+   int add(int key, int delta) {
+      int slot = find(key);
+      if (slot < 0) {
+         if (delta != 0) {
+            put(key, delta);
+         }
+         return delta;
+      }
+      int value = values[slot] + delta;
+      if (value == 0) {
+         removeSlot(slot);
+      } else {
+         values[slot] = value;
+      }
+      return value;
+   }
+
+   boolean remove(int key) {
+      int slot = find(key);
+      if (slot < 0) {
+         return false;
+      }
+      removeSlot(slot);
+      return true;
+   }
+
+   int size() {
+      return size;
+   }
+
+   void clear() {
+      Arrays.fill(keys, EMPTY);
+      size = 0;
+   }
+
+   /** Calls {@code consumer} once per entry, in no particular order */
+   void forEach(EntryConsumer consumer) {
+      for (int slot = 0; slot < keys.length; slot++) {
+         if (keys[slot] != EMPTY) {
+            consumer.accept(keys[slot], values[slot]);
+         }
+      }
+   }
+
+   private int find(int key) {
+      if (key < 0) {
+         return -1;
+      }
+      int slot = index(key);
+      while (keys[slot] != EMPTY) {
+         if (keys[slot] == key) {
+            return slot;
+         }
+         slot = (slot + 1) & mask;
+      }
+      return -1;
+   }
+
+   /** Backward-shift deletion: moves later entries of the probe run into the hole */
+   private void removeSlot(int slot) {
+      int hole = slot;
+      int next = (hole + 1) & mask;
+      while (keys[next] != EMPTY) {
+         int home = index(keys[next]);
+         if (((next - home) & mask) >= ((next - hole) & mask)) {
+            keys[hole] = keys[next];
+            values[hole] = values[next];
+            hole = next;
+         }
+         next = (next + 1) & mask;
+      }
+      keys[hole] = EMPTY;
+      size--;
+   }
+
+   private int index(int key) {
+      int h = key * 0x9E3779B9;
+      return (h ^ (h >>> 16)) & mask;
+   }
+
+   private void allocate(int capacity) {
+      keys = new int[capacity];
+      values = new int[capacity];
+      Arrays.fill(keys, EMPTY);
+      mask = capacity - 1;
+   }
+
+   private void resize(int capacity) {
+      int[] oldKeys = keys;
+      int[] oldValues = values;
+      allocate(capacity);
+      size = 0;
+      for (int slot = 0; slot < oldKeys.length; slot++) {
+         if (oldKeys[slot] != EMPTY) {
+            put(oldKeys[slot], oldValues[slot]);
+         }
+      }
+   }
+
+   /** Receives one map entry */
+   @FunctionalInterface
+   interface EntryConsumer {
+
+      void accept(int key, int value);
+   }
+}
@@ -0,0 +1,84 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.analytics;
+
+/**
+ * Space-saving heavy-hitter summary (Metwally, Agrawal and El Abbadi) over a stream of int keys.
+ *
+ * <p>
+ * Keeps at most {@code capacity} counters. An unseen key takes over the smallest counter and
+ * inherits its count as error, so for every kept key {@code count - error <= true count <= count},
+ * and any key occurring more than {@code total / capacity} times is guaranteed to be kept. Eviction
+ * scans the counters for the minimum, which is cheap at the few hundred counters used here. Not
+ * thread-safe.
+ */
+final class SpaceSaving {
+
+   private final int[] keys;
+   private final long[] counts;
+   private final long[] errors;
+   private final IntIntMap slots;
+   private int size;
+
+   SpaceSaving(int capacity) {
+      if (capacity < 1) {
+         throw new IllegalArgumentException("Capacity must be positive");
+      }
+      keys = new int[capacity];
+      counts = new long[capacity];
+      errors = new long[capacity];
+      slots = new IntIntMap(capacity);
+   }
+
+   /** Counts one occurrence of {@code key} */
+   void offer(int key) {
+      int slot = slots.get(key, -1);
+      if (slot < 0) {
+         if (size < keys.length) {
+            slot = size++;
+            counts[slot] = 0;
+            errors[slot] = 0;
+         } else {
+            slot = minimumSlot();
+            slots.remove(keys[slot]);
+            errors[slot] = counts[slot];
+         }
+         keys[slot] = key;
+         slots.put(key, slot);
+      }
+      counts[slot]++;
+   }
+
+   /** Number of counters in use */
+   int size() {
+      return size;
+   }
+
+   int keyAt(int index) {
+      return keys[index];
+   }
+
+   /** Upper bound on the occurrences of the key at {@code index} */
+   long countAt(int index) {
+      return counts[index];
+   }
+
+   /** How much {@link #countAt(int)} may exceed the true occurrences */
+   long errorAt(int index) {
+      return errors[index];
+   }
+
+   void clear() {
+      slots.clear();
+      size = 0;
+   }
+
+   private int minimumSlot() {
+      int minimum = 0;
+      for (int i = 1; i < size; i++) {
+         if (counts[i] < counts[minimum]) {
+            minimum = i;
+         }
+      }
+      return minimum;
+   }
+}
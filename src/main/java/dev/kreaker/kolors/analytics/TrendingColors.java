@@ -0,0 +1,113 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorUsageCount;
+
+/**
+ * Colors added most often within a recent time window, in bounded memory.
+ *
+ * <p>
+ * Time is cut into {@code bucketCount} buckets of {@code bucketMillis}, kept in a ring; each
+ * bucket is a {@link SpaceSaving} summary of {@code capacity} counters, cleared when the ring comes
+ * back to it. A query merges the buckets of the window by adding their counters. Merged counts are
+ * estimates: a bucket may overcount a color by its error, and a color evicted from a bucket misses
+ * at most that bucket's smallest counter. Both bounds are tight for colors well above
+ * {@code 1 / capacity} of a bucket's additions, which are the ones a trending list shows.
+ */
+final class TrendingColors {
+
+   private final long bucketMillis;
+   private final int capacity;
+   private final SpaceSaving[] buckets;
+   private final long[] epochs;
+
+   TrendingColors(int bucketCount, long bucketMillis, int capacity) {
+      if (bucketCount < 1 || bucketMillis < 1) {
+         throw new IllegalArgumentException("Invalid trending window");
+      }
+      this.bucketMillis = bucketMillis;
+      this.capacity = capacity;
+      this.buckets = new SpaceSaving[bucketCount];
+      this.epochs = new long[bucketCount];
+      for (int i = 0; i < bucketCount; i++) {
+         buckets[i] = new SpaceSaving(capacity);
+      }
+      Arrays.fill(epochs, Long.MIN_VALUE);
+   }
+
+   /** Counts one addition of {@code color} at {@code timeMillis}; older than the ring is ignored */
+   synchronized void offer(int color, long timeMillis) {
+      long epoch = Math.floorDiv(timeMillis, bucketMillis);
+      int index = Math.floorMod(epoch, buckets.length);
+      if (epochs[index] != epoch) {
+         if (epochs[index] > epoch) {
+            return;
+         }
+         buckets[index].clear();
+         epochs[index] = epoch;
+      }
+      buckets[index].offer(color);
+   }
+
+   /**
+    * Most added colors over the last {@code bucketsBack} buckets up to {@code nowMillis}, at most
+    * {@code limit}, highest estimate first
+    */
+   synchronized List<ColorUsageCount> top(int bucketsBack, int limit, long nowMillis) {
+      int window = Math.max(1, Math.min(bucketsBack, buckets.length));
+      long current = Math.floorDiv(nowMillis, bucketMillis);
+      IntIntMap index = new IntIntMap(window * capacity);
+      int[] colors = new int[window * capacity];
+      long[] counts = new long[colors.length];
+      long[] errors = new long[colors.length];
+      int merged = 0;
+      for (long epoch = current - window + 1; epoch <= current; epoch++) {
+         int ring = Math.floorMod(epoch, buckets.length);
+         if (epochs[ring] != epoch) {
+            continue;
+         }
+         SpaceSaving bucket = buckets[ring];
+         for (int i = 0; i < bucket.size(); i++) {
+            int color = bucket.keyAt(i);
+            int slot = index.get(color, -1);
+            if (slot < 0) {
+               slot = merged++;
+               colors[slot] = color;
+               index.put(color, slot);
+            }
+            counts[slot] += bucket.countAt(i);
+            errors[slot] += bucket.errorAt(i);
+         }
+      }
+
+      // Highest count first, then lowest color, packed so a primitive sort orders them
+      long[] ranked = new long[merged];
+      for (int i = 0; i < merged; i++) {
+         ranked[i] = counts[i] << 24 | (0xFFFFFF - colors[i]);
+      }
+      Arrays.sort(ranked);
+      List<ColorUsageCount> result = new ArrayList<>(Math.min(limit, merged));
+      for (int i = merged - 1; i >= 0 && result.size() < limit; i--) {
+         int slot = index.get(0xFFFFFF - (int) (ranked[i] & 0xFFFFFF), -1);
+         result.add(new ColorUsageCount(Rgb.toHex(colors[slot]), counts[slot], errors[slot]));
+      }
+      return result;
+   }
+
+   int getBucketCount() {
+      return buckets.length;
+   }
+
+   long getBucketMillis() {
+      return bucketMillis;
+   }
+
+   int getCapacity() {
+      return capacity;
+   }
+}
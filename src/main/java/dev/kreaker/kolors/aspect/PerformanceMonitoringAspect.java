@@ -1,21 +1,39 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors.aspect;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import dev.kreaker.kolors.service.PerformanceMonitoringService;
+import dev.kreaker.kolors.service.PerformanceMonitoringService.OperationTimer;
 
 /**
  * Aspect for monitoring performance of service methods and repository operations Automatically
  * tracks execution times and logs performance metrics
+ *
+ * <p>
+ * The monitoring mode is selected with {@code kolors.performance.monitoring.mode}:
+ * <ul>
+ * <li>{@code full} (default) - every call is timed and recorded by name</li>
+ * <li>{@code low-overhead} - operation names and timer handles are cached per method, timing uses
+ * {@link System#nanoTime()} and only a fraction of calls ({@code sample-rate}) is timed; each
+ * timed call is counted as {@code 1 / sample-rate} calls, so counts are estimates of all calls</li>
+ * <li>{@code off} - calls are passed through untouched</li>
+ * </ul>
  */
 @Aspect
 @Component
@@ -23,10 +41,58 @@ public class PerformanceMonitoringAspect {
 
    private static final Logger logger = LoggerFactory.getLogger(PerformanceMonitoringAspect.class);
 
+   private static final long CONTROLLER_SLOW_THRESHOLD_NANOS = 200_000_000L; // 200ms
+
+   // Sampling uses a 24-bit random draw compared against a precomputed threshold
+   private static final int SAMPLE_BITS = 24;
+   private static final int SAMPLE_SCALE = 1 << SAMPLE_BITS;
+
+   /** Available monitoring modes */
+   public enum MonitoringMode {
+      FULL, LOW_OVERHEAD, OFF;
+
+      /** Parses a property value such as {@code low-overhead} or {@code LOW_OVERHEAD} */
+      public static MonitoringMode fromProperty(String value) {
+         if (value == null || value.isBlank()) {
+            return FULL;
+         }
+         return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+      }
+   }
+
    private final PerformanceMonitoringService performanceMonitoringService;
+   private final MonitoringMode mode;
+   private final double sampleRate;
+   private final int sampleThreshold;
+   private final double callsPerSample;
 
-   public PerformanceMonitoringAspect(PerformanceMonitoringService performanceMonitoringService) {
+   // Spring AOP creates a new Signature object per invocation, so handles are keyed by its Method
+   private final ConcurrentHashMap<Method, OperationTimer> serviceTimers =
+            new ConcurrentHashMap<>();
+   private final ConcurrentHashMap<Method, OperationTimer> repositoryTimers =
+            new ConcurrentHashMap<>();
+   private final ConcurrentHashMap<Method, String> controllerNames = new ConcurrentHashMap<>();
+
+   public PerformanceMonitoringAspect(PerformanceMonitoringService performanceMonitoringService,
+            @Value("${kolors.performance.monitoring.mode:full}") String mode,
+            @Value("${kolors.performance.monitoring.sample-rate:1.0}") double sampleRate) {
+      if (sampleRate < 0.0 || sampleRate > 1.0) {
+         throw new IllegalArgumentException("Sample rate must be between 0.0 and 1.0");
+      }
       this.performanceMonitoringService = performanceMonitoringService;
+      this.mode = MonitoringMode.fromProperty(mode);
+      this.sampleRate = sampleRate;
+      this.sampleThreshold = (int) Math.round(sampleRate * SAMPLE_SCALE);
+      this.callsPerSample = sampleThreshold > 0 ? (double) SAMPLE_SCALE / sampleThreshold : 0.0;
+      logger.info("Performance monitoring mode: {} (sample rate {})", this.mode, sampleRate);
+   }
+
+   public MonitoringMode getMode() {
+      return mode;
+   }
+
+   public double getSampleRate() {
+      return sampleRate;
    }
 
    /**
@@ -35,6 +101,13 @@ public class PerformanceMonitoringAspect {
     */
    @Around("execution(* dev.kreaker.kolors.service.*.*(..)) && !execution(* dev.kreaker.kolors.service.PerformanceMonitoringService.*(..))")
    public Object monitorServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+      if (mode == MonitoringMode.OFF) {
+         return joinPoint.proceed();
+      }
+      if (mode == MonitoringMode.LOW_OVERHEAD) {
+         return proceedSampled(joinPoint, serviceTimers, false);
+      }
+
       String methodName = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
                + joinPoint.getSignature().getName();
 
@@ -57,6 +130,13 @@ public class PerformanceMonitoringAspect {
    /** Monitor repository method executions (database operations) */
    @Around("execution(* dev.kreaker.kolors.*Repository.*(..))")
    public Object monitorRepositoryMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+      if (mode == MonitoringMode.OFF) {
+         return joinPoint.proceed();
+      }
+      if (mode == MonitoringMode.LOW_OVERHEAD) {
+         return proceedSampled(joinPoint, repositoryTimers, true);
+      }
+
       String operationName = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
                + joinPoint.getSignature().getName();
 
@@ -79,6 +159,26 @@ public class PerformanceMonitoringAspect {
    /** Monitor controller method executions for web request performance */
    @Around("execution(* dev.kreaker.kolors.*Controller.*(..))")
    public Object monitorControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+      if (mode == MonitoringMode.OFF) {
+         return joinPoint.proceed();
+      }
+      if (mode == MonitoringMode.LOW_OVERHEAD) {
+         long start = System.nanoTime();
+         try {
+            Object result = joinPoint.proceed();
+            long elapsed = System.nanoTime() - start;
+            if (elapsed > CONTROLLER_SLOW_THRESHOLD_NANOS) {
+               logger.info("Controller method '{}' took {}ms", controllerName(joinPoint),
+                        elapsed / 1_000_000L);
+            }
+            return result;
+         } catch (Exception e) {
+            logger.warn("Controller method '{}' failed after {}ms: {}", controllerName(joinPoint),
+                     (System.nanoTime() - start) / 1_000_000L, e.getMessage());
+            throw e;
+         }
+      }
+
       String methodName = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
                + joinPoint.getSignature().getName();
 
@@ -100,4 +200,85 @@ public class PerformanceMonitoringAspect {
          throw e;
       }
    }
+
+   /**
+    * Low-overhead path: skips unsampled calls entirely and records sampled ones through a cached
+    * timer handle. Failures are always logged, sampled or not.
+    */
+   private Object proceedSampled(ProceedingJoinPoint joinPoint,
+            ConcurrentHashMap<Method, OperationTimer> timers, boolean databaseOperation)
+            throws Throwable {
+      if (!isSampled()) {
+         long start = System.nanoTime();
+         try {
+            return joinPoint.proceed();
+         } catch (Exception e) {
+            logFailure(timerFor(joinPoint, timers, databaseOperation), databaseOperation,
+                     System.nanoTime() - start, e);
+            throw e;
+         }
+      }
+
+      OperationTimer timer = timerFor(joinPoint, timers, databaseOperation);
+      long start = System.nanoTime();
+      try {
+         Object result = joinPoint.proceed();
+         performanceMonitoringService.record(timer, System.nanoTime() - start, sampledCalls());
+         return result;
+      } catch (Exception e) {
+         logFailure(timer, databaseOperation, System.nanoTime() - start, e);
+         throw e;
+      }
+   }
+
+   private boolean isSampled() {
+      if (sampleThreshold >= SAMPLE_SCALE) {
+         return true;
+      }
+      return (ThreadLocalRandom.current().nextInt() >>> (Integer.SIZE - SAMPLE_BITS))
+               < sampleThreshold;
+   }
+
+   /**
+    * Calls a sampled call stands for: {@code 1 / sample-rate}, rounded up or down at random in
+    * proportion to the fraction so the recorded counts stay unbiased
+    */
+   private long sampledCalls() {
+      long calls = (long) callsPerSample;
+      double fraction = callsPerSample - calls;
+      return fraction > 0.0 && ThreadLocalRandom.current().nextDouble() < fraction ? calls + 1
+               : calls;
+   }
+
+   private OperationTimer timerFor(ProceedingJoinPoint joinPoint,
+            ConcurrentHashMap<Method, OperationTimer> timers, boolean databaseOperation) {
+      Signature signature = joinPoint.getSignature();
+      Method method = ((MethodSignature) signature).getMethod();
+      OperationTimer timer = timers.get(method);
+      if (timer == null) {
+         String name = operationName(signature);
+         timer = timers.computeIfAbsent(method,
+                  key -> databaseOperation
+                           ? performanceMonitoringService.databaseOperationTimer(name)
+                           : performanceMonitoringService.serviceMethodTimer(name));
+      }
+      return timer;
+   }
+
+   private String controllerName(ProceedingJoinPoint joinPoint) {
+      Signature signature = joinPoint.getSignature();
+      return controllerNames.computeIfAbsent(((MethodSignature) signature).getMethod(),
+               key -> operationName(signature));
+   }
+
+   private void logFailure(OperationTimer timer, boolean databaseOperation, long elapsedNanos,
+            Exception e) {
+      logger.warn("{} '{}' failed after {}ms: {}",
+               databaseOperation ? "Database operation" : "Service method",
+               timer.getOperationName(), elapsedNanos / 1_000_000L, e.getMessage());
+   }
+
+   private static String operationName(Signature signature) {
+      return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+   }
 }
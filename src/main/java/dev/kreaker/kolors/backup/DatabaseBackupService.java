@@ -0,0 +1,412 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.backup;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.core.DB;
+
+/**
+ * Hot backups of the SQLite database through the SQLite online backup API.
+ *
+ * <p>
+ * Pages are copied {@code pages-per-step} at a time over a connection of the service's own, so
+ * the pool keeps all its connections. SQLite holds a read lock on the source only during each
+ * step, and the service sleeps {@code step-pause-ms} between steps, so the single writer can
+ * commit while a backup is running. A write from another connection restarts the copy
+ * at the next step; after {@value #PAUSED_RESTARTS} restarts the pauses are dropped so the copy can
+ * finish between writes. Each backup is written under a temporary name, checked with
+ * {@code PRAGMA quick_check} and then moved into {@code directory}; only the newest
+ * {@code retention} backups are kept. Backups run on {@code cron} and on demand.
+ *
+ * <p>
+ * {@link #restore(Path)} checks a backup, saves the current database as a {@code pre-restore}
+ * backup and copies the file over the live database. It is run by {@link DatabaseRestoreCommand},
+ * without the rest of the application, so no cache or in-memory index outlives the old data.
+ */
+@Service
+@ConditionalOnProperty(name = "kolors.backup.enabled", havingValue = "true")
+public class DatabaseBackupService {
+
+   private static final Logger logger = LoggerFactory.getLogger(DatabaseBackupService.class);
+
+   static final int PAUSED_RESTARTS = 3;
+   // A step that finds the source or destination locked is retried, up to 10 s in all
+   private static final int BUSY_RETRIES = 100;
+   private static final int BUSY_SLEEP_MS = 100;
+   private static final DateTimeFormatter STAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+   /** Operation in progress */
+   public enum Operation {
+      IDLE, BACKUP, RESTORE
+   }
+
+   private final DataSource dataSource;
+   private final Path directory;
+   private final int pagesPerStep;
+   private final long stepPauseMs;
+   private final int retention;
+
+   private final AtomicBoolean running = new AtomicBoolean();
+   private final LongAdder backups = new LongAdder();
+   private final LongAdder failures = new LongAdder();
+   private volatile Operation operation = Operation.IDLE;
+   private volatile Progress progress;
+   private volatile BackupFile lastBackup;
+   private volatile long lastBackupMs;
+   private volatile int lastRestarts;
+   private volatile String lastError;
+
+   @Autowired
+   public DatabaseBackupService(DataSource dataSource,
+            @Value("${kolors.backup.directory:backups}") String directory,
+            @Value("${kolors.backup.pages-per-step:256}") int pagesPerStep,
+            @Value("${kolors.backup.step-pause-ms:10}") long stepPauseMs,
+            @Value("${kolors.backup.retention:7}") int retention) {
+      if (pagesPerStep < 1 || stepPauseMs < 0 || retention < 1) {
+         throw new IllegalArgumentException("Invalid database backup configuration");
+      }
+      this.dataSource = dataSource;
+      this.directory = Path.of(directory).toAbsolutePath();
+      this.pagesPerStep = pagesPerStep;
+      this.stepPauseMs = stepPauseMs;
+      this.retention = retention;
+   }
+
+   @Scheduled(cron = "${kolors.backup.cron:0 15 3 * * *}")
+   public void scheduled() {
+      try {
+         backup();
+      } catch (IllegalStateException e) {
+         logger.warn("Scheduled database backup skipped: {}", e.getMessage());
+      } catch (Exception e) {
+         logger.error("Scheduled database backup failed", e);
+      }
+   }
+
+   /** Starts a backup on a background thread; false if a backup or restore is in progress */
+   public boolean startBackup() {
+      if (running.get()) {
+         return false;
+      }
+      // A platform thread: the backup sleeps inside a native callback, which would pin a carrier
+      Thread thread = new Thread(() -> {
+         try {
+            backup();
+         } catch (IllegalStateException e) {
+            logger.warn("Database backup skipped: {}", e.getMessage());
+         } catch (Exception e) {
+            logger.error("Database backup failed", e);
+         }
+      }, "database-backup");
+      thread.setDaemon(true);
+      thread.start();
+      return true;
+   }
+
+   /**
+    * Copies the live database into a new file of {@code directory} and applies the retention
+    *
+    * @throws IllegalStateException if a backup or restore is in progress
+    */
+   public BackupFile backup() throws SQLException, IOException {
+      if (!running.compareAndSet(false, true)) {
+         throw new IllegalStateException("A backup or restore is already running");
+      }
+      long start = System.nanoTime();
+      operation = Operation.BACKUP;
+      Path temporary = null;
+      try {
+         Path database = databaseFile();
+         Files.createDirectories(directory);
+         Path target = directory.resolve(stem(database) + "-" + STAMP.format(LocalDateTime.now())
+                  + ".db");
+         temporary = directory.resolve(target.getFileName() + ".partial");
+         Progress current;
+         try (Connection connection = open(database)) {
+            current = new Progress(pageSize(connection), stepPauseMs);
+            progress = current;
+            check(sqlite(connection).getDatabase().backup("main", temporary.toString(),
+                     current::step, BUSY_SLEEP_MS, BUSY_RETRIES, pagesPerStep), current, "Backup");
+         }
+         quickCheck(temporary);
+         move(temporary, target);
+         lastBackupMs = (System.nanoTime() - start) / 1_000_000;
+         lastRestarts = current.restarts;
+         lastBackup = describe(target);
+         lastError = null;
+         backups.increment();
+         logger.info("Database backed up to {} ({} bytes, {} ms, {} restarts)", target,
+                  lastBackup.bytes(), lastBackupMs, current.restarts);
+         prune();
+         return lastBackup;
+      } catch (SQLException | IOException | RuntimeException e) {
+         failures.increment();
+         lastError = e.getMessage();
+         throw e;
+      } finally {
+         if (temporary != null) {
+            Files.deleteIfExists(temporary);
+         }
+         operation = Operation.IDLE;
+         running.set(false);
+      }
+   }
+
+   /**
+    * Replaces the live database with a backup after checking it and saving the current database
+    * as a {@code pre-restore} backup. Steps do not pause: the live database stays locked until the
+    * restore finishes either way.
+    */
+   public void restore(Path file) throws SQLException, IOException {
+      Path source = file.toAbsolutePath();
+      if (!Files.isRegularFile(source)) {
+         throw new IllegalArgumentException("Backup file not found: " + source);
+      }
+      quickCheck(source);
+      if (!running.compareAndSet(false, true)) {
+         throw new IllegalStateException("A backup or restore is already running");
+      }
+      operation = Operation.RESTORE;
+      try {
+         Path database = databaseFile();
+         Files.createDirectories(directory);
+         Path safety = directory.resolve(stem(database) + "-pre-restore-"
+                  + STAMP.format(LocalDateTime.now()) + ".db");
+         try (Connection connection = open(database)) {
+            DB sqlite = sqlite(connection).getDatabase();
+            Progress saving = new Progress(pageSize(connection), 0);
+            progress = saving;
+            check(sqlite.backup("main", safety.toString(), saving::step, BUSY_SLEEP_MS,
+                     BUSY_RETRIES, pagesPerStep), saving, "Pre-restore backup");
+            logger.info("Current database saved to {}", safety);
+
+            Progress restoring = new Progress(pageSize(connection), 0);
+            progress = restoring;
+            check(sqlite.restore("main", source.toString(), restoring::step, BUSY_SLEEP_MS,
+                     BUSY_RETRIES, pagesPerStep), restoring, "Restore");
+         }
+         logger.info("Database restored from {}", source);
+      } finally {
+         operation = Operation.IDLE;
+         running.set(false);
+      }
+   }
+
+   /** Backups in {@code directory}, newest first, {@code pre-restore} copies included */
+   public List<BackupFile> listBackups() throws IOException {
+      List<BackupFile> files = new ArrayList<>();
+      if (!Files.isDirectory(directory)) {
+         return files;
+      }
+      try (Stream<Path> paths = Files.list(directory)) {
+         for (Path path : paths.filter(p -> p.getFileName().toString().endsWith(".db")).sorted(
+                  (first, second) -> second.getFileName().compareTo(first.getFileName()))
+                  .toList()) {
+            files.add(describe(path));
+         }
+      }
+      return files;
+   }
+
+   /** Deletes the oldest regular backups beyond {@code retention} */
+   void prune() throws IOException {
+      Pattern regular = Pattern.compile(".+-\\d{8}-\\d{6}-\\d{3}\\.db");
+      List<Path> backupFiles;
+      try (Stream<Path> paths = Files.list(directory)) {
+         backupFiles = paths.filter(path -> regular.matcher(path.getFileName().toString()).matches()
+                  && !path.getFileName().toString().contains("-pre-restore-"))
+                  .sorted((first, second) -> second.getFileName().compareTo(first.getFileName()))
+                  .toList();
+      }
+      for (Path old : backupFiles.subList(Math.min(retention, backupFiles.size()),
+               backupFiles.size())) {
+         Files.deleteIfExists(old);
+         logger.info("Deleted old backup {}", old);
+      }
+   }
+
+   /** Gets the progress of the running operation and backup counters */
+   public BackupStatistics getStatistics() {
+      Progress current = progress;
+      Operation now = operation;
+      boolean active = now != Operation.IDLE && current != null;
+      BackupFile last = lastBackup;
+      return new BackupStatistics(now, active ? current.pageCount : 0,
+               active ? current.remaining : 0, active ? current.percent() : 0.0,
+               active ? current.megabytesPerSecond() : 0.0, active ? current.restarts : 0,
+               backups.sum(), failures.sum(), last, lastBackupMs, lastRestarts, lastError,
+               directory.toString(), retention);
+   }
+
+   private static SQLiteConnection sqlite(Connection connection) throws SQLException {
+      if (!connection.isWrapperFor(SQLiteConnection.class)) {
+         throw new IllegalStateException("Online backup needs an SQLite database");
+      }
+      return connection.unwrap(SQLiteConnection.class);
+   }
+
+   /** File of the main database, asked through a pooled connection that is returned at once */
+   private Path databaseFile() throws SQLException {
+      try (Connection connection = dataSource.getConnection();
+               Statement statement = sqlite(connection).createStatement();
+               ResultSet rows = statement.executeQuery("PRAGMA database_list")) {
+         while (rows.next()) {
+            String file = rows.getString("file");
+            if ("main".equals(rows.getString("name")) && file != null && !file.isBlank()) {
+               return Path.of(file);
+            }
+         }
+      }
+      throw new IllegalStateException("Online backup needs an SQLite database file");
+   }
+
+   private static Connection open(Path database) throws SQLException {
+      return new SQLiteConfig().createConnection("jdbc:sqlite:" + database);
+   }
+
+   /** File name of the database without extension, to name its backups */
+   private static String stem(Path database) {
+      String name = database.getFileName().toString();
+      int dot = name.lastIndexOf('.');
+      return dot > 0 ? name.substring(0, dot) : name;
+   }
+
+   private static int pageSize(Connection connection) throws SQLException {
+      try (Statement statement = connection.createStatement();
+               ResultSet rows = statement.executeQuery("PRAGMA page_size")) {
+         return rows.next() ? rows.getInt(1) : 4096;
+      }
+   }
+
+   /**
+    * Fails unless the copy ended with {@code SQLITE_OK} and its last step left no page behind. A
+    * copy that runs out of busy retries stops early but still reports {@code SQLITE_OK}.
+    */
+   private static void check(int result, Progress progress, String what) throws SQLException {
+      if (result != SQLiteErrorCode.SQLITE_OK.code) {
+         throw new SQLException(what + " failed with SQLite result code " + result);
+      }
+      if (!progress.finished()) {
+         throw new SQLException(what + " gave up while the database stayed locked");
+      }
+   }
+
+   /** Fails unless {@code PRAGMA quick_check} of the file reports ok */
+   private static void quickCheck(Path file) throws SQLException {
+      SQLiteConfig config = new SQLiteConfig();
+      config.setReadOnly(true);
+      try (Connection connection = config.createConnection("jdbc:sqlite:" + file);
+               Statement statement = connection.createStatement();
+               ResultSet rows = statement.executeQuery("PRAGMA quick_check")) {
+         String result = rows.next() ? rows.getString(1) : null;
+         if (!"ok".equals(result)) {
+            throw new SQLException("Integrity check of " + file + " failed: " + result);
+         }
+      }
+   }
+
+   private static void move(Path from, Path to) throws IOException {
+      try {
+         Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+         Files.move(from, to);
+      }
+   }
+
+   private static BackupFile describe(Path file) throws IOException {
+      return new BackupFile(file.getFileName().toString(), Files.size(file), LocalDateTime
+               .ofInstant(Files.getLastModifiedTime(file).toInstant(), ZoneId.systemDefault()));
+   }
+
+   /** Page counts reported after each step; the pause between steps happens here */
+   private static final class Progress {
+
+      private final int pageSize;
+      private final long pauseMs;
+      private final long started = System.nanoTime();
+      private volatile int pageCount;
+      private volatile int remaining;
+      private volatile int restarts;
+      private volatile int steps;
+      private volatile long copied;
+
+      Progress(int pageSize, long pauseMs) {
+         this.pageSize = pageSize;
+         this.pauseMs = pauseMs;
+      }
+
+      void step(int remainingPages, int pageTotal) {
+         // More pages left than after the previous step: a write restarted the copy
+         if (pageCount > 0 && remainingPages > remaining) {
+            restarts++;
+         }
+         copied += Math.max(0, pageTotal - remainingPages - (pageCount - remaining));
+         pageCount = pageTotal;
+         remaining = remainingPages;
+         steps++;
+         if (remainingPages > 0 && pauseMs > 0 && restarts < PAUSED_RESTARTS) {
+            try {
+               Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+               Thread.currentThread().interrupt();
+            }
+         }
+      }
+
+      boolean finished() {
+         return steps > 0 && remaining == 0;
+      }
+
+      double percent() {
+         return pageCount > 0 ? Math.round((pageCount - remaining) * 1000.0 / pageCount) / 10.0
+                  : 0.0;
+      }
+
+      double megabytesPerSecond() {
+         double seconds = (System.nanoTime() - started) / 1e9;
+         return seconds > 0 ? copied * pageSize / 1_048_576.0 / seconds : 0.0;
+      }
+   }
+
+   /** One backup file of the backup directory */
+   public record BackupFile(String name, long bytes, LocalDateTime modified) {}
+
+   /**
+    * Running operation with its page progress and copy throughput, plus backup counters. Copied
+    * pages include those copied again after a restart.
+    */
+   public record BackupStatistics(Operation operation, int pageCount, int pagesRemaining,
+            double percentComplete, double megabytesPerSecond, int restarts, long backupCount,
+            long failureCount, BackupFile lastBackup, long lastBackupMs, int lastBackupRestarts,
+            String lastError, String directory, int retention) {}
+}
@@ -0,0 +1,83 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.backup;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+
+/**
+ * Restores the database from a backup as a command of its own:
+ * {@code java -jar kolors.jar --kolors.backup.restore-from=backups/kolors-20261019-031500-000.db}.
+ *
+ * <p>
+ * The command starts a context holding only the configured data source, with no web server,
+ * scheduled job or in-memory index, runs {@link DatabaseBackupService#restore(Path)} and exits with
+ * 0 when the database was restored, 1 when it was left unchanged. It is not a component, so the
+ * application itself never picks it up.
+ */
+@ImportAutoConfiguration(DataSourceAutoConfiguration.class)
+public class DatabaseRestoreCommand implements ApplicationRunner, ExitCodeGenerator {
+
+   private static final Logger logger = LoggerFactory.getLogger(DatabaseRestoreCommand.class);
+
+   static final String OPTION = "kolors.backup.restore-from";
+
+   private final DatabaseBackupService backupService;
+   private volatile int exitCode = 1;
+
+   public DatabaseRestoreCommand(DataSource dataSource,
+            @Value("${kolors.backup.directory:backups}") String directory,
+            @Value("${kolors.backup.pages-per-step:256}") int pagesPerStep,
+            @Value("${kolors.backup.retention:7}") int retention) {
+      this.backupService = new DatabaseBackupService(dataSource, directory, pagesPerStep, 0,
+               retention);
+   }
+
+   /** Whether the command line asks for a restore instead of starting the application */
+   public static boolean isRequested(String[] args) {
+      return Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + OPTION + "="));
+   }
+
+   /** Runs the restore and returns the exit code */
+   public static int execute(String[] args) {
+      SpringApplication application = new SpringApplication(DatabaseRestoreCommand.class);
+      application.setWebApplicationType(WebApplicationType.NONE);
+      application.setLogStartupInfo(false);
+      return SpringApplication.exit(application.run(args));
+   }
+
+   @Override
+   public void run(ApplicationArguments args) {
+      List<String> files = args.getOptionValues(OPTION);
+      if (files == null || files.size() != 1 || files.getFirst().isBlank()) {
+         logger.error("Give exactly one backup file with --{}=<file>", OPTION);
+         return;
+      }
+      try {
+         backupService.restore(Path.of(files.getFirst()));
+         exitCode = 0;
+         logger.info("Restore complete; start the application again without --{}", OPTION);
+      } catch (Exception e) {
+         logger.error("Restore from {} failed; the database was not changed", files.getFirst(),
+                  e);
+      }
+   }
+
+   @Override
+   public int getExitCode() {
+      return exitCode;
+   }
+}
@@ -0,0 +1,256 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.RequestContext;
+import org.springframework.web.servlet.support.RequestContextUtils;
+import org.springframework.web.servlet.view.AbstractTemplateView;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.context.webmvc.SpringWebMvcThymeleafRequestContext;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.spring6.naming.SpringContextVariableNames;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Cache of rendered Thymeleaf fragment HTML, keyed by a normalized request key.
+ *
+ * <p>
+ * Every entry is stamped with the write generation of {@code ColorCombinationService} that was
+ * current before its data was queried. A lookup with a newer generation treats the entry as
+ * stale, so any committed write invalidates all rendered lists at once without tracking which
+ * combinations each fragment contains. The number of entries is bounded ({@code max-entries})
+ * with least-recently-used eviction.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.web.fragment-cache.enabled", havingValue = "true")
+public class RenderedFragmentCache {
+
+   private static final Logger logger = LoggerFactory.getLogger(RenderedFragmentCache.class);
+
+   private final ITemplateEngine templateEngine;
+   private final ApplicationContext applicationContext;
+   private final int maxEntries;
+   private final Map<String, RenderedFragment> entries;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder staleMisses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+   private final LongAdder renders = new LongAdder();
+   private final LongAdder renderNanos = new LongAdder();
+
+   @Autowired
+   public RenderedFragmentCache(ITemplateEngine templateEngine,
+            ApplicationContext applicationContext,
+            @Value("${kolors.web.fragment-cache.max-entries:512}") int maxEntries) {
+      if (maxEntries < 1) {
+         throw new IllegalArgumentException("Fragment cache size must be positive");
+      }
+      this.templateEngine = templateEngine;
+      this.applicationContext = applicationContext;
+      this.maxEntries = maxEntries;
+      this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<String, RenderedFragment> eldest) {
+            if (size() > RenderedFragmentCache.this.maxEntries) {
+               evictions.increment();
+               return true;
+            }
+            return false;
+         }
+      };
+      logger.info("Rendered fragment cache enabled (max {} entries)", maxEntries);
+   }
+
+   /** Creates a storage-only cache, used by tests */
+   public RenderedFragmentCache(int maxEntries) {
+      this(null, null, maxEntries);
+   }
+
+   /** Gets the fragment rendered for {@code key}, or null if absent or older than generation */
+   public RenderedFragment get(String key, long generation) {
+      RenderedFragment fragment;
+      synchronized (entries) {
+         fragment = entries.get(key);
+         if (fragment != null && fragment.getGeneration() < generation) {
+            entries.remove(key);
+            fragment = null;
+            staleMisses.increment();
+         }
+      }
+      if (fragment == null) {
+         misses.increment();
+      } else {
+         hits.increment();
+      }
+      return fragment;
+   }
+
+   /** Stores rendered HTML for {@code key}; entries from older generations are never replaced */
+   public RenderedFragment put(String key, long generation, String html, long totalElements) {
+      RenderedFragment fragment = new RenderedFragment(html, generation, totalElements);
+      synchronized (entries) {
+         RenderedFragment existing = entries.get(key);
+         if (existing == null || existing.getGeneration() <= generation) {
+            entries.put(key, fragment);
+         }
+      }
+      return fragment;
+   }
+
+   /**
+    * Renders one fragment of a template for the current request and stores the result. The
+    * variables play the role of the MVC model.
+    */
+   public RenderedFragment render(String key, long generation, String template, String fragment,
+            Map<String, Object> variables, long totalElements, HttpServletRequest request,
+            HttpServletResponse response) {
+      long start = System.nanoTime();
+      Map<String, Object> model = new HashMap<>(variables);
+      RequestContext requestContext =
+               new RequestContext(request, response, request.getServletContext(), model);
+      model.put(AbstractTemplateView.SPRING_MACRO_REQUEST_CONTEXT_ATTRIBUTE, requestContext);
+      model.put(SpringContextVariableNames.SPRING_REQUEST_CONTEXT,
+               new SpringWebMvcThymeleafRequestContext(requestContext, request));
+      model.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+               new ThymeleafEvaluationContext(applicationContext,
+                        (ConversionService) request
+                                 .getAttribute(ConversionService.class.getName())));
+
+      WebContext context = new WebContext(
+               JakartaServletWebApplication.buildApplication(request.getServletContext())
+                        .buildExchange(request, response),
+               RequestContextUtils.getLocale(request), model);
+      String html = templateEngine.process(template, Set.of(fragment), context);
+
+      renders.increment();
+      renderNanos.add(System.nanoTime() - start);
+      return put(key, generation, html, totalElements);
+   }
+
+   /** Removes all entries */
+   public void clear() {
+      synchronized (entries) {
+         entries.clear();
+      }
+   }
+
+   /** Gets hit/miss counters and the current size */
+   public FragmentCacheStatistics getStatistics() {
+      int size;
+      synchronized (entries) {
+         size = entries.size();
+      }
+      return new FragmentCacheStatistics(hits.sum(), misses.sum(), staleMisses.sum(),
+               evictions.sum(), renders.sum(), renderNanos.sum(), size, maxEntries);
+   }
+
+   /** Rendered HTML together with the generation it was rendered at */
+   public static class RenderedFragment {
+
+      private final String html;
+      private final long generation;
+      private final long totalElements;
+
+      public RenderedFragment(String html, long generation, long totalElements) {
+         this.html = html;
+         this.generation = generation;
+         this.totalElements = totalElements;
+      }
+
+      public String getHtml() {
+         return html;
+      }
+
+      public long getGeneration() {
+         return generation;
+      }
+
+      /** Total number of matching combinations, for counters rendered outside the fragment */
+      public long getTotalElements() {
+         return totalElements;
+      }
+   }
+
+   /** Fragment cache effectiveness counters */
+   public static class FragmentCacheStatistics {
+
+      private final long hitCount;
+      private final long missCount;
+      private final long staleCount;
+      private final long evictionCount;
+      private final long renderCount;
+      private final long renderTimeNanos;
+      private final int size;
+      private final int maxEntries;
+
+      public FragmentCacheStatistics(long hitCount, long missCount, long staleCount,
+               long evictionCount, long renderCount, long renderTimeNanos, int size,
+               int maxEntries) {
+         this.hitCount = hitCount;
+         this.missCount = missCount;
+         this.staleCount = staleCount;
+         this.evictionCount = evictionCount;
+         this.renderCount = renderCount;
+         this.renderTimeNanos = renderTimeNanos;
+         this.size = size;
+         this.maxEntries = maxEntries;
+      }
+
+      public long getHitCount() {
+         return hitCount;
+      }
+
+      public long getMissCount() {
+         return missCount;
+      }
+
+      /** Misses caused by an entry from an older write generation */
+      public long getStaleCount() {
+         return staleCount;
+      }
+
+      public long getEvictionCount() {
+         return evictionCount;
+      }
+
+      public long getRenderCount() {
+         return renderCount;
+      }
+
+      public double getAverageRenderTimeMs() {
+         return renderCount > 0 ? renderTimeNanos / 1_000_000.0 / renderCount : 0.0;
+      }
+
+      public int getSize() {
+         return size;
+      }
+
+      public int getMaxEntries() {
+         return maxEntries;
+      }
+
+      /** Hit ratio as a percentage */
+      public double getHitRatio() {
+         long total = hitCount + missCount;
+         return total > 0 ? (double) hitCount / total * 100.0 : 0.0;
+      }
+   }
+}
@@ -0,0 +1,294 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+/**
+ * Conversions between packed sRGB ({@link Rgb}) and linear RGB, HSL, HSV, CIELAB, OKLab and OKLCH.
+ *
+ * <p>
+ * Decoding an 8-bit channel to linear light is a table lookup. Encoding linear light back to an
+ * 8-bit channel looks up the channel at the start of one of 4096 linear bins and checks the one
+ * rounding threshold a bin can contain, so round trips are exact and need no {@code pow}.
+ * Conversions from a packed color write three components into a caller-owned array at an offset;
+ * conversions to a packed color take three primitives. Nothing on these paths allocates.
+ *
+ * <p>
+ * Units: RGB, saturation, value and HSL lightness in [0, 1]; hues in degrees [0, 360); CIELAB
+ * (D65) L in [0, 100]; OKLab/OKLCH L in [0, 1]. Results outside the sRGB gamut are clamped per
+ * channel, except {@link #fromOklchInGamut(double, double, double)} and
+ * {@link #fromOklabInGamut(double, double, double)}.
+ */
+public final class ColorSpaces {
+
+   // D65 reference white
+   private static final double XN = 0.95047;
+   private static final double YN = 1.0;
+   private static final double ZN = 1.08883;
+
+   // Bisection steps when reducing chroma into gamut; 16 steps resolve well below one 8-bit level
+   private static final int GAMUT_SEARCH_STEPS = 16;
+   private static final double GAMUT_EPSILON = 1e-6;
+
+   private static final double[] SRGB_TO_LINEAR = new double[256];
+
+   // LINEAR_THRESHOLDS[i] is the linear value of 8-bit level i + 0.5
+   private static final double[] LINEAR_THRESHOLDS = new double[255];
+
+   // Channel at the start of each linear bin; the steepest part of the curve (12.92 * 255 levels
+   // per unit) crosses less than one threshold per bin
+   private static final int LINEAR_BINS = 4096;
+   private static final byte[] BIN_CHANNEL = new byte[LINEAR_BINS];
+
+   static {
+      for (int i = 0; i < 256; i++) {
+         SRGB_TO_LINEAR[i] = decode(i / 255.0);
+      }
+      for (int i = 0; i < 255; i++) {
+         LINEAR_THRESHOLDS[i] = decode((i + 0.5) / 255.0);
+      }
+      int channel = 0;
+      for (int bin = 0; bin < LINEAR_BINS; bin++) {
+         double start = (double) bin / LINEAR_BINS;
+         while (channel < 255 && LINEAR_THRESHOLDS[channel] <= start) {
+            channel++;
+         }
+         BIN_CHANNEL[bin] = (byte) channel;
+      }
+   }
+
+   private ColorSpaces() {}
+
+   /** Linear light of an 8-bit sRGB channel */
+   public static double srgbToLinear(int channel) {
+      return SRGB_TO_LINEAR[channel & 0xFF];
+   }
+
+   /** Gamma-encoded sRGB value of linear light, unclamped */
+   public static double linearToSrgb(double linear) {
+      return linear <= 0.0031308 ? 12.92 * linear : 1.055 * Math.pow(linear, 1 / 2.4) - 0.055;
+   }
+
+   /** Nearest 8-bit sRGB channel of linear light; values outside [0, 1] are clamped */
+   public static int linearToChannel(double linear) {
+      if (!(linear > 0)) {
+         return 0;
+      }
+      if (linear >= 1) {
+         return 255;
+      }
+      int channel = BIN_CHANNEL[(int) (linear * LINEAR_BINS)] & 0xFF;
+      return channel < 255 && LINEAR_THRESHOLDS[channel] <= linear ? channel + 1 : channel;
+   }
+
+   /** Writes linear r, g, b */
+   public static void toLinear(int rgb, double[] out, int offset) {
+      out[offset] = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+      out[offset + 1] = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+      out[offset + 2] = SRGB_TO_LINEAR[rgb & 0xFF];
+   }
+
+   public static int fromLinear(double red, double green, double blue) {
+      return linearToChannel(red) << 16 | linearToChannel(green) << 8 | linearToChannel(blue);
+   }
+
+   /** Writes hue, saturation, lightness */
+   public static void toHsl(int rgb, double[] out, int offset) {
+      double r = ((rgb >> 16) & 0xFF) / 255.0;
+      double g = ((rgb >> 8) & 0xFF) / 255.0;
+      double b = (rgb & 0xFF) / 255.0;
+      double max = Math.max(r, Math.max(g, b));
+      double min = Math.min(r, Math.min(g, b));
+      double delta = max - min;
+      double lightness = (max + min) / 2;
+      out[offset] = hue(r, g, b, max, delta);
+      out[offset + 1] = delta == 0 ? 0 : delta / (1 - Math.abs(2 * lightness - 1));
+      out[offset + 2] = lightness;
+   }
+
+   public static int fromHsl(double hue, double saturation, double lightness) {
+      double h = normalizeHue(hue);
+      double a = saturation * Math.min(lightness, 1 - lightness);
+      return Rgb.of(hslChannel(0, h, a, lightness), hslChannel(8, h, a, lightness),
+               hslChannel(4, h, a, lightness));
+   }
+
+   /** Writes hue, saturation, value */
+   public static void toHsv(int rgb, double[] out, int offset) {
+      double r = ((rgb >> 16) & 0xFF) / 255.0;
+      double g = ((rgb >> 8) & 0xFF) / 255.0;
+      double b = (rgb & 0xFF) / 255.0;
+      double max = Math.max(r, Math.max(g, b));
+      double delta = max - Math.min(r, Math.min(g, b));
+      out[offset] = hue(r, g, b, max, delta);
+      out[offset + 1] = max == 0 ? 0 : delta / max;
+      out[offset + 2] = max;
+   }
+
+   public static int fromHsv(double hue, double saturation, double value) {
+      double h = normalizeHue(hue);
+      return Rgb.of(hsvChannel(5, h, saturation, value), hsvChannel(3, h, saturation, value),
+               hsvChannel(1, h, saturation, value));
+   }
+
+   /** Writes CIELAB L, a, b */
+   public static void toLab(int rgb, double[] out, int offset) {
+      double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+      double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+      double b = SRGB_TO_LINEAR[rgb & 0xFF];
+      double fx = labF((0.4124564 * r + 0.3575761 * g + 0.1804375 * b) / XN);
+      double fy = labF((0.2126729 * r + 0.7151522 * g + 0.0721750 * b) / YN);
+      double fz = labF((0.0193339 * r + 0.1191920 * g + 0.9503041 * b) / ZN);
+      out[offset] = 116 * fy - 16;
+      out[offset + 1] = 500 * (fx - fy);
+      out[offset + 2] = 200 * (fy - fz);
+   }
+
+   /** Writes CIELAB L, a, b in single precision, the form palette searches keep */
+   public static void toLab(int rgb, float[] out, int offset) {
+      double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+      double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+      double b = SRGB_TO_LINEAR[rgb & 0xFF];
+      double fx = labF((0.4124564 * r + 0.3575761 * g + 0.1804375 * b) / XN);
+      double fy = labF((0.2126729 * r + 0.7151522 * g + 0.0721750 * b) / YN);
+      double fz = labF((0.0193339 * r + 0.1191920 * g + 0.9503041 * b) / ZN);
+      out[offset] = (float) (116 * fy - 16);
+      out[offset + 1] = (float) (500 * (fx - fy));
+      out[offset + 2] = (float) (200 * (fy - fz));
+   }
+
+   public static int fromLab(double lightness, double a, double b) {
+      double fy = (lightness + 16) / 116;
+      double x = XN * labInverseF(fy + a / 500);
+      double y = YN * labInverseF(fy);
+      double z = ZN * labInverseF(fy - b / 200);
+      return fromLinear(3.2404542 * x - 1.5371385 * y - 0.4985314 * z,
+               -0.9692660 * x + 1.8760108 * y + 0.0415560 * z,
+               0.0556434 * x - 0.2040259 * y + 1.0572252 * z);
+   }
+
+   /** Writes OKLab L, a, b */
+   public static void toOklab(int rgb, double[] out, int offset) {
+      double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+      double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+      double b = SRGB_TO_LINEAR[rgb & 0xFF];
+      double l = Math.cbrt(0.4122214708 * r + 0.5363325363 * g + 0.0514459929 * b);
+      double m = Math.cbrt(0.2119034982 * r + 0.6806995451 * g + 0.1073969566 * b);
+      double s = Math.cbrt(0.0883024619 * r + 0.2817188376 * g + 0.6299787005 * b);
+      out[offset] = 0.2104542553 * l + 0.7936177850 * m - 0.0040720468 * s;
+      out[offset + 1] = 1.9779984951 * l - 2.4285922050 * m + 0.4505937099 * s;
+      out[offset + 2] = 0.0259040371 * l + 0.7827717662 * m - 0.8086757660 * s;
+   }
+
+   public static int fromOklab(double lightness, double a, double b) {
+      double l = cube(lightness + 0.3963377774 * a + 0.2158037573 * b);
+      double m = cube(lightness - 0.1055613458 * a - 0.0638541728 * b);
+      double s = cube(lightness - 0.0894841775 * a - 1.2914855480 * b);
+      return fromLinear(4.0767416621 * l - 3.3077115913 * m + 0.2309699292 * s,
+               -1.2684380046 * l + 2.6097574011 * m - 0.3413193965 * s,
+               -0.0041960863 * l - 0.7034186147 * m + 1.7076147010 * s);
+   }
+
+   /** Whether an OKLab color lies inside the sRGB gamut */
+   public static boolean isOklabInGamut(double lightness, double a, double b) {
+      double l = cube(lightness + 0.3963377774 * a + 0.2158037573 * b);
+      double m = cube(lightness - 0.1055613458 * a - 0.0638541728 * b);
+      double s = cube(lightness - 0.0894841775 * a - 1.2914855480 * b);
+      return inUnit(4.0767416621 * l - 3.3077115913 * m + 0.2309699292 * s)
+               && inUnit(-1.2684380046 * l + 2.6097574011 * m - 0.3413193965 * s)
+               && inUnit(-0.0041960863 * l - 0.7034186147 * m + 1.7076147010 * s);
+   }
+
+   /** Writes OKLCH L, C, h */
+   public static void toOklch(int rgb, double[] out, int offset) {
+      toOklab(rgb, out, offset);
+      double a = out[offset + 1];
+      double b = out[offset + 2];
+      out[offset + 1] = Math.sqrt(a * a + b * b);
+      out[offset + 2] = normalizeHue(Math.toDegrees(Math.atan2(b, a)));
+   }
+
+   /** OKLCH to sRGB, clamping each channel */
+   public static int fromOklch(double lightness, double chroma, double hue) {
+      double radians = Math.toRadians(hue);
+      return fromOklab(lightness, chroma * Math.cos(radians), chroma * Math.sin(radians));
+   }
+
+   /** OKLCH to sRGB; out-of-gamut colors keep lightness and hue and lose chroma */
+   public static int fromOklchInGamut(double lightness, double chroma, double hue) {
+      double radians = Math.toRadians(hue);
+      return fromOklabInGamut(lightness, chroma * Math.cos(radians), chroma * Math.sin(radians));
+   }
+
+   /**
+    * OKLab to sRGB; out-of-gamut colors keep lightness and hue and lose chroma. Scaling a and b
+    * together keeps the hue, so no trigonometry is needed.
+    */
+   public static int fromOklabInGamut(double lightness, double a, double b) {
+      if (!isOklabInGamut(lightness, a, b)) {
+         double low = 0;
+         double high = 1;
+         for (int i = 0; i < GAMUT_SEARCH_STEPS; i++) {
+            double mid = (low + high) / 2;
+            if (isOklabInGamut(lightness, mid * a, mid * b)) {
+               low = mid;
+            } else {
+               high = mid;
+            }
+         }
+         a *= low;
+         b *= low;
+      }
+      return fromOklab(lightness, a, b);
+   }
+
+   /** Hue in [0, 360) */
+   public static double normalizeHue(double hue) {
+      double h = hue % 360;
+      return h < 0 ? h + 360 : h;
+   }
+
+   private static double hue(double r, double g, double b, double max, double delta) {
+      if (delta == 0) {
+         return 0;
+      }
+      double hue;
+      if (max == r) {
+         hue = 60 * ((g - b) / delta);
+      } else if (max == g) {
+         hue = 60 * ((b - r) / delta + 2);
+      } else {
+         hue = 60 * ((r - g) / delta + 4);
+      }
+      return hue < 0 ? hue + 360 : hue;
+   }
+
+   private static double hslChannel(int n, double hue, double a, double lightness) {
+      double k = (n + hue / 30) % 12;
+      return lightness - a * Math.max(-1, Math.min(Math.min(k - 3, 9 - k), 1));
+   }
+
+   private static double hsvChannel(int n, double hue, double saturation, double value) {
+      double k = (n + hue / 60) % 6;
+      return value - value * saturation * Math.max(0, Math.min(Math.min(k, 4 - k), 1));
+   }
+
+   private static double decode(double c) {
+      return c <= 0.04045 ? c / 12.92 : Math.pow((c + 0.055) / 1.055, 2.4);
+   }
+
+   private static double labF(double t) {
+      return t > 216.0 / 24389 ? Math.cbrt(t) : (24389.0 / 27 * t + 16) / 116;
+   }
+
+   private static double labInverseF(double f) {
+      double cube = f * f * f;
+      return cube > 216.0 / 24389 ? cube : (116 * f - 16) * 27 / 24389;
+   }
+
+   private static boolean inUnit(double value) {
+      return value >= -GAMUT_EPSILON && value <= 1 + GAMUT_EPSILON;
+   }
+
+   private static double cube(double x) {
+      return x * x * x;
+   }
+}
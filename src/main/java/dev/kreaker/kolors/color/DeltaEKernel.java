@@ -0,0 +1,30 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+/**
+ * CIE76 ΔE from one CIELAB color to many, with the points stored as three parallel
+ * {@code L}, {@code a}, {@code b} arrays so a SIMD implementation can load each axis directly.
+ *
+ * <p>
+ * Distances are squared and computed in float as {@code dl * dl + da * da + db * db}, the same
+ * operations in the same order in every implementation, so scalar and vector results are
+ * identical. Get an implementation from {@link DeltaEKernels}.
+ */
+public interface DeltaEKernel {
+
+   /**
+    * Writes the squared ΔE from {@code (l, a, b)} to each of the first {@code count} points into
+    * {@code out[0..count)}
+    */
+   void squaredDistances(float l, float a, float b, float[] ls, float[] as, float[] bs, int count,
+            float[] out);
+
+   /**
+    * Index of the point nearest to {@code (l, a, b)} among the first {@code count}, the lowest
+    * index on ties; -1 when {@code count} is 0
+    */
+   int nearest(float l, float a, float b, float[] ls, float[] as, float[] bs, int count);
+
+   /** Implementation name, with the vector width for SIMD ones */
+   String name();
+}
@@ -0,0 +1,64 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks the {@link DeltaEKernel} once per JVM.
+ *
+ * <p>
+ * The Vector API kernel is used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} (the Gradle run, test and JMH tasks do this) and
+ * {@code -Dkolors.deltae.vector=false} is not set; otherwise, including when it fails to load, the
+ * scalar kernel is. Both return the same results.
+ */
+public final class DeltaEKernels {
+
+   private static final Logger logger = LoggerFactory.getLogger(DeltaEKernels.class);
+
+   private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+   private static final DeltaEKernel VECTOR = loadVector();
+   private static final DeltaEKernel PREFERRED =
+            VECTOR != null && !"false".equals(System.getProperty("kolors.deltae.vector"))
+                     ? VECTOR
+                     : ScalarDeltaEKernel.INSTANCE;
+
+   private DeltaEKernels() {}
+
+   /** The kernel the application uses */
+   public static DeltaEKernel preferred() {
+      return PREFERRED;
+   }
+
+   /** The scalar kernel */
+   public static DeltaEKernel scalar() {
+      return ScalarDeltaEKernel.INSTANCE;
+   }
+
+   /** The Vector API kernel, or empty when the incubator module is not available */
+   public static Optional<DeltaEKernel> vector() {
+      return Optional.ofNullable(VECTOR);
+   }
+
+   private static DeltaEKernel loadVector() {
+      if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+         logger.info("{} is not available, using the scalar ΔE kernel", VECTOR_MODULE);
+         return null;
+      }
+      try {
+         // By name, so this class never links against the incubator module when it is absent
+         DeltaEKernel kernel = (DeltaEKernel) Class
+                  .forName(DeltaEKernels.class.getPackageName() + ".VectorDeltaEKernel")
+                  .getDeclaredConstructor().newInstance();
+         logger.info("Using the {} ΔE kernel", kernel.name());
+         return kernel;
+      } catch (ReflectiveOperationException | LinkageError e) {
+         logger.warn("Cannot load the Vector API ΔE kernel, using the scalar one", e);
+         return null;
+      }
+   }
+}
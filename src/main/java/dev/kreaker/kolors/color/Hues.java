@@ -0,0 +1,40 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import java.util.Arrays;
+
+/** Hue angle helpers for stored color components and hue range filters */
+public final class Hues {
+
+   /**
+    * OKLCH chroma below which a color is treated as gray: its hue is not stored and it does not
+    * count towards hue spread
+    */
+   public static final double ACHROMATIC_CHROMA = 0.02;
+
+   private Hues() {}
+
+   /**
+    * Whether {@code hue} lies in the range from {@code from} to {@code to}, both inclusive; when
+    * {@code from > to} the range wraps through 0, so 330 to 30 covers the reds
+    */
+   public static boolean inRange(double hue, double from, double to) {
+      return from <= to ? hue >= from && hue <= to : hue >= from || hue <= to;
+   }
+
+   /**
+    * Width in degrees of the smallest arc holding the first {@code count} hues: 360 minus the
+    * largest gap between neighbours. 0 for fewer than two hues. Sorts the hues in place.
+    */
+   public static double spread(double[] hues, int count) {
+      if (count < 2) {
+         return 0;
+      }
+      Arrays.sort(hues, 0, count);
+      double largestGap = hues[0] + 360 - hues[count - 1];
+      for (int i = 1; i < count; i++) {
+         largestGap = Math.max(largestGap, hues[i] - hues[i - 1]);
+      }
+      return 360 - largestGap;
+   }
+}
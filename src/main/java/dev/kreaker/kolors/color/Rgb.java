@@ -0,0 +1,107 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+/**
+ * Packed {@code 0xRRGGBB} sRGB colors.
+ *
+ * <p>
+ * A color is an {@code int} with 8 bits per channel and the top byte clear; the rest of the
+ * {@code color} package converts from and to this form. Parsing reads the characters in place, so
+ * only {@link #toHex(int)} and {@link #toFormattedHex(int)} allocate (the returned string).
+ */
+public final class Rgb {
+
+   private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+   private Rgb() {}
+
+   /** Packs 8-bit channels; values outside 0–255 are clamped */
+   public static int of(int red, int green, int blue) {
+      return clampChannel(red) << 16 | clampChannel(green) << 8 | clampChannel(blue);
+   }
+
+   /** Packs gamma-encoded channels in [0, 1], rounding to the nearest 8-bit level */
+   public static int of(double red, double green, double blue) {
+      return channel(red) << 16 | channel(green) << 8 | channel(blue);
+   }
+
+   public static int red(int rgb) {
+      return (rgb >> 16) & 0xFF;
+   }
+
+   public static int green(int rgb) {
+      return (rgb >> 8) & 0xFF;
+   }
+
+   public static int blue(int rgb) {
+      return rgb & 0xFF;
+   }
+
+   /** Parses {@code RRGGBB}, with or without a leading {@code #}, in either case */
+   public static int parseHex(CharSequence hex) {
+      if (hex == null) {
+         throw new IllegalArgumentException("Invalid hex color: null");
+      }
+      int start = hex.length() == 7 && hex.charAt(0) == '#' ? 1 : 0;
+      if (hex.length() - start != 6) {
+         throw new IllegalArgumentException("Invalid hex color: " + hex);
+      }
+      int rgb = 0;
+      for (int i = start; i < start + 6; i++) {
+         int digit = Character.digit(hex.charAt(i), 16);
+         if (digit < 0) {
+            throw new IllegalArgumentException("Invalid hex color: " + hex);
+         }
+         rgb = rgb << 4 | digit;
+      }
+      return rgb;
+   }
+
+   /** Whether {@link #parseHex(CharSequence)} accepts the value */
+   public static boolean isHex(CharSequence hex) {
+      if (hex == null) {
+         return false;
+      }
+      int start = hex.length() == 7 && hex.charAt(0) == '#' ? 1 : 0;
+      if (hex.length() - start != 6) {
+         return false;
+      }
+      for (int i = start; i < hex.length(); i++) {
+         if (Character.digit(hex.charAt(i), 16) < 0) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /** Six upper-case hex digits, without {@code #} */
+   public static String toHex(int rgb) {
+      char[] digits = new char[6];
+      writeHex(rgb, digits, 0);
+      return new String(digits);
+   }
+
+   /** Six upper-case hex digits after a {@code #} */
+   public static String toFormattedHex(int rgb) {
+      char[] digits = new char[7];
+      digits[0] = '#';
+      writeHex(rgb, digits, 1);
+      return new String(digits);
+   }
+
+   /** Writes six upper-case hex digits into {@code out} at {@code offset} */
+   public static void writeHex(int rgb, char[] out, int offset) {
+      for (int i = 5; i >= 0; i--) {
+         out[offset + i] = HEX_DIGITS[rgb & 0xF];
+         rgb >>= 4;
+      }
+   }
+
+   static int channel(double value) {
+      return (int) (Math.max(0, Math.min(1, value)) * 255 + 0.5);
+   }
+
+   private static int clampChannel(int value) {
+      return Math.max(0, Math.min(255, value));
+   }
+}
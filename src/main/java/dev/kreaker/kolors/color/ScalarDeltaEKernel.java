@@ -0,0 +1,50 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+/** One point at a time; the fallback when the Vector API is not available */
+final class ScalarDeltaEKernel implements DeltaEKernel {
+
+   static final ScalarDeltaEKernel INSTANCE = new ScalarDeltaEKernel();
+
+   private ScalarDeltaEKernel() {}
+
+   @Override
+   public void squaredDistances(float l, float a, float b, float[] ls, float[] as, float[] bs,
+            int count, float[] out) {
+      for (int i = 0; i < count; i++) {
+         float dl = l - ls[i];
+         float da = a - as[i];
+         float db = b - bs[i];
+         out[i] = dl * dl + da * da + db * db;
+      }
+   }
+
+   @Override
+   public int nearest(float l, float a, float b, float[] ls, float[] as, float[] bs, int count) {
+      return nearestFrom(l, a, b, ls, as, bs, 0, count, -1, Float.POSITIVE_INFINITY);
+   }
+
+   /**
+    * Continues a nearest-point scan over {@code [from, to)} from a best index and distance so far;
+    * only a strictly closer point replaces it, so earlier indexes win ties
+    */
+   static int nearestFrom(float l, float a, float b, float[] ls, float[] as, float[] bs, int from,
+            int to, int best, float bestDistance) {
+      for (int i = from; i < to; i++) {
+         float dl = l - ls[i];
+         float da = a - as[i];
+         float db = b - bs[i];
+         float distance = dl * dl + da * da + db * db;
+         if (distance < bestDistance) {
+            bestDistance = distance;
+            best = i;
+         }
+      }
+      return best;
+   }
+
+   @Override
+   public String name() {
+      return "scalar";
+   }
+}
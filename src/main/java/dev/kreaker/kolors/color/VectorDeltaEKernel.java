@@ -0,0 +1,85 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link DeltaEKernel} on the Vector API at the platform's preferred width (8 floats with AVX2,
+ * 16 with AVX-512); the points left over after the last full vector are done by the scalar loop.
+ *
+ * <p>
+ * Only loaded by {@link DeltaEKernels} once it has checked that {@code jdk.incubator.vector} is
+ * readable, so nothing else in the application may refer to this class.
+ */
+final class VectorDeltaEKernel implements DeltaEKernel {
+
+   private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+   // Same lane count as FLOATS, so comparison masks carry over to the index lanes
+   private static final VectorSpecies<Integer> INDEXES =
+            VectorSpecies.of(int.class, FLOATS.vectorShape());
+
+   VectorDeltaEKernel() {}
+
+   @Override
+   public void squaredDistances(float l, float a, float b, float[] ls, float[] as, float[] bs,
+            int count, float[] out) {
+      FloatVector vl = FloatVector.broadcast(FLOATS, l);
+      FloatVector va = FloatVector.broadcast(FLOATS, a);
+      FloatVector vb = FloatVector.broadcast(FLOATS, b);
+      int bound = FLOATS.loopBound(count);
+      int i = 0;
+      for (; i < bound; i += FLOATS.length()) {
+         distances(vl, va, vb, ls, as, bs, i).intoArray(out, i);
+      }
+      for (; i < count; i++) {
+         float dl = l - ls[i];
+         float da = a - as[i];
+         float db = b - bs[i];
+         out[i] = dl * dl + da * da + db * db;
+      }
+   }
+
+   @Override
+   public int nearest(float l, float a, float b, float[] ls, float[] as, float[] bs, int count) {
+      int bound = FLOATS.loopBound(count);
+      if (bound == 0) {
+         return ScalarDeltaEKernel.nearestFrom(l, a, b, ls, as, bs, 0, count, -1,
+                  Float.POSITIVE_INFINITY);
+      }
+      FloatVector vl = FloatVector.broadcast(FLOATS, l);
+      FloatVector va = FloatVector.broadcast(FLOATS, a);
+      FloatVector vb = FloatVector.broadcast(FLOATS, b);
+      IntVector lanes = IntVector.zero(INDEXES).addIndex(1);
+      // Per lane, the nearest point seen in that lane; strictly closer only, so earlier wins
+      FloatVector best = FloatVector.broadcast(FLOATS, Float.POSITIVE_INFINITY);
+      IntVector bestIndex = IntVector.broadcast(INDEXES, -1);
+      for (int i = 0; i < bound; i += FLOATS.length()) {
+         FloatVector distance = distances(vl, va, vb, ls, as, bs, i);
+         VectorMask<Float> closer = distance.compare(VectorOperators.LT, best);
+         best = best.blend(distance, closer);
+         bestIndex = bestIndex.blend(lanes.add(i), closer.cast(INDEXES));
+      }
+      float bestDistance = best.reduceLanes(VectorOperators.MIN);
+      int index = bestIndex.reduceLanes(VectorOperators.MIN,
+               best.compare(VectorOperators.EQ, bestDistance).cast(INDEXES));
+      return ScalarDeltaEKernel.nearestFrom(l, a, b, ls, as, bs, bound, count, index,
+               bestDistance);
+   }
+
+   private static FloatVector distances(FloatVector l, FloatVector a, FloatVector b, float[] ls,
+            float[] as, float[] bs, int offset) {
+      FloatVector dl = l.sub(FloatVector.fromArray(FLOATS, ls, offset));
+      FloatVector da = a.sub(FloatVector.fromArray(FLOATS, as, offset));
+      FloatVector db = b.sub(FloatVector.fromArray(FLOATS, bs, offset));
+      return dl.mul(dl).add(da.mul(da)).add(db.mul(db));
+   }
+
+   @Override
+   public String name() {
+      return "vector-" + FLOATS.length() + "x32";
+   }
+}
@@ -0,0 +1,52 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.config;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Downgrades the immutable one-year Cache-Control of static assets to {@code no-cache} when the
+ * request path carries no content hash. Templates always link fingerprinted URLs; plain URLs
+ * (bookmarks, external references) still work but must revalidate, since their content changes
+ * with every release.
+ */
+public class StaticAssetCacheFilter extends OncePerRequestFilter {
+
+   /** File name with the MD5 content version inserted by {@code VersionResourceResolver} */
+   private static final Pattern FINGERPRINTED = Pattern.compile(".*-[0-9a-f]{32}(\\.[^/]*)?$");
+
+   static final String UNVERSIONED_CACHE_CONTROL = "no-cache";
+
+   @Override
+   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+      if (FINGERPRINTED.matcher(request.getRequestURI()).matches()) {
+         filterChain.doFilter(request, response);
+         return;
+      }
+      filterChain.doFilter(request, new HttpServletResponseWrapper(response) {
+         @Override
+         public void setHeader(String name, String value) {
+            super.setHeader(name, cacheControl(name, value));
+         }
+
+         @Override
+         public void addHeader(String name, String value) {
+            super.addHeader(name, cacheControl(name, value));
+         }
+      });
+   }
+
+   private static String cacheControl(String name, String value) {
+      return HttpHeaders.CACHE_CONTROL.equalsIgnoreCase(name) ? UNVERSIONED_CACHE_CONTROL : value;
+   }
+}
@@ -0,0 +1,93 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Objects;
+
+import dev.kreaker.kolors.ColorCombination;
+
+/**
+ * Entity tags and Last-Modified values for color combinations, shared by the web views and the
+ * REST API.
+ *
+ * <p>
+ * API tags are strong ({@code "<id>-<version>"}) since the JSON body depends only on the entity;
+ * list and search tags are derived from the service write generation. View tags are weak and also
+ * cover the deployment, the logged-in user and the locale, because the rendered page includes
+ * user-specific chrome and may change between releases.
+ */
+public final class CombinationETags {
+
+   // Changes on every restart so cached pages are revalidated after a deploy
+   private static final String DEPLOYMENT = Long.toString(System.currentTimeMillis(), 36);
+
+   /** Returned by {@link #expectedVersion} when If-Match names no current representation */
+   public static final long NO_MATCH = -1L;
+
+   private CombinationETags() {}
+
+   /** Strong entity tag of the API representation */
+   public static String of(ColorCombination combination) {
+      return "\"" + combination.getId() + "-" + versionOf(combination) + "\"";
+   }
+
+   /** Strong entity tag of a partial API representation, such as a field selection */
+   public static String of(ColorCombination combination, String variant) {
+      return "\"" + combination.getId() + "-" + versionOf(combination) + "-"
+               + Integer.toHexString(variant.hashCode()) + "\"";
+   }
+
+   /**
+    * Strong entity tag of a list or search result, derived from the service write generation, so
+    * it can be checked before running the query
+    */
+   public static String forCollection(long writeGeneration, String variant) {
+      return "\"c-" + DEPLOYMENT + "-" + writeGeneration + "-"
+               + Integer.toHexString(variant.hashCode()) + "\"";
+   }
+
+   /** Weak entity tag of a rendered page for the given user and locale */
+   public static String forView(ColorCombination combination, String user, Locale locale) {
+      int variant = Objects.hash(DEPLOYMENT, user, locale);
+      return "W/\"" + combination.getId() + "-" + versionOf(combination) + "-"
+               + Integer.toHexString(variant) + "\"";
+   }
+
+   /** Last-Modified value in epoch milliseconds, or -1 if unknown */
+   public static long lastModified(ColorCombination combination) {
+      if (combination.getLastModified() == null) {
+         return -1L;
+      }
+      return combination.getLastModified().atZone(ZoneId.systemDefault()).toInstant()
+               .toEpochMilli();
+   }
+
+   /**
+    * Extracts the version an If-Match header expects for the given combination. Returns null when
+    * the header is absent or {@code *}, and {@link #NO_MATCH} when none of its strong tags belongs
+    * to this combination (weak tags never match, as If-Match uses strong comparison).
+    */
+   public static Long expectedVersion(String ifMatch, Long combinationId) {
+      if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+         return null;
+      }
+      String prefix = "\"" + combinationId + "-";
+      for (String tag : ifMatch.split(",")) {
+         String candidate = tag.trim();
+         if (candidate.startsWith(prefix) && candidate.endsWith("\"")
+                  && candidate.length() > prefix.length() + 1) {
+            try {
+               return Long.parseLong(candidate.substring(prefix.length(), candidate.length() - 1));
+            } catch (NumberFormatException e) {
+               // Not one of our tags; keep looking
+            }
+         }
+      }
+      return NO_MATCH;
+   }
+
+   private static long versionOf(ColorCombination combination) {
+      return combination.getVersion() != null ? combination.getVersion() : 0L;
+   }
+}
@@ -1,29 +1,54 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors.controller.api;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.accessibility.ColorVisionDeficiency;
+import dev.kreaker.kolors.controller.CombinationETags;
+import dev.kreaker.kolors.dto.ColorCombinationResponse;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
 import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.ColorValidationResponse;
+import dev.kreaker.kolors.dto.CombinationColorVisionResponse;
+import dev.kreaker.kolors.dto.CombinationContrastResponse;
+import dev.kreaker.kolors.dto.CombinationOperationResponse;
+import dev.kreaker.kolors.dto.CombinationPageResponse;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.dto.PerceptualFilter;
 import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
 import dev.kreaker.kolors.exception.ColorCombinationValidationException;
+import dev.kreaker.kolors.exception.CombinationVersionConflictException;
 import dev.kreaker.kolors.exception.InvalidColorFormatException;
 import dev.kreaker.kolors.service.ColorCombinationService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -33,7 +58,7 @@ import jakarta.validation.Valid;
 
 /**
  * REST API controller for dynamic color combination operations Provides AJAX endpoints for
- * real-time color management
+ * real-time color management and a read-only JSON API (list, search, detail)
  */
 @RestController
 @RequestMapping("/api/combinations")
@@ -44,10 +69,245 @@ public class ColorCombinationRestController {
    private static final Logger logger =
             LoggerFactory.getLogger(ColorCombinationRestController.class);
 
+   private static final int DEFAULT_PAGE_SIZE = 20;
+   private static final int MAX_PAGE_SIZE = 100;
+
+   // Cacheable by browsers and proxies, revalidated with If-None-Match on every use
+   private static final CacheControl API_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+   private static final String FIELDS_DESCRIPTION =
+            "Comma-separated properties to include (id, name, colorCount, createdAt, updatedAt, "
+                     + "colors); all when omitted";
+
    private final ColorCombinationService colorCombinationService;
+   private final CombinationJsonWriters jsonWriters;
 
-   public ColorCombinationRestController(ColorCombinationService colorCombinationService) {
+   public ColorCombinationRestController(ColorCombinationService colorCombinationService,
+            ObjectMapper objectMapper) {
       this.colorCombinationService = colorCombinationService;
+      this.jsonWriters = new CombinationJsonWriters(objectMapper);
+   }
+
+   /** Lists combinations, newest first */
+   @Operation(summary = "List combinations",
+            description = "Returns one page of combinations, newest first. Supports ETag "
+                     + "revalidation and field selection.")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of combinations",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = CombinationPageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid paging or field selection")})
+   @GetMapping
+   public ResponseEntity<byte[]> listCombinations(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(
+                     required = false) String fields,
+            WebRequest webRequest) {
+      return searchPage(null, null, null, null, ContrastFilter.NONE, PerceptualFilter.NONE,
+               page, size, fields, webRequest);
+   }
+
+   /**
+    * Searches combinations by name, color count range, contained color, WCAG contrast, color
+    * vision score, hue, lightness and chroma
+    */
+   @Operation(summary = "Search combinations",
+            description = "Returns one page of combinations matching all given filters. When "
+                     + "hexValue is given without contrast filters the other filters are "
+                     + "ignored. Supports ETag revalidation and field selection.")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of matching combinations",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = CombinationPageResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
+            @ApiResponse(responseCode = "400",
+                     description = "Invalid filter, paging or field selection")})
+   @GetMapping("/search")
+   public ResponseEntity<byte[]> searchCombinations(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Integer minColors,
+            @RequestParam(required = false) Integer maxColors,
+            @RequestParam(required = false) String hexValue,
+            @Parameter(description = "Every color pair reaches this WCAG ratio (4.5 = AA)")
+            @RequestParam(required = false) Double minPairContrast,
+            @Parameter(description = "At least one color pair reaches this WCAG ratio")
+            @RequestParam(required = false) Double bestPairContrast,
+            @Parameter(description = "At least this many color pairs reach AA (4.5)")
+            @RequestParam(required = false) Integer minAaPairs,
+            @Parameter(description = "Every color pair stays this far apart (CIELAB ΔE) under "
+                     + "protanopia, deuteranopia and tritanopia")
+            @RequestParam(required = false) Double minCvdDeltaE,
+            @Parameter(description = "At least one color has an HSL hue from this angle; "
+                     + "with hueTo, wrapping through 0 when hueFrom > hueTo")
+            @RequestParam(required = false) Double hueFrom,
+            @Parameter(description = "At least one color has an HSL hue up to this angle")
+            @RequestParam(required = false) Double hueTo,
+            @Parameter(description = "Average OKLCH lightness (0-100) at least")
+            @RequestParam(required = false) Double minLightness,
+            @Parameter(description = "Average OKLCH lightness (0-100) at most")
+            @RequestParam(required = false) Double maxLightness,
+            @Parameter(description = "Average OKLCH chroma (0-0.5) at least")
+            @RequestParam(required = false) Double minChroma,
+            @Parameter(description = "Average OKLCH chroma (0-0.5) at most")
+            @RequestParam(required = false) Double maxChroma,
+            @Parameter(description = "All hues fit in an arc of at most this many degrees")
+            @RequestParam(required = false) Double maxHueSpread,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(
+                     required = false) String fields,
+            WebRequest webRequest) {
+      return searchPage(name, minColors, maxColors, hexValue,
+               new ContrastFilter(minPairContrast, bestPairContrast, minAaPairs, minCvdDeltaE),
+               new PerceptualFilter(hueFrom, hueTo, minLightness, maxLightness, minChroma,
+                        maxChroma, maxHueSpread),
+               page, size, fields, webRequest);
+   }
+
+   /** Gets the WCAG contrast of every color pair of one combination */
+   @Operation(summary = "Get the contrast matrix of a combination",
+            description = "Returns the WCAG contrast ratio of every color pair, computed when the "
+                     + "combination was saved, with its minimum, maximum and AA pair count")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Contrast matrix"),
+            @ApiResponse(responseCode = "404", description = "Combination not found")})
+   @GetMapping("/{id}/contrast")
+   public ResponseEntity<CombinationContrastResponse> getContrast(@PathVariable Long id) {
+      try {
+         return ResponseEntity.ok(
+                  CombinationContrastResponse.from(colorCombinationService.getById(id)));
+      } catch (ColorCombinationNotFoundException e) {
+         return ResponseEntity.notFound().build();
+      }
+   }
+
+   /** Gets a combination's colors as seen with each color vision deficiency */
+   @Operation(summary = "Get the color vision simulation of a combination",
+            description = "Returns the colors as seen with protanopia, deuteranopia and "
+                     + "tritanopia, the smallest ΔE between any two of them and the closest pair")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Simulated colors"),
+            @ApiResponse(responseCode = "404", description = "Combination not found")})
+   @GetMapping("/{id}/color-vision")
+   public ResponseEntity<CombinationColorVisionResponse> getColorVision(@PathVariable Long id) {
+      try {
+         return ResponseEntity.ok(
+                  CombinationColorVisionResponse.from(colorCombinationService.getById(id)));
+      } catch (ColorCombinationNotFoundException e) {
+         return ResponseEntity.notFound().build();
+      }
+   }
+
+   /** Ranks combinations by how distinguishable their colors stay under a deficiency */
+   @Operation(summary = "Rank combinations by color vision score",
+            description = "Returns scored combinations whose smallest pairwise ΔE under the "
+                     + "given deficiency (or the worst of the three when omitted) reaches "
+                     + "minDeltaE, most distinguishable first")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of ranked combinations",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = CombinationPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid deficiency or paging")})
+   @GetMapping("/color-vision")
+   public ResponseEntity<CombinationPageResponse> rankByColorVision(
+            @Parameter(description = "protanopia, deuteranopia or tritanopia; all when omitted")
+            @RequestParam(required = false) String deficiency,
+            @RequestParam(required = false) Double minDeltaE,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+      try {
+         if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                     "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+         }
+         ColorVisionDeficiency parsed =
+                  deficiency == null ? null : ColorVisionDeficiency.fromName(deficiency);
+         return ResponseEntity.ok(CombinationPageResponse.ofSummaries(colorCombinationService
+                  .rankByColorVision(parsed, minDeltaE, PageRequest.of(page, size))));
+      } catch (IllegalArgumentException e) {
+         logger.debug("Invalid color vision ranking request: {}", e.getMessage());
+         return ResponseEntity.badRequest().build();
+      }
+   }
+
+   /** Finds combinations containing all or any of several colors */
+   @Operation(summary = "Find combinations containing colors",
+            description = "Returns one page of combinations containing every given color "
+                     + "(match=all) or at least one of them (match=any), highest ID first")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of matching combinations",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = CombinationPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid color, match or paging")})
+   @GetMapping("/containing")
+   public ResponseEntity<CombinationPageResponse> findContainingColors(
+            @Parameter(description = "Comma-separated hex colors, with or without #")
+            @RequestParam List<String> colors,
+            @Parameter(description = "all or any") @RequestParam(
+                     defaultValue = "all") String match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+      try {
+         if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                     "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+         }
+         if (!"all".equalsIgnoreCase(match) && !"any".equalsIgnoreCase(match)) {
+            throw new IllegalArgumentException("Match must be all or any");
+         }
+         return ResponseEntity.ok(CombinationPageResponse.ofSummaries(
+                  colorCombinationService.findContainingColors(colors,
+                           "all".equalsIgnoreCase(match), PageRequest.of(page, size))));
+      } catch (IllegalArgumentException | InvalidColorFormatException e) {
+         logger.debug("Invalid containment search request: {}", e.getMessage());
+         return ResponseEntity.badRequest().build();
+      }
+   }
+
+   /** Gets one combination */
+   @Operation(summary = "Get a combination",
+            description = "Returns one combination with its colors ordered by position. Carries "
+                     + "an ETag and Last-Modified; supports field selection.")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The combination",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = ColorCombinationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid field selection"),
+            @ApiResponse(responseCode = "404", description = "Combination not found")})
+   @GetMapping("/{id}")
+   public ResponseEntity<byte[]> getCombinationDetail(@PathVariable Long id,
+            @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(
+                     required = false) String fields,
+            WebRequest webRequest) {
+
+      logger.debug("API request to get combination ID: {} (fields: {})", id, fields);
+
+      try {
+         String fieldsKey = CombinationJsonWriters.fieldsKey(fields);
+         ColorCombination combination = colorCombinationService.getById(id);
+         String etag = CombinationJsonWriters.ALL_FIELDS.equals(fieldsKey)
+                  ? CombinationETags.of(combination)
+                  : CombinationETags.of(combination, fieldsKey);
+         if (webRequest.checkNotModified(etag, CombinationETags.lastModified(combination))) {
+            return null;
+         }
+
+         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                  .cacheControl(API_CACHE_CONTROL)
+                  .body(jsonWriters.writeDetail(ColorCombinationResponse.from(combination),
+                           fieldsKey));
+
+      } catch (ColorCombinationNotFoundException e) {
+         logger.warn("Combination not found via API: {}", id);
+         return jsonError(HttpStatus.NOT_FOUND, "Combination not found");
+
+      } catch (IllegalArgumentException e) {
+         return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+
+      } catch (Exception e) {
+         logger.error("Error getting combination via API: " + id, e);
+         return jsonError(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+      }
    }
 
    /** Add color to combination via AJAX */
@@ -56,59 +316,58 @@ public class ColorCombinationRestController {
    @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Color added successfully",
                      content = @Content(mediaType = "application/json",
-                              schema = @Schema(implementation = Map.class))),
+                              schema = @Schema(
+                                       implementation = CombinationOperationResponse.class))),
             @ApiResponse(responseCode = "400",
                      description = "Invalid color format or validation error"),
             @ApiResponse(responseCode = "404", description = "Combination not found"),
+            @ApiResponse(responseCode = "412",
+                     description = "If-Match does not match the current version"),
             @ApiResponse(responseCode = "500", description = "Internal server error")})
    @PostMapping("/{id}/colors")
-   public ResponseEntity<Map<String, Object>> addColor(@PathVariable Long id,
-            @Valid @RequestBody ColorForm colorForm, BindingResult result) {
+   public ResponseEntity<CombinationOperationResponse> addColor(@PathVariable Long id,
+            @Valid @RequestBody ColorForm colorForm, BindingResult result,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
       logger.info("AJAX request to add color {} to combination ID: {}", colorForm.getHexValue(),
                id);
 
-      Map<String, Object> response = new HashMap<>();
-
       try {
          // Validate input
          if (result.hasErrors()) {
             logger.warn("Validation errors when adding color via AJAX: {}", result.getAllErrors());
-            response.put("success", false);
-            response.put("message",
-                     "Invalid color format. Please use 6-character hexadecimal format.");
-            return ResponseEntity.badRequest().body(response);
+            return ResponseEntity.badRequest().body(CombinationOperationResponse.failure(
+                     "Invalid color format. Please use 6-character hexadecimal format."));
          }
 
-         // Add the color
-         ColorCombination updatedCombination =
-                  colorCombinationService.addColorToCombination(id, colorForm);
-
-         // Success response
-         response.put("success", true);
-         response.put("message", "Color added successfully");
-         response.put("combination", createCombinationResponse(updatedCombination));
+         // Add the color, honoring If-Match for lost-update protection
+         Long expectedVersion = CombinationETags.expectedVersion(ifMatch, id);
+         ColorCombination updatedCombination = expectedVersion == null
+                  ? colorCombinationService.addColorToCombination(id, colorForm)
+                  : colorCombinationService.addColorToCombination(id, colorForm,
+                           expectedVersion);
 
          logger.info("Color added successfully via AJAX to combination ID: {}", id);
-         return ResponseEntity.ok(response);
+         return ResponseEntity.ok().eTag(CombinationETags.of(updatedCombination))
+                  .body(CombinationOperationResponse.success("Color added successfully",
+                           createCombinationResponse(updatedCombination)));
 
       } catch (ColorCombinationNotFoundException e) {
          logger.warn("Combination not found when adding color via AJAX: {}", id);
-         response.put("success", false);
-         response.put("message", "Combination not found");
          return ResponseEntity.notFound().build();
 
+      } catch (CombinationVersionConflictException | ObjectOptimisticLockingFailureException e) {
+         return preconditionFailed(id, e);
+
       } catch (InvalidColorFormatException e) {
          logger.warn("Invalid color format when adding color via AJAX: {}", e.getMessage());
-         response.put("success", false);
-         response.put("message", "Invalid color format: " + e.getMessage());
-         return ResponseEntity.badRequest().body(response);
+         return ResponseEntity.badRequest().body(
+                  CombinationOperationResponse.failure("Invalid color format: " + e.getMessage()));
 
       } catch (Exception e) {
          logger.error("Error adding color via AJAX to combination ID: " + id, e);
-         response.put("success", false);
-         response.put("message", "Internal server error");
-         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                  .body(CombinationOperationResponse.failure("Internal server error"));
       }
    }
 
@@ -118,132 +377,169 @@ public class ColorCombinationRestController {
    @ApiResponses(
             value = {@ApiResponse(responseCode = "200", description = "Color removed successfully"),
                      @ApiResponse(responseCode = "404", description = "Combination not found"),
+                     @ApiResponse(responseCode = "412",
+                              description = "If-Match does not match the current version"),
                      @ApiResponse(responseCode = "500", description = "Internal server error")})
    @DeleteMapping("/{id}/colors/{position}")
-   public ResponseEntity<Map<String, Object>> removeColor(@PathVariable Long id,
-            @PathVariable Integer position) {
+   public ResponseEntity<CombinationOperationResponse> removeColor(@PathVariable Long id,
+            @PathVariable Integer position,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
       logger.info("AJAX request to remove color at position {} from combination ID: {}", position,
                id);
 
-      Map<String, Object> response = new HashMap<>();
-
       try {
-         // Remove the color
-         ColorCombination updatedCombination =
-                  colorCombinationService.removeColorFromCombination(id, position);
-
-         // Success response
-         response.put("success", true);
-         response.put("message", "Color removed successfully");
-         response.put("combination", createCombinationResponse(updatedCombination));
+         // Remove the color, honoring If-Match for lost-update protection
+         Long expectedVersion = CombinationETags.expectedVersion(ifMatch, id);
+         ColorCombination updatedCombination = expectedVersion == null
+                  ? colorCombinationService.removeColorFromCombination(id, position)
+                  : colorCombinationService.removeColorFromCombination(id, position,
+                           expectedVersion);
 
          logger.info("Color removed successfully via AJAX from combination ID: {}", id);
-         return ResponseEntity.ok(response);
+         return ResponseEntity.ok().eTag(CombinationETags.of(updatedCombination))
+                  .body(CombinationOperationResponse.success("Color removed successfully",
+                           createCombinationResponse(updatedCombination)));
 
       } catch (ColorCombinationNotFoundException e) {
          logger.warn("Combination not found when removing color via AJAX: {}", id);
-         response.put("success", false);
-         response.put("message", "Combination not found");
          return ResponseEntity.notFound().build();
 
+      } catch (CombinationVersionConflictException | ObjectOptimisticLockingFailureException e) {
+         return preconditionFailed(id, e);
+
       } catch (ColorCombinationValidationException e) {
          logger.warn("Validation error when removing color via AJAX: {}", e.getMessage());
-         response.put("success", false);
-         response.put("message", e.getMessage());
-         return ResponseEntity.badRequest().body(response);
+         return ResponseEntity.badRequest()
+                  .body(CombinationOperationResponse.failure(e.getMessage()));
 
       } catch (Exception e) {
          logger.error("Error removing color via AJAX from combination ID: " + id, e);
-         response.put("success", false);
-         response.put("message", "Internal server error");
-         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                  .body(CombinationOperationResponse.failure("Internal server error"));
       }
    }
 
    /** Validate color format via AJAX */
    @PostMapping("/validate-color")
-   public ResponseEntity<Map<String, Object>> validateColor(@Valid @RequestBody ColorForm colorForm,
-            BindingResult result) {
+   public ResponseEntity<ColorValidationResponse> validateColor(
+            @Valid @RequestBody ColorForm colorForm, BindingResult result) {
 
       logger.debug("AJAX request to validate color: {}", colorForm.getHexValue());
 
-      Map<String, Object> response = new HashMap<>();
-
       try {
          if (result.hasErrors()) {
-            response.put("valid", false);
-            response.put("message", "Invalid hexadecimal format");
-            return ResponseEntity.ok(response);
+            return ResponseEntity
+                     .ok(new ColorValidationResponse(false, "Invalid hexadecimal format"));
          }
 
          // Additional validation using service
          boolean isValid = colorCombinationService.isValidHexColor(colorForm.getHexValue());
 
-         response.put("valid", isValid);
-         response.put("message", isValid ? "Valid color" : "Invalid hexadecimal format");
-
-         return ResponseEntity.ok(response);
+         return ResponseEntity.ok(new ColorValidationResponse(isValid,
+                  isValid ? "Valid color" : "Invalid hexadecimal format"));
 
       } catch (Exception e) {
          logger.error("Error validating color via AJAX", e);
-         response.put("valid", false);
-         response.put("message", "Validation error");
-         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                  .body(new ColorValidationResponse(false, "Validation error"));
       }
    }
 
-   /** Get combination details via AJAX */
+   /**
+    * Get combination details via AJAX (legacy POST form of {@code GET /api/combinations/{id}}).
+    * A matching If-None-Match is answered with 412, as for any non-GET request
+    */
    @PostMapping("/{id}")
-   public ResponseEntity<Map<String, Object>> getCombination(@PathVariable Long id) {
+   public ResponseEntity<CombinationOperationResponse> getCombination(@PathVariable Long id,
+            WebRequest webRequest) {
 
       logger.debug("AJAX request to get combination ID: {}", id);
 
-      Map<String, Object> response = new HashMap<>();
-
       try {
          ColorCombination combination = colorCombinationService.getById(id);
+         if (webRequest.checkNotModified(CombinationETags.of(combination),
+                  CombinationETags.lastModified(combination))) {
+            return null;
+         }
 
-         response.put("success", true);
-         response.put("combination", createCombinationResponse(combination));
-
-         return ResponseEntity.ok(response);
+         return ResponseEntity.ok(CombinationOperationResponse.success(null,
+                  createCombinationResponse(combination)));
 
       } catch (ColorCombinationNotFoundException e) {
          logger.warn("Combination not found via AJAX: {}", id);
-         response.put("success", false);
-         response.put("message", "Combination not found");
          return ResponseEntity.notFound().build();
 
       } catch (Exception e) {
          logger.error("Error getting combination via AJAX: " + id, e);
-         response.put("success", false);
-         response.put("message", "Internal server error");
-         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                  .body(CombinationOperationResponse.failure("Internal server error"));
       }
    }
 
-   /** Helper method to create combination response object */
-   private Map<String, Object> createCombinationResponse(ColorCombination combination) {
-      Map<String, Object> combinationData = new HashMap<>();
-      combinationData.put("id", combination.getId());
-      combinationData.put("name", combination.getName());
-      combinationData.put("colorCount", combination.getColorCount());
-      combinationData.put("createdAt", combination.getCreatedAt());
-
-      // Add colors data
-      if (combination.getColors() != null) {
-         combinationData.put("colors", combination.getColors().stream()
-                  .sorted((c1, c2) -> c1.getPosition().compareTo(c2.getPosition())).map(color -> {
-                     Map<String, Object> colorData = new HashMap<>();
-                     colorData.put("id", color.getId());
-                     colorData.put("hexValue", color.getHexValue());
-                     colorData.put("position", color.getPosition());
-                     colorData.put("formattedHex", color.getFormattedHex());
-                     return colorData;
-                  }).toList());
+   /**
+    * Runs a paged search. The ETag depends only on the write generation and the request, so an
+    * unchanged result is confirmed with 304 before the query runs
+    */
+   private ResponseEntity<byte[]> searchPage(String name, Integer minColors, Integer maxColors,
+            String hexValue, ContrastFilter contrast, PerceptualFilter perceptual, int page,
+            int size, String fields, WebRequest webRequest) {
+
+      logger.debug("API search - name: '{}', minColors: {}, maxColors: {}, hex: '{}', page: {}",
+               name, minColors, maxColors, hexValue, page);
+
+      try {
+         if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                     "Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+         }
+         String fieldsKey = CombinationJsonWriters.fieldsKey(fields);
+         long generation = colorCombinationService.getWriteGeneration();
+         String etag = CombinationETags.forCollection(generation, String.join("|",
+                  String.valueOf(name), String.valueOf(minColors), String.valueOf(maxColors),
+                  String.valueOf(hexValue), String.valueOf(contrast),
+                  String.valueOf(perceptual), String.valueOf(page),
+                  String.valueOf(size), fieldsKey));
+         if (webRequest.checkNotModified(etag)) {
+            return null;
+         }
+
+         Page<ColorCombinationSummary> result = colorCombinationService.searchSummaries(name,
+                  minColors, maxColors, hexValue, contrast, perceptual, PageRequest.of(page, size));
+
+         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                  .cacheControl(API_CACHE_CONTROL).body(jsonWriters
+                           .writePage(CombinationPageResponse.ofSummaries(result), fieldsKey));
+
+      } catch (IllegalArgumentException | InvalidColorFormatException e) {
+         return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+
+      } catch (Exception e) {
+         logger.error("Error in API search", e);
+         return jsonError(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+      }
+   }
+
+   private ResponseEntity<byte[]> jsonError(HttpStatus status, String message) {
+      try {
+         return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON)
+                  .body(jsonWriters.writeError(message));
+      } catch (JsonProcessingException e) {
+         return ResponseEntity.status(status).build();
       }
+   }
+
+   /** Builds the 412 response for a failed If-Match or a concurrent modification */
+   private ResponseEntity<CombinationOperationResponse> preconditionFailed(Long id,
+            RuntimeException e) {
+      logger.warn("Conditional update rejected for combination ID {}: {}", id, e.getMessage());
+      return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+               .body(CombinationOperationResponse.failure(
+                        "Combination was modified by another request, reload and retry"));
+   }
 
-      return combinationData;
+   /** Helper method to create combination response object (package-private for benchmarks) */
+   ColorCombinationResponse createCombinationResponse(ColorCombination combination) {
+      return ColorCombinationResponse.from(combination);
    }
 }
@@ -0,0 +1,70 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorName;
+import dev.kreaker.kolors.dto.NearestColorName;
+import dev.kreaker.kolors.naming.ColorNames;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Human-readable color names, from the loaded color name lists */
+@RestController
+@RequestMapping("/api/colors")
+@Tag(name = "Color Names", description = "API for nearest color names and name search")
+public class ColorNameController {
+
+   private static final int DEFAULT_LIMIT = 20;
+   private static final int MAX_LIMIT = 100;
+
+   private final ColorNames colorNames;
+
+   public ColorNameController(ColorNames colorNames) {
+      this.colorNames = colorNames;
+   }
+
+   /** Gets the name closest to a color */
+   @Operation(summary = "Get the nearest color name",
+            description = "Returns the named color closest to this one in CIELAB, with the "
+                     + "ΔE76 between them")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Nearest name"),
+            @ApiResponse(responseCode = "400", description = "Invalid color")})
+   @GetMapping("/{hex}/name")
+   public ResponseEntity<NearestColorName> getNearestName(
+            @Parameter(description = "RRGGBB color") @PathVariable String hex) {
+      if (!Rgb.isHex(hex)) {
+         return ResponseEntity.badRequest().build();
+      }
+      return ResponseEntity.ok(colorNames.nearest(Rgb.parseHex(hex)));
+   }
+
+   /** Searches color names */
+   @Operation(summary = "Search color names",
+            description = "Returns the names containing the query, ignoring case, spaces and "
+                     + "hyphens: the exact name first, then names starting with it")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Matching names"),
+            @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")})
+   @GetMapping("/names")
+   public ResponseEntity<List<ColorName>> searchNames(
+            @Parameter(description = "Part of a name, such as navy or coral")
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+      if (q.isBlank() || limit < 1 || limit > MAX_LIMIT) {
+         return ResponseEntity.badRequest().build();
+      }
+      return ResponseEntity.ok(colorNames.search(q, limit));
+   }
+}
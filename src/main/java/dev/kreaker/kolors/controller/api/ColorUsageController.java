@@ -0,0 +1,102 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.analytics.ColorUsageTracker;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorUsageCount;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Color usage analytics, answered from the in-memory usage counts */
+@RestController
+@RequestMapping("/api/colors")
+@Tag(name = "Color Usage", description = "API for color usage counts and trending colors")
+public class ColorUsageController {
+
+   private static final int DEFAULT_LIMIT = 20;
+   private static final int DEFAULT_TRENDING_MINUTES = 24 * 60;
+
+   private final ObjectProvider<ColorUsageTracker> usageTracker;
+
+   public ColorUsageController(ObjectProvider<ColorUsageTracker> usageTracker) {
+      this.usageTracker = usageTracker;
+   }
+
+   /** Gets the most used colors */
+   @Operation(summary = "Get the most used colors",
+            description = "Returns the colors used by the most combination colors, most used "
+                     + "first; counts are exact")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Most used colors"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "404", description = "Color usage tracking disabled")})
+   @GetMapping("/top")
+   public ResponseEntity<List<ColorUsageCount>> getTopColors(
+            @Parameter(description = "Maximum results, capped by kolors.color-usage.max-results")
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+      ColorUsageTracker tracker = usageTracker.getIfAvailable();
+      if (tracker == null) {
+         return ResponseEntity.notFound().build();
+      }
+      if (limit < 1) {
+         return ResponseEntity.badRequest().build();
+      }
+      return ResponseEntity.ok(tracker.topColors(limit));
+   }
+
+   /** Gets the colors added most often recently */
+   @Operation(summary = "Get trending colors",
+            description = "Returns the colors added to combinations most often within the "
+                     + "window, highest estimate first; overcount bounds each estimate")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Trending colors"),
+            @ApiResponse(responseCode = "400", description = "Invalid window or limit"),
+            @ApiResponse(responseCode = "404", description = "Color usage tracking disabled")})
+   @GetMapping("/trending")
+   public ResponseEntity<List<ColorUsageCount>> getTrendingColors(
+            @Parameter(description = "Window in minutes, capped by the trending window kept")
+            @RequestParam(defaultValue = "" + DEFAULT_TRENDING_MINUTES) int minutes,
+            @Parameter(description = "Maximum results, capped by kolors.color-usage.max-results")
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+      ColorUsageTracker tracker = usageTracker.getIfAvailable();
+      if (tracker == null) {
+         return ResponseEntity.notFound().build();
+      }
+      if (minutes < 1 || limit < 1) {
+         return ResponseEntity.badRequest().build();
+      }
+      return ResponseEntity.ok(tracker.trendingColors(minutes, limit));
+   }
+
+   /** Gets how many combination colors use one color */
+   @Operation(summary = "Get the usage of a color",
+            description = "Returns how many colors of stored combinations have this value")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Usage count"),
+            @ApiResponse(responseCode = "400", description = "Invalid color"),
+            @ApiResponse(responseCode = "404", description = "Color usage tracking disabled")})
+   @GetMapping("/{hex}/usage")
+   public ResponseEntity<ColorUsageCount> getUsage(
+            @Parameter(description = "RRGGBB color") @PathVariable String hex) {
+      ColorUsageTracker tracker = usageTracker.getIfAvailable();
+      if (tracker == null) {
+         return ResponseEntity.notFound().build();
+      }
+      if (!Rgb.isHex(hex)) {
+         return ResponseEntity.badRequest().build();
+      }
+      int color = Rgb.parseHex(hex);
+      return ResponseEntity.ok(new ColorUsageCount(Rgb.toHex(color), tracker.usageOf(color), 0));
+   }
+}
@@ -0,0 +1,65 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.kreaker.kolors.event.CombinationEventBroadcaster;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Server-Sent Events stream of committed combination changes, for live list views */
+@RestController
+@RequestMapping("/api/combinations/events")
+@Tag(name = "Color Combinations",
+         description = "API for managing color combinations and their colors")
+public class CombinationEventController {
+
+   private static final Logger logger = LoggerFactory.getLogger(CombinationEventController.class);
+
+   private final ObjectProvider<CombinationEventBroadcaster> broadcaster;
+
+   public CombinationEventController(ObjectProvider<CombinationEventBroadcaster> broadcaster) {
+      this.broadcaster = broadcaster;
+   }
+
+   /** Opens an event stream; each change is sent as a {@code combination} event */
+   @Operation(summary = "Stream combination changes",
+            description = "Sends a 'combination' event with type, id, name, color count and "
+                     + "version after every committed create, update, color add, color remove "
+                     + "and delete. Reconnecting clients resume from Last-Event-ID.")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Event stream"),
+            @ApiResponse(responseCode = "404", description = "Event stream is disabled"),
+            @ApiResponse(responseCode = "503", description = "Too many subscribers")})
+   @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+   public ResponseEntity<SseEmitter> streamChanges(@Parameter(
+            description = "Id of the last event received") @RequestHeader(value = "Last-Event-ID",
+                     required = false) String lastEventId) {
+      CombinationEventBroadcaster events = broadcaster.getIfAvailable();
+      if (events == null) {
+         return ResponseEntity.notFound().build();
+      }
+      try {
+         // no-store also keeps proxies from buffering the stream
+         return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+                  .header("X-Accel-Buffering", "no").body(events.subscribe(lastEventId));
+      } catch (IllegalStateException e) {
+         logger.warn("Event stream subscription rejected: {}", e.getMessage());
+         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+      }
+   }
+}
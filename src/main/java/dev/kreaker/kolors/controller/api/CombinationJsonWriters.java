@@ -0,0 +1,101 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import dev.kreaker.kolors.dto.ColorCombinationResponse;
+import dev.kreaker.kolors.dto.CombinationOperationResponse;
+import dev.kreaker.kolors.dto.CombinationPageResponse;
+
+/**
+ * Pre-resolved Jackson writers for the read-only combination JSON API.
+ *
+ * <p>
+ * Writers are created once per response type and field selection, so serializer lookup happens
+ * on the first request only. Field selection is applied to {@link ColorCombinationResponse}
+ * through a mix-in filter on a private copy of the application mapper; the records themselves
+ * stay plain and serialize in full everywhere else.
+ */
+final class CombinationJsonWriters {
+
+   static final String FILTER_ID = "combinationFields";
+
+   /** Canonical key of the full representation */
+   static final String ALL_FIELDS = "*";
+
+   @JsonFilter(FILTER_ID)
+   private abstract static class FieldFilterMixin {}
+
+   private final ObjectMapper mapper;
+   private final ObjectWriter errorWriter;
+   private final ConcurrentHashMap<String, ObjectWriter> detailWriters = new ConcurrentHashMap<>();
+   private final ConcurrentHashMap<String, ObjectWriter> pageWriters = new ConcurrentHashMap<>();
+
+   CombinationJsonWriters(ObjectMapper objectMapper) {
+      this.mapper = objectMapper.copy().addMixIn(ColorCombinationResponse.class,
+               FieldFilterMixin.class);
+      this.errorWriter = mapper.writerFor(CombinationOperationResponse.class);
+   }
+
+   /**
+    * Normalizes a {@code fields} parameter into a sorted, comma-separated key ({@link #ALL_FIELDS}
+    * when absent). Unknown names are rejected so typos do not silently return empty objects.
+    */
+   static String fieldsKey(String fields) {
+      if (fields == null || fields.isBlank()) {
+         return ALL_FIELDS;
+      }
+      Set<String> selected = new TreeSet<>();
+      for (String field : fields.split(",")) {
+         String name = field.trim();
+         if (name.isEmpty()) {
+            continue;
+         }
+         if (!ColorCombinationResponse.FIELDS.contains(name)) {
+            throw new IllegalArgumentException("Unknown field '" + name + "', expected any of "
+                     + new TreeSet<>(ColorCombinationResponse.FIELDS));
+         }
+         selected.add(name);
+      }
+      if (selected.isEmpty() || selected.size() == ColorCombinationResponse.FIELDS.size()) {
+         return ALL_FIELDS;
+      }
+      return String.join(",", selected);
+   }
+
+   byte[] writeDetail(ColorCombinationResponse combination, String fieldsKey)
+            throws JsonProcessingException {
+      return detailWriters.computeIfAbsent(fieldsKey,
+               key -> filtered(mapper.writerFor(ColorCombinationResponse.class), key))
+               .writeValueAsBytes(combination);
+   }
+
+   byte[] writePage(CombinationPageResponse page, String fieldsKey)
+            throws JsonProcessingException {
+      return pageWriters.computeIfAbsent(fieldsKey,
+               key -> filtered(mapper.writerFor(CombinationPageResponse.class), key))
+               .writeValueAsBytes(page);
+   }
+
+   byte[] writeError(String message) throws JsonProcessingException {
+      return errorWriter.writeValueAsBytes(CombinationOperationResponse.failure(message));
+   }
+
+   private static ObjectWriter filtered(ObjectWriter writer, String fieldsKey) {
+      SimpleBeanPropertyFilter filter = ALL_FIELDS.equals(fieldsKey)
+               ? SimpleBeanPropertyFilter.serializeAll()
+               : SimpleBeanPropertyFilter
+                        .filterOutAllExcept(Set.copyOf(List.of(fieldsKey.split(","))));
+      return writer.with(new SimpleFilterProvider().addFilter(FILTER_ID, filter));
+   }
+}
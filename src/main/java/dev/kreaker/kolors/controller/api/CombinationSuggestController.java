@@ -0,0 +1,57 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.dto.CombinationSuggestion;
+import dev.kreaker.kolors.search.CombinationNameIndex;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Name suggestions for the search box, answered from the in-memory name index */
+@RestController
+@RequestMapping("/api/combinations/suggest")
+@Tag(name = "Color Combinations",
+         description = "API for managing color combinations and their colors")
+public class CombinationSuggestController {
+
+   private static final int DEFAULT_LIMIT = 10;
+
+   private final ObjectProvider<CombinationNameIndex> nameIndex;
+
+   public CombinationSuggestController(ObjectProvider<CombinationNameIndex> nameIndex) {
+      this.nameIndex = nameIndex;
+   }
+
+   /** Gets combinations whose name, or a word in it, starts with the query */
+   @Operation(summary = "Suggest combination names",
+            description = "Returns up to 'limit' combinations whose name or one of its words "
+                     + "starts with the query, ignoring case and accents. Whole-name matches "
+                     + "come first.")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Matching names"),
+            @ApiResponse(responseCode = "404", description = "Suggestions are disabled")})
+   @GetMapping
+   public ResponseEntity<List<CombinationSuggestion>> suggest(
+            @Parameter(description = "Typed prefix") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum results, capped by kolors.suggest.max-results")
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+      CombinationNameIndex index = nameIndex.getIfAvailable();
+      if (index == null) {
+         return ResponseEntity.notFound().build();
+      }
+      return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+               .body(index.suggest(q, limit));
+   }
+}
@@ -0,0 +1,65 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.backup.DatabaseBackupService;
+import dev.kreaker.kolors.backup.DatabaseBackupService.BackupFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Online database backups: listing and on-demand runs, for authenticated administrators */
+@RestController
+@RequestMapping("/admin/backups")
+@Tag(name = "Database Backups", description = "API for online SQLite database backups")
+public class DatabaseBackupController {
+
+   private final ObjectProvider<DatabaseBackupService> backupService;
+
+   public DatabaseBackupController(ObjectProvider<DatabaseBackupService> backupService) {
+      this.backupService = backupService;
+   }
+
+   /** Lists the backups */
+   @Operation(summary = "List database backups",
+            description = "Returns the backup files, newest first, including pre-restore copies")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Backup files"),
+            @ApiResponse(responseCode = "404", description = "Database backups are disabled")})
+   @GetMapping
+   public ResponseEntity<List<BackupFile>> listBackups() throws IOException {
+      DatabaseBackupService service = backupService.getIfAvailable();
+      if (service == null) {
+         return ResponseEntity.notFound().build();
+      }
+      return ResponseEntity.ok(service.listBackups());
+   }
+
+   /** Starts a backup */
+   @Operation(summary = "Start a database backup",
+            description = "Starts an online backup in the background; progress is reported by "
+                     + "/api/performance/database-backup")
+   @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "Backup started"),
+            @ApiResponse(responseCode = "404", description = "Database backups are disabled"),
+            @ApiResponse(responseCode = "409", description = "A backup or restore is running")})
+   @PostMapping
+   public ResponseEntity<Void> startBackup() {
+      DatabaseBackupService service = backupService.getIfAvailable();
+      if (service == null) {
+         return ResponseEntity.notFound().build();
+      }
+      HttpStatus status = service.startBackup() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+      return ResponseEntity.status(status).build();
+   }
+}
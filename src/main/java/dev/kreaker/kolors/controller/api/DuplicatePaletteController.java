@@ -0,0 +1,78 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.CombinationDuplicatesResponse;
+import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Duplicate palette lookups, answered from the stored palette fingerprints */
+@RestController
+@RequestMapping("/api/combinations")
+@Tag(name = "Color Combinations",
+         description = "API for managing color combinations and their colors")
+public class DuplicatePaletteController {
+
+   private static final int MAX_QUERY_COLORS = 32;
+
+   private final ColorCombinationService colorCombinationService;
+
+   public DuplicatePaletteController(ColorCombinationService colorCombinationService) {
+      this.colorCombinationService = colorCombinationService;
+   }
+
+   /** Gets the stored duplicates of a combination */
+   @Operation(summary = "Find duplicates of a combination",
+            description = "Returns the combinations with the same colors in the same order, in "
+                     + "another order, and in the same near-duplicate cluster")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Duplicates"),
+            @ApiResponse(responseCode = "404", description = "Combination not found")})
+   @GetMapping("/{id}/duplicates")
+   public ResponseEntity<CombinationDuplicatesResponse> findDuplicates(
+            @Parameter(description = "Combination ID") @PathVariable Long id) {
+      try {
+         return ResponseEntity.ok(colorCombinationService.findDuplicates(id));
+      } catch (ColorCombinationNotFoundException e) {
+         return ResponseEntity.notFound().build();
+      }
+   }
+
+   /** Checks whether a palette is already stored */
+   @Operation(summary = "Find stored combinations with a palette",
+            description = "Returns the combinations with exactly these colors, in this order "
+                     + "or another; near duplicates are only listed for stored combinations")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Duplicates"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid colors")})
+   @GetMapping("/duplicates")
+   public ResponseEntity<CombinationDuplicatesResponse> findDuplicatesOfColors(
+            @Parameter(description = "Comma-separated RRGGBB colors in position order")
+            @RequestParam List<String> colors) {
+      if (colors.isEmpty() || colors.size() > MAX_QUERY_COLORS) {
+         return ResponseEntity.badRequest().build();
+      }
+      int[] packed = new int[colors.size()];
+      for (int i = 0; i < packed.length; i++) {
+         String hex = colors.get(i).startsWith("#") ? colors.get(i).substring(1) : colors.get(i);
+         if (!colorCombinationService.isValidHexColor(hex)) {
+            return ResponseEntity.badRequest().build();
+         }
+         packed[i] = Rgb.parseHex(hex);
+      }
+      return ResponseEntity.ok(colorCombinationService.findDuplicates(packed));
+   }
+}
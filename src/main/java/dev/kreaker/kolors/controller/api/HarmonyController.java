@@ -0,0 +1,125 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.dto.ColorCombinationResponse;
+import dev.kreaker.kolors.dto.CombinationOperationResponse;
+import dev.kreaker.kolors.dto.HarmonyCombinationRequest;
+import dev.kreaker.kolors.dto.HarmonyResponse;
+import dev.kreaker.kolors.exception.ColorCombinationValidationException;
+import dev.kreaker.kolors.exception.DuplicatePaletteException;
+import dev.kreaker.kolors.exception.InvalidColorFormatException;
+import dev.kreaker.kolors.harmony.HarmonyService;
+import dev.kreaker.kolors.harmony.HarmonySpace;
+import dev.kreaker.kolors.harmony.HarmonyType;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/** Harmony palettes generated from a seed color, and saving one as a combination */
+@RestController
+@RequestMapping("/api/harmonies")
+@Tag(name = "Color Harmonies", description = "API for generating palettes from a seed color")
+public class HarmonyController {
+
+   private static final Logger logger = LoggerFactory.getLogger(HarmonyController.class);
+
+   private final HarmonyService harmonyService;
+
+   public HarmonyController(HarmonyService harmonyService) {
+      this.harmonyService = harmonyService;
+   }
+
+   /** Generates one scheme, or all of them when no type is given */
+   @Operation(summary = "Generate harmony palettes",
+            description = "Returns complementary, split-complementary, triadic, tetradic, "
+                     + "analogous and monochromatic palettes for the seed, or only the given "
+                     + "type. Hues are rotated in OKLCH (default) or HSL.")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Generated palettes"),
+            @ApiResponse(responseCode = "400", description = "Invalid seed, type or space")})
+   @GetMapping
+   public ResponseEntity<List<HarmonyResponse>> generate(
+            @Parameter(description = "Seed color, RRGGBB") @RequestParam String seed,
+            @Parameter(description = "Harmony type; all types when omitted") @RequestParam(
+                     required = false) String type,
+            @Parameter(description = "oklch or hsl") @RequestParam(
+                     defaultValue = "oklch") String space) {
+      try {
+         HarmonySpace harmonySpace = HarmonySpace.fromName(space);
+         List<HarmonyType> types = type == null ? List.of(HarmonyType.values())
+                  : List.of(HarmonyType.fromName(type));
+         List<HarmonyResponse> palettes = new ArrayList<>(types.size());
+         for (HarmonyType harmonyType : types) {
+            palettes.add(new HarmonyResponse(harmonyType.name(), harmonySpace.name(),
+                     harmonyService.generate(seed, harmonyType, harmonySpace)));
+         }
+         return ResponseEntity.ok(palettes);
+
+      } catch (IllegalArgumentException | InvalidColorFormatException e) {
+         logger.debug("Invalid harmony request: {}", e.getMessage());
+         return ResponseEntity.badRequest().build();
+      }
+   }
+
+   /** Generates a scheme and saves it as a new combination */
+   @Operation(summary = "Create a combination from a seed color",
+            description = "Generates the requested harmony and saves it as a new combination")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Combination created"),
+            @ApiResponse(responseCode = "400",
+                     description = "Invalid name, seed, type or space"),
+            @ApiResponse(responseCode = "409",
+                     description = "The same palette already exists and duplicates are rejected"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")})
+   @PostMapping("/combinations")
+   public ResponseEntity<CombinationOperationResponse> createFromSeed(
+            @Valid @RequestBody HarmonyCombinationRequest request, BindingResult result) {
+      if (result.hasErrors()) {
+         return ResponseEntity.badRequest().body(CombinationOperationResponse
+                  .failure(result.getAllErrors().get(0).getDefaultMessage()));
+      }
+      try {
+         HarmonySpace space = request.space() == null ? HarmonySpace.OKLCH
+                  : HarmonySpace.fromName(request.space());
+         ColorCombination combination = harmonyService.createFromSeed(request.name(),
+                  request.seed(), HarmonyType.fromName(request.type()), space);
+         return ResponseEntity.created(URI.create("/api/combinations/" + combination.getId()))
+                  .body(CombinationOperationResponse.success("Combination created successfully",
+                           ColorCombinationResponse.from(combination)));
+
+      } catch (DuplicatePaletteException e) {
+         return ResponseEntity.status(HttpStatus.CONFLICT)
+                  .body(CombinationOperationResponse.failure(e.getMessage()));
+
+      } catch (IllegalArgumentException | InvalidColorFormatException
+               | ColorCombinationValidationException e) {
+         return ResponseEntity.badRequest()
+                  .body(CombinationOperationResponse.failure(e.getMessage()));
+
+      } catch (Exception e) {
+         logger.error("Error creating combination from seed " + request.seed(), e);
+         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                  .body(CombinationOperationResponse.failure("Internal server error"));
+      }
+   }
+}
@@ -0,0 +1,101 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.palette.PaletteExtractionService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Dominant-color palettes extracted from uploaded images */
+@RestController
+@RequestMapping("/api/palettes")
+@Tag(name = "Palette Extraction", description = "API for extracting palettes from images")
+public class PaletteExtractionController {
+
+   private static final Logger logger = LoggerFactory.getLogger(PaletteExtractionController.class);
+
+   static final String DEFAULT_NAME = "Extracted palette";
+   private static final int MIN_NAME_LENGTH = 3;
+   private static final int MAX_NAME_LENGTH = 100;
+
+   private final ObjectProvider<PaletteExtractionService> extractionService;
+
+   public PaletteExtractionController(
+            ObjectProvider<PaletteExtractionService> extractionService) {
+      this.extractionService = extractionService;
+   }
+
+   /** Extracts the dominant colors of an image into an unsaved combination form */
+   @Operation(summary = "Extract a palette from an image",
+            description = "Decodes the uploaded image (downsampled while decoding) and returns a "
+                     + "combination form with its 1-10 dominant colors, most common first. The "
+                     + "form is not saved; post it to /api/combinations to create the combination.")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Extracted palette"),
+            @ApiResponse(responseCode = "400",
+                     description = "Missing, unreadable or oversized image, or invalid color count"),
+            @ApiResponse(responseCode = "404", description = "Palette extraction is disabled")})
+   @PostMapping(value = "/extract", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+   public ResponseEntity<ColorCombinationForm> extract(
+            @Parameter(description = "PNG, JPEG, GIF or BMP image") @RequestParam(
+                     "image") MultipartFile image,
+            @Parameter(description = "Combination name; the file name when omitted") @RequestParam(
+                     required = false) String name,
+            @Parameter(description = "Number of colors, 1-10") @RequestParam(
+                     defaultValue = "5") int colors) {
+
+      PaletteExtractionService service = extractionService.getIfAvailable();
+      if (service == null) {
+         return ResponseEntity.notFound().build();
+      }
+      if (image.isEmpty()) {
+         return ResponseEntity.badRequest().build();
+      }
+      try (InputStream input = image.getInputStream()) {
+         String combinationName = name != null && !name.isBlank() ? name.trim()
+                  : nameFromFile(image.getOriginalFilename());
+         return ResponseEntity.ok(service.extract(input, combinationName, colors));
+
+      } catch (IllegalArgumentException e) {
+         logger.debug("Rejected palette extraction: {}", e.getMessage());
+         return ResponseEntity.badRequest().build();
+
+      } catch (IOException e) {
+         logger.error("Error extracting palette from " + image.getOriginalFilename(), e);
+         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+      }
+   }
+
+   /** File name without extension, or the default when it would not be a valid name */
+   static String nameFromFile(String fileName) {
+      if (fileName == null) {
+         return DEFAULT_NAME;
+      }
+      String base = fileName.substring(Math.max(fileName.lastIndexOf('/'),
+               fileName.lastIndexOf('\\')) + 1);
+      int dot = base.lastIndexOf('.');
+      String name = (dot > 0 ? base.substring(0, dot) : base).trim();
+      if (name.length() < MIN_NAME_LENGTH) {
+         return DEFAULT_NAME;
+      }
+      return name.length() > MAX_NAME_LENGTH ? name.substring(0, MAX_NAME_LENGTH).trim() : name;
+   }
+}
@@ -1,17 +1,52 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors.controller.api;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.kreaker.kolors.accessibility.ColorVisionScoringJob;
+import dev.kreaker.kolors.accessibility.ColorVisionScoringJob.ScoringStatistics;
+import dev.kreaker.kolors.analytics.ColorUsageTracker;
+import dev.kreaker.kolors.analytics.ColorUsageTracker.ColorUsageStatistics;
+import dev.kreaker.kolors.backup.DatabaseBackupService;
+import dev.kreaker.kolors.backup.DatabaseBackupService.BackupStatistics;
+import dev.kreaker.kolors.cache.RenderedFragmentCache;
+import dev.kreaker.kolors.cache.RenderedFragmentCache.FragmentCacheStatistics;
+import dev.kreaker.kolors.event.CombinationEventBroadcaster;
+import dev.kreaker.kolors.event.CombinationEventBroadcaster.EventStreamStatistics;
+import dev.kreaker.kolors.naming.ColorNames;
+import dev.kreaker.kolors.naming.ColorNames.ColorNameStatistics;
+import dev.kreaker.kolors.palette.PaletteExtractionService;
+import dev.kreaker.kolors.palette.PaletteExtractionService.ExtractionStatistics;
+import dev.kreaker.kolors.performance.MetricSnapshot;
+import dev.kreaker.kolors.performance.MetricSnapshotStore;
+import dev.kreaker.kolors.search.ColorBitmapIndex;
+import dev.kreaker.kolors.search.ColorBitmapIndex.BitmapIndexStatistics;
+import dev.kreaker.kolors.search.CombinationNameIndex;
+import dev.kreaker.kolors.search.CombinationNameIndex.NameIndexStatistics;
+import dev.kreaker.kolors.search.DuplicateClusteringJob;
+import dev.kreaker.kolors.search.DuplicateClusteringJob.ClusteringStatistics;
+import dev.kreaker.kolors.search.PaletteSimilarityIndex;
+import dev.kreaker.kolors.search.PaletteSimilarityIndex.SimilarityIndexStatistics;
+import dev.kreaker.kolors.service.CacheStatisticsService;
+import dev.kreaker.kolors.service.CacheStatisticsService.CacheStatisticsSummary;
 import dev.kreaker.kolors.service.PerformanceMonitoringService;
 import dev.kreaker.kolors.service.PerformanceMonitoringService.DatabasePerformanceSummary;
 import dev.kreaker.kolors.service.PerformanceMonitoringService.PerformanceMetric;
+import dev.kreaker.kolors.swatch.SwatchService;
+import dev.kreaker.kolors.swatch.SwatchService.SwatchCacheStatistics;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,6 +58,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 /**
  * REST controller for performance monitoring and metrics Provides endpoints to view and manage
  * performance data
+ *
+ * <p>
+ * In {@code low-overhead} monitoring mode only a fraction of calls ({@code sample-rate}) is timed.
+ * Each timed call is counted as {@code 1 / sample-rate} calls, so execution, query and slow query
+ * counts are estimates of all calls, while times come from the timed calls only.
  */
 @RestController
 @RequestMapping("/api/performance")
@@ -30,15 +70,61 @@ import io.swagger.v3.oas.annotations.tags.Tag;
          description = "API for monitoring application performance and database metrics")
 public class PerformanceController {
 
+   private static final int MAX_HISTORY_RESULTS = 10_000;
+
    private final PerformanceMonitoringService performanceMonitoringService;
+   private final CacheStatisticsService cacheStatisticsService;
+   private final ObjectProvider<MetricSnapshotStore> snapshotStore;
+   private final ObjectProvider<RenderedFragmentCache> fragmentCache;
+   private final ObjectProvider<CombinationEventBroadcaster> eventBroadcaster;
+   private final ObjectProvider<SwatchService> swatchService;
+   private final ObjectProvider<CombinationNameIndex> nameIndex;
+   private final ObjectProvider<PaletteSimilarityIndex> similarityIndex;
+   private final ObjectProvider<PaletteExtractionService> extractionService;
+   private final ObjectProvider<ColorVisionScoringJob> colorVisionScoringJob;
+   private final ObjectProvider<DuplicateClusteringJob> duplicateClusteringJob;
+   private final ObjectProvider<ColorUsageTracker> colorUsageTracker;
+   private final ObjectProvider<ColorBitmapIndex> colorBitmapIndex;
+   private final ObjectProvider<ColorNames> colorNames;
+   private final ObjectProvider<DatabaseBackupService> databaseBackupService;
 
-   public PerformanceController(PerformanceMonitoringService performanceMonitoringService) {
+   public PerformanceController(PerformanceMonitoringService performanceMonitoringService,
+            CacheStatisticsService cacheStatisticsService,
+            ObjectProvider<MetricSnapshotStore> snapshotStore,
+            ObjectProvider<RenderedFragmentCache> fragmentCache,
+            ObjectProvider<CombinationEventBroadcaster> eventBroadcaster,
+            ObjectProvider<SwatchService> swatchService,
+            ObjectProvider<CombinationNameIndex> nameIndex,
+            ObjectProvider<PaletteSimilarityIndex> similarityIndex,
+            ObjectProvider<PaletteExtractionService> extractionService,
+            ObjectProvider<ColorVisionScoringJob> colorVisionScoringJob,
+            ObjectProvider<DuplicateClusteringJob> duplicateClusteringJob,
+            ObjectProvider<ColorUsageTracker> colorUsageTracker,
+            ObjectProvider<ColorBitmapIndex> colorBitmapIndex,
+            ObjectProvider<ColorNames> colorNames,
+            ObjectProvider<DatabaseBackupService> databaseBackupService) {
       this.performanceMonitoringService = performanceMonitoringService;
+      this.cacheStatisticsService = cacheStatisticsService;
+      this.snapshotStore = snapshotStore;
+      this.fragmentCache = fragmentCache;
+      this.eventBroadcaster = eventBroadcaster;
+      this.swatchService = swatchService;
+      this.nameIndex = nameIndex;
+      this.similarityIndex = similarityIndex;
+      this.extractionService = extractionService;
+      this.colorVisionScoringJob = colorVisionScoringJob;
+      this.duplicateClusteringJob = duplicateClusteringJob;
+      this.colorUsageTracker = colorUsageTracker;
+      this.colorBitmapIndex = colorBitmapIndex;
+      this.colorNames = colorNames;
+      this.databaseBackupService = databaseBackupService;
    }
 
    /** Gets database performance summary */
    @Operation(summary = "Get database performance summary",
-            description = "Retrieves a summary of database query performance metrics")
+            description = "Retrieves a summary of database query performance metrics. In "
+                     + "low-overhead monitoring mode the query counts are estimated from "
+                     + "sampled calls")
    @ApiResponses(value = {@ApiResponse(responseCode = "200",
             description = "Successfully retrieved database performance summary",
             content = @Content(mediaType = "application/json",
@@ -50,9 +136,207 @@ public class PerformanceController {
       return ResponseEntity.ok(summary);
    }
 
+   /** Gets second-level and query cache statistics */
+   @Operation(summary = "Get cache statistics",
+            description = "Retrieves hit ratios of the Hibernate second-level cache, the query "
+                     + "cache and each cache region")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "Successfully retrieved cache statistics",
+            content = @Content(mediaType = "application/json",
+                     schema = @Schema(implementation = CacheStatisticsSummary.class)))})
+   @GetMapping("/cache")
+   public ResponseEntity<CacheStatisticsSummary> getCacheStatistics() {
+      return ResponseEntity.ok(cacheStatisticsService.getCacheStatistics());
+   }
+
+   /** Gets rendered fragment cache statistics */
+   @Operation(summary = "Get fragment cache statistics",
+            description = "Retrieves hit, miss, stale and eviction counters of the rendered "
+                     + "combination list cache")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved fragment cache statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = FragmentCacheStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Fragment cache is disabled")})
+   @GetMapping("/fragments")
+   public ResponseEntity<FragmentCacheStatistics> getFragmentCacheStatistics() {
+      return statsOf(fragmentCache, RenderedFragmentCache::getStatistics);
+   }
+
+   /** Gets combination event stream statistics */
+   @Operation(summary = "Get event stream statistics",
+            description = "Retrieves subscriber count and published, delivered and dropped event "
+                     + "counters of the combination change stream")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved event stream statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = EventStreamStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Event stream is disabled")})
+   @GetMapping("/events")
+   public ResponseEntity<EventStreamStatistics> getEventStreamStatistics() {
+      return statsOf(eventBroadcaster, CombinationEventBroadcaster::getStatistics);
+   }
+
+   /** Gets swatch image cache statistics */
+   @Operation(summary = "Get swatch cache statistics",
+            description = "Retrieves hit, miss and eviction counters and the average render time "
+                     + "of the swatch image disk cache")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved swatch cache statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = SwatchCacheStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Swatch rendering is disabled")})
+   @GetMapping("/swatches")
+   public ResponseEntity<SwatchCacheStatistics> getSwatchCacheStatistics() {
+      return statsOf(swatchService, SwatchService::getStatistics);
+   }
+
+   /** Gets name suggestion index statistics */
+   @Operation(summary = "Get name index statistics",
+            description = "Retrieves the size and lookup counters of the in-memory name index "
+                     + "behind /api/combinations/suggest")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved name index statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = NameIndexStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Suggestions are disabled")})
+   @GetMapping("/suggest")
+   public ResponseEntity<NameIndexStatistics> getNameIndexStatistics() {
+      return statsOf(nameIndex, CombinationNameIndex::getStatistics);
+   }
+
+   /** Gets palette similarity index statistics */
+   @Operation(summary = "Get similarity index statistics",
+            description = "Retrieves size, query counters and shortlist sizes of the palette "
+                     + "similarity index behind /api/combinations/{id}/similar")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved similarity index statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(
+                                       implementation = SimilarityIndexStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Similarity search is disabled")})
+   @GetMapping("/similar")
+   public ResponseEntity<SimilarityIndexStatistics> getSimilarityIndexStatistics() {
+      return statsOf(similarityIndex, PaletteSimilarityIndex::getStatistics);
+   }
+
+   /** Gets palette extraction statistics */
+   @Operation(summary = "Get palette extraction statistics",
+            description = "Retrieves extraction and rejection counters and the average decode "
+                     + "and clustering times of /api/palettes/extract")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved palette extraction statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = ExtractionStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Palette extraction is disabled")})
+   @GetMapping("/extraction")
+   public ResponseEntity<ExtractionStatistics> getExtractionStatistics() {
+      return statsOf(extractionService, PaletteExtractionService::getStatistics);
+   }
+
+   /** Gets color vision scoring job statistics */
+   @Operation(summary = "Get color vision scoring statistics",
+            description = "Retrieves run counters and the number of combinations still waiting "
+                     + "for color vision scores")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved color vision scoring statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = ScoringStatistics.class))),
+            @ApiResponse(responseCode = "404",
+                     description = "Color vision scoring job is disabled")})
+   @GetMapping("/color-vision")
+   public ResponseEntity<ScoringStatistics> getColorVisionScoringStatistics() {
+      return statsOf(colorVisionScoringJob, ColorVisionScoringJob::getStatistics);
+   }
+
+   /** Gets near-duplicate clustering job statistics */
+   @Operation(summary = "Get duplicate clustering statistics",
+            description = "Retrieves run counters and the clusters found by the last "
+                     + "near-duplicate clustering run")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved duplicate clustering statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = ClusteringStatistics.class))),
+            @ApiResponse(responseCode = "404",
+                     description = "Duplicate clustering job is disabled")})
+   @GetMapping("/duplicates")
+   public ResponseEntity<ClusteringStatistics> getDuplicateClusteringStatistics() {
+      return statsOf(duplicateClusteringJob, DuplicateClusteringJob::getStatistics);
+   }
+
+   /** Gets color usage tracker statistics */
+   @Operation(summary = "Get color usage statistics",
+            description = "Retrieves the size of the in-memory color usage counts and top-N "
+                     + "query counters")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved color usage statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = ColorUsageStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Color usage tracking is disabled")})
+   @GetMapping("/color-usage")
+   public ResponseEntity<ColorUsageStatistics> getColorUsageStatistics() {
+      return statsOf(colorUsageTracker, ColorUsageTracker::getStatistics);
+   }
+
+   /** Gets color bitmap index statistics */
+   @Operation(summary = "Get color bitmap index statistics",
+            description = "Retrieves size, memory, tombstones and query times of the color "
+                     + "bitmap index behind /api/combinations/containing")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved color bitmap index statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = BitmapIndexStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Color bitmap index is disabled")})
+   @GetMapping("/color-bitmap")
+   public ResponseEntity<BitmapIndexStatistics> getColorBitmapIndexStatistics() {
+      return statsOf(colorBitmapIndex, ColorBitmapIndex::getStatistics);
+   }
+
+   /** Gets color name lookup statistics */
+   @Operation(summary = "Get color name statistics",
+            description = "Retrieves the number of loaded names, the state of the 24-bit "
+                     + "nearest-name table, the search method and lookup counters")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved color name statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = ColorNameStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Color names are not loaded")})
+   @GetMapping("/color-names")
+   public ResponseEntity<ColorNameStatistics> getColorNameStatistics() {
+      return statsOf(colorNames, ColorNames::getStatistics);
+   }
+
+   /** Gets online database backup statistics */
+   @Operation(summary = "Get database backup statistics",
+            description = "Retrieves the progress and throughput of a running backup or restore, "
+                     + "backup counts and the last backup")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                     description = "Successfully retrieved database backup statistics",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = BackupStatistics.class))),
+            @ApiResponse(responseCode = "404", description = "Database backups are disabled")})
+   @GetMapping("/database-backup")
+   public ResponseEntity<BackupStatistics> getDatabaseBackupStatistics() {
+      return statsOf(databaseBackupService, DatabaseBackupService::getStatistics);
+   }
+
    /** Gets all performance metrics */
    @Operation(summary = "Get all performance metrics",
-            description = "Retrieves all collected performance metrics for the application")
+            description = "Retrieves all collected performance metrics for the application. In "
+                     + "low-overhead monitoring mode execution counts are estimated from "
+                     + "sampled calls")
    @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved all metrics",
                      content = @Content(mediaType = "application/json",
@@ -82,6 +366,37 @@ public class PerformanceController {
       }
    }
 
+   /** Gets persisted metric snapshots within a time range */
+   @Operation(summary = "Get performance history",
+            description = "Retrieves persisted metric snapshots between two date-times (default: "
+                     + "the last 24 hours), optionally for one operation. Values are cumulative "
+                     + "since the last reset.")
+   @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved history",
+                     content = @Content(mediaType = "application/json",
+                              schema = @Schema(implementation = MetricSnapshot.class))),
+            @ApiResponse(responseCode = "404", description = "Metric snapshots are disabled")})
+   @GetMapping("/history")
+   public ResponseEntity<List<MetricSnapshot>> getHistory(
+            @RequestParam(required = false) @DateTimeFormat(
+                     iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(
+                     iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String operation,
+            @RequestParam(defaultValue = "1000") int limit) {
+      MetricSnapshotStore store = snapshotStore.getIfAvailable();
+      if (store == null) {
+         return ResponseEntity.notFound().build();
+      }
+      LocalDateTime end = to != null ? to : LocalDateTime.now();
+      LocalDateTime start = from != null ? from : end.minusDays(1);
+      ZoneId zone = ZoneId.systemDefault();
+      List<MetricSnapshot> history = store.query(start.atZone(zone).toInstant().toEpochMilli(),
+               end.atZone(zone).toInstant().toEpochMilli(), operation,
+               Math.clamp(limit, 1, MAX_HISTORY_RESULTS));
+      return ResponseEntity.ok(history);
+   }
+
    /** Resets all performance metrics */
    @Operation(summary = "Reset all metrics",
             description = "Clears all collected performance metrics")
@@ -103,4 +418,14 @@ public class PerformanceController {
       performanceMonitoringService.logPerformanceSummary();
       return ResponseEntity.ok("Performance summary logged");
    }
+
+   /** Answers with the statistics of an optional component, or 404 when it is disabled */
+   private static <T, R> ResponseEntity<R> statsOf(ObjectProvider<T> provider,
+            Function<T, R> statistics) {
+      T component = provider.getIfAvailable();
+      if (component == null) {
+         return ResponseEntity.notFound().build();
+      }
+      return ResponseEntity.ok(statistics.apply(component));
+   }
 }
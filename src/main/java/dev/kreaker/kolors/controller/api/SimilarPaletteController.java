@@ -0,0 +1,94 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.SimilarCombination;
+import dev.kreaker.kolors.search.PaletteSimilarityIndex;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Palette-to-palette similarity search, answered from the in-memory similarity index */
+@RestController
+@RequestMapping("/api/combinations")
+@Tag(name = "Color Combinations",
+         description = "API for managing color combinations and their colors")
+public class SimilarPaletteController {
+
+   private static final int DEFAULT_LIMIT = 10;
+   private static final int MAX_QUERY_COLORS = 32;
+
+   private final ObjectProvider<PaletteSimilarityIndex> similarityIndex;
+   private final ColorCombinationService colorCombinationService;
+
+   public SimilarPaletteController(ObjectProvider<PaletteSimilarityIndex> similarityIndex,
+            ColorCombinationService colorCombinationService) {
+      this.similarityIndex = similarityIndex;
+      this.colorCombinationService = colorCombinationService;
+   }
+
+   /** Gets the combinations that look most like a stored one */
+   @Operation(summary = "Find similar combinations",
+            description = "Returns the combinations whose colors are closest to this one's in "
+                     + "CIELAB, regardless of color order, closest first")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Similar combinations"),
+            @ApiResponse(responseCode = "404",
+                     description = "Combination not found or similarity search disabled")})
+   @GetMapping("/{id}/similar")
+   public ResponseEntity<List<SimilarCombination>> findSimilar(
+            @Parameter(description = "Combination ID") @PathVariable Long id,
+            @Parameter(description = "Maximum results, capped by kolors.similar.max-results")
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+      PaletteSimilarityIndex index = similarityIndex.getIfAvailable();
+      if (index == null) {
+         return ResponseEntity.notFound().build();
+      }
+      return index.findSimilar(id, limit).map(ResponseEntity::ok)
+               .orElseGet(() -> ResponseEntity.notFound().build());
+   }
+
+   /** Gets the combinations that look most like a list of colors */
+   @Operation(summary = "Find combinations similar to a palette",
+            description = "Returns the combinations whose colors are closest to the given "
+                     + "colors in CIELAB, regardless of color order, closest first")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Similar combinations"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid colors"),
+            @ApiResponse(responseCode = "404", description = "Similarity search disabled")})
+   @GetMapping("/similar")
+   public ResponseEntity<List<SimilarCombination>> findSimilarToColors(
+            @Parameter(description = "Comma-separated RRGGBB colors")
+            @RequestParam List<String> colors,
+            @Parameter(description = "Maximum results, capped by kolors.similar.max-results")
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+      PaletteSimilarityIndex index = similarityIndex.getIfAvailable();
+      if (index == null) {
+         return ResponseEntity.notFound().build();
+      }
+      if (colors.isEmpty() || colors.size() > MAX_QUERY_COLORS) {
+         return ResponseEntity.badRequest().build();
+      }
+      int[] packed = new int[colors.size()];
+      for (int i = 0; i < packed.length; i++) {
+         String hex = colors.get(i).startsWith("#") ? colors.get(i).substring(1) : colors.get(i);
+         if (!colorCombinationService.isValidHexColor(hex)) {
+            return ResponseEntity.badRequest().build();
+         }
+         packed[i] = Rgb.parseHex(hex);
+      }
+      return ResponseEntity.ok(index.findSimilar(packed, limit));
+   }
+}
@@ -0,0 +1,189 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.controller.api;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
+import dev.kreaker.kolors.service.ColorCombinationService;
+import dev.kreaker.kolors.swatch.Swatch;
+import dev.kreaker.kolors.swatch.SwatchFormat;
+import dev.kreaker.kolors.swatch.SwatchLayout;
+import dev.kreaker.kolors.swatch.SwatchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * PNG and SVG swatch images of a combination, served from the swatch disk cache without copying
+ * the file through the heap.
+ *
+ * <p>
+ * Behind nginx ({@code kolors.swatch.accel-redirect-location} set) only an
+ * {@code X-Accel-Redirect} header is returned and nginx sends the file itself. Otherwise Tomcat's
+ * sendfile is used when the connector supports it, and {@link FileChannel#transferTo} into the
+ * response channel as the fallback.
+ */
+@RestController
+@RequestMapping("/api/combinations")
+@Tag(name = "Color Combinations",
+         description = "API for managing color combinations and their colors")
+public class SwatchController {
+
+   private static final Logger logger = LoggerFactory.getLogger(SwatchController.class);
+
+   static final int DEFAULT_WIDTH = 600;
+   static final int DEFAULT_HEIGHT = 120;
+
+   // Tomcat request attributes (org.apache.coyote.Constants) for sendfile
+   private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+   private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+   private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+   private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+   // Swatch URLs are per combination, so revalidate; the content-hash ETag makes that cheap
+   private static final CacheControl SWATCH_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+   private final ObjectProvider<SwatchService> swatchService;
+   private final ColorCombinationService colorCombinationService;
+   private final String accelRedirectLocation;
+
+   public SwatchController(ObjectProvider<SwatchService> swatchService,
+            ColorCombinationService colorCombinationService,
+            @Value("${kolors.swatch.accel-redirect-location:}") String accelRedirectLocation) {
+      this.swatchService = swatchService;
+      this.colorCombinationService = colorCombinationService;
+      this.accelRedirectLocation = accelRedirectLocation;
+   }
+
+   /** Gets a swatch image of a combination's colors in position order */
+   @Operation(summary = "Get a swatch image",
+            description = "Renders the combination's colors as a PNG or SVG image (format from "
+                     + "the extension) in a strip, grid or gradient layout. Images are cached on "
+                     + "disk by content and carry a content-hash ETag.")
+   @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The swatch image"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid format, layout or size"),
+            @ApiResponse(responseCode = "404",
+                     description = "Combination not found or swatches disabled")})
+   @GetMapping("/{id}/swatch.{format}")
+   public void getSwatch(@PathVariable Long id,
+            @Parameter(description = "png or svg") @PathVariable String format,
+            @Parameter(description = "strip, grid or gradient") @RequestParam(
+                     defaultValue = "strip") String layout,
+            @RequestParam(defaultValue = "" + DEFAULT_WIDTH) int width,
+            @RequestParam(defaultValue = "" + DEFAULT_HEIGHT) int height,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+      SwatchService swatches = swatchService.getIfAvailable();
+      if (swatches == null) {
+         response.setStatus(HttpStatus.NOT_FOUND.value());
+         return;
+      }
+
+      try {
+         SwatchFormat swatchFormat = SwatchFormat.fromExtension(format);
+         SwatchLayout swatchLayout = SwatchLayout.fromName(layout);
+         ColorCombination combination = colorCombinationService.getById(id);
+         List<String> hexValues = combination.getColors().stream()
+                  .sorted(Comparator.comparing(ColorInCombination::getPosition))
+                  .map(ColorInCombination::getHexValue).toList();
+
+         Swatch swatch = swatches.getSwatch(hexValues, swatchLayout, swatchFormat, width, height);
+         ServletWebRequest webRequest = new ServletWebRequest(request, response);
+         if (webRequest.checkNotModified("\"" + swatch.key() + "\"")) {
+            return;
+         }
+         response.setContentType(swatch.format().getMediaType());
+         response.setHeader(HttpHeaders.CACHE_CONTROL, SWATCH_CACHE_CONTROL.getHeaderValue());
+         try {
+            send(swatch, request, response);
+         } catch (NoSuchFileException e) {
+            // Trimmed from the cache since the lookup, so render it again
+            send(swatches.getSwatch(hexValues, swatchLayout, swatchFormat, width, height), request,
+                     response);
+         }
+
+      } catch (ColorCombinationNotFoundException e) {
+         logger.warn("Combination not found for swatch: {}", id);
+         writeError(response, HttpStatus.NOT_FOUND, "Combination not found");
+
+      } catch (IllegalArgumentException e) {
+         writeError(response, HttpStatus.BAD_REQUEST, e.getMessage());
+
+      } catch (IOException e) {
+         if (response.isCommitted()) {
+            logger.debug("Swatch transfer aborted for combination {}: {}", id, e.getMessage());
+            return;
+         }
+         logger.error("Error rendering swatch for combination: " + id, e);
+         writeError(response, HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error");
+      }
+   }
+
+   private void send(Swatch swatch, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+      if (!accelRedirectLocation.isEmpty()) {
+         response.setHeader("X-Accel-Redirect",
+                  accelRedirectLocation + swatch.file().getFileName());
+         return;
+      }
+      response.setContentLengthLong(swatch.size());
+      if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+         // Tomcat opens the file after the response headers are written, too late to render again
+         if (!Files.isRegularFile(swatch.file())) {
+            throw new NoSuchFileException(swatch.file().toString());
+         }
+         request.setAttribute(SENDFILE_FILENAME, swatch.file().toString());
+         request.setAttribute(SENDFILE_START, 0L);
+         request.setAttribute(SENDFILE_END, swatch.size());
+         return;
+      }
+      try (FileChannel file = FileChannel.open(swatch.file(), StandardOpenOption.READ)) {
+         WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+         long position = 0;
+         long size = file.size();
+         while (position < size) {
+            position += file.transferTo(position, size - position, out);
+         }
+      }
+   }
+
+   private static void writeError(HttpServletResponse response, HttpStatus status,
+            String message) throws IOException {
+      response.setStatus(status.value());
+      response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+      response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      response.getWriter().write(message);
+   }
+}
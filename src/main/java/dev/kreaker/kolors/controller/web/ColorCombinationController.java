@@ -1,12 +1,18 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors.controller.web;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -16,15 +22,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
 import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.cache.RenderedFragmentCache;
+import dev.kreaker.kolors.cache.RenderedFragmentCache.RenderedFragment;
+import dev.kreaker.kolors.controller.CombinationETags;
 import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
 import dev.kreaker.kolors.dto.ColorForm;
 import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
 import dev.kreaker.kolors.exception.ColorCombinationValidationException;
 import dev.kreaker.kolors.service.ColorCombinationService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -36,10 +50,16 @@ import jakarta.validation.Valid;
 public class ColorCombinationController {
 
    private static final Logger logger = LoggerFactory.getLogger(ColorCombinationController.class);
+   private static final String INDEX_VIEW = "combinations/index";
+   private static final String LIST_TEMPLATE = "combinations/fragments/combination-list";
+
    private final ColorCombinationService colorCombinationService;
+   private final ObjectProvider<RenderedFragmentCache> fragmentCache;
 
-   public ColorCombinationController(ColorCombinationService colorCombinationService) {
+   public ColorCombinationController(ColorCombinationService colorCombinationService,
+            ObjectProvider<RenderedFragmentCache> fragmentCache) {
       this.colorCombinationService = colorCombinationService;
+      this.fragmentCache = fragmentCache;
    }
 
    /** Main page - lists all combinations with search and filtering */
@@ -50,14 +70,15 @@ public class ColorCombinationController {
             @RequestParam(required = false) Integer maxColors,
             @RequestParam(required = false) String hexValue,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size, HttpServletRequest request,
+            HttpServletResponse response) {
 
       logger.debug(
                "Accessing main page - search: '{}', colors: {}, minColors: {}, maxColors: {}, hex: '{}', page: {}",
                search, colorCount, minColors, maxColors, hexValue, page);
 
       try {
-         Page<ColorCombination> combinationsPage;
+         Page<ColorCombinationSummary> combinationsPage;
 
          // Determine color range from colorCount or explicit min/max
          Integer effectiveMinColors = minColors;
@@ -68,30 +89,57 @@ public class ColorCombinationController {
             effectiveMaxColors = colorCount;
          }
 
+         // Add empty form to create new combination
+         if (!model.containsAttribute("combinationForm")) {
+            model.addAttribute("combinationForm", new ColorCombinationForm());
+         }
+
+         // Filter values are echoed in the results section, so the cache key keeps them verbatim
+         Map<String, Object> listModel = new HashMap<>();
+         listModel.put("search", search);
+         listModel.put("colorCount", colorCount);
+         listModel.put("minColors", minColors);
+         listModel.put("maxColors", maxColors);
+         listModel.put("hexValue", hexValue);
+         model.addAllAttributes(listModel);
+
+         RenderedFragmentCache cache = fragmentCache.getIfAvailable();
+         String cacheKey = null;
+         long generation = 0L;
+         if (cache != null) {
+            cacheKey = cacheKey("page:" + page + ":" + size, search, colorCount, minColors,
+                     maxColors, hexValue);
+            generation = colorCombinationService.getWriteGeneration();
+            RenderedFragment cached = cache.get(cacheKey, generation);
+            if (cached != null) {
+               model.addAttribute("totalCombinations", cached.getTotalElements());
+               model.addAttribute("combinationPageHtml", cached.getHtml());
+               return INDEX_VIEW;
+            }
+         }
+
          // Apply advanced search filters with pagination
-         combinationsPage = colorCombinationService.searchWithFilters(search, effectiveMinColors,
+         combinationsPage = colorCombinationService.searchSummaries(search, effectiveMinColors,
                   effectiveMaxColors, hexValue, PageRequest.of(page, size));
 
          // Add data to model
-         model.addAttribute("combinations", combinationsPage.getContent());
-         model.addAttribute("search", search);
-         model.addAttribute("colorCount", colorCount);
-         model.addAttribute("minColors", minColors);
-         model.addAttribute("maxColors", maxColors);
-         model.addAttribute("hexValue", hexValue);
-         model.addAttribute("totalCombinations", combinationsPage.getTotalElements());
-         model.addAttribute("totalPages", combinationsPage.getTotalPages());
-         model.addAttribute("currentPage", page);
-         model.addAttribute("pageSize", size);
-         model.addAttribute("hasNext", combinationsPage.hasNext());
-         model.addAttribute("hasPrevious", combinationsPage.hasPrevious());
-
-         // Add empty form to create new combination
-         if (!model.containsAttribute("combinationForm")) {
-            model.addAttribute("combinationForm", new ColorCombinationForm());
+         listModel.put("combinations", combinationsPage.getContent());
+         listModel.put("totalCombinations", combinationsPage.getTotalElements());
+         listModel.put("totalPages", combinationsPage.getTotalPages());
+         listModel.put("currentPage", page);
+         listModel.put("pageSize", size);
+         listModel.put("hasNext", combinationsPage.hasNext());
+         listModel.put("hasPrevious", combinationsPage.hasPrevious());
+         model.addAllAttributes(listModel);
+
+         if (cache != null) {
+            RenderedFragment rendered = cache.render(cacheKey, generation, INDEX_VIEW,
+                     "combinationPage", listModel, combinationsPage.getTotalElements(), request,
+                     response);
+            model.addAttribute("combinationPageHtml", rendered.getHtml());
          }
 
-         return "combinations/index";
+         return INDEX_VIEW;
 
       } catch (Exception e) {
          logger.error("Error loading main page", e);
@@ -153,16 +201,21 @@ public class ColorCombinationController {
    /** Show edit form */
    @GetMapping("/{id}/edit")
    public String editForm(@PathVariable Long id, Model model,
-            RedirectAttributes redirectAttributes) {
+            RedirectAttributes redirectAttributes, ServletWebRequest webRequest) {
 
       logger.debug("Showing edit form for combination ID: {}", id);
 
       try {
          ColorCombination combination = colorCombinationService.getById(id);
+         if (isNotModified(combination, webRequest)) {
+            return null;
+         }
          ColorCombinationForm form = colorCombinationService.convertToForm(combination);
 
          model.addAttribute("combinationForm", form);
          model.addAttribute("combination", combination);
+         // Sent back as If-Match by the AJAX color endpoints
+         model.addAttribute("combinationETag", CombinationETags.of(combination));
          model.addAttribute("isEditing", true);
 
          return "combinations/edit";
@@ -298,12 +351,15 @@ public class ColorCombinationController {
    /** View details of a specific combination */
    @GetMapping("/{id}")
    public String viewCombination(@PathVariable Long id, Model model,
-            RedirectAttributes redirectAttributes) {
+            RedirectAttributes redirectAttributes, ServletWebRequest webRequest) {
 
       logger.debug("Showing combination details for ID: {}", id);
 
       try {
          ColorCombination combination = colorCombinationService.getById(id);
+         if (isNotModified(combination, webRequest)) {
+            return null;
+         }
          model.addAttribute("combination", combination);
          return "combinations/view";
 
@@ -408,13 +464,14 @@ public class ColorCombinationController {
             @RequestParam(required = false) Integer colorCount,
             @RequestParam(required = false) Integer minColors,
             @RequestParam(required = false) Integer maxColors,
-            @RequestParam(required = false) String hexValue, Model model) {
+            @RequestParam(required = false) String hexValue, Model model,
+            HttpServletRequest request, HttpServletResponse response) {
 
       logger.debug("AJAX search - term: '{}', colors: {}, minColors: {}, maxColors: {}, hex: '{}'",
                term, colorCount, minColors, maxColors, hexValue);
 
       try {
-         List<ColorCombination> combinations;
+         List<ColorCombinationSummary> combinations;
 
          // Determine color range from colorCount or explicit min/max
          Integer effectiveMinColors = minColors;
@@ -425,12 +482,38 @@ public class ColorCombinationController {
             effectiveMaxColors = colorCount;
          }
 
+         RenderedFragmentCache cache = fragmentCache.getIfAvailable();
+         String cacheKey = null;
+         long generation = 0L;
+         if (cache != null) {
+            // Only the results are rendered here, so equivalent filters share one entry
+            String hex = hexValue != null && !hexValue.trim().isEmpty()
+                     ? hexValue.trim().toUpperCase(Locale.ROOT)
+                     : null;
+            String name = hex == null && term != null && !term.trim().isEmpty()
+                     ? term.trim().toLowerCase(Locale.ROOT)
+                     : null;
+            cacheKey = cacheKey("list", name, null, effectiveMinColors, effectiveMaxColors, hex);
+            generation = colorCombinationService.getWriteGeneration();
+            RenderedFragment cached = cache.get(cacheKey, generation);
+            if (cached != null) {
+               model.addAttribute("combinationListHtml", cached.getHtml());
+               return LIST_TEMPLATE + " :: combinationList";
+            }
+         }
+
          // Apply advanced search filters
-         combinations = colorCombinationService.searchWithFilters(term, effectiveMinColors,
+         combinations = colorCombinationService.searchSummaries(term, effectiveMinColors,
                   effectiveMaxColors, hexValue);
 
          model.addAttribute("combinations", combinations);
-         return "combinations/fragments/combination-list :: combinationList";
+         if (cache != null) {
+            RenderedFragment rendered = cache.render(cacheKey, generation, LIST_TEMPLATE,
+                     "combinationListBody", Map.of("combinations", combinations),
+                     combinations.size(), request, response);
+            model.addAttribute("combinationListHtml", rendered.getHtml());
+         }
+         return LIST_TEMPLATE + " :: combinationList";
 
       } catch (Exception e) {
          logger.error("Error in AJAX search", e);
@@ -440,12 +523,29 @@ public class ColorCombinationController {
       }
    }
 
+   /**
+    * Builds a fragment cache key; null and blank filter values are treated alike and free-text
+    * values are length-prefixed so no two filter combinations share a key
+    */
+   private static String cacheKey(String fragment, String search, Integer colorCount,
+            Integer minColors, Integer maxColors, String hexValue) {
+      return fragment + "|" + (colorCount == null ? "" : colorCount) + "|"
+               + (minColors == null ? "" : minColors) + "|"
+               + (maxColors == null ? "" : maxColors) + "|" + keyText(hexValue) + "|"
+               + keyText(search);
+   }
+
+   private static String keyText(String value) {
+      return value == null || value.isEmpty() ? "" : value.length() + ":" + value;
+   }
+
    /** Helper method to add form data and return to main page */
    private String addFormDataAndReturnIndex(Model model, ColorCombinationForm form,
             String errorMessage) {
       try {
          // Add existing combinations
-         List<ColorCombination> combinations = colorCombinationService.findAllCombinations();
+         List<ColorCombinationSummary> combinations =
+                  colorCombinationService.searchSummaries(null, null, null, null);
          model.addAttribute("combinations", combinations);
 
          // Add form with data
@@ -469,6 +569,25 @@ public class ColorCombinationController {
    }
 
 
+   /**
+    * Conditional GET support for combination pages. Sets ETag, Last-Modified and a private
+    * revalidate-always Cache-Control, and returns true when the client's copy is still current (the
+    * response is then a 304). Pages carrying flash messages are never treated as cacheable.
+    */
+   private boolean isNotModified(ColorCombination combination, ServletWebRequest webRequest) {
+      Map<String, ?> flashMap = RequestContextUtils.getInputFlashMap(webRequest.getRequest());
+      if (flashMap != null && !flashMap.isEmpty()) {
+         return false;
+      }
+      String etag = CombinationETags.forView(combination, webRequest.getRemoteUser(),
+               webRequest.getLocale());
+      if (webRequest.getResponse() != null) {
+         webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL,
+                  CacheControl.noCache().cachePrivate().getHeaderValue());
+      }
+      return webRequest.checkNotModified(etag, CombinationETags.lastModified(combination));
+   }
+
    /** Controller-specific error handling */
    @ModelAttribute
    public void addCommonAttributes(Model model) {
@@ -7,10 +7,12 @@ import java.util.Locale;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
+import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import dev.kreaker.kolors.ColorCombination;
 import dev.kreaker.kolors.dto.ColorCombinationForm;
@@ -206,6 +208,16 @@ public class GlobalExceptionHandler {
       return "redirect:/combinations/";
    }
 
+   /**
+    * Answers missing static resources with a plain 404, so a stale asset fingerprint left in a
+    * cached page fails fast instead of redirecting to an HTML page
+    */
+   @ExceptionHandler(NoResourceFoundException.class)
+   public ResponseEntity<Void> handleNoResourceFound(NoResourceFoundException e) {
+      logger.debug("Static resource not found: {}", e.getResourcePath());
+      return ResponseEntity.notFound().build();
+   }
+
    /** Handles all other non-specific exceptions */
    @ExceptionHandler(Exception.class)
    public String handleGenericError(Exception e, Model model,
@@ -0,0 +1,40 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+
+/** JSON representation of a color combination, colors ordered by position */
+public record ColorCombinationResponse(Long id, String name, Integer colorCount,
+         LocalDateTime createdAt, LocalDateTime updatedAt, List<ColorResponse> colors) {
+
+   /** Property names accepted by the {@code fields} parameter of the JSON API */
+   public static final Set<String> FIELDS =
+            Set.of("id", "name", "colorCount", "createdAt", "updatedAt", "colors");
+
+   public static ColorCombinationResponse from(ColorCombination combination) {
+      List<ColorResponse> colors = combination.getColors() == null
+               ? null
+               : combination.getColors().stream()
+                        .sorted(Comparator.comparing(ColorInCombination::getPosition))
+                        .map(ColorResponse::from).toList();
+      return new ColorCombinationResponse(combination.getId(), combination.getName(),
+               combination.getColorCount(), combination.getCreatedAt(),
+               combination.getUpdatedAt(), colors);
+   }
+
+   public static ColorCombinationResponse from(ColorCombinationSummary summary) {
+      List<ColorResponse> colors = new ArrayList<>(summary.hexValues().size());
+      for (String hexValue : summary.hexValues()) {
+         colors.add(ColorResponse.of(hexValue, colors.size() + 1));
+      }
+      return new ColorCombinationResponse(summary.id(), summary.name(), summary.colorCount(),
+               summary.createdAt(), summary.updatedAt(), List.copyOf(colors));
+   }
+}
@@ -0,0 +1,49 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+
+/**
+ * Read-only projection of a combination for list and search views: the scalar columns plus the
+ * hex values ordered by position. Built by constructor expressions, so no entity is managed.
+ */
+public record ColorCombinationSummary(Long id, String name, Integer colorCount,
+         LocalDateTime createdAt, LocalDateTime updatedAt, List<String> hexValues) {
+
+   private static final DateTimeFormatter CREATED_AT_FORMAT =
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+   public ColorCombinationSummary {
+      hexValues = hexValues == null ? List.of() : List.copyOf(hexValues);
+   }
+
+   /** Constructor used by the JPQL projection; hex values are attached afterwards */
+   public ColorCombinationSummary(Long id, String name, Integer colorCount,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+      this(id, name, colorCount, createdAt, updatedAt, List.of());
+   }
+
+   public static ColorCombinationSummary from(ColorCombination combination) {
+      return new ColorCombinationSummary(combination.getId(), combination.getName(),
+               combination.getColorCount(), combination.getCreatedAt(),
+               combination.getUpdatedAt(),
+               combination.getColors().stream()
+                        .sorted(Comparator.comparing(ColorInCombination::getPosition))
+                        .map(ColorInCombination::getHexValue).toList());
+   }
+
+   public ColorCombinationSummary withHexValues(List<String> hexValues) {
+      return new ColorCombinationSummary(id, name, colorCount, createdAt, updatedAt, hexValues);
+   }
+
+   /** Creation date as shown in the list views */
+   public String formattedCreatedAt() {
+      return createdAt == null ? "" : createdAt.format(CREATED_AT_FORMAT);
+   }
+}
@@ -19,6 +19,10 @@ public class ColorForm {
    @Min(value = 1, message = "La posición mínima es 1")
    private Integer position;
 
+   // "#" + hexValue, built once per value; transient so binders never treat it as a property
+   private transient String formattedHex;
+   private transient String formattedFrom;
+
    // Constructors
    public ColorForm() {}
 
@@ -46,7 +50,15 @@ public class ColorForm {
 
    // Helper methods
    public String getFormattedHex() {
-      return hexValue != null ? "#" + hexValue : null;
+      String value = hexValue;
+      if (value == null) {
+         return null;
+      }
+      if (formattedFrom != value) {
+         formattedHex = "#" + value;
+         formattedFrom = value;
+      }
+      return formattedHex;
    }
 
    public boolean isValidHex() {
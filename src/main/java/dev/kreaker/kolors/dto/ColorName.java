@@ -0,0 +1,5 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/** A named color from the loaded color name lists */
+public record ColorName(String name, String hexValue) {}
@@ -0,0 +1,24 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dev.kreaker.kolors.ColorInCombination;
+
+/**
+ * JSON representation of a color within a combination. The id is omitted in list responses,
+ * which are read from summary projections.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ColorResponse(Long id, String hexValue, Integer position, String formattedHex) {
+
+   public static ColorResponse from(ColorInCombination color) {
+      return new ColorResponse(color.getId(), color.getHexValue(), color.getPosition(),
+               color.getFormattedHex());
+   }
+
+   /** Builds a color of a summary projection, where only value and position are known */
+   public static ColorResponse of(String hexValue, int position) {
+      return new ColorResponse(null, hexValue, position, "#" + hexValue);
+   }
+}
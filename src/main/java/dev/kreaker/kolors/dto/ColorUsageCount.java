@@ -0,0 +1,8 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/**
+ * How often a color is used. {@code overcount} is how much {@code count} may exceed the true
+ * number: 0 for exact all-time counts, the summary error for trending estimates.
+ */
+public record ColorUsageCount(String hexValue, long count, long overcount) {}
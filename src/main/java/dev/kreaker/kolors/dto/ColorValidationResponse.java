@@ -0,0 +1,5 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/** Result of the AJAX hexadecimal color validation */
+public record ColorValidationResponse(boolean valid, String message) {}
@@ -0,0 +1,59 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+import dev.kreaker.kolors.accessibility.ColorVision;
+import dev.kreaker.kolors.accessibility.ColorVisionDeficiency;
+import dev.kreaker.kolors.color.Rgb;
+
+/**
+ * A combination's colors as seen with each color vision deficiency, with the stored smallest
+ * pairwise ΔE and the pair that reaches it
+ */
+public record CombinationColorVisionResponse(Long id, Double minDeltaE,
+         List<Simulation> simulations) {
+
+   /** Simulated colors in position order; the closest pair is given by original hex values */
+   public record Simulation(String deficiency, List<String> colors, Double minDeltaE,
+            String closestFirst, String closestSecond) {}
+
+   public static CombinationColorVisionResponse from(ColorCombination combination) {
+      List<String> hexValues = combination.getColors().stream()
+               .sorted(Comparator.comparing(ColorInCombination::getPosition))
+               .map(ColorInCombination::getHexValue).toList();
+      int[] packed = new int[hexValues.size()];
+      for (int i = 0; i < packed.length; i++) {
+         packed[i] = Rgb.parseHex(hexValues.get(i));
+      }
+      int[] simulated = new int[packed.length];
+      List<Simulation> simulations = new ArrayList<>(3);
+      for (ColorVisionDeficiency deficiency : ColorVisionDeficiency.values()) {
+         ColorVision.simulate(packed, deficiency, simulated);
+         List<String> colors = new ArrayList<>(simulated.length);
+         for (int color : simulated) {
+            colors.add(Rgb.toHex(color));
+         }
+         long pair = ColorVision.closestPair(simulated);
+         simulations.add(new Simulation(deficiency.name(), List.copyOf(colors),
+                  storedScore(combination, deficiency),
+                  pair < 0 ? null : hexValues.get((int) (pair >>> 32)),
+                  pair < 0 ? null : hexValues.get((int) pair)));
+      }
+      return new CombinationColorVisionResponse(combination.getId(),
+               combination.getColorVisionMinDeltaE(), List.copyOf(simulations));
+   }
+
+   private static Double storedScore(ColorCombination combination,
+            ColorVisionDeficiency deficiency) {
+      return switch (deficiency) {
+         case PROTANOPIA -> combination.getProtanopiaMinDeltaE();
+         case DEUTERANOPIA -> combination.getDeuteranopiaMinDeltaE();
+         case TRITANOPIA -> combination.getTritanopiaMinDeltaE();
+      };
+   }
+}
@@ -0,0 +1,49 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+import dev.kreaker.kolors.accessibility.WcagContrast;
+import dev.kreaker.kolors.color.Rgb;
+
+/** WCAG contrast of every color pair of a combination, as stored on write */
+public record CombinationContrastResponse(Long id, Double minContrast, Double maxContrast,
+         Integer aaPairCount, List<ContrastPair> pairs) {
+
+   /** One foreground/background pair; ratios are truncated to two decimals */
+   public record ContrastPair(String first, String second, double ratio, boolean aa,
+            boolean aaa) {}
+
+   public static CombinationContrastResponse from(ColorCombination combination) {
+      List<String> hexValues = combination.getColors().stream()
+               .sorted(Comparator.comparing(ColorInCombination::getPosition))
+               .map(ColorInCombination::getHexValue).toList();
+      double[] ratios = WcagContrast.decode(combination.getContrastMatrix());
+      if (ratios.length != hexValues.size() * (hexValues.size() - 1) / 2) {
+         // Not stored for very large palettes
+         int[] packed = new int[hexValues.size()];
+         for (int i = 0; i < packed.length; i++) {
+            packed[i] = Rgb.parseHex(hexValues.get(i));
+         }
+         ratios = WcagContrast.pairRatios(packed);
+         for (int i = 0; i < ratios.length; i++) {
+            ratios[i] = WcagContrast.truncate(ratios[i]);
+         }
+      }
+      List<ContrastPair> pairs = new ArrayList<>(ratios.length);
+      int k = 0;
+      for (int i = 0; i < hexValues.size(); i++) {
+         for (int j = i + 1; j < hexValues.size(); j++, k++) {
+            pairs.add(new ContrastPair(hexValues.get(i), hexValues.get(j), ratios[k],
+                     ratios[k] >= WcagContrast.AA_NORMAL_TEXT,
+                     ratios[k] >= WcagContrast.AAA_NORMAL_TEXT));
+         }
+      }
+      return new CombinationContrastResponse(combination.getId(), combination.getMinContrast(),
+               combination.getMaxContrast(), combination.getAaPairCount(), List.copyOf(pairs));
+   }
+}
@@ -0,0 +1,12 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.List;
+
+/**
+ * Stored combinations matching a palette: {@code exact} have the same colors in the same order,
+ * {@code sameColors} the same colors in another order, and {@code nearDuplicates} share its
+ * near-duplicate cluster. {@code id} is null when the palette is not a stored combination.
+ */
+public record CombinationDuplicatesResponse(Long id, List<ColorCombinationSummary> exact,
+         List<ColorCombinationSummary> sameColors, List<ColorCombinationSummary> nearDuplicates) {}
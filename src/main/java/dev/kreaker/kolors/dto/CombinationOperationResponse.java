@@ -0,0 +1,19 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/** Result of an AJAX combination operation; {@code combination} is omitted on failure */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CombinationOperationResponse(boolean success, String message,
+         ColorCombinationResponse combination) {
+
+   public static CombinationOperationResponse success(String message,
+            ColorCombinationResponse combination) {
+      return new CombinationOperationResponse(true, message, combination);
+   }
+
+   public static CombinationOperationResponse failure(String message) {
+      return new CombinationOperationResponse(false, message, null);
+   }
+}
@@ -0,0 +1,27 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import dev.kreaker.kolors.ColorCombination;
+
+/** One page of combinations returned by the JSON list and search endpoints */
+public record CombinationPageResponse(List<ColorCombinationResponse> content, int page, int size,
+         long totalElements, int totalPages, boolean hasNext) {
+
+   public static CombinationPageResponse from(Page<ColorCombination> page) {
+      return new CombinationPageResponse(
+               page.getContent().stream().map(ColorCombinationResponse::from).toList(),
+               page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
+               page.hasNext());
+   }
+
+   public static CombinationPageResponse ofSummaries(Page<ColorCombinationSummary> page) {
+      return new CombinationPageResponse(
+               page.getContent().stream().map(ColorCombinationResponse::from).toList(),
+               page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(),
+               page.hasNext());
+   }
+}
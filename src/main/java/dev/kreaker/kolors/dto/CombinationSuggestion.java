@@ -0,0 +1,5 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/** A combination name offered while typing a search */
+public record CombinationSuggestion(Long id, String name) {}
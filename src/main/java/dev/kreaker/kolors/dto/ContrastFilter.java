@@ -0,0 +1,25 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/**
+ * Accessibility bounds for searches; null components are not applied. {@code minPairContrast} is
+ * reached by every pair (4.5 = all pairs AA, 7 = all AAA), {@code bestPairContrast} by at least
+ * one pair, and {@code minAaPairs} is the least number of pairs reaching AA.
+ * {@code minColorVisionDeltaE} is the least ΔE between any two colors under every simulated color
+ * vision deficiency.
+ */
+public record ContrastFilter(Double minPairContrast, Double bestPairContrast, Integer minAaPairs,
+         Double minColorVisionDeltaE) {
+
+   public static final ContrastFilter NONE = new ContrastFilter(null, null, null, null);
+
+   /** WCAG contrast bounds only */
+   public ContrastFilter(Double minPairContrast, Double bestPairContrast, Integer minAaPairs) {
+      this(minPairContrast, bestPairContrast, minAaPairs, null);
+   }
+
+   public boolean isEmpty() {
+      return minPairContrast == null && bestPairContrast == null && minAaPairs == null
+               && minColorVisionDeltaE == null;
+   }
+}
@@ -0,0 +1,12 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/** Request to save a generated harmony as a new combination; space defaults to OKLCH */
+public record HarmonyCombinationRequest(
+         @NotBlank(message = "Name is required") @Size(min = 3, max = 100,
+                  message = "Name must be between 3 and 100 characters") String name,
+         @NotBlank(message = "Seed color is required") String seed,
+         @NotBlank(message = "Harmony type is required") String type, String space) {}
@@ -0,0 +1,7 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.List;
+
+/** One generated harmony palette; colors are hex values in scheme order, seed included */
+public record HarmonyResponse(String type, String space, List<String> colors) {}
@@ -0,0 +1,8 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/**
+ * The name closest to a color: {@code nameHexValue} is the named color itself and {@code deltaE}
+ * its CIELAB ΔE76 distance from {@code hexValue}, 0 for an exact match.
+ */
+public record NearestColorName(String hexValue, String name, String nameHexValue, double deltaE) {}
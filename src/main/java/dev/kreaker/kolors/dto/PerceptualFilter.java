@@ -0,0 +1,25 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+/**
+ * Hue, lightness and chroma bounds for searches; null components are not applied.
+ * {@code hueFrom}/{@code hueTo} (HSL degrees, both or neither) keep combinations with at least one
+ * color in that range, wrapping through 0 when {@code hueFrom > hueTo}. Lightness (OKLCH, 0-100)
+ * and chroma (OKLCH, 0-0.5) bounds apply to the combination's averages, and
+ * {@code maxHueSpread} to the smallest arc holding all its hues.
+ */
+public record PerceptualFilter(Double hueFrom, Double hueTo, Double minLightness,
+         Double maxLightness, Double minChroma, Double maxChroma, Double maxHueSpread) {
+
+   public static final PerceptualFilter NONE =
+            new PerceptualFilter(null, null, null, null, null, null, null);
+
+   public boolean hasHueRange() {
+      return hueFrom != null && hueTo != null;
+   }
+
+   public boolean isEmpty() {
+      return hueFrom == null && hueTo == null && minLightness == null && maxLightness == null
+               && minChroma == null && maxChroma == null && maxHueSpread == null;
+   }
+}
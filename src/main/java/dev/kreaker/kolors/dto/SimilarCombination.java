@@ -0,0 +1,7 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.dto;
+
+import java.util.List;
+
+/** A combination found by palette similarity, with its average ΔE per color to the query */
+public record SimilarCombination(Long id, String name, List<String> colors, double distance) {}
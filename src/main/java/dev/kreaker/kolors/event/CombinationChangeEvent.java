@@ -0,0 +1,30 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.event;
+
+import java.time.Instant;
+
+import dev.kreaker.kolors.ColorCombination;
+
+/**
+ * A committed change to a color combination. Published by {@code ColorCombinationService} once
+ * the transaction that made the change has committed; name, color count and version are those of
+ * the committed state and are null for deletions.
+ */
+public record CombinationChangeEvent(Type type, Long combinationId, String name,
+         Integer colorCount, Long version, Instant occurredAt) {
+
+   /** Kind of change */
+   public enum Type {
+      CREATED, UPDATED, COLOR_ADDED, COLOR_REMOVED, DELETED
+   }
+
+   public static CombinationChangeEvent of(Type type, ColorCombination combination) {
+      return new CombinationChangeEvent(type, combination.getId(), combination.getName(),
+               combination.getColorCount(), combination.getVersion(), Instant.now());
+   }
+
+   public static CombinationChangeEvent deleted(Long combinationId) {
+      return new CombinationChangeEvent(Type.DELETED, combinationId, null, null, null,
+               Instant.now());
+   }
+}
@@ -0,0 +1,303 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.event;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans committed combination changes out to Server-Sent Events subscribers.
+ *
+ * <p>
+ * Publishing never blocks: each subscriber owns a bounded buffer and, when a slow client lets it
+ * fill up, the oldest pending event is dropped in favour of the newest. A virtual thread per
+ * subscriber drains the buffer into its {@link SseEmitter} and sends a keep-alive comment when
+ * idle, so dead connections are noticed. The most recent events are also kept for replay, which
+ * lets a reconnecting {@code EventSource} resume from its {@code Last-Event-ID}.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.events.enabled", havingValue = "true")
+public class CombinationEventBroadcaster {
+
+   private static final Logger logger = LoggerFactory.getLogger(CombinationEventBroadcaster.class);
+
+   /** SSE event name of combination changes */
+   public static final String EVENT_NAME = "combination";
+
+   private final int bufferSize;
+   private final int maxSubscribers;
+   private final long timeoutMs;
+   private final long heartbeatMs;
+   private final int replaySize;
+
+   private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+   // Guards sequence numbering, the replay buffer and fan-out so every subscriber sees one order
+   private final ArrayDeque<SequencedEvent> replay = new ArrayDeque<>();
+   private final AtomicLong sequence = new AtomicLong();
+
+   private final LongAdder published = new LongAdder();
+   private final LongAdder delivered = new LongAdder();
+   private final LongAdder dropped = new LongAdder();
+   private final LongAdder rejected = new LongAdder();
+
+   @Autowired
+   public CombinationEventBroadcaster(@Value("${kolors.events.buffer-size:64}") int bufferSize,
+            @Value("${kolors.events.max-subscribers:256}") int maxSubscribers,
+            @Value("${kolors.events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${kolors.events.heartbeat-ms:25000}") long heartbeatMs,
+            @Value("${kolors.events.replay-size:256}") int replaySize) {
+      if (bufferSize < 1 || maxSubscribers < 1 || heartbeatMs < 1 || replaySize < 0) {
+         throw new IllegalArgumentException("Invalid event stream configuration");
+      }
+      this.bufferSize = bufferSize;
+      this.maxSubscribers = maxSubscribers;
+      this.timeoutMs = timeoutMs;
+      this.heartbeatMs = heartbeatMs;
+      this.replaySize = replaySize;
+      logger.info("Combination event stream enabled (buffer {}, max {} subscribers)", bufferSize,
+               maxSubscribers);
+   }
+
+   /**
+    * Registers a subscriber and returns its emitter. Events newer than {@code lastEventId} that are
+    * still in the replay buffer are queued first.
+    *
+    * @throws IllegalStateException when the subscriber limit has been reached
+    */
+   public SseEmitter subscribe(String lastEventId) {
+      if (subscribers.size() >= maxSubscribers) {
+         rejected.increment();
+         throw new IllegalStateException("Too many event stream subscribers");
+      }
+      SseEmitter emitter = new SseEmitter(timeoutMs);
+      Subscriber subscriber = new Subscriber(emitter);
+      long after = parseEventId(lastEventId);
+      synchronized (replay) {
+         if (after >= 0) {
+            for (SequencedEvent event : replay) {
+               if (event.id() > after) {
+                  subscriber.offer(event);
+               }
+            }
+         }
+         subscribers.add(subscriber);
+      }
+      emitter.onCompletion(subscriber::close);
+      emitter.onTimeout(subscriber::close);
+      emitter.onError(error -> subscriber.close());
+      Thread.ofVirtual().name("sse-subscriber-" + System.identityHashCode(subscriber))
+               .start(subscriber::drain);
+      return emitter;
+   }
+
+   /** Queues a committed change for every subscriber */
+   @EventListener
+   public void publish(CombinationChangeEvent event) {
+      synchronized (replay) {
+         SequencedEvent sequenced = new SequencedEvent(sequence.incrementAndGet(), event);
+         if (replaySize > 0) {
+            if (replay.size() == replaySize) {
+               replay.pollFirst();
+            }
+            replay.addLast(sequenced);
+         }
+         for (Subscriber subscriber : subscribers) {
+            subscriber.offer(sequenced);
+         }
+      }
+      published.increment();
+   }
+
+   /** Gets the number of connected subscribers */
+   public int getSubscriberCount() {
+      return subscribers.size();
+   }
+
+   /** Gets publish, delivery and drop counters */
+   public EventStreamStatistics getStatistics() {
+      return new EventStreamStatistics(subscribers.size(), maxSubscribers, bufferSize,
+               published.sum(), delivered.sum(), dropped.sum(), rejected.sum());
+   }
+
+   @PreDestroy
+   public void shutdown() {
+      for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+         subscriber.close();
+         subscriber.emitter.complete();
+      }
+   }
+
+   private static long parseEventId(String lastEventId) {
+      if (lastEventId == null || lastEventId.isBlank()) {
+         return -1L;
+      }
+      try {
+         return Long.parseLong(lastEventId.trim());
+      } catch (NumberFormatException e) {
+         return -1L;
+      }
+   }
+
+   /** An event with its stream position, sent as the SSE id */
+   private record SequencedEvent(long id, CombinationChangeEvent event) {}
+
+   /** One connected client: a bounded drop-oldest buffer drained by its own virtual thread */
+   private final class Subscriber {
+
+      private final SseEmitter emitter;
+      private final ArrayDeque<SequencedEvent> buffer = new ArrayDeque<>();
+      private final ReentrantLock lock = new ReentrantLock();
+      private final Condition notEmpty = lock.newCondition();
+      private volatile boolean closed;
+
+      Subscriber(SseEmitter emitter) {
+         this.emitter = emitter;
+      }
+
+      void offer(SequencedEvent event) {
+         lock.lock();
+         try {
+            if (closed) {
+               return;
+            }
+            if (buffer.size() == bufferSize) {
+               buffer.pollFirst();
+               dropped.increment();
+            }
+            buffer.addLast(event);
+            notEmpty.signal();
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      /** Waits up to the heartbeat interval for pending events; empty when idle or closed */
+      private List<SequencedEvent> take() throws InterruptedException {
+         lock.lock();
+         try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+            while (buffer.isEmpty() && !closed && nanos > 0) {
+               nanos = notEmpty.awaitNanos(nanos);
+            }
+            List<SequencedEvent> pending = new ArrayList<>(buffer);
+            buffer.clear();
+            return pending;
+         } finally {
+            lock.unlock();
+         }
+      }
+
+      void drain() {
+         try {
+            while (!closed) {
+               List<SequencedEvent> pending = take();
+               if (closed) {
+                  break;
+               }
+               if (pending.isEmpty()) {
+                  emitter.send(SseEmitter.event().comment("keep-alive"));
+                  continue;
+               }
+               for (SequencedEvent event : pending) {
+                  emitter.send(SseEmitter.event().id(Long.toString(event.id())).name(EVENT_NAME)
+                           .data(event.event(), MediaType.APPLICATION_JSON));
+                  delivered.increment();
+               }
+            }
+         } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            logger.debug("Event stream subscriber disconnected: {}", e.getMessage());
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         } finally {
+            close();
+         }
+      }
+
+      void close() {
+         subscribers.remove(this);
+         lock.lock();
+         try {
+            closed = true;
+            buffer.clear();
+            notEmpty.signalAll();
+         } finally {
+            lock.unlock();
+         }
+      }
+   }
+
+   /** Event stream counters */
+   public static class EventStreamStatistics {
+
+      private final int subscriberCount;
+      private final int maxSubscribers;
+      private final int bufferSize;
+      private final long publishedCount;
+      private final long deliveredCount;
+      private final long droppedCount;
+      private final long rejectedCount;
+
+      public EventStreamStatistics(int subscriberCount, int maxSubscribers, int bufferSize,
+               long publishedCount, long deliveredCount, long droppedCount, long rejectedCount) {
+         this.subscriberCount = subscriberCount;
+         this.maxSubscribers = maxSubscribers;
+         this.bufferSize = bufferSize;
+         this.publishedCount = publishedCount;
+         this.deliveredCount = deliveredCount;
+         this.droppedCount = droppedCount;
+         this.rejectedCount = rejectedCount;
+      }
+
+      public int getSubscriberCount() {
+         return subscriberCount;
+      }
+
+      public int getMaxSubscribers() {
+         return maxSubscribers;
+      }
+
+      public int getBufferSize() {
+         return bufferSize;
+      }
+
+      public long getPublishedCount() {
+         return publishedCount;
+      }
+
+      /** Events written to subscribers, summed over all subscribers */
+      public long getDeliveredCount() {
+         return deliveredCount;
+      }
+
+      /** Events discarded because a subscriber's buffer was full */
+      public long getDroppedCount() {
+         return droppedCount;
+      }
+
+      /** Subscriptions refused because the subscriber limit was reached */
+      public long getRejectedCount() {
+         return rejectedCount;
+      }
+   }
+}
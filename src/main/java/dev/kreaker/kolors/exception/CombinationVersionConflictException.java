@@ -0,0 +1,28 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.exception;
+
+/**
+ * Exception thrown when a conditional update (If-Match) targets a combination version that is no
+ * longer current
+ */
+public class CombinationVersionConflictException extends RuntimeException {
+
+   private final Long combinationId;
+   private final Long currentVersion;
+
+   public CombinationVersionConflictException(Long combinationId, Long expectedVersion,
+            Long currentVersion) {
+      super("Color combination " + combinationId + " was modified (expected version "
+               + expectedVersion + ", current version " + currentVersion + ")");
+      this.combinationId = combinationId;
+      this.currentVersion = currentVersion;
+   }
+
+   public Long getCombinationId() {
+      return combinationId;
+   }
+
+   public Long getCurrentVersion() {
+      return currentVersion;
+   }
+}
@@ -0,0 +1,20 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.exception;
+
+/**
+ * Exception thrown when a new combination repeats the colors, in the same order, of an existing
+ * one and duplicates are rejected
+ */
+public class DuplicatePaletteException extends ColorCombinationValidationException {
+
+   private final Long existingId;
+
+   public DuplicatePaletteException(Long existingId, String existingName) {
+      super("The same palette already exists as '" + existingName + "' (ID " + existingId + ")");
+      this.existingId = existingId;
+   }
+
+   public Long getExistingId() {
+      return existingId;
+   }
+}
@@ -0,0 +1,122 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.harmony;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+
+/**
+ * Generates harmony palettes from a seed color, in HSL or OKLCH.
+ *
+ * <p>
+ * Colors are packed {@code 0xRRGGBB} ints converted with {@link ColorSpaces}; the seed's
+ * components go into a caller-owned scratch buffer, so generating into reused arrays allocates
+ * nothing. The seed is always part of the palette and is returned unchanged, never round-tripped
+ * through the color space.
+ */
+public final class HarmonyGenerator {
+
+   /** Doubles a scratch buffer needs to hold the seed's components */
+   public static final int SCRATCH_LENGTH = 3;
+
+   // Lightness range of monochromatic ramps, per space
+   private static final double HSL_MIN_LIGHTNESS = 0.12;
+   private static final double HSL_MAX_LIGHTNESS = 0.92;
+   private static final double OKLCH_MIN_LIGHTNESS = 0.30;
+   private static final double OKLCH_MAX_LIGHTNESS = 0.95;
+
+   private HarmonyGenerator() {}
+
+   /**
+    * Writes the palette of {@code type} for {@code seed} into {@code out} and returns the number
+    * of colors written ({@link HarmonyType#size()}). {@code scratch} needs
+    * {@link #SCRATCH_LENGTH} doubles and its contents are overwritten.
+    */
+   public static int generate(int seed, HarmonyType type, HarmonySpace space, int[] out,
+            double[] scratch) {
+      if (out.length < type.size()) {
+         throw new IllegalArgumentException("Output needs room for " + type.size() + " colors");
+      }
+      if (scratch.length < SCRATCH_LENGTH) {
+         throw new IllegalArgumentException("Scratch needs room for " + SCRATCH_LENGTH + " values");
+      }
+      int rgb = seed & 0xFFFFFF;
+      return space == HarmonySpace.HSL ? generateHsl(rgb, type, out, scratch)
+               : generateOklch(rgb, type, out, scratch);
+   }
+
+   private static int generateHsl(int seed, HarmonyType type, int[] out, double[] scratch) {
+      ColorSpaces.toHsl(seed, scratch, 0);
+      double hue = scratch[0];
+      double saturation = scratch[1];
+      double lightness = scratch[2];
+
+      int count = type.size();
+      if (type == HarmonyType.MONOCHROMATIC) {
+         double seedLightness = clamp(lightness, HSL_MIN_LIGHTNESS, HSL_MAX_LIGHTNESS);
+         int darker = darkerSteps(seedLightness, HSL_MIN_LIGHTNESS, HSL_MAX_LIGHTNESS, count);
+         for (int i = 0; i < count; i++) {
+            out[i] = i == darker ? seed
+                     : ColorSpaces.fromHsl(hue, saturation, rampLightness(i, darker, count,
+                              seedLightness, HSL_MIN_LIGHTNESS, HSL_MAX_LIGHTNESS));
+         }
+         return count;
+      }
+      for (int i = 0; i < count; i++) {
+         double offset = type.hueOffset(i);
+         out[i] = offset == 0 ? seed : ColorSpaces.fromHsl(hue + offset, saturation, lightness);
+      }
+      return count;
+   }
+
+   /**
+    * Works on the seed's OKLab a and b: a ramp keeps them as they are and a hue offset rotates
+    * them, which avoids the polar round trip through atan2, cos and sin.
+    */
+   private static int generateOklch(int seed, HarmonyType type, int[] out, double[] scratch) {
+      ColorSpaces.toOklab(seed, scratch, 0);
+      double lightness = scratch[0];
+      double a = scratch[1];
+      double b = scratch[2];
+
+      int count = type.size();
+      if (type == HarmonyType.MONOCHROMATIC) {
+         double seedLightness = clamp(lightness, OKLCH_MIN_LIGHTNESS, OKLCH_MAX_LIGHTNESS);
+         int darker = darkerSteps(seedLightness, OKLCH_MIN_LIGHTNESS, OKLCH_MAX_LIGHTNESS, count);
+         for (int i = 0; i < count; i++) {
+            out[i] = i == darker ? seed
+                     : ColorSpaces.fromOklabInGamut(rampLightness(i, darker, count,
+                              seedLightness, OKLCH_MIN_LIGHTNESS, OKLCH_MAX_LIGHTNESS), a, b);
+         }
+         return count;
+      }
+      for (int i = 0; i < count; i++) {
+         double offset = type.hueOffset(i);
+         if (offset == 0) {
+            out[i] = seed;
+            continue;
+         }
+         double radians = Math.toRadians(offset);
+         double cos = Math.cos(radians);
+         double sin = Math.sin(radians);
+         out[i] = ColorSpaces.fromOklabInGamut(lightness, a * cos - b * sin, a * sin + b * cos);
+      }
+      return count;
+   }
+
+   /** Number of ramp colors darker than the seed, proportional to the room below it */
+   private static int darkerSteps(double seedLightness, double min, double max, int count) {
+      return (int) Math.round((count - 1) * (seedLightness - min) / (max - min));
+   }
+
+   /** Lightness of ramp color {@code index}; colors are evenly spaced on each side of the seed */
+   private static double rampLightness(int index, int darker, int count, double seedLightness,
+            double min, double max) {
+      if (index < darker) {
+         return seedLightness - (darker - index) * (seedLightness - min) / darker;
+      }
+      return seedLightness + (index - darker) * (max - seedLightness) / (count - 1 - darker);
+   }
+
+   private static double clamp(double value, double min, double max) {
+      return Math.max(min, Math.min(max, value));
+   }
+}
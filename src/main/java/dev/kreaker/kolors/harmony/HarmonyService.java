@@ -0,0 +1,68 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.harmony;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.exception.InvalidColorFormatException;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Proposes harmony palettes for a seed color and saves them as combinations */
+@Service
+public class HarmonyService {
+
+   private static final Logger logger = LoggerFactory.getLogger(HarmonyService.class);
+
+   private final ColorCombinationService colorCombinationService;
+
+   public HarmonyService(ColorCombinationService colorCombinationService) {
+      this.colorCombinationService = colorCombinationService;
+   }
+
+   /** Generates one scheme as hex values (without {@code #}), seed included */
+   public List<String> generate(String seedHex, HarmonyType type, HarmonySpace space) {
+      int[] colors = new int[type.size()];
+      int count = HarmonyGenerator.generate(parseSeed(seedHex), type, space, colors,
+               new double[HarmonyGenerator.SCRATCH_LENGTH]);
+      List<String> hexValues = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         hexValues.add(Rgb.toHex(colors[i]));
+      }
+      return hexValues;
+   }
+
+   /** Builds the form of a combination holding one generated scheme, colors in scheme order */
+   public ColorCombinationForm toForm(String name, String seedHex, HarmonyType type,
+            HarmonySpace space) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>(type.size());
+      for (String hexValue : generate(seedHex, type, space)) {
+         colors.add(new ColorForm(hexValue, colors.size() + 1));
+      }
+      form.setColors(colors);
+      return form;
+   }
+
+   /** Generates one scheme and saves it through {@link ColorCombinationService} */
+   public ColorCombination createFromSeed(String name, String seedHex, HarmonyType type,
+            HarmonySpace space) {
+      logger.info("Creating {} {} combination '{}' from seed {}", space, type, name, seedHex);
+      return colorCombinationService.createCombination(toForm(name, seedHex, type, space));
+   }
+
+   private int parseSeed(String seedHex) {
+      String hex = seedHex != null && seedHex.startsWith("#") ? seedHex.substring(1) : seedHex;
+      if (!colorCombinationService.isValidHexColor(hex)) {
+         throw InvalidColorFormatException.forHexValue(seedHex);
+      }
+      return Rgb.parseHex(hex);
+   }
+}
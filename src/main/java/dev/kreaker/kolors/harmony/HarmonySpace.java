@@ -0,0 +1,23 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.harmony;
+
+import java.util.Locale;
+
+/** Color space in which hues are rotated and lightness is stepped */
+public enum HarmonySpace {
+
+   /** Classic color wheel; fast, but equal steps do not look equally different */
+   HSL,
+
+   /** Perceptual space: rotations keep lightness and chroma, out-of-gamut chroma is reduced */
+   OKLCH;
+
+   /** Parses a space name, ignoring case */
+   public static HarmonySpace fromName(String name) {
+      try {
+         return valueOf(name.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException | NullPointerException e) {
+         throw new IllegalArgumentException("Unknown color space: " + name);
+      }
+   }
+}
@@ -0,0 +1,42 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.harmony;
+
+import java.util.Locale;
+
+/**
+ * Color harmony schemes. Hue-based schemes rotate the seed hue by fixed offsets (in degrees), in
+ * output order; the monochromatic scheme keeps the hue and spreads lightness instead.
+ */
+public enum HarmonyType {
+   COMPLEMENTARY(0, 180),
+   SPLIT_COMPLEMENTARY(0, 150, 210),
+   TRIADIC(0, 120, 240),
+   TETRADIC(0, 60, 180, 240),
+   ANALOGOUS(-60, -30, 0, 30, 60),
+   MONOCHROMATIC(0, 0, 0, 0, 0);
+
+   private final double[] hueOffsets;
+
+   HarmonyType(double... hueOffsets) {
+      this.hueOffsets = hueOffsets;
+   }
+
+   /** Number of colors generated, seed included */
+   public int size() {
+      return hueOffsets.length;
+   }
+
+   /** Hue rotation of the color at {@code index}, in degrees */
+   public double hueOffset(int index) {
+      return hueOffsets[index];
+   }
+
+   /** Parses a scheme name, ignoring case and accepting dashes for underscores */
+   public static HarmonyType fromName(String name) {
+      try {
+         return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException | NullPointerException e) {
+         throw new IllegalArgumentException("Unknown harmony type: " + name);
+      }
+   }
+}
@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 import dev.kreaker.kolors.ColorCombination;
 import dev.kreaker.kolors.ColorCombinationRepository;
 import dev.kreaker.kolors.ColorInCombination;
+import dev.kreaker.kolors.backup.DatabaseBackupService;
+import dev.kreaker.kolors.backup.DatabaseBackupService.BackupFile;
 
 /**
  * Service responsible for post-migration cleanup and validation. Legacy migration functionality has
@@ -29,6 +32,9 @@ public class DatabaseMigrationService {
    @Autowired
    private ColorCombinationRepository colorCombinationRepository;
 
+   @Autowired
+   private ObjectProvider<DatabaseBackupService> backupServiceProvider;
+
    private MigrationStatus currentStatus = MigrationStatus.COMPLETED;
    private MigrationResult lastMigrationResult;
 
@@ -234,14 +240,19 @@ public class DatabaseMigrationService {
       return stats;
    }
 
-   /** Creates backup of current color combination data */
+   /**
+    * Snapshots the database through the online backup service before validation; false when
+    * backups are disabled or the backup fails
+    */
    public boolean createBackup() {
+      DatabaseBackupService backupService = backupServiceProvider.getIfAvailable();
+      if (backupService == null) {
+         logger.warn("Database backups are disabled (kolors.backup.enabled); no backup created");
+         return false;
+      }
       try {
-         logger.info("Creating backup of color combination data...");
-
-         List<ColorCombination> currentData = colorCombinationRepository.findAll();
-         logger.info("Backup available for {} color combinations", currentData.size());
-
+         BackupFile backup = backupService.backup();
+         logger.info("Database backed up to {} before validation", backup.name());
          return true;
       } catch (Exception e) {
          logger.error("Failed to create backup: {}", e.getMessage());
@@ -0,0 +1,121 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.naming;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+
+/**
+ * The nearest name of every 24-bit color, precomputed: one entry per packed RGB value holding a
+ * name index, one byte wide for up to 256 names and two bytes above that (16 or 32 MiB).
+ *
+ * <p>
+ * Entries are filled from a {@link LabIndex}, one red plane of 65536 colors per task in
+ * parallel. The table lives either on the heap or in a file that is memory-mapped read-only; a
+ * file is written under a temporary name and moved into place when complete, so a later start with
+ * the same name list maps it without recomputing. Immutable and thread-safe once built.
+ */
+final class ColorNameTable {
+
+   static final int ENTRIES = 1 << 24;
+
+   private static final int PLANE = 1 << 16;
+
+   private final ByteBuffer entries;
+   private final int width;
+   private final boolean mapped;
+
+   private ColorNameTable(ByteBuffer entries, int width, boolean mapped) {
+      this.entries = entries;
+      this.width = width;
+      this.mapped = mapped;
+   }
+
+   /** Bytes per entry for a list of the given size */
+   static int widthFor(int nameCount) {
+      if (nameCount > 1 << 16) {
+         throw new IllegalArgumentException("At most 65536 color names are supported");
+      }
+      return nameCount <= 1 << 8 ? 1 : 2;
+   }
+
+   /** Computes the table on the heap */
+   static ColorNameTable build(LabIndex index) {
+      int width = widthFor(index.size());
+      ByteBuffer entries = ByteBuffer.allocate(ENTRIES * width);
+      fill(entries, index, width);
+      return new ColorNameTable(entries.asReadOnlyBuffer(), width, false);
+   }
+
+   /** Maps {@code file}, computing and writing it first unless a complete one is already there */
+   static ColorNameTable open(Path file, LabIndex index) throws IOException {
+      int width = widthFor(index.size());
+      long size = (long) ENTRIES * width;
+      if (!Files.isRegularFile(file) || Files.size(file) != size) {
+         Files.createDirectories(file.toAbsolutePath().getParent());
+         Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(),
+                  file.getFileName().toString(), ".tmp");
+         try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE)) {
+               MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+               fill(buffer, index, width);
+               buffer.force();
+            }
+            try {
+               Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+               Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+         } finally {
+            Files.deleteIfExists(temporary);
+         }
+      }
+      // The mapping stays valid after the channel is closed
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+         return new ColorNameTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), width,
+                  true);
+      }
+   }
+
+   private static void fill(ByteBuffer entries, LabIndex index, int width) {
+      IntStream.range(0, 256).parallel().forEach(red -> {
+         // Each task writes its own slice, so no two threads share a buffer position
+         ByteBuffer plane = entries.slice(red * PLANE * width, PLANE * width);
+         float[] lab = new float[3];
+         for (int greenBlue = 0; greenBlue < PLANE; greenBlue++) {
+            ColorSpaces.toLab(red << 16 | greenBlue, lab, 0);
+            int name = index.nearest(lab[0], lab[1], lab[2]);
+            if (width == 1) {
+               plane.put(greenBlue, (byte) name);
+            } else {
+               plane.putChar(greenBlue * 2, (char) name);
+            }
+         }
+      });
+   }
+
+   /** Name index of a packed RGB color */
+   int nameIndex(int rgb) {
+      int offset = rgb & 0xFFFFFF;
+      return width == 1 ? entries.get(offset) & 0xFF : entries.getChar(offset * 2);
+   }
+
+   boolean isMapped() {
+      return mapped;
+   }
+
+   long sizeInBytes() {
+      return (long) ENTRIES * width;
+   }
+}
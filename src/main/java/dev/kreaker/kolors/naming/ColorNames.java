@@ -0,0 +1,279 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.naming;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+import dev.kreaker.kolors.color.DeltaEKernel;
+import dev.kreaker.kolors.color.DeltaEKernels;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorName;
+import dev.kreaker.kolors.dto.NearestColorName;
+
+/**
+ * Human-readable names for colors, from lists of {@code name RRGGBB} lines loaded at startup.
+ *
+ * <ul>
+ * <li>{@link #nearest(int)} finds the name whose color is closest in CIELAB. With
+ * {@code kolors.color-names.table.enabled} the first lookup starts building a
+ * {@link ColorNameTable} of all 2<sup>24</sup> colors in the background, memory-mapped from
+ * {@code table.directory} when one is set; once it is ready every lookup is one array read. Until
+ * then, and always when the table is disabled, a search over the named colors answers: a
+ * {@link LabScan} through the preferred {@link DeltaEKernel} for up to {@value #SCAN_LIMIT}
+ * names, a {@link LabKdTree} for longer lists.
+ * <li>{@link #resolve(String)} and {@link #search(String, int)} go the other way, from a name
+ * (case, spaces, hyphens and underscores ignored) to its color.
+ * </ul>
+ *
+ * <p>
+ * Templates call it as {@code @colorNames}, so the bean keeps that name however it is registered.
+ */
+@Component("colorNames")
+public class ColorNames {
+
+   private static final Logger logger = LoggerFactory.getLogger(ColorNames.class);
+
+   // Beyond this many names the k-d tree, logarithmic in the list size, beats a linear scan
+   static final int SCAN_LIMIT = 1024;
+
+   /** Table build progress */
+   public enum TableState {
+      DISABLED, PENDING, BUILDING, READY, FAILED
+   }
+
+   private final String[] names;
+   private final int[] colors;
+   private final float[] lab;
+   private final Map<String, Integer> byKey = new HashMap<>();
+   private final String[] keys;
+   private final LabIndex search;
+   private final Path tableFile;
+
+   private final AtomicBoolean tableRequested = new AtomicBoolean();
+   private volatile ColorNameTable table;
+   private volatile TableState tableState;
+   private volatile long tableBuildMs;
+   private final LongAdder tableLookups = new LongAdder();
+   private final LongAdder searchLookups = new LongAdder();
+
+   @Autowired
+   public ColorNames(ResourceLoader resourceLoader,
+            @Value("${kolors.color-names.resources:classpath:color-names/css.txt}")
+            String[] resources,
+            @Value("${kolors.color-names.table.enabled:false}") boolean tableEnabled,
+            @Value("${kolors.color-names.table.directory:}") String tableDirectory) {
+      List<String> loadedNames = new ArrayList<>();
+      List<Integer> loadedColors = new ArrayList<>();
+      for (String location : resources) {
+         load(resourceLoader.getResource(location.trim()), loadedNames, loadedColors);
+      }
+      if (loadedNames.isEmpty()) {
+         throw new IllegalArgumentException("No color names were loaded");
+      }
+      names = loadedNames.toArray(String[]::new);
+      colors = loadedColors.stream().mapToInt(Integer::intValue).toArray();
+      keys = new String[names.length];
+      lab = new float[names.length * 3];
+      for (int i = 0; i < names.length; i++) {
+         keys[i] = key(names[i]);
+         byKey.put(keys[i], i);
+         ColorSpaces.toLab(colors[i], lab, i * 3);
+      }
+      search = names.length <= SCAN_LIMIT ? new LabScan(lab, DeltaEKernels.preferred())
+               : new LabKdTree(lab);
+      // Fails at startup rather than at the first lookup when the list is too long for the table
+      ColorNameTable.widthFor(names.length);
+      tableFile = tableDirectory.isBlank() ? null
+               : Path.of(tableDirectory).resolve("color-names-" + listHash() + ".bin");
+      tableState = tableEnabled ? TableState.PENDING : TableState.DISABLED;
+      logger.info("Loaded {} color names from {}", names.length, String.join(", ", resources));
+   }
+
+   private void load(Resource resource, List<String> loadedNames, List<Integer> loadedColors) {
+      Set<String> seen = new HashSet<>(loadedNames.stream().map(ColorNames::key).toList());
+      try (BufferedReader reader = new BufferedReader(
+               new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+         String line;
+         int number = 0;
+         while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+               continue;
+            }
+            // The last token is the color, so names may contain spaces
+            int split = line.lastIndexOf(' ');
+            String hex = split > 0 ? line.substring(split + 1) : "";
+            String name = split > 0 ? line.substring(0, split).trim() : "";
+            if (!Rgb.isHex(hex) || key(name).isEmpty()) {
+               throw new IllegalArgumentException(
+                        "Invalid color name at " + resource.getDescription() + " line " + number);
+            }
+            // A name repeated by a later list keeps its first color
+            if (seen.add(key(name))) {
+               loadedNames.add(name);
+               loadedColors.add(Rgb.parseHex(hex));
+            }
+         }
+      } catch (IOException e) {
+         throw new IllegalArgumentException(
+                  "Cannot read color names from " + resource.getDescription(), e);
+      }
+   }
+
+   /** Lookup form of a name: lower case without spaces, hyphens or underscores */
+   private static String key(String name) {
+      StringBuilder key = new StringBuilder(name.length());
+      for (int i = 0; i < name.length(); i++) {
+         char c = name.charAt(i);
+         if (c != ' ' && c != '-' && c != '_') {
+            key.append(Character.toLowerCase(c));
+         }
+      }
+      return key.toString();
+   }
+
+   // Names the table file after the list, so a changed list never maps a stale table
+   private String listHash() {
+      long hash = 0x9E3779B97F4A7C15L;
+      for (int i = 0; i < names.length; i++) {
+         hash = (hash ^ names[i].hashCode()) * 0x100000001B3L;
+         hash = (hash ^ colors[i]) * 0x100000001B3L;
+      }
+      return Long.toHexString(hash);
+   }
+
+   /** Number of loaded names */
+   public int size() {
+      return names.length;
+   }
+
+   /** Nearest name of a packed RGB color */
+   public NearestColorName nearest(int rgb) {
+      int packed = rgb & 0xFFFFFF;
+      int index = nearestIndex(packed);
+      float[] color = new float[3];
+      ColorSpaces.toLab(packed, color, 0);
+      double dl = color[0] - lab[index * 3];
+      double da = color[1] - lab[index * 3 + 1];
+      double db = color[2] - lab[index * 3 + 2];
+      double deltaE = Math.round(Math.sqrt(dl * dl + da * da + db * db) * 100) / 100.0;
+      return new NearestColorName(Rgb.toHex(packed), names[index], Rgb.toHex(colors[index]),
+               deltaE);
+   }
+
+   /** Nearest name of a hex color, or null when the value is not a hex color (for templates) */
+   public String nearestName(String hexValue) {
+      return Rgb.isHex(hexValue) ? names[nearestIndex(Rgb.parseHex(hexValue))] : null;
+   }
+
+   private int nearestIndex(int rgb) {
+      ColorNameTable current = table;
+      if (current != null) {
+         tableLookups.increment();
+         return current.nameIndex(rgb);
+      }
+      if (tableState == TableState.PENDING && tableRequested.compareAndSet(false, true)) {
+         Thread.ofVirtual().name("color-name-table").start(this::buildTable);
+      }
+      searchLookups.increment();
+      float[] color = new float[3];
+      ColorSpaces.toLab(rgb, color, 0);
+      return search.nearest(color[0], color[1], color[2]);
+   }
+
+   /** Builds or maps the lookup table on the calling thread unless it is already there */
+   public synchronized void buildTable() {
+      if (table != null) {
+         return;
+      }
+      long start = System.nanoTime();
+      tableState = TableState.BUILDING;
+      try {
+         table = tableFile != null ? ColorNameTable.open(tableFile, search)
+                  : ColorNameTable.build(search);
+         tableBuildMs = (System.nanoTime() - start) / 1_000_000;
+         tableState = TableState.READY;
+         logger.info("Color name table ready in {} ms ({})", tableBuildMs,
+                  tableFile != null ? "mapped from " + tableFile : "on the heap");
+      } catch (IOException | RuntimeException e) {
+         tableState = TableState.FAILED;
+         logger.error("Error building the color name table; the search keeps answering", e);
+      }
+   }
+
+   /** Color of a name, ignoring case, spaces, hyphens and underscores */
+   public OptionalInt resolve(String name) {
+      Integer index = name == null ? null : byKey.get(key(name));
+      return index == null ? OptionalInt.empty() : OptionalInt.of(colors[index]);
+   }
+
+   /**
+    * Names containing the query: the exact name first, then names starting with it, then the
+    * rest, shorter names first within each group
+    */
+   public List<ColorName> search(String query, int limit) {
+      String wanted = query == null ? "" : key(query);
+      if (wanted.isEmpty()) {
+         throw new IllegalArgumentException("Query cannot be blank");
+      }
+      if (limit < 1) {
+         throw new IllegalArgumentException("Limit must be positive");
+      }
+      List<Integer> matches = new ArrayList<>();
+      for (int i = 0; i < keys.length; i++) {
+         if (keys[i].contains(wanted)) {
+            matches.add(i);
+         }
+      }
+      matches.sort(Comparator
+               .comparingInt((Integer i) -> keys[i].equals(wanted) ? 0
+                        : keys[i].startsWith(wanted) ? 1 : 2)
+               .thenComparingInt(i -> keys[i].length()).thenComparing(i -> keys[i]));
+      return matches.stream().limit(limit)
+               .map(i -> new ColorName(names[i], Rgb.toHex(colors[i]))).toList();
+   }
+
+   /** Gets list size, table state and lookup counters */
+   public ColorNameStatistics getStatistics() {
+      ColorNameTable current = table;
+      return new ColorNameStatistics(names.length, tableState,
+               current != null && current.isMapped(),
+               current != null ? current.sizeInBytes() : 0L, tableBuildMs, tableLookups.sum(),
+               searchMethod(), searchLookups.sum());
+   }
+
+   private String searchMethod() {
+      return search instanceof LabScan scan ? "scan (" + scan.kernelName() + ")" : "k-d tree";
+   }
+
+   /**
+    * Color name list size, table state and lookup counters; search lookups are those answered
+    * without the table
+    */
+   public record ColorNameStatistics(int names, TableState tableState, boolean tableMapped,
+            long tableBytes, long tableBuildMs, long tableLookups, String searchMethod,
+            long searchLookups) {}
+}
@@ -0,0 +1,12 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.naming;
+
+/** Nearest-point lookup over a fixed set of CIELAB points, the lowest index winning ties */
+interface LabIndex {
+
+   /** Number of points */
+   int size();
+
+   /** Index of the point nearest to the given CIELAB color by ΔE76 */
+   int nearest(float l, float a, float b);
+}
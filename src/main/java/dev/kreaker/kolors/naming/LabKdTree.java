@@ -0,0 +1,96 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.naming;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Static k-d tree over CIELAB points answering nearest-point queries by squared ΔE76.
+ *
+ * <p>
+ * Built once by median splits on L, a and b in turn and stored flat: the node of a range is its
+ * middle element, so no child pointers are kept. Ties go to the lowest point index, so when
+ * several names share a color the one listed first wins. Immutable and thread-safe once built.
+ */
+final class LabKdTree implements LabIndex {
+
+   // Node i occupies points[3i..3i+2] and belongs to input point ids[i]
+   private final float[] points;
+   private final int[] ids;
+
+   /** Tree over {@code lab.length / 3} points stored as consecutive L, a, b triples */
+   LabKdTree(float[] lab) {
+      int count = lab.length / 3;
+      if (count == 0) {
+         throw new IllegalArgumentException("At least one point is required");
+      }
+      Integer[] order = new Integer[count];
+      Arrays.setAll(order, i -> i);
+      build(lab, order, 0, count, 0);
+      points = new float[count * 3];
+      ids = new int[count];
+      for (int i = 0; i < count; i++) {
+         ids[i] = order[i];
+         System.arraycopy(lab, order[i] * 3, points, i * 3, 3);
+      }
+   }
+
+   private static void build(float[] lab, Integer[] order, int from, int to, int axis) {
+      if (to - from < 2) {
+         return;
+      }
+      Arrays.sort(order, from, to,
+               Comparator.comparingDouble((Integer i) -> lab[i * 3 + axis]).thenComparing(i -> i));
+      int middle = (from + to) >>> 1;
+      build(lab, order, from, middle, (axis + 1) % 3);
+      build(lab, order, middle + 1, to, (axis + 1) % 3);
+   }
+
+   @Override
+   public int size() {
+      return ids.length;
+   }
+
+   @Override
+   public int nearest(float l, float a, float b) {
+      Nearest nearest = new Nearest();
+      search(l, a, b, 0, ids.length, 0, nearest);
+      return nearest.id;
+   }
+
+   private void search(float l, float a, float b, int from, int to, int axis, Nearest nearest) {
+      if (from >= to) {
+         return;
+      }
+      int middle = (from + to) >>> 1;
+      int p = middle * 3;
+      float dl = l - points[p];
+      float da = a - points[p + 1];
+      float db = b - points[p + 2];
+      float distance = dl * dl + da * da + db * db;
+      if (distance < nearest.distance
+               || (distance == nearest.distance && ids[middle] < nearest.id)) {
+         nearest.distance = distance;
+         nearest.id = ids[middle];
+      }
+      float split = axis == 0 ? dl : axis == 1 ? da : db;
+      int next = (axis + 1) % 3;
+      if (split < 0) {
+         search(l, a, b, from, middle, next, nearest);
+         if (split * split <= nearest.distance) {
+            search(l, a, b, middle + 1, to, next, nearest);
+         }
+      } else {
+         search(l, a, b, middle + 1, to, next, nearest);
+         if (split * split <= nearest.distance) {
+            search(l, a, b, from, middle, next, nearest);
+         }
+      }
+   }
+
+   private static final class Nearest {
+
+      private float distance = Float.POSITIVE_INFINITY;
+      private int id = Integer.MAX_VALUE;
+   }
+}
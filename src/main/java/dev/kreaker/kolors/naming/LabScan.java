@@ -0,0 +1,48 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.naming;
+
+import dev.kreaker.kolors.color.DeltaEKernel;
+
+/**
+ * Exhaustive nearest-point search through a {@link DeltaEKernel}. For a few hundred points a
+ * vectorized scan beats walking a {@link LabKdTree}, whose branches do not vectorize.
+ * Immutable and thread-safe.
+ */
+final class LabScan implements LabIndex {
+
+   private final float[] ls;
+   private final float[] as;
+   private final float[] bs;
+   private final DeltaEKernel kernel;
+
+   /** Scan over {@code lab.length / 3} points stored as consecutive L, a, b triples */
+   LabScan(float[] lab, DeltaEKernel kernel) {
+      int count = lab.length / 3;
+      if (count == 0) {
+         throw new IllegalArgumentException("At least one point is required");
+      }
+      ls = new float[count];
+      as = new float[count];
+      bs = new float[count];
+      for (int i = 0; i < count; i++) {
+         ls[i] = lab[i * 3];
+         as[i] = lab[i * 3 + 1];
+         bs[i] = lab[i * 3 + 2];
+      }
+      this.kernel = kernel;
+   }
+
+   @Override
+   public int size() {
+      return ls.length;
+   }
+
+   @Override
+   public int nearest(float l, float a, float b) {
+      return kernel.nearest(l, a, b, ls, as, bs, ls.length);
+   }
+
+   String kernelName() {
+      return kernel.name();
+   }
+}
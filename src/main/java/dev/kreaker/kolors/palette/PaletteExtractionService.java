@@ -0,0 +1,211 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.palette;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Turns an uploaded image into a combination form holding its dominant colors.
+ *
+ * <p>
+ * The image is subsampled by the decoder itself ({@link ImageReadParam#setSourceSubsampling}),
+ * with the step chosen from the header dimensions so the decoded raster never exceeds
+ * {@code max-pixels}; a 12-megapixel photo is read as about 250,000 pixels and never held at full
+ * size. Images whose header declares more than {@code max-source-pixels} are rejected before
+ * decoding. Histogram counting runs on a dedicated fork/join pool.
+ */
+@Service
+@ConditionalOnProperty(name = "kolors.extract.enabled", havingValue = "true")
+public class PaletteExtractionService {
+
+   private static final Logger logger = LoggerFactory.getLogger(PaletteExtractionService.class);
+
+   private final int maxPixels;
+   private final long maxSourcePixels;
+   private final ForkJoinPool pool;
+
+   private final LongAdder extractions = new LongAdder();
+   private final LongAdder rejected = new LongAdder();
+   private final LongAdder decodeNanos = new LongAdder();
+   private final LongAdder clusterNanos = new LongAdder();
+
+   @Autowired
+   public PaletteExtractionService(@Value("${kolors.extract.max-pixels:262144}") int maxPixels,
+            @Value("${kolors.extract.max-source-pixels:100000000}") long maxSourcePixels,
+            @Value("${kolors.extract.parallelism:0}") int parallelism) {
+      if (maxPixels < 1 || maxSourcePixels < 1 || parallelism < 0) {
+         throw new IllegalArgumentException("Invalid palette extraction configuration");
+      }
+      this.maxPixels = maxPixels;
+      this.maxSourcePixels = maxSourcePixels;
+      this.pool = new ForkJoinPool(
+               parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+      logger.info("Palette extraction enabled (max {} sampled pixels, parallelism {})", maxPixels,
+               pool.getParallelism());
+   }
+
+   /**
+    * Builds an unsaved combination form with up to {@code colorCount} dominant colors of the
+    * image, most common first.
+    *
+    * @throws IllegalArgumentException for an unreadable or oversized image, a fully transparent
+    *            one, or a color count outside 1–10
+    */
+   public ColorCombinationForm extract(InputStream image, String name, int colorCount)
+            throws IOException {
+      if (colorCount < PaletteExtractor.MIN_COLORS || colorCount > PaletteExtractor.MAX_COLORS) {
+         throw new IllegalArgumentException("Color count must be between "
+                  + PaletteExtractor.MIN_COLORS + " and " + PaletteExtractor.MAX_COLORS);
+      }
+      long start = System.nanoTime();
+      int[] pixels = decode(image);
+      long decoded = System.nanoTime();
+      int[] colors = new int[colorCount];
+      int count = PaletteExtractor.extract(pixels, pixels.length, colorCount, pool, colors);
+      if (count == 0) {
+         rejected.increment();
+         throw new IllegalArgumentException("The image has no opaque pixels");
+      }
+      clusterNanos.add(System.nanoTime() - decoded);
+      decodeNanos.add(decoded - start);
+      extractions.increment();
+
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colorForms = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         colorForms.add(new ColorForm(Rgb.toHex(colors[i]), i + 1));
+      }
+      form.setColors(colorForms);
+      return form;
+   }
+
+   /** Decodes at most {@code max-pixels} ARGB pixels, subsampling evenly in both directions */
+   int[] decode(InputStream image) throws IOException {
+      try (ImageInputStream input = new MemoryCacheImageInputStream(image)) {
+         Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+         if (!readers.hasNext()) {
+            rejected.increment();
+            throw new IllegalArgumentException("Unsupported image format");
+         }
+         ImageReader reader = readers.next();
+         try {
+            reader.setInput(input, true, true);
+            int sourceWidth = reader.getWidth(0);
+            int sourceHeight = reader.getHeight(0);
+            long sourcePixels = (long) sourceWidth * sourceHeight;
+            if (sourcePixels < 1 || sourcePixels > maxSourcePixels) {
+               rejected.increment();
+               throw new IllegalArgumentException(
+                        "Image must have between 1 and " + maxSourcePixels + " pixels");
+            }
+            int step = subsamplingStep(sourceWidth, sourceHeight, maxPixels);
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(step, step, 0, 0);
+            BufferedImage decoded = reader.read(0, param);
+            int width = decoded.getWidth();
+            int height = decoded.getHeight();
+            return decoded.getRGB(0, 0, width, height, new int[width * height], 0, width);
+
+         } catch (IIOException e) {
+            rejected.increment();
+            throw new IllegalArgumentException("Unreadable image: " + e.getMessage(), e);
+
+         } finally {
+            reader.dispose();
+         }
+      }
+   }
+
+   /** Smallest step whose subsampled image fits in {@code maxPixels} */
+   static int subsamplingStep(int width, int height, int maxPixels) {
+      int step = Math.max(1, (int) Math.sqrt((double) width * height / maxPixels));
+      // The decoder keeps a partial last row and column, so the estimate can be one short
+      while ((long) ((width + step - 1) / step) * ((height + step - 1) / step) > maxPixels) {
+         step++;
+      }
+      return step;
+   }
+
+   /** Gets extraction counters and average timings */
+   public ExtractionStatistics getStatistics() {
+      return new ExtractionStatistics(extractions.sum(), rejected.sum(), decodeNanos.sum(),
+               clusterNanos.sum(), maxPixels, pool.getParallelism());
+   }
+
+   @PreDestroy
+   public void shutdown() {
+      pool.shutdown();
+   }
+
+   /** Palette extraction counters */
+   public static class ExtractionStatistics {
+
+      private final long extractionCount;
+      private final long rejectedCount;
+      private final long decodeTimeNanos;
+      private final long clusterTimeNanos;
+      private final int maxPixels;
+      private final int parallelism;
+
+      public ExtractionStatistics(long extractionCount, long rejectedCount, long decodeTimeNanos,
+               long clusterTimeNanos, int maxPixels, int parallelism) {
+         this.extractionCount = extractionCount;
+         this.rejectedCount = rejectedCount;
+         this.decodeTimeNanos = decodeTimeNanos;
+         this.clusterTimeNanos = clusterTimeNanos;
+         this.maxPixels = maxPixels;
+         this.parallelism = parallelism;
+      }
+
+      public long getExtractionCount() {
+         return extractionCount;
+      }
+
+      /** Uploads refused as unreadable, oversized or fully transparent */
+      public long getRejectedCount() {
+         return rejectedCount;
+      }
+
+      public double getAverageDecodeTimeMs() {
+         return extractionCount > 0 ? decodeTimeNanos / 1_000_000.0 / extractionCount : 0.0;
+      }
+
+      public double getAverageClusterTimeMs() {
+         return extractionCount > 0 ? clusterTimeNanos / 1_000_000.0 / extractionCount : 0.0;
+      }
+
+      public int getMaxPixels() {
+         return maxPixels;
+      }
+
+      public int getParallelism() {
+         return parallelism;
+      }
+   }
+}
@@ -0,0 +1,388 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.palette;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+import dev.kreaker.kolors.color.Rgb;
+
+/**
+ * Dominant colors of an image by weighted k-means++ in OKLab.
+ *
+ * <p>
+ * Pixels are first counted into a 32,768-bin histogram (5 bits per channel) by fork/join tasks over
+ * pixel chunks; each bin also sums its exact channels, so a bin stands for the mean of the pixels
+ * that fell into it rather than its quantized center. Clustering then runs over the non-empty bins
+ * weighted by pixel count, which bounds its cost by the histogram size however large the image is;
+ * each assignment pass is split over the same pool. Seeding uses a fixed random seed, so the same
+ * image always gives the same palette.
+ */
+public final class PaletteExtractor {
+
+   public static final int MIN_COLORS = 1;
+   public static final int MAX_COLORS = 10;
+
+   private static final int BIN_BITS = 5;
+   private static final int BINS = 1 << (3 * BIN_BITS);
+   // count, red sum, green sum, blue sum per bin
+   private static final int BIN_STRIDE = 4;
+
+   // Pixels below this alpha are background and are not counted
+   private static final int MIN_ALPHA = 128;
+   // Smallest chunk worth a task; smaller images are counted on the calling thread
+   private static final int MIN_CHUNK = 1 << 16;
+
+   // Points per assignment task. Fixed rather than derived from the pool size, so the partial
+   // sums add up in the same order on any machine and the palette does not depend on core count
+   private static final int POINT_CHUNK = 4096;
+   private static final int MAX_ITERATIONS = 24;
+   // Squared OKLab shift below which the centroids are considered settled
+   private static final double CONVERGENCE = 1e-8;
+   private static final long SEED = 0x5EED_C0105L;
+
+   private PaletteExtractor() {}
+
+   /**
+    * Extracts up to {@code colorCount} dominant colors from ARGB pixels.
+    *
+    * @param pixels ARGB pixels; pixels with alpha below 128 are ignored
+    * @param length number of pixels to read from the start of {@code pixels}
+    * @param out receives packed {@code 0xRRGGBB} colors, most common first
+    * @return the number of colors written, fewer than {@code colorCount} when the image has fewer
+    *         distinct colors and 0 when every pixel is transparent
+    * @throws IllegalArgumentException when {@code colorCount} is outside 1–10 or {@code out} is
+    *            shorter than it
+    */
+   public static int extract(int[] pixels, int length, int colorCount, ForkJoinPool pool,
+            int[] out) {
+      if (colorCount < MIN_COLORS || colorCount > MAX_COLORS) {
+         throw new IllegalArgumentException(
+                  "Color count must be between " + MIN_COLORS + " and " + MAX_COLORS);
+      }
+      if (out.length < colorCount) {
+         throw new IllegalArgumentException("Output array is shorter than the color count");
+      }
+      int chunk = Math.max(MIN_CHUNK, length / pool.getParallelism() + 1);
+      long[] histogram = length <= chunk ? count(pixels, 0, length)
+               : pool.invoke(new HistogramTask(pixels, 0, length, chunk));
+      return cluster(histogram, colorCount, pool, out);
+   }
+
+   private static long[] count(int[] pixels, int from, int to) {
+      long[] histogram = new long[BINS * BIN_STRIDE];
+      for (int i = from; i < to; i++) {
+         int argb = pixels[i];
+         if (argb >>> 24 < MIN_ALPHA) {
+            continue;
+         }
+         int r = (argb >> 16) & 0xFF;
+         int g = (argb >> 8) & 0xFF;
+         int b = argb & 0xFF;
+         int bin = ((r >> 3) << 10 | (g >> 3) << 5 | b >> 3) * BIN_STRIDE;
+         histogram[bin]++;
+         histogram[bin + 1] += r;
+         histogram[bin + 2] += g;
+         histogram[bin + 3] += b;
+      }
+      return histogram;
+   }
+
+   private static int cluster(long[] histogram, int k, ForkJoinPool pool, int[] out) {
+      int points = 0;
+      for (int bin = 0; bin < BINS; bin++) {
+         if (histogram[bin * BIN_STRIDE] > 0) {
+            points++;
+         }
+      }
+      if (points == 0) {
+         return 0;
+      }
+
+      // Struct-of-arrays OKLab coordinates of the non-empty bins
+      double[] pl = new double[points];
+      double[] pa = new double[points];
+      double[] pb = new double[points];
+      long[] weight = new long[points];
+      int[] packed = new int[points];
+      double[] lab = new double[3];
+      int p = 0;
+      for (int bin = 0; bin < BINS; bin++) {
+         int offset = bin * BIN_STRIDE;
+         long n = histogram[offset];
+         if (n == 0) {
+            continue;
+         }
+         int rgb = Rgb.of((int) ((histogram[offset + 1] + n / 2) / n),
+                  (int) ((histogram[offset + 2] + n / 2) / n),
+                  (int) ((histogram[offset + 3] + n / 2) / n));
+         ColorSpaces.toOklab(rgb, lab, 0);
+         pl[p] = lab[0];
+         pa[p] = lab[1];
+         pb[p] = lab[2];
+         weight[p] = n;
+         packed[p] = rgb;
+         p++;
+      }
+
+      if (points <= k) {
+         return writeByWeight(packed, weight, points, out);
+      }
+
+      double[] cl = new double[k];
+      double[] ca = new double[k];
+      double[] cb = new double[k];
+      seed(pl, pa, pb, weight, k, cl, ca, cb);
+
+      int[] assignment = new int[points];
+      for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+         AssignTask task = new AssignTask(pl, pa, pb, weight, cl, ca, cb, assignment, 0, points);
+         double[] sums = points <= POINT_CHUNK ? task.compute() : pool.invoke(task);
+         double shift = 0;
+         for (int c = 0; c < k; c++) {
+            double w = sums[c * 4];
+            double l;
+            double a;
+            double b;
+            if (w == 0) {
+               // Restart an empty cluster at the point its current centroid explains worst
+               int worst = worstPoint(pl, pa, pb, weight, assignment, cl, ca, cb, points);
+               l = pl[worst];
+               a = pa[worst];
+               b = pb[worst];
+            } else {
+               l = sums[c * 4 + 1] / w;
+               a = sums[c * 4 + 2] / w;
+               b = sums[c * 4 + 3] / w;
+            }
+            shift = Math.max(shift, square(l - cl[c]) + square(a - ca[c]) + square(b - cb[c]));
+            cl[c] = l;
+            ca[c] = a;
+            cb[c] = b;
+         }
+         if (shift < CONVERGENCE) {
+            break;
+         }
+      }
+
+      int[] colors = new int[k];
+      long[] clusterWeight = new long[k];
+      for (int i = 0; i < points; i++) {
+         clusterWeight[nearest(pl[i], pa[i], pb[i], cl, ca, cb, k)] += weight[i];
+      }
+      int clusters = 0;
+      long[] weights = new long[k];
+      for (int c = 0; c < k; c++) {
+         if (clusterWeight[c] == 0) {
+            continue;
+         }
+         int rgb = ColorSpaces.fromOklab(cl[c], ca[c], cb[c]);
+         // Centroids closer than one 8-bit level collapse to the same color
+         int existing = indexOf(colors, clusters, rgb);
+         if (existing >= 0) {
+            weights[existing] += clusterWeight[c];
+         } else {
+            colors[clusters] = rgb;
+            weights[clusters] = clusterWeight[c];
+            clusters++;
+         }
+      }
+      return writeByWeight(colors, weights, clusters, out);
+   }
+
+   /** k-means++: the heaviest point first, then points drawn with probability weight × D² */
+   private static void seed(double[] pl, double[] pa, double[] pb, long[] weight, int k,
+            double[] cl, double[] ca, double[] cb) {
+      int points = pl.length;
+      int first = 0;
+      for (int i = 1; i < points; i++) {
+         if (weight[i] > weight[first]) {
+            first = i;
+         }
+      }
+      cl[0] = pl[first];
+      ca[0] = pa[first];
+      cb[0] = pb[first];
+
+      double[] distance = new double[points];
+      for (int i = 0; i < points; i++) {
+         distance[i] = square(pl[i] - cl[0]) + square(pa[i] - ca[0]) + square(pb[i] - cb[0]);
+      }
+      SplittableRandom random = new SplittableRandom(SEED);
+      for (int c = 1; c < k; c++) {
+         double total = 0;
+         for (int i = 0; i < points; i++) {
+            total += weight[i] * distance[i];
+         }
+         int chosen = points - 1;
+         double target = random.nextDouble() * total;
+         for (int i = 0; i < points; i++) {
+            target -= weight[i] * distance[i];
+            if (target < 0) {
+               chosen = i;
+               break;
+            }
+         }
+         cl[c] = pl[chosen];
+         ca[c] = pa[chosen];
+         cb[c] = pb[chosen];
+         for (int i = 0; i < points; i++) {
+            double d = square(pl[i] - cl[c]) + square(pa[i] - ca[c]) + square(pb[i] - cb[c]);
+            if (d < distance[i]) {
+               distance[i] = d;
+            }
+         }
+      }
+   }
+
+   private static int nearest(double l, double a, double b, double[] cl, double[] ca,
+            double[] cb, int k) {
+      int nearest = 0;
+      double best = Double.MAX_VALUE;
+      for (int c = 0; c < k; c++) {
+         double d = square(l - cl[c]) + square(a - ca[c]) + square(b - cb[c]);
+         if (d < best) {
+            best = d;
+            nearest = c;
+         }
+      }
+      return nearest;
+   }
+
+   private static int worstPoint(double[] pl, double[] pa, double[] pb, long[] weight,
+            int[] assignment, double[] cl, double[] ca, double[] cb, int points) {
+      int worst = 0;
+      double worstCost = -1;
+      for (int i = 0; i < points; i++) {
+         int c = assignment[i];
+         double cost = weight[i]
+                  * (square(pl[i] - cl[c]) + square(pa[i] - ca[c]) + square(pb[i] - cb[c]));
+         if (cost > worstCost) {
+            worstCost = cost;
+            worst = i;
+         }
+      }
+      return worst;
+   }
+
+   private static int writeByWeight(int[] colors, long[] weights, int count, int[] out) {
+      // Selection sort; count is at most 10 here or the caller's k
+      boolean[] taken = new boolean[count];
+      int written = Math.min(count, out.length);
+      for (int i = 0; i < written; i++) {
+         int best = -1;
+         for (int j = 0; j < count; j++) {
+            if (!taken[j] && (best < 0 || weights[j] > weights[best])) {
+               best = j;
+            }
+         }
+         taken[best] = true;
+         out[i] = colors[best];
+      }
+      return written;
+   }
+
+   private static int indexOf(int[] values, int count, int value) {
+      for (int i = 0; i < count; i++) {
+         if (values[i] == value) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   private static double square(double x) {
+      return x * x;
+   }
+
+   /** Counts one pixel range, splitting it in half until it fits in a chunk */
+   private static final class HistogramTask extends RecursiveTask<long[]> {
+
+      private final int[] pixels;
+      private final int from;
+      private final int to;
+      private final int chunk;
+
+      HistogramTask(int[] pixels, int from, int to, int chunk) {
+         this.pixels = pixels;
+         this.from = from;
+         this.to = to;
+         this.chunk = chunk;
+      }
+
+      @Override
+      protected long[] compute() {
+         if (to - from <= chunk) {
+            return count(pixels, from, to);
+         }
+         int middle = (from + to) >>> 1;
+         HistogramTask left = new HistogramTask(pixels, from, middle, chunk);
+         left.fork();
+         long[] right = new HistogramTask(pixels, middle, to, chunk).compute();
+         long[] merged = left.join();
+         for (int i = 0; i < merged.length; i++) {
+            merged[i] += right[i];
+         }
+         return merged;
+      }
+   }
+
+   /** Assigns a point range to the nearest centroids; returns weight and L, a, b sums per cluster */
+   private static final class AssignTask extends RecursiveTask<double[]> {
+
+      private final double[] pl;
+      private final double[] pa;
+      private final double[] pb;
+      private final long[] weight;
+      private final double[] cl;
+      private final double[] ca;
+      private final double[] cb;
+      private final int[] assignment;
+      private final int from;
+      private final int to;
+
+      AssignTask(double[] pl, double[] pa, double[] pb, long[] weight, double[] cl, double[] ca,
+               double[] cb, int[] assignment, int from, int to) {
+         this.pl = pl;
+         this.pa = pa;
+         this.pb = pb;
+         this.weight = weight;
+         this.cl = cl;
+         this.ca = ca;
+         this.cb = cb;
+         this.assignment = assignment;
+         this.from = from;
+         this.to = to;
+      }
+
+      @Override
+      protected double[] compute() {
+         int k = cl.length;
+         if (to - from <= POINT_CHUNK) {
+            double[] sums = new double[k * 4];
+            for (int i = from; i < to; i++) {
+               int nearest = nearest(pl[i], pa[i], pb[i], cl, ca, cb, k);
+               assignment[i] = nearest;
+               double w = weight[i];
+               sums[nearest * 4] += w;
+               sums[nearest * 4 + 1] += w * pl[i];
+               sums[nearest * 4 + 2] += w * pa[i];
+               sums[nearest * 4 + 3] += w * pb[i];
+            }
+            return sums;
+         }
+         int middle = (from + to) >>> 1;
+         AssignTask left = new AssignTask(pl, pa, pb, weight, cl, ca, cb, assignment, from,
+                  middle);
+         left.fork();
+         double[] right = new AssignTask(pl, pa, pb, weight, cl, ca, cb, assignment, middle,
+                  to).compute();
+         double[] merged = left.join();
+         for (int i = 0; i < merged.length; i++) {
+            merged[i] += right[i];
+         }
+         return merged;
+      }
+   }
+}
@@ -0,0 +1,69 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.performance;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/** Point-in-time copy of one operation's cumulative performance metric */
+public class MetricSnapshot {
+
+   private static final ZoneId ZONE = ZoneId.systemDefault();
+
+   private final long timestampMillis;
+   private final String operationName;
+   private final long executionCount;
+   private final long totalTimeNanos;
+   private final long minTimeNanos;
+   private final long maxTimeNanos;
+
+   public MetricSnapshot(long timestampMillis, String operationName, long executionCount,
+            long totalTimeNanos, long minTimeNanos, long maxTimeNanos) {
+      this.timestampMillis = timestampMillis;
+      this.operationName = operationName;
+      this.executionCount = executionCount;
+      this.totalTimeNanos = totalTimeNanos;
+      this.minTimeNanos = minTimeNanos;
+      this.maxTimeNanos = maxTimeNanos;
+   }
+
+   public long getTimestampMillis() {
+      return timestampMillis;
+   }
+
+   public LocalDateTime getTimestamp() {
+      return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZONE);
+   }
+
+   public String getOperationName() {
+      return operationName;
+   }
+
+   public long getExecutionCount() {
+      return executionCount;
+   }
+
+   public long getTotalTimeNanos() {
+      return totalTimeNanos;
+   }
+
+   public long getMinTimeNanos() {
+      return minTimeNanos;
+   }
+
+   public long getMaxTimeNanos() {
+      return maxTimeNanos;
+   }
+
+   public double getAverageTimeMs() {
+      return executionCount > 0 ? totalTimeNanos / 1_000_000.0 / executionCount : 0.0;
+   }
+
+   public long getMinTimeMs() {
+      return minTimeNanos / 1_000_000L;
+   }
+
+   public long getMaxTimeMs() {
+      return maxTimeNanos / 1_000_000L;
+   }
+}
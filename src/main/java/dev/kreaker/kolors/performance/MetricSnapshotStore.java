@@ -0,0 +1,323 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Append-only time series of metric snapshots kept in a memory-mapped file with fixed-size
+ * records, so performance history survives restarts and deploys.
+ *
+ * <p>
+ * Layout: a 64-byte header (magic, format version, record size, committed record count) followed
+ * by 128-byte records. Every snapshot is written as a batch: one marker record carrying the number
+ * of metrics, then one record per metric. The committed count is updated only after a whole batch
+ * is written, so a crash mid-write never exposes a partial batch. Timestamps never decrease, which
+ * lets time-range queries binary search the file. When {@code max-records} is reached the oldest
+ * half of the history is discarded.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.performance.snapshots.enabled", havingValue = "true")
+public class MetricSnapshotStore implements AutoCloseable {
+
+   private static final Logger logger = LoggerFactory.getLogger(MetricSnapshotStore.class);
+
+   static final int MAGIC = 0x4B4D5453; // "KMTS"
+   static final int FORMAT_VERSION = 1;
+   static final int HEADER_SIZE = 64;
+   static final int RECORD_SIZE = 128;
+
+   // Record layout
+   private static final int TIMESTAMP_OFFSET = 0;
+   private static final int COUNT_OFFSET = 8;
+   private static final int TOTAL_OFFSET = 16;
+   private static final int MIN_OFFSET = 24;
+   private static final int MAX_OFFSET = 32;
+   private static final int NAME_LENGTH_OFFSET = 40;
+   private static final int NAME_OFFSET = 42;
+   static final int MAX_NAME_BYTES = RECORD_SIZE - NAME_OFFSET;
+
+   // Header layout
+   private static final int HEADER_VERSION_OFFSET = 4;
+   private static final int HEADER_RECORD_SIZE_OFFSET = 8;
+   private static final int HEADER_COUNT_OFFSET = 16;
+
+   // Marker records have an empty name; their count field holds the batch size
+   private static final short MARKER_NAME_LENGTH = 0;
+
+   private static final int MIN_CAPACITY = 1024;
+   private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+   private static final String UNNAMED = "(unnamed)";
+
+   private final Path file;
+   private final int maxRecords;
+   private final FileChannel channel;
+   private MappedByteBuffer buffer;
+   private int capacity;
+   private int recordCount;
+   private long lastTimestampMillis;
+
+   @Autowired
+   public MetricSnapshotStore(
+            @Value("${kolors.performance.snapshots.file:kolors-metrics.dat}") String file,
+            @Value("${kolors.performance.snapshots.max-records:262144}") int maxRecords) {
+      this(Paths.get(file), maxRecords);
+   }
+
+   public MetricSnapshotStore(Path file, int maxRecords) {
+      if (maxRecords < 2 || maxRecords > MAX_CAPACITY) {
+         throw new IllegalArgumentException(
+                  "Snapshot store size must be between 2 and " + MAX_CAPACITY + " records");
+      }
+      this.file = file.toAbsolutePath();
+      this.maxRecords = maxRecords;
+      try {
+         if (this.file.getParent() != null) {
+            Files.createDirectories(this.file.getParent());
+         }
+         this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE,
+                  StandardOpenOption.READ, StandardOpenOption.WRITE);
+         open();
+      } catch (IOException e) {
+         throw new UncheckedIOException("Cannot open metric snapshot file " + this.file, e);
+      }
+      logger.info("Metric snapshot store opened at {} ({} records)", this.file, recordCount);
+   }
+
+   private void open() throws IOException {
+      long size = channel.size();
+      if (size == 0) {
+         map(Math.min(MIN_CAPACITY, maxRecords));
+         buffer.putInt(0, MAGIC);
+         buffer.putInt(HEADER_VERSION_OFFSET, FORMAT_VERSION);
+         buffer.putInt(HEADER_RECORD_SIZE_OFFSET, RECORD_SIZE);
+         buffer.putLong(HEADER_COUNT_OFFSET, 0L);
+         return;
+      }
+      if (size < HEADER_SIZE) {
+         throw new IllegalStateException(file + " is not a metric snapshot file");
+      }
+      long storedRecords = (size - HEADER_SIZE) / RECORD_SIZE;
+      map((int) Math.max(Math.min(storedRecords, MAX_CAPACITY), 1));
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(HEADER_VERSION_OFFSET) != FORMAT_VERSION
+               || buffer.getInt(HEADER_RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+         throw new IllegalStateException(file + " is not a metric snapshot file");
+      }
+      recordCount = (int) Math.min(buffer.getLong(HEADER_COUNT_OFFSET), capacity);
+      lastTimestampMillis = recordCount > 0 ? timestampAt(recordCount - 1) : 0L;
+   }
+
+   private void map(int records) throws IOException {
+      if (buffer != null) {
+         buffer.force();
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+               HEADER_SIZE + (long) records * RECORD_SIZE);
+      capacity = records;
+   }
+
+   /**
+    * Appends one snapshot batch. Timestamps older than the last stored one are moved forward to
+    * keep the file ordered. Names longer than {@link #MAX_NAME_BYTES} UTF-8 bytes are truncated.
+    */
+   public synchronized void append(long timestampMillis, Collection<MetricSnapshot> snapshots) {
+      long timestamp = Math.max(timestampMillis, lastTimestampMillis);
+      int batchSize = Math.min(snapshots.size(), maxRecords - 1);
+      if (batchSize < snapshots.size()) {
+         logger.warn("Snapshot of {} metrics exceeds the store size, keeping the first {}",
+                  snapshots.size(), batchSize);
+      }
+      try {
+         ensureCapacity(batchSize + 1);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Cannot grow metric snapshot file " + file, e);
+      }
+
+      int index = recordCount;
+      writeRecord(index++, timestamp, "", batchSize, 0L, 0L, 0L);
+      int written = 0;
+      for (MetricSnapshot snapshot : snapshots) {
+         if (written++ == batchSize) {
+            break;
+         }
+         String name = snapshot.getOperationName();
+         writeRecord(index++, timestamp, name == null || name.isEmpty() ? UNNAMED : name,
+                  snapshot.getExecutionCount(), snapshot.getTotalTimeNanos(),
+                  snapshot.getMinTimeNanos(), snapshot.getMaxTimeNanos());
+      }
+      // Commit the batch only once every record is in place
+      recordCount = index;
+      buffer.putLong(HEADER_COUNT_OFFSET, recordCount);
+      lastTimestampMillis = timestamp;
+   }
+
+   private void ensureCapacity(int additional) throws IOException {
+      if (recordCount + additional > maxRecords) {
+         compact(additional);
+      }
+      int needed = recordCount + additional;
+      if (needed > capacity) {
+         int grown = (int) Math.min(maxRecords, Math.max((long) capacity * 2, needed));
+         map(grown);
+      }
+   }
+
+   /** Drops the oldest records so that at most half of {@code max-records} remains in use */
+   private void compact(int additional) {
+      int keep = Math.max(0, Math.min(recordCount, maxRecords / 2 - additional));
+      int drop = recordCount - keep;
+      // Start the kept range at a batch marker so queries never see orphaned metric records
+      while (drop < recordCount && !isMarker(drop)) {
+         drop++;
+      }
+      keep = recordCount - drop;
+      buffer.put(HEADER_SIZE, buffer, HEADER_SIZE + drop * RECORD_SIZE, keep * RECORD_SIZE);
+      recordCount = keep;
+      buffer.putLong(HEADER_COUNT_OFFSET, recordCount);
+      logger.info("Metric snapshot store compacted, dropped {} oldest records", drop);
+   }
+
+   private void writeRecord(int index, long timestamp, String name, long count, long totalNanos,
+            long minNanos, long maxNanos) {
+      int position = HEADER_SIZE + index * RECORD_SIZE;
+      buffer.putLong(position + TIMESTAMP_OFFSET, timestamp);
+      buffer.putLong(position + COUNT_OFFSET, count);
+      buffer.putLong(position + TOTAL_OFFSET, totalNanos);
+      buffer.putLong(position + MIN_OFFSET, minNanos);
+      buffer.putLong(position + MAX_OFFSET, maxNanos);
+      byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+      int length = truncatedLength(nameBytes);
+      buffer.putShort(position + NAME_LENGTH_OFFSET, (short) length);
+      buffer.put(position + NAME_OFFSET, nameBytes, 0, length);
+   }
+
+   /** Longest prefix that fits a record without splitting a multi-byte UTF-8 sequence */
+   private static int truncatedLength(byte[] nameBytes) {
+      if (nameBytes.length <= MAX_NAME_BYTES) {
+         return nameBytes.length;
+      }
+      int length = MAX_NAME_BYTES;
+      while (length > 0 && (nameBytes[length] & 0xC0) == 0x80) {
+         length--;
+      }
+      return length;
+   }
+
+   /**
+    * Returns the metric records with {@code fromMillis <= timestamp <= toMillis}, oldest first,
+    * optionally restricted to one operation. At most {@code limit} records are returned.
+    */
+   public synchronized List<MetricSnapshot> query(long fromMillis, long toMillis,
+            String operationName, int limit) {
+      List<MetricSnapshot> result = new ArrayList<>();
+      for (int index = lowerBound(fromMillis); index < recordCount
+               && result.size() < limit; index++) {
+         if (timestampAt(index) > toMillis) {
+            break;
+         }
+         if (isMarker(index)) {
+            continue;
+         }
+         MetricSnapshot snapshot = readRecord(index);
+         if (operationName == null || operationName.equals(snapshot.getOperationName())) {
+            result.add(snapshot);
+         }
+      }
+      return result;
+   }
+
+   /** Returns the most recent complete snapshot batch, or an empty list if none was stored */
+   public synchronized List<MetricSnapshot> latest() {
+      List<MetricSnapshot> result = new ArrayList<>();
+      for (int index = recordCount - 1; index >= 0; index--) {
+         if (isMarker(index)) {
+            int end = (int) Math.min(recordCount, index + 1 + countAt(index));
+            for (int i = index + 1; i < end; i++) {
+               result.add(readRecord(i));
+            }
+            break;
+         }
+      }
+      return result;
+   }
+
+   /** First record index whose timestamp is at least {@code timestampMillis} */
+   private int lowerBound(long timestampMillis) {
+      int low = 0;
+      int high = recordCount;
+      while (low < high) {
+         int mid = (low + high) >>> 1;
+         if (timestampAt(mid) < timestampMillis) {
+            low = mid + 1;
+         } else {
+            high = mid;
+         }
+      }
+      return low;
+   }
+
+   private long timestampAt(int index) {
+      return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE + TIMESTAMP_OFFSET);
+   }
+
+   private long countAt(int index) {
+      return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE + COUNT_OFFSET);
+   }
+
+   private boolean isMarker(int index) {
+      return buffer.getShort(HEADER_SIZE + index * RECORD_SIZE
+               + NAME_LENGTH_OFFSET) == MARKER_NAME_LENGTH;
+   }
+
+   private MetricSnapshot readRecord(int index) {
+      int position = HEADER_SIZE + index * RECORD_SIZE;
+      int length = Math.min(buffer.getShort(position + NAME_LENGTH_OFFSET), MAX_NAME_BYTES);
+      byte[] nameBytes = new byte[length];
+      buffer.get(position + NAME_OFFSET, nameBytes);
+      return new MetricSnapshot(buffer.getLong(position + TIMESTAMP_OFFSET),
+               new String(nameBytes, StandardCharsets.UTF_8),
+               buffer.getLong(position + COUNT_OFFSET), buffer.getLong(position + TOTAL_OFFSET),
+               buffer.getLong(position + MIN_OFFSET), buffer.getLong(position + MAX_OFFSET));
+   }
+
+   public Path getFile() {
+      return file;
+   }
+
+   public synchronized int getRecordCount() {
+      return recordCount;
+   }
+
+   /** Flushes pending writes and releases the file */
+   @PreDestroy
+   @Override
+   public synchronized void close() {
+      try {
+         if (channel.isOpen()) {
+            buffer.force();
+            channel.close();
+         }
+      } catch (IOException e) {
+         logger.warn("Error closing metric snapshot file {}: {}", file, e.getMessage());
+      }
+   }
+}
@@ -0,0 +1,304 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.ColorInCombinationRepository;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+
+/**
+ * In-memory index for "combinations containing these colors".
+ *
+ * <p>
+ * Every indexed combination gets a dense ordinal, and every distinct color an
+ * {@link OrdinalBitmap} of the ordinals of the combinations using it. "Contains all" is the AND of
+ * the colors' bitmaps, smallest first; "contains any" is their OR. Ordinals are never reused:
+ * deleting a combination, or changing its colors, sets its old ordinal in a tombstone bitmap that
+ * every query subtracts, and a changed palette is indexed under a fresh ordinal. Fresh ordinals
+ * only ever grow, so bitmaps are appended to rather than rewritten. Once tombstones outnumber the
+ * live combinations the index is compacted in place. Queries return combination IDs, highest
+ * (newest) first, for the caller to load. The index is loaded at startup and then follows committed
+ * {@link CombinationChangeEvent}s.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.color-bitmap.enabled", havingValue = "true")
+public class ColorBitmapIndex {
+
+   private static final Logger logger = LoggerFactory.getLogger(ColorBitmapIndex.class);
+
+   private static final long[] NO_IDS = new long[0];
+   // Below this many tombstones compaction is not worth a pass over every bitmap
+   private static final int MIN_COMPACTION_TOMBSTONES = 1024;
+
+   private final ColorInCombinationRepository colorRepository;
+
+   private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+   private final Map<Integer, OrdinalBitmap> bitmaps = new HashMap<>();
+   private final Map<Long, Integer> ordinals = new HashMap<>();
+   private long[] ids = new long[1024];
+   private int nextOrdinal;
+   private OrdinalBitmap tombstones = new OrdinalBitmap();
+   private int tombstoneCount;
+
+   private final LongAdder queries = new LongAdder();
+   private final LongAdder queryNanos = new LongAdder();
+   private final LongAdder matches = new LongAdder();
+   private final LongAdder compactions = new LongAdder();
+
+   public ColorBitmapIndex(ColorInCombinationRepository colorRepository) {
+      this.colorRepository = colorRepository;
+   }
+
+   /**
+    * Loads all palettes. Holds the index monitor so change events committed during the load wait
+    * and are applied on top of it.
+    */
+   @EventListener(ApplicationReadyEvent.class)
+   public synchronized void rebuild() {
+      long start = System.nanoTime();
+      List<Object[]> rows = colorRepository.findAllHexValues();
+
+      lock.writeLock().lock();
+      try {
+         bitmaps.clear();
+         ordinals.clear();
+         nextOrdinal = 0;
+         tombstones = new OrdinalBitmap();
+         tombstoneCount = 0;
+         int from = 0;
+         while (from < rows.size()) {
+            Long id = (Long) rows.get(from)[0];
+            int to = from;
+            while (to < rows.size() && id.equals(rows.get(to)[0])) {
+               to++;
+            }
+            int[] colors = new int[to - from];
+            for (int i = from; i < to; i++) {
+               colors[i - from] = Rgb.parseHex((String) rows.get(i)[1]);
+            }
+            put(id, colors);
+            from = to;
+         }
+      } finally {
+         lock.writeLock().unlock();
+      }
+      logger.info("Color bitmap index built: {} combinations, {} colors in {} ms", size(),
+               bitmaps.size(), (System.nanoTime() - start) / 1_000_000);
+   }
+
+   /**
+    * Applies a committed change. The colors are re-read from the database, so whichever event is
+    * applied last leaves the latest committed palette.
+    */
+   @EventListener
+   public synchronized void onChange(CombinationChangeEvent event) {
+      if (event.combinationId() == null) {
+         return;
+      }
+      if (event.type() == CombinationChangeEvent.Type.DELETED) {
+         remove(event.combinationId());
+         return;
+      }
+      List<Object[]> rows =
+               colorRepository.findHexValuesByCombinationIds(List.of(event.combinationId()));
+      int[] colors = new int[rows.size()];
+      for (int i = 0; i < colors.length; i++) {
+         colors[i] = Rgb.parseHex((String) rows.get(i)[1]);
+      }
+      put(event.combinationId(), colors);
+   }
+
+   /** Adds or replaces one palette under a fresh ordinal; a palette without colors is removed */
+   public void put(Long id, int[] colors) {
+      lock.writeLock().lock();
+      try {
+         tombstone(ordinals.remove(id));
+         if (colors.length > 0) {
+            int ordinal = nextOrdinal++;
+            if (ordinal == ids.length) {
+               ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[ordinal] = id;
+            ordinals.put(id, ordinal);
+            for (int color : colors) {
+               bitmaps.computeIfAbsent(color, key -> new OrdinalBitmap()).add(ordinal);
+            }
+         }
+         compactIfNeeded();
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   /** Removes one palette */
+   public void remove(Long id) {
+      lock.writeLock().lock();
+      try {
+         tombstone(ordinals.remove(id));
+         compactIfNeeded();
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   private void tombstone(Integer ordinal) {
+      if (ordinal != null) {
+         tombstones.add(ordinal);
+         tombstoneCount++;
+      }
+   }
+
+   /** IDs of the combinations containing every one of the packed colors, highest first */
+   public long[] containingAll(int[] colors) {
+      if (colors.length == 0) {
+         return NO_IDS;
+      }
+      long start = System.nanoTime();
+      lock.readLock().lock();
+      try {
+         OrdinalBitmap[] operands = new OrdinalBitmap[colors.length];
+         for (int i = 0; i < colors.length; i++) {
+            operands[i] = bitmaps.get(colors[i]);
+            if (operands[i] == null) {
+               return record(start, NO_IDS);
+            }
+         }
+         // Smallest first keeps every intermediate result as small as possible
+         Arrays.sort(operands, Comparator.comparingInt(OrdinalBitmap::cardinality));
+         OrdinalBitmap result = operands[0].andNot(tombstones);
+         for (int i = 1; i < operands.length && !result.isEmpty(); i++) {
+            result = result.and(operands[i]);
+         }
+         return record(start, toIds(result));
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** IDs of the combinations containing at least one of the packed colors, highest first */
+   public long[] containingAny(int[] colors) {
+      long start = System.nanoTime();
+      lock.readLock().lock();
+      try {
+         OrdinalBitmap result = new OrdinalBitmap();
+         for (int color : colors) {
+            OrdinalBitmap bitmap = bitmaps.get(color);
+            if (bitmap != null) {
+               result = result.or(bitmap);
+            }
+         }
+         return record(start, toIds(result.andNot(tombstones)));
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   private long[] toIds(OrdinalBitmap result) {
+      int[] matched = result.toArray();
+      long[] found = new long[matched.length];
+      for (int i = 0; i < matched.length; i++) {
+         found[i] = ids[matched[i]];
+      }
+      Arrays.sort(found);
+      // Reverse in place for highest first
+      for (int i = 0, j = found.length - 1; i < j; i++, j--) {
+         long swap = found[i];
+         found[i] = found[j];
+         found[j] = swap;
+      }
+      return found;
+   }
+
+   private long[] record(long start, long[] found) {
+      queries.increment();
+      queryNanos.add(System.nanoTime() - start);
+      matches.add(found.length);
+      return found;
+   }
+
+   /** Renumbers the live combinations densely once tombstones outnumber them */
+   private void compactIfNeeded() {
+      if (tombstoneCount < MIN_COMPACTION_TOMBSTONES || tombstoneCount <= ordinals.size()) {
+         return;
+      }
+      long start = System.nanoTime();
+      // Live ordinals keep their relative order, so every new bitmap is still built by appending
+      int[] renumbered = new int[nextOrdinal];
+      long[] liveIds = new long[ordinals.size()];
+      int live = 0;
+      for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+         if (tombstones.contains(ordinal)) {
+            renumbered[ordinal] = -1;
+         } else {
+            renumbered[ordinal] = live;
+            liveIds[live++] = ids[ordinal];
+         }
+      }
+      bitmaps.replaceAll((color, bitmap) -> {
+         OrdinalBitmap compacted = new OrdinalBitmap();
+         for (int ordinal : bitmap.toArray()) {
+            if (renumbered[ordinal] >= 0) {
+               compacted.add(renumbered[ordinal]);
+            }
+         }
+         return compacted;
+      });
+      bitmaps.values().removeIf(OrdinalBitmap::isEmpty);
+      ordinals.replaceAll((id, ordinal) -> renumbered[ordinal]);
+      ids = Arrays.copyOf(liveIds, Math.max(1024, live * 2));
+      nextOrdinal = live;
+      tombstones = new OrdinalBitmap();
+      int dropped = tombstoneCount;
+      tombstoneCount = 0;
+      compactions.increment();
+      logger.debug("Color bitmap index compacted: {} tombstones dropped in {} ms", dropped,
+               (System.nanoTime() - start) / 1_000_000);
+   }
+
+   /** Gets the number of indexed combinations */
+   public int size() {
+      lock.readLock().lock();
+      try {
+         return ordinals.size();
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** Gets size, memory and query counters */
+   public BitmapIndexStatistics getStatistics() {
+      lock.readLock().lock();
+      try {
+         long bytes = tombstones.sizeInBytes();
+         for (OrdinalBitmap bitmap : bitmaps.values()) {
+            bytes += bitmap.sizeInBytes();
+         }
+         long queryCount = queries.sum();
+         return new BitmapIndexStatistics(ordinals.size(), bitmaps.size(), tombstoneCount,
+                  compactions.sum(), bytes, queryCount,
+                  queryCount > 0 ? queryNanos.sum() / 1_000.0 / queryCount : 0.0,
+                  queryCount > 0 ? (double) matches.sum() / queryCount : 0.0);
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** Bitmap index size, memory and query counters */
+   public record BitmapIndexStatistics(int combinations, int distinctColors, int tombstones,
+            long compactions, long bitmapBytes, long queryCount, double averageQueryTimeMicros,
+            double averageMatches) {}
+}
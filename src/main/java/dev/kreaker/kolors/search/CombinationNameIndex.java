@@ -0,0 +1,228 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.ColorCombinationRepository;
+import dev.kreaker.kolors.dto.CombinationSuggestion;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+
+/**
+ * In-memory prefix index over normalized combination names, for search-as-you-type.
+ *
+ * <p>
+ * Names are normalized (accents removed, lower case, punctuation folded to single spaces) and kept
+ * in two sorted maps: whole names, and the suffixes starting at every later word, so "ocean" finds
+ * both "Ocean Breeze" and "Deep Ocean". A lookup is a range scan of each map, whole-name matches
+ * first. The index is loaded once at startup and then follows committed
+ * {@link CombinationChangeEvent}s, so lookups never reach the database.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.suggest.enabled", havingValue = "true")
+public class CombinationNameIndex {
+
+   private static final Logger logger = LoggerFactory.getLogger(CombinationNameIndex.class);
+
+   // Separates the indexed text from the id in map keys; sorts before any name character
+   private static final char SEPARATOR = '\u0000';
+   private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+   private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+   private final ColorCombinationRepository repository;
+   private final int maxResults;
+
+   private final ConcurrentSkipListMap<String, Long> names = new ConcurrentSkipListMap<>();
+   private final ConcurrentSkipListMap<String, Long> words = new ConcurrentSkipListMap<>();
+   private final Map<Long, String> displayNames = new ConcurrentHashMap<>();
+
+   private final LongAdder lookups = new LongAdder();
+   private final LongAdder lookupNanos = new LongAdder();
+
+   @Autowired
+   public CombinationNameIndex(ColorCombinationRepository repository,
+            @Value("${kolors.suggest.max-results:10}") int maxResults) {
+      if (maxResults < 1) {
+         throw new IllegalArgumentException("Suggestion limit must be positive");
+      }
+      this.repository = repository;
+      this.maxResults = maxResults;
+   }
+
+   /** Normalizes a name or query for prefix matching */
+   public static String normalize(String text) {
+      if (text == null) {
+         return "";
+      }
+      String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+      String plain = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+      return NON_WORD.matcher(plain).replaceAll(" ").trim();
+   }
+
+   /**
+    * Loads all names. Runs under the index lock so change events committed during the load wait
+    * and are applied on top of it.
+    */
+   @EventListener(ApplicationReadyEvent.class)
+   public synchronized void rebuild() {
+      long start = System.nanoTime();
+      names.clear();
+      words.clear();
+      displayNames.clear();
+      for (Object[] row : repository.findAllIdsAndNames()) {
+         put((Long) row[0], (String) row[1]);
+      }
+      logger.info("Combination name index built: {} names in {} ms", displayNames.size(),
+               (System.nanoTime() - start) / 1_000_000);
+   }
+
+   /** Applies a committed change */
+   @EventListener
+   public synchronized void onChange(CombinationChangeEvent event) {
+      if (event.combinationId() == null) {
+         return;
+      }
+      if (event.type() == CombinationChangeEvent.Type.DELETED) {
+         remove(event.combinationId());
+      } else if (event.name() != null) {
+         put(event.combinationId(), event.name());
+      }
+   }
+
+   /** Adds or renames one combination */
+   public synchronized void put(Long id, String name) {
+      String previous = displayNames.put(id, name);
+      if (previous != null) {
+         if (normalize(previous).equals(normalize(name))) {
+            return;
+         }
+         unindex(id, previous);
+      }
+      String normalized = normalize(name);
+      names.put(key(normalized, id), id);
+      for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+         words.put(key(normalized.substring(i + 1), id), id);
+      }
+   }
+
+   /** Removes one combination */
+   public synchronized void remove(Long id) {
+      String previous = displayNames.remove(id);
+      if (previous != null) {
+         unindex(id, previous);
+      }
+   }
+
+   /**
+    * Gets up to {@code limit} combinations (capped at {@code max-results}) whose name, or a word
+    * in it, starts with the query. Whole-name matches come first, each group in name order.
+    */
+   public List<CombinationSuggestion> suggest(String query, int limit) {
+      long start = System.nanoTime();
+      String prefix = normalize(query);
+      int max = Math.max(1, Math.min(limit, maxResults));
+      Set<Long> ids = new LinkedHashSet<>();
+      if (!prefix.isEmpty()) {
+         collect(names, prefix, ids, max);
+         collect(words, prefix, ids, max);
+      }
+      List<CombinationSuggestion> suggestions = new ArrayList<>(ids.size());
+      for (Long id : ids) {
+         String name = displayNames.get(id);
+         if (name != null) {
+            suggestions.add(new CombinationSuggestion(id, name));
+         }
+      }
+      lookups.increment();
+      lookupNanos.add(System.nanoTime() - start);
+      return suggestions;
+   }
+
+   /** Gets the number of indexed combinations */
+   public int size() {
+      return displayNames.size();
+   }
+
+   /** Gets size and lookup counters */
+   public NameIndexStatistics getStatistics() {
+      return new NameIndexStatistics(displayNames.size(), names.size() + words.size(),
+               lookups.sum(), lookupNanos.sum());
+   }
+
+   private void unindex(Long id, String name) {
+      String normalized = normalize(name);
+      names.remove(key(normalized, id));
+      for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+         words.remove(key(normalized.substring(i + 1), id));
+      }
+   }
+
+   private static void collect(ConcurrentNavigableMap<String, Long> map, String prefix,
+            Set<Long> ids, int max) {
+      if (ids.size() >= max) {
+         return;
+      }
+      for (Long id : map.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+         if (ids.add(id) && ids.size() >= max) {
+            return;
+         }
+      }
+   }
+
+   private static String key(String text, Long id) {
+      return text + SEPARATOR + id;
+   }
+
+   /** Name index size and lookup counters */
+   public static class NameIndexStatistics {
+
+      private final int size;
+      private final int keyCount;
+      private final long lookupCount;
+      private final long lookupTimeNanos;
+
+      public NameIndexStatistics(int size, int keyCount, long lookupCount, long lookupTimeNanos) {
+         this.size = size;
+         this.keyCount = keyCount;
+         this.lookupCount = lookupCount;
+         this.lookupTimeNanos = lookupTimeNanos;
+      }
+
+      /** Indexed combinations */
+      public int getSize() {
+         return size;
+      }
+
+      /** Whole-name and word keys */
+      public int getKeyCount() {
+         return keyCount;
+      }
+
+      public long getLookupCount() {
+         return lookupCount;
+      }
+
+      public double getAverageLookupTimeMicros() {
+         return lookupCount > 0 ? lookupTimeNanos / 1_000.0 / lookupCount : 0.0;
+      }
+   }
+}
@@ -0,0 +1,111 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import dev.kreaker.kolors.ColorCombination;
+import dev.kreaker.kolors.ColorInCombination;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.dto.PerceptualFilter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Search predicates built from the filters actually given.
+ *
+ * <p>
+ * The fixed JPQL searches test every parameter with {@code :x IS NULL OR ...}, which SQLite cannot
+ * answer from an index. These specifications only emit the predicates that apply, as plain range
+ * comparisons on indexed columns. Color predicates are {@code id IN} subqueries over
+ * {@code color_in_combination}, so the hue index finds the colors and the primary key the
+ * combinations; a wrapping hue range is two index ranges joined by OR.
+ */
+public final class CombinationSpecifications {
+
+   private CombinationSpecifications() {}
+
+   /**
+    * Matches combinations passing every given filter; {@code name} and {@code hexValue} are
+    * expected trimmed, and {@code hexValue} upper-cased
+    */
+   public static Specification<ColorCombination> matching(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast,
+            PerceptualFilter perceptual) {
+      return (root, query, cb) -> {
+         List<Predicate> predicates = new ArrayList<>();
+         if (name != null) {
+            predicates.add(cb.like(cb.lower(root.get("name")),
+                     "%" + name.toLowerCase() + "%"));
+         }
+         atLeast(predicates, cb, root.get("colorCount"), minColors);
+         atMost(predicates, cb, root.get("colorCount"), maxColors);
+         if (hexValue != null) {
+            Subquery<Long> withColor = query.subquery(Long.class);
+            Root<ColorInCombination> color = withColor.from(ColorInCombination.class);
+            withColor.select(color.get("combination").get("id"))
+                     .where(cb.equal(color.get("hexValue"), hexValue));
+            predicates.add(root.get("id").in(withColor));
+         }
+
+         atLeast(predicates, cb, root.get("minContrast"), contrast.minPairContrast());
+         atLeast(predicates, cb, root.get("maxContrast"), contrast.bestPairContrast());
+         atLeast(predicates, cb, root.get("aaPairCount"), contrast.minAaPairs());
+         atLeast(predicates, cb, root.get("colorVisionMinDeltaE"),
+                  contrast.minColorVisionDeltaE());
+
+         if (perceptual.hasHueRange()) {
+            Subquery<Long> withHue = query.subquery(Long.class);
+            Root<ColorInCombination> color = withHue.from(ColorInCombination.class);
+            Path<Double> hue = color.get("hslHue");
+            double from = perceptual.hueFrom();
+            double to = perceptual.hueTo();
+            withHue.select(color.get("combination").get("id"))
+                     .where(from <= to ? cb.between(hue, from, to)
+                              : cb.or(cb.greaterThanOrEqualTo(hue, from),
+                                       cb.lessThanOrEqualTo(hue, to)));
+            predicates.add(root.get("id").in(withHue));
+         }
+         atLeast(predicates, cb, root.get("averageLightness"), perceptual.minLightness());
+         atMost(predicates, cb, root.get("averageLightness"), perceptual.maxLightness());
+         atLeast(predicates, cb, root.get("averageChroma"), perceptual.minChroma());
+         atMost(predicates, cb, root.get("averageChroma"), perceptual.maxChroma());
+         atMost(predicates, cb, root.get("hueSpread"), perceptual.maxHueSpread());
+         return cb.and(predicates.toArray(Predicate[]::new));
+      };
+   }
+
+   /**
+    * Matches combinations scored for color vision whose ΔE column {@code property} reaches
+    * {@code minDeltaE}; a null bound matches every scored combination
+    */
+   public static Specification<ColorCombination> colorVisionAtLeast(String property,
+            Double minDeltaE) {
+      return (root, query, cb) -> {
+         List<Predicate> predicates = new ArrayList<>();
+         predicates.add(cb.isNotNull(root.get("colorVisionMinDeltaE")));
+         atLeast(predicates, cb, root.get(property), minDeltaE);
+         return cb.and(predicates.toArray(Predicate[]::new));
+      };
+   }
+
+   private static <T extends Comparable<? super T>> void atLeast(List<Predicate> predicates,
+            CriteriaBuilder cb, Path<T> path, T bound) {
+      if (bound != null) {
+         predicates.add(cb.greaterThanOrEqualTo(path, bound));
+      }
+   }
+
+   private static <T extends Comparable<? super T>> void atMost(List<Predicate> predicates,
+            CriteriaBuilder cb, Path<T> path, T bound) {
+      if (bound != null) {
+         predicates.add(cb.lessThanOrEqualTo(path, bound));
+      }
+   }
+}
@@ -0,0 +1,233 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.ColorCombinationRepository;
+import dev.kreaker.kolors.ColorInCombinationRepository;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Groups near-duplicate palettes into clusters in the background.
+ *
+ * <p>
+ * Candidates are the combinations sharing a {@link PaletteFingerprint} signature on either grid;
+ * the shared signatures come from a GROUP BY over their indexes, so palettes with a signature of
+ * their own are never read. Within a group, palettes with the same any-order hash are joined
+ * outright and the rest are compared with {@link PaletteDistance}; pairs closer than
+ * {@code max-distance} are joined. Clusters are identified by their lowest combination ID and
+ * replaced in one transaction at the end of each run.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.duplicates.clustering.enabled", havingValue = "true")
+public class DuplicateClusteringJob {
+
+   private static final Logger logger = LoggerFactory.getLogger(DuplicateClusteringJob.class);
+   // Keeps the IN list of the hex value query well below SQLite's bound parameter limit
+   private static final int ID_CHUNK = 500;
+
+   private final ColorCombinationRepository combinationRepository;
+   private final ColorInCombinationRepository colorRepository;
+   private final ColorCombinationService colorCombinationService;
+   private final FingerprintBackfill fingerprintBackfill;
+   private final double maxDistance;
+   private final int maxGroupSize;
+
+   private final AtomicBoolean running = new AtomicBoolean();
+   private final LongAdder runs = new LongAdder();
+   private volatile LocalDateTime lastRunStarted;
+   private volatile long lastRunMs;
+   private volatile int groupsExamined;
+   private volatile int groupsSkipped;
+   private volatile int clusterCount;
+   private volatile int clusteredCombinations;
+
+   @Autowired
+   public DuplicateClusteringJob(ColorCombinationRepository combinationRepository,
+            ColorInCombinationRepository colorRepository,
+            ColorCombinationService colorCombinationService,
+            FingerprintBackfill fingerprintBackfill,
+            @Value("${kolors.duplicates.clustering.max-distance:3.0}") double maxDistance,
+            @Value("${kolors.duplicates.clustering.max-group-size:2000}") int maxGroupSize) {
+      if (maxDistance < 0 || maxGroupSize < 2) {
+         throw new IllegalArgumentException("Invalid duplicate clustering configuration");
+      }
+      this.combinationRepository = combinationRepository;
+      this.colorRepository = colorRepository;
+      this.colorCombinationService = colorCombinationService;
+      this.fingerprintBackfill = fingerprintBackfill;
+      this.maxDistance = maxDistance;
+      this.maxGroupSize = maxGroupSize;
+   }
+
+   @Scheduled(cron = "${kolors.duplicates.clustering.cron:0 0 4 * * *}")
+   public void scheduled() {
+      run();
+   }
+
+   /** Rebuilds every cluster; returns at once if a run is in progress */
+   public void run() {
+      if (!running.compareAndSet(false, true)) {
+         return;
+      }
+      long start = System.nanoTime();
+      lastRunStarted = LocalDateTime.now();
+      runs.increment();
+      try {
+         fingerprintBackfill.backfill();
+         UnionFind clusters = new UnionFind();
+         int examined = 0;
+         int skipped = 0;
+         for (boolean shifted : new boolean[] {false, true}) {
+            List<Long> signatures = shifted ? combinationRepository.findSharedShiftedSignatures()
+                     : combinationRepository.findSharedSignatures();
+            for (Long signature : signatures) {
+               List<Long> ids = shifted
+                        ? combinationRepository.findIdsByPaletteShiftedSignature(signature)
+                        : combinationRepository.findIdsByPaletteSignature(signature);
+               if (ids.size() > maxGroupSize) {
+                  skipped++;
+                  continue;
+               }
+               examined++;
+               clusterGroup(palettes(ids), clusters);
+            }
+         }
+         Map<Long, List<Long>> result = clusters.clusters();
+         colorCombinationService.replaceDuplicateClusters(result);
+         groupsExamined = examined;
+         groupsSkipped = skipped;
+         clusterCount = result.size();
+         clusteredCombinations = result.values().stream().mapToInt(List::size).sum();
+         logger.info("Found {} near-duplicate clusters covering {} combinations", clusterCount,
+                  clusteredCombinations);
+         if (skipped > 0) {
+            logger.warn("Skipped {} signature groups larger than {} combinations", skipped,
+                     maxGroupSize);
+         }
+      } catch (Exception e) {
+         logger.error("Error clustering near-duplicate combinations", e);
+      } finally {
+         lastRunMs = (System.nanoTime() - start) / 1_000_000;
+         running.set(false);
+      }
+   }
+
+   /** Colors of the combinations in position order, by ID */
+   private Map<Long, int[]> palettes(List<Long> ids) {
+      Map<Long, List<String>> hexValues = new LinkedHashMap<>();
+      for (int from = 0; from < ids.size(); from += ID_CHUNK) {
+         List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + ID_CHUNK));
+         for (Object[] row : colorRepository.findHexValuesByCombinationIds(chunk)) {
+            hexValues.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                     .add((String) row[1]);
+         }
+      }
+      Map<Long, int[]> palettes = new LinkedHashMap<>();
+      hexValues.forEach((id, hex) -> palettes.put(id,
+               hex.stream().mapToInt(Rgb::parseHex).toArray()));
+      return palettes;
+   }
+
+   /** Joins same-color palettes, then compares one representative of each distinct palette */
+   private void clusterGroup(Map<Long, int[]> palettes, UnionFind clusters) {
+      Map<List<Integer>, Long> representatives = new HashMap<>();
+      List<Long> distinctIds = new ArrayList<>();
+      List<float[]> distinctLab = new ArrayList<>();
+      palettes.forEach((id, colors) -> {
+         List<Integer> sorted = Arrays.stream(colors).sorted().boxed().toList();
+         Long representative = representatives.putIfAbsent(sorted, id);
+         if (representative != null) {
+            clusters.union(representative, id);
+         } else {
+            distinctIds.add(id);
+            distinctLab.add(PaletteDistance.toLab(colors));
+         }
+      });
+      for (int i = 0; i < distinctIds.size(); i++) {
+         for (int j = i + 1; j < distinctIds.size(); j++) {
+            float[] first = distinctLab.get(i);
+            float[] second = distinctLab.get(j);
+            if (first.length == second.length
+                     && PaletteDistance.distance(first, second, maxDistance) < maxDistance) {
+               clusters.union(distinctIds.get(i), distinctIds.get(j));
+            }
+         }
+      }
+   }
+
+   /** Gets run counters and the size of the last clustering */
+   public ClusteringStatistics getStatistics() {
+      return new ClusteringStatistics(running.get(), runs.sum(), lastRunStarted, lastRunMs,
+               groupsExamined, groupsSkipped, clusterCount, clusteredCombinations, maxDistance);
+   }
+
+   /** Duplicate clustering counters of the last completed run */
+   public record ClusteringStatistics(boolean running, long runCount,
+            LocalDateTime lastRunStarted, long lastRunMs, int groupsExamined, int groupsSkipped,
+            int clusterCount, int clusteredCombinations, double maxDistance) {}
+
+   /** Disjoint sets of combination IDs whose root is always the lowest ID */
+   static final class UnionFind {
+
+      private final Map<Long, Long> parent = new HashMap<>();
+
+      Long find(Long id) {
+         Long root = id;
+         Long next;
+         while ((next = parent.get(root)) != null && !next.equals(root)) {
+            root = next;
+         }
+         // Path compression
+         Long current = id;
+         while (!current.equals(root)) {
+            Long following = parent.get(current);
+            parent.put(current, root);
+            current = following;
+         }
+         return root;
+      }
+
+      void union(Long first, Long second) {
+         parent.putIfAbsent(first, first);
+         parent.putIfAbsent(second, second);
+         Long firstRoot = find(first);
+         Long secondRoot = find(second);
+         if (!firstRoot.equals(secondRoot)) {
+            if (firstRoot < secondRoot) {
+               parent.put(secondRoot, firstRoot);
+            } else {
+               parent.put(firstRoot, secondRoot);
+            }
+         }
+      }
+
+      /** Clusters of at least two IDs keyed by their lowest ID, members ascending */
+      Map<Long, List<Long>> clusters() {
+         Map<Long, List<Long>> clusters = new TreeMap<>();
+         new TreeMap<>(parent).keySet()
+                  .forEach(id -> clusters.computeIfAbsent(find(id), root -> new ArrayList<>())
+                           .add(id));
+         clusters.values().removeIf(members -> members.size() < 2);
+         return clusters;
+      }
+   }
+}
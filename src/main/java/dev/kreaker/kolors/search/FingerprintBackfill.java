@@ -0,0 +1,43 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Computes the palette fingerprints of combinations stored before they existed. New writes compute
+ * them in {@link ColorCombinationService}; this only catches up older rows, one transaction per
+ * batch, and finds nothing to do once they are filled. {@link DuplicateClusteringJob} runs it
+ * too before clustering, so calls are serialized.
+ */
+@Component
+public class FingerprintBackfill {
+
+   private static final Logger logger = LoggerFactory.getLogger(FingerprintBackfill.class);
+   private static final int BATCH_SIZE = 200;
+
+   private final ColorCombinationService colorCombinationService;
+
+   public FingerprintBackfill(ColorCombinationService colorCombinationService) {
+      this.colorCombinationService = colorCombinationService;
+   }
+
+   public synchronized void backfill() {
+      try {
+         int total = 0;
+         int updated;
+         do {
+            updated = colorCombinationService.backfillFingerprints(BATCH_SIZE);
+            total += updated;
+         } while (updated == BATCH_SIZE);
+         if (total > 0) {
+            logger.info("Computed palette fingerprints of {} existing combinations", total);
+         }
+      } catch (Exception e) {
+         logger.error("Error computing palette fingerprints of existing combinations", e);
+      }
+   }
+}
@@ -0,0 +1,356 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.Arrays;
+
+/**
+ * Compressed set of non-negative ints, laid out like a Roaring bitmap.
+ *
+ * <p>
+ * Values are split by their high 16 bits into containers of up to 65536 values. A container holds
+ * a sorted {@code char[]} while it has at most {@value #ARRAY_LIMIT} values (2 bytes each) and a
+ * 1024-word bitmap (8 KiB) above that, so sparse and dense sets both stay small. AND, OR and
+ * AND NOT work container by container and return new bitmaps; the operands are not modified.
+ * Adding ascending values, as the index does with fresh ordinals, appends without shifting. Not
+ * thread-safe.
+ */
+final class OrdinalBitmap {
+
+   /** Largest container kept as a sorted array */
+   static final int ARRAY_LIMIT = 4096;
+
+   private static final int WORDS = 1024;
+
+   private char[] keys = new char[4];
+   private Container[] containers = new Container[4];
+   private int size;
+
+   static OrdinalBitmap of(int... values) {
+      OrdinalBitmap bitmap = new OrdinalBitmap();
+      for (int value : values) {
+         bitmap.add(value);
+      }
+      return bitmap;
+   }
+
+   void add(int value) {
+      if (value < 0) {
+         throw new IllegalArgumentException("Values cannot be negative");
+      }
+      char high = (char) (value >>> 16);
+      int index = size > 0 && keys[size - 1] < high ? -(size + 1) : indexOf(high);
+      if (index < 0) {
+         index = -index - 1;
+         if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+         }
+         System.arraycopy(keys, index, keys, index + 1, size - index);
+         System.arraycopy(containers, index, containers, index + 1, size - index);
+         keys[index] = high;
+         containers[index] = new Container(new char[4], null, 0);
+         size++;
+      }
+      containers[index].add((char) value);
+   }
+
+   boolean contains(int value) {
+      if (value < 0) {
+         return false;
+      }
+      int index = indexOf((char) (value >>> 16));
+      return index >= 0 && containers[index].contains((char) value);
+   }
+
+   int cardinality() {
+      int cardinality = 0;
+      for (int i = 0; i < size; i++) {
+         cardinality += containers[i].cardinality;
+      }
+      return cardinality;
+   }
+
+   boolean isEmpty() {
+      return size == 0;
+   }
+
+   /** Values in ascending order */
+   int[] toArray() {
+      int[] values = new int[cardinality()];
+      int offset = 0;
+      for (int i = 0; i < size; i++) {
+         offset = containers[i].copyTo(keys[i] << 16, values, offset);
+      }
+      return values;
+   }
+
+   /** Approximate heap footprint of the containers, in bytes */
+   long sizeInBytes() {
+      long bytes = keys.length * 2L + containers.length * 8L;
+      for (int i = 0; i < size; i++) {
+         Container container = containers[i];
+         bytes += container.words != null ? WORDS * 8L : container.values.length * 2L;
+      }
+      return bytes;
+   }
+
+   OrdinalBitmap and(OrdinalBitmap other) {
+      OrdinalBitmap result = new OrdinalBitmap();
+      int i = 0;
+      int j = 0;
+      while (i < size && j < other.size) {
+         if (keys[i] < other.keys[j]) {
+            i++;
+         } else if (keys[i] > other.keys[j]) {
+            j++;
+         } else {
+            result.append(keys[i], containers[i++].and(other.containers[j++]));
+         }
+      }
+      return result;
+   }
+
+   OrdinalBitmap or(OrdinalBitmap other) {
+      OrdinalBitmap result = new OrdinalBitmap();
+      int i = 0;
+      int j = 0;
+      while (i < size || j < other.size) {
+         if (j == other.size || i < size && keys[i] < other.keys[j]) {
+            result.append(keys[i], containers[i++].copy());
+         } else if (i == size || other.keys[j] < keys[i]) {
+            result.append(other.keys[j], other.containers[j++].copy());
+         } else {
+            result.append(keys[i], containers[i++].or(other.containers[j++]));
+         }
+      }
+      return result;
+   }
+
+   /** Values of this bitmap that are not in {@code other} */
+   OrdinalBitmap andNot(OrdinalBitmap other) {
+      OrdinalBitmap result = new OrdinalBitmap();
+      int j = 0;
+      for (int i = 0; i < size; i++) {
+         while (j < other.size && other.keys[j] < keys[i]) {
+            j++;
+         }
+         boolean shared = j < other.size && other.keys[j] == keys[i];
+         result.append(keys[i],
+                  shared ? containers[i].andNot(other.containers[j]) : containers[i].copy());
+      }
+      return result;
+   }
+
+   /** Appends a container with a key above every present key; empty containers are dropped */
+   private void append(char key, Container container) {
+      if (container == null) {
+         return;
+      }
+      if (size == keys.length) {
+         keys = Arrays.copyOf(keys, size * 2);
+         containers = Arrays.copyOf(containers, size * 2);
+      }
+      keys[size] = key;
+      containers[size++] = container;
+   }
+
+   private int indexOf(char key) {
+      return Arrays.binarySearch(keys, 0, size, key);
+   }
+
+   /** Values sharing the same high 16 bits: a sorted array or, when {@code words} is set, bits */
+   private static final class Container {
+
+      private char[] values;
+      private long[] words;
+      private int cardinality;
+
+      private Container(char[] values, long[] words, int cardinality) {
+         this.values = values;
+         this.words = words;
+         this.cardinality = cardinality;
+      }
+
+      /** Container for a bitmap of the given cardinality, as an array when small; null if empty */
+      private static Container ofWords(long[] words, int cardinality) {
+         if (cardinality == 0) {
+            return null;
+         }
+         if (cardinality > ARRAY_LIMIT) {
+            return new Container(null, words, cardinality);
+         }
+         char[] values = new char[cardinality];
+         int count = 0;
+         for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+               values[count++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+               word &= word - 1;
+            }
+         }
+         return new Container(values, null, cardinality);
+      }
+
+      private static Container ofValues(char[] values, int cardinality) {
+         return cardinality == 0 ? null : new Container(values, null, cardinality);
+      }
+
+      void add(char value) {
+         if (words != null) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+               words[value >>> 6] |= bit;
+               cardinality++;
+            }
+            return;
+         }
+         int index = cardinality > 0 && values[cardinality - 1] < value ? -(cardinality + 1)
+                  : Arrays.binarySearch(values, 0, cardinality, value);
+         if (index >= 0) {
+            return;
+         }
+         if (cardinality == ARRAY_LIMIT) {
+            words = toWords();
+            values = null;
+            add(value);
+            return;
+         }
+         index = -index - 1;
+         if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+         }
+         System.arraycopy(values, index, values, index + 1, cardinality - index);
+         values[index] = value;
+         cardinality++;
+      }
+
+      boolean contains(char value) {
+         if (words != null) {
+            return (words[value >>> 6] & 1L << value) != 0;
+         }
+         return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+      }
+
+      Container and(Container other) {
+         if (words != null && other.words != null) {
+            long[] result = new long[WORDS];
+            int cardinality = 0;
+            for (int w = 0; w < WORDS; w++) {
+               result[w] = words[w] & other.words[w];
+               cardinality += Long.bitCount(result[w]);
+            }
+            return ofWords(result, cardinality);
+         }
+         // At least one side is an array: probe the other with the smaller array's values
+         Container array = words == null && (other.words != null
+                  || cardinality <= other.cardinality) ? this : other;
+         Container probed = array == this ? other : this;
+         char[] result = new char[array.cardinality];
+         int count = 0;
+         for (int i = 0; i < array.cardinality; i++) {
+            if (probed.contains(array.values[i])) {
+               result[count++] = array.values[i];
+            }
+         }
+         return ofValues(result, count);
+      }
+
+      Container or(Container other) {
+         if (words == null && other.words == null
+                  && cardinality + other.cardinality <= ARRAY_LIMIT) {
+            char[] result = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < cardinality || j < other.cardinality) {
+               if (j == other.cardinality || i < cardinality && values[i] < other.values[j]) {
+                  result[count++] = values[i++];
+               } else if (i == cardinality || other.values[j] < values[i]) {
+                  result[count++] = other.values[j++];
+               } else {
+                  result[count++] = values[i++];
+                  j++;
+               }
+            }
+            return ofValues(result, count);
+         }
+         long[] result = toWords();
+         int cardinality = 0;
+         if (other.words != null) {
+            for (int w = 0; w < WORDS; w++) {
+               result[w] |= other.words[w];
+            }
+         } else {
+            for (int i = 0; i < other.cardinality; i++) {
+               result[other.values[i] >>> 6] |= 1L << other.values[i];
+            }
+         }
+         for (long word : result) {
+            cardinality += Long.bitCount(word);
+         }
+         return ofWords(result, cardinality);
+      }
+
+      Container andNot(Container other) {
+         if (words == null) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+               if (!other.contains(values[i])) {
+                  result[count++] = values[i];
+               }
+            }
+            return ofValues(result, count);
+         }
+         long[] result = words.clone();
+         if (other.words != null) {
+            for (int w = 0; w < WORDS; w++) {
+               result[w] &= ~other.words[w];
+            }
+         } else {
+            for (int i = 0; i < other.cardinality; i++) {
+               result[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+            }
+         }
+         int cardinality = 0;
+         for (long word : result) {
+            cardinality += Long.bitCount(word);
+         }
+         return ofWords(result, cardinality);
+      }
+
+      Container copy() {
+         return words != null ? new Container(null, words.clone(), cardinality)
+                  : new Container(Arrays.copyOf(values, cardinality), null, cardinality);
+      }
+
+      /** Copies the values, offset by {@code base}, and returns the next free offset */
+      int copyTo(int base, int[] out, int offset) {
+         if (words == null) {
+            for (int i = 0; i < cardinality; i++) {
+               out[offset++] = base | values[i];
+            }
+            return offset;
+         }
+         for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+               out[offset++] = base | w << 6 | Long.numberOfTrailingZeros(word);
+               word &= word - 1;
+            }
+         }
+         return offset;
+      }
+
+      private long[] toWords() {
+         if (words != null) {
+            return words.clone();
+         }
+         long[] result = new long[WORDS];
+         for (int i = 0; i < cardinality; i++) {
+            result[values[i] >>> 6] |= 1L << values[i];
+         }
+         return result;
+      }
+   }
+}
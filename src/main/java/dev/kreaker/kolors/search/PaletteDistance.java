@@ -0,0 +1,153 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.Arrays;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+import dev.kreaker.kolors.color.DeltaEKernel;
+import dev.kreaker.kolors.color.DeltaEKernels;
+
+/**
+ * Order-independent distance between two palettes in CIELAB.
+ *
+ * <p>
+ * Colors of the smaller palette are paired one-to-one with colors of the larger one so that the
+ * total CIE76 ΔE is minimal (Hungarian algorithm). Colors of the larger palette left without a
+ * partner cost their distance to the nearest color of the smaller one. The sum is divided by the
+ * size of the larger palette, so the result reads as an average ΔE per color: 0 for the same
+ * colors in any order, roughly 2 for a just-noticeable difference.
+ *
+ * <p>
+ * The cost matrix is filled one row at a time through the preferred {@link DeltaEKernel}.
+ */
+public final class PaletteDistance {
+
+   private static final DeltaEKernel KERNEL = DeltaEKernels.preferred();
+
+   private PaletteDistance() {}
+
+   /** Converts a packed {@code 0xRRGGBB} color to CIELAB and writes L, a, b at {@code offset} */
+   public static void toLab(int rgb, float[] lab, int offset) {
+      ColorSpaces.toLab(rgb, lab, offset);
+   }
+
+   /** Converts packed colors to a CIELAB array of {@code L, a, b} triples */
+   public static float[] toLab(int[] colors) {
+      float[] lab = new float[colors.length * 3];
+      for (int i = 0; i < colors.length; i++) {
+         toLab(colors[i], lab, i * 3);
+      }
+      return lab;
+   }
+
+   /** Distance between two palettes given as CIELAB triples; 0 when either is empty */
+   public static double distance(float[] first, float[] second) {
+      return distance(first, second, Double.POSITIVE_INFINITY);
+   }
+
+   /**
+    * Distance between two palettes, or a lower bound of it that is at least {@code cutoff}. Every
+    * color of the larger palette pays at least its distance to the nearest color of the other, so
+    * when those minimums already reach the cutoff the assignment is skipped.
+    */
+   public static double distance(float[] first, float[] second, double cutoff) {
+      int firstCount = first.length / 3;
+      int secondCount = second.length / 3;
+      if (firstCount == 0 || secondCount == 0) {
+         return 0;
+      }
+      return firstCount <= secondCount ? assign(first, firstCount, second, secondCount, cutoff)
+               : assign(second, secondCount, first, firstCount, cutoff);
+   }
+
+   /** Minimum-cost assignment of {@code rows} (the smaller palette) to {@code columns} */
+   private static double assign(float[] rows, int n, float[] columns, int m, double cutoff) {
+      float[] columnL = new float[m];
+      float[] columnA = new float[m];
+      float[] columnB = new float[m];
+      for (int j = 0; j < m; j++) {
+         columnL[j] = columns[j * 3];
+         columnA[j] = columns[j * 3 + 1];
+         columnB[j] = columns[j * 3 + 2];
+      }
+      double[] cost = new double[n * m];
+      double[] nearestInColumn = new double[m];
+      Arrays.fill(nearestInColumn, Double.POSITIVE_INFINITY);
+      float[] squared = new float[m];
+      for (int i = 0; i < n; i++) {
+         KERNEL.squaredDistances(rows[i * 3], rows[i * 3 + 1], rows[i * 3 + 2], columnL, columnA,
+                  columnB, m, squared);
+         for (int j = 0; j < m; j++) {
+            double c = Math.sqrt(squared[j]);
+            cost[i * m + j] = c;
+            nearestInColumn[j] = Math.min(nearestInColumn[j], c);
+         }
+      }
+      double lowerBound = 0;
+      for (int j = 0; j < m; j++) {
+         lowerBound += nearestInColumn[j];
+      }
+      if (lowerBound / m >= cutoff) {
+         return lowerBound / m;
+      }
+      double[] u = new double[n + 1];
+      double[] v = new double[m + 1];
+      double[] minv = new double[m + 1];
+      int[] p = new int[m + 1];
+      int[] way = new int[m + 1];
+      boolean[] used = new boolean[m + 1];
+      for (int i = 1; i <= n; i++) {
+         p[0] = i;
+         int j0 = 0;
+         Arrays.fill(minv, Double.POSITIVE_INFINITY);
+         Arrays.fill(used, false);
+         do {
+            used[j0] = true;
+            int i0 = p[j0];
+            double delta = Double.POSITIVE_INFINITY;
+            int j1 = 0;
+            for (int j = 1; j <= m; j++) {
+               if (!used[j]) {
+                  double cur = cost[(i0 - 1) * m + j - 1] - u[i0] - v[j];
+                  if (cur < minv[j]) {
+                     minv[j] = cur;
+                     way[j] = j0;
+                  }
+                  if (minv[j] < delta) {
+                     delta = minv[j];
+                     j1 = j;
+                  }
+               }
+            }
+            for (int j = 0; j <= m; j++) {
+               if (used[j]) {
+                  u[p[j]] += delta;
+                  v[j] -= delta;
+               } else {
+                  minv[j] -= delta;
+               }
+            }
+            j0 = j1;
+         } while (p[j0] != 0);
+         do {
+            int j1 = way[j0];
+            p[j0] = p[j1];
+            j0 = j1;
+         } while (j0 != 0);
+      }
+
+      double total = 0;
+      for (int j = 1; j <= m; j++) {
+         if (p[j] != 0) {
+            total += cost[(p[j] - 1) * m + j - 1];
+         } else {
+            double nearest = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+               nearest = Math.min(nearest, cost[i * m + j - 1]);
+            }
+            total += nearest;
+         }
+      }
+      return total / m;
+   }
+}
@@ -0,0 +1,85 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.Arrays;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+
+/**
+ * 64-bit fingerprints of a palette, stored per combination so equal and nearly equal palettes are
+ * found with an index lookup.
+ *
+ * <ul>
+ * <li>{@link #ordered(int[])} hashes the colors in position order: equal only for the same
+ * palette.
+ * <li>{@link #unordered(int[])} hashes the sorted colors: equal for the same colors in any order.
+ * <li>{@link #signature(int[], boolean)} hashes the sorted CIELAB grid cells of the colors, so
+ * palettes whose colors differ by a few ΔE usually share it. Colors close to a cell boundary can
+ * fall on either side, so a second signature on a grid shifted by half a cell catches most of
+ * those pairs.
+ * </ul>
+ *
+ * Equal hashes are candidates, not proof: callers compare the colors before treating two palettes
+ * as equal.
+ */
+public final class PaletteFingerprint {
+
+   /** Edge of a signature grid cell in CIELAB units */
+   public static final double SIGNATURE_CELL = 10;
+
+   private static final long ORDERED_SEED = 0x6A09E667F3BCC908L;
+   private static final long UNORDERED_SEED = 0xBB67AE8584CAA73BL;
+   private static final long SIGNATURE_SEED = 0x3C6EF372FE94F82BL;
+
+   private PaletteFingerprint() {}
+
+   /** Hash of the colors in the given order */
+   public static long ordered(int[] colors) {
+      return hash(ORDERED_SEED, colors);
+   }
+
+   /** Hash of the colors regardless of order */
+   public static long unordered(int[] colors) {
+      int[] sorted = colors.clone();
+      Arrays.sort(sorted);
+      return hash(UNORDERED_SEED, sorted);
+   }
+
+   /**
+    * Hash of the sorted CIELAB cells of the colors; {@code shifted} moves the grid by half a cell
+    * on every axis
+    */
+   public static long signature(int[] colors, boolean shifted) {
+      double offset = shifted ? SIGNATURE_CELL / 2 : 0;
+      double[] lab = new double[3];
+      int[] cells = new int[colors.length];
+      for (int i = 0; i < colors.length; i++) {
+         ColorSpaces.toLab(colors[i], lab, 0);
+         // L in [0, 100] and a, b in about [-128, 128] fit 10 bits each at this cell size
+         int l = (int) Math.floor((lab[0] + offset) / SIGNATURE_CELL);
+         int a = (int) Math.floor((lab[1] + 128 + offset) / SIGNATURE_CELL);
+         int b = (int) Math.floor((lab[2] + 128 + offset) / SIGNATURE_CELL);
+         cells[i] = l << 20 | (a & 0x3FF) << 10 | (b & 0x3FF);
+      }
+      Arrays.sort(cells);
+      return hash(shifted ? ~SIGNATURE_SEED : SIGNATURE_SEED, cells);
+   }
+
+   private static long hash(long seed, int[] values) {
+      long h = seed ^ values.length;
+      for (int value : values) {
+         h = Long.rotateLeft(h ^ mix(value & 0xFFFFFFFFL), 27) * 0x9E3779B97F4A7C15L;
+      }
+      return mix(h);
+   }
+
+   // MurmurHash3 64-bit finalizer
+   private static long mix(long h) {
+      h ^= h >>> 33;
+      h *= 0xFF51AFD7ED558CCDL;
+      h ^= h >>> 33;
+      h *= 0xC4CEB93FE1A85A1BL;
+      h ^= h >>> 33;
+      return h;
+   }
+}
@@ -0,0 +1,501 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.ColorCombinationRepository;
+import dev.kreaker.kolors.ColorInCombinationRepository;
+import dev.kreaker.kolors.color.Rgb;
+import dev.kreaker.kolors.dto.SimilarCombination;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+
+/**
+ * In-memory index for "palettes that look like this one".
+ *
+ * <p>
+ * CIELAB is cut into a coarse grid of {@value #CELL_COUNT} cells and every palette is posted under
+ * the cells its colors fall in. A query color probes the (up to) eight cells overlapping a one-cell
+ * box centred on it, so any indexed color within half a cell on each axis is seen, and each
+ * palette collects one vote per query color it has a color near. Only the best-voted
+ * {@code shortlist-size} palettes get the exact {@link PaletteDistance}; small libraries are
+ * compared exhaustively. The index is loaded at startup and then follows committed
+ * {@link CombinationChangeEvent}s.
+ */
+@Component
+@ConditionalOnProperty(name = "kolors.similar.enabled", havingValue = "true")
+public class PaletteSimilarityIndex {
+
+   private static final Logger logger = LoggerFactory.getLogger(PaletteSimilarityIndex.class);
+
+   // Grid over CIELAB: L in [0, 100], a and b in [-112, 112), which covers sRGB
+   private static final int L_BINS = 16;
+   private static final float L_STEP = 100f / L_BINS;
+   private static final int AB_BINS = 32;
+   private static final float AB_MIN = -112f;
+   private static final float AB_STEP = 224f / AB_BINS;
+   static final int CELL_COUNT = L_BINS * AB_BINS * AB_BINS;
+
+   private static final int INITIAL_CAPACITY = 1024;
+
+   private final ColorCombinationRepository combinationRepository;
+   private final ColorInCombinationRepository colorRepository;
+   private final int shortlistSize;
+   private final int maxResults;
+
+   private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+   private final Map<Long, Integer> slots = new HashMap<>();
+   private Entry[] entries = new Entry[INITIAL_CAPACITY];
+   private int slotLimit;
+   private int[] freeSlots = new int[16];
+   private int freeCount;
+   private final int[][] postings = new int[CELL_COUNT][];
+   private final int[] postingSizes = new int[CELL_COUNT];
+
+   private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+   private final LongAdder queries = new LongAdder();
+   private final LongAdder queryNanos = new LongAdder();
+   private final LongAdder candidates = new LongAdder();
+   private final LongAdder comparisons = new LongAdder();
+
+   @Autowired
+   public PaletteSimilarityIndex(ColorCombinationRepository combinationRepository,
+            ColorInCombinationRepository colorRepository,
+            @Value("${kolors.similar.shortlist-size:256}") int shortlistSize,
+            @Value("${kolors.similar.max-results:20}") int maxResults) {
+      if (shortlistSize < 1 || maxResults < 1 || maxResults > shortlistSize) {
+         throw new IllegalArgumentException("Invalid similarity index configuration");
+      }
+      this.combinationRepository = combinationRepository;
+      this.colorRepository = colorRepository;
+      this.shortlistSize = shortlistSize;
+      this.maxResults = maxResults;
+   }
+
+   /**
+    * Loads all palettes. Holds the index monitor so change events committed during the load wait
+    * and are applied on top of it.
+    */
+   @EventListener(ApplicationReadyEvent.class)
+   public synchronized void rebuild() {
+      long start = System.nanoTime();
+      Map<Long, String> names = new HashMap<>();
+      for (Object[] row : combinationRepository.findAllIdsAndNames()) {
+         names.put((Long) row[0], (String) row[1]);
+      }
+      List<Object[]> rows = colorRepository.findAllHexValues();
+
+      lock.writeLock().lock();
+      try {
+         clear();
+         int from = 0;
+         while (from < rows.size()) {
+            Long id = (Long) rows.get(from)[0];
+            int to = from;
+            while (to < rows.size() && id.equals(rows.get(to)[0])) {
+               to++;
+            }
+            int[] colors = new int[to - from];
+            for (int i = from; i < to; i++) {
+               colors[i - from] = Rgb.parseHex((String) rows.get(i)[1]);
+            }
+            put(id, names.get(id), colors);
+            from = to;
+         }
+      } finally {
+         lock.writeLock().unlock();
+      }
+      logger.info("Palette similarity index built: {} palettes in {} ms", size(),
+               (System.nanoTime() - start) / 1_000_000);
+   }
+
+   /**
+    * Applies a committed change. The colors are re-read from the database, so whichever event is
+    * applied last leaves the latest committed palette.
+    */
+   @EventListener
+   public synchronized void onChange(CombinationChangeEvent event) {
+      if (event.combinationId() == null) {
+         return;
+      }
+      if (event.type() == CombinationChangeEvent.Type.DELETED) {
+         remove(event.combinationId());
+         return;
+      }
+      List<Object[]> rows = colorRepository.findHexValuesByCombinationIds(
+               List.of(event.combinationId()));
+      int[] colors = new int[rows.size()];
+      for (int i = 0; i < colors.length; i++) {
+         colors[i] = Rgb.parseHex((String) rows.get(i)[1]);
+      }
+      put(event.combinationId(), event.name(), colors);
+   }
+
+   /** Adds or replaces one palette; a palette without colors is removed */
+   public void put(Long id, String name, int[] colors) {
+      lock.writeLock().lock();
+      try {
+         remove(id);
+         if (colors.length == 0) {
+            return;
+         }
+         float[] lab = PaletteDistance.toLab(colors);
+         int[] cells = new int[colors.length];
+         int cellCount = 0;
+         for (int i = 0; i < colors.length; i++) {
+            int cell = cell(bin(lab[i * 3], 0, L_STEP, L_BINS),
+                     bin(lab[i * 3 + 1], AB_MIN, AB_STEP, AB_BINS),
+                     bin(lab[i * 3 + 2], AB_MIN, AB_STEP, AB_BINS));
+            if (indexOf(cells, cellCount, cell) < 0) {
+               cells[cellCount++] = cell;
+            }
+         }
+         int slot = allocateSlot();
+         entries[slot] = new Entry(id, name, colors.clone(), lab, Arrays.copyOf(cells, cellCount));
+         slots.put(id, slot);
+         for (int i = 0; i < cellCount; i++) {
+            addPosting(cells[i], slot);
+         }
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   /** Removes one palette */
+   public void remove(Long id) {
+      lock.writeLock().lock();
+      try {
+         Integer slot = slots.remove(id);
+         if (slot == null) {
+            return;
+         }
+         for (int cell : entries[slot].cells()) {
+            removePosting(cell, slot);
+         }
+         entries[slot] = null;
+         if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+         }
+         freeSlots[freeCount++] = slot;
+      } finally {
+         lock.writeLock().unlock();
+      }
+   }
+
+   /** Gets the palettes closest to an indexed one, or empty if the id is not indexed */
+   public Optional<List<SimilarCombination>> findSimilar(Long id, int limit) {
+      lock.readLock().lock();
+      try {
+         Integer slot = slots.get(id);
+         if (slot == null) {
+            return Optional.empty();
+         }
+         return Optional.of(search(entries[slot].lab(), limit, slot));
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** Gets the palettes closest to the given packed colors, in any order */
+   public List<SimilarCombination> findSimilar(int[] colors, int limit) {
+      if (colors.length == 0) {
+         return List.of();
+      }
+      float[] lab = PaletteDistance.toLab(colors);
+      lock.readLock().lock();
+      try {
+         return search(lab, limit, -1);
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** Gets the number of indexed palettes */
+   public int size() {
+      lock.readLock().lock();
+      try {
+         return slots.size();
+      } finally {
+         lock.readLock().unlock();
+      }
+   }
+
+   /** Gets size and query counters */
+   public SimilarityIndexStatistics getStatistics() {
+      return new SimilarityIndexStatistics(size(), shortlistSize, queries.sum(), queryNanos.sum(),
+               candidates.sum(), comparisons.sum());
+   }
+
+   private List<SimilarCombination> search(float[] lab, int limit, int excludeSlot) {
+      long start = System.nanoTime();
+      int max = Math.max(1, Math.min(limit, maxResults));
+      Scratch work = scratch.get();
+      work.ensureCapacity(slotLimit, shortlistSize);
+      int shortlisted = slots.size() <= shortlistSize ? allSlots(work, excludeSlot)
+               : vote(work, lab, excludeSlot);
+
+      int[] best = new int[max];
+      double[] bestDistance = new double[max];
+      int found = 0;
+      for (int i = 0; i < shortlisted; i++) {
+         int slot = work.shortlist[i];
+         double cutoff = found < max ? Double.POSITIVE_INFINITY : bestDistance[found - 1];
+         double distance = PaletteDistance.distance(lab, entries[slot].lab(), cutoff);
+         if (distance < cutoff) {
+            int position = found < max ? found++ : found - 1;
+            while (position > 0 && bestDistance[position - 1] > distance) {
+               best[position] = best[position - 1];
+               bestDistance[position] = bestDistance[position - 1];
+               position--;
+            }
+            best[position] = slot;
+            bestDistance[position] = distance;
+         }
+      }
+
+      List<SimilarCombination> results = new ArrayList<>(found);
+      for (int i = 0; i < found; i++) {
+         Entry entry = entries[best[i]];
+         List<String> hexValues = new ArrayList<>(entry.colors().length);
+         for (int color : entry.colors()) {
+            hexValues.add(Rgb.toHex(color));
+         }
+         results.add(new SimilarCombination(entry.id(), entry.name(), hexValues,
+                  Math.round(bestDistance[i] * 100) / 100.0));
+      }
+      queries.increment();
+      queryNanos.add(System.nanoTime() - start);
+      comparisons.add(shortlisted);
+      return results;
+   }
+
+   private int allSlots(Scratch work, int excludeSlot) {
+      int count = 0;
+      for (int slot = 0; slot < slotLimit; slot++) {
+         if (entries[slot] != null && slot != excludeSlot) {
+            work.shortlist[count++] = slot;
+         }
+      }
+      candidates.add(count);
+      return count;
+   }
+
+   /** Collects votes from the probed cells and keeps the best-voted palettes */
+   private int vote(Scratch work, float[] lab, int excludeSlot) {
+      int colorCount = lab.length / 3;
+      int touched = 0;
+      for (int c = 0; c < colorCount; c++) {
+         int mark = work.nextMark();
+         int lowL = probeBin(lab[c * 3], 0, L_STEP, L_BINS);
+         int lowA = probeBin(lab[c * 3 + 1], AB_MIN, AB_STEP, AB_BINS);
+         int lowB = probeBin(lab[c * 3 + 2], AB_MIN, AB_STEP, AB_BINS);
+         for (int l = lowL; l <= Math.min(lowL + 1, L_BINS - 1); l++) {
+            for (int a = lowA; a <= Math.min(lowA + 1, AB_BINS - 1); a++) {
+               for (int b = lowB; b <= Math.min(lowB + 1, AB_BINS - 1); b++) {
+                  int cell = cell(l, a, b);
+                  int[] posting = postings[cell];
+                  for (int k = 0; k < postingSizes[cell]; k++) {
+                     int slot = posting[k];
+                     if (work.marks[slot] != mark) {
+                        work.marks[slot] = mark;
+                        if (work.votes[slot]++ == 0) {
+                           work.touched[touched++] = slot;
+                        }
+                     }
+                  }
+               }
+            }
+         }
+      }
+      candidates.add(touched);
+
+      // Lowest vote count that still fits the shortlist, filled from the top down
+      int[] histogram = new int[colorCount + 1];
+      for (int i = 0; i < touched; i++) {
+         int slot = work.touched[i];
+         if (slot != excludeSlot) {
+            histogram[work.votes[slot]]++;
+         }
+      }
+      int threshold = colorCount;
+      int taken = histogram[colorCount];
+      while (threshold > 1 && taken < shortlistSize) {
+         taken += histogram[--threshold];
+      }
+      int count = 0;
+      for (int i = 0; i < touched && count < shortlistSize; i++) {
+         int slot = work.touched[i];
+         if (slot != excludeSlot && work.votes[slot] > threshold) {
+            work.shortlist[count++] = slot;
+         }
+      }
+      for (int i = 0; i < touched && count < shortlistSize; i++) {
+         int slot = work.touched[i];
+         if (slot != excludeSlot && work.votes[slot] == threshold) {
+            work.shortlist[count++] = slot;
+         }
+      }
+      for (int i = 0; i < touched; i++) {
+         work.votes[work.touched[i]] = 0;
+      }
+      return count;
+   }
+
+   private void clear() {
+      slots.clear();
+      entries = new Entry[INITIAL_CAPACITY];
+      slotLimit = 0;
+      freeCount = 0;
+      Arrays.fill(postings, null);
+      Arrays.fill(postingSizes, 0);
+   }
+
+   private int allocateSlot() {
+      if (freeCount > 0) {
+         return freeSlots[--freeCount];
+      }
+      if (slotLimit == entries.length) {
+         entries = Arrays.copyOf(entries, entries.length * 2);
+      }
+      return slotLimit++;
+   }
+
+   private void addPosting(int cell, int slot) {
+      int[] posting = postings[cell];
+      if (posting == null) {
+         posting = postings[cell] = new int[8];
+      } else if (postingSizes[cell] == posting.length) {
+         posting = postings[cell] = Arrays.copyOf(posting, posting.length * 2);
+      }
+      posting[postingSizes[cell]++] = slot;
+   }
+
+   private void removePosting(int cell, int slot) {
+      int[] posting = postings[cell];
+      int index = indexOf(posting, postingSizes[cell], slot);
+      if (index >= 0) {
+         posting[index] = posting[--postingSizes[cell]];
+      }
+   }
+
+   private static int indexOf(int[] values, int count, int value) {
+      for (int i = 0; i < count; i++) {
+         if (values[i] == value) {
+            return i;
+         }
+      }
+      return -1;
+   }
+
+   private static int cell(int l, int a, int b) {
+      return (l * AB_BINS + a) * AB_BINS + b;
+   }
+
+   private static int bin(float value, float min, float step, int bins) {
+      return Math.max(0, Math.min(bins - 1, (int) Math.floor((value - min) / step)));
+   }
+
+   /** Lower of the two bins overlapped by a one-bin box centred on the value */
+   private static int probeBin(float value, float min, float step, int bins) {
+      return Math.max(0, Math.min(bins - 1, (int) Math.floor((value - min) / step - 0.5f)));
+   }
+
+   /** One indexed palette; colors are packed RGB, lab holds L, a, b triples */
+   private record Entry(Long id, String name, int[] colors, float[] lab, int[] cells) {}
+
+   /** Per-thread vote counters, sized to the slot count so queries do not allocate them */
+   private static final class Scratch {
+
+      private int[] votes = new int[0];
+      private int[] marks = new int[0];
+      private int[] touched = new int[0];
+      private int[] shortlist = new int[0];
+      private int mark;
+
+      void ensureCapacity(int slotCount, int shortlistSize) {
+         if (votes.length < slotCount) {
+            int capacity = Math.max(slotCount, votes.length * 2);
+            votes = new int[capacity];
+            marks = new int[capacity];
+            touched = new int[capacity];
+            mark = 0;
+         }
+         if (shortlist.length < shortlistSize) {
+            shortlist = new int[shortlistSize];
+         }
+      }
+
+      int nextMark() {
+         if (++mark == Integer.MAX_VALUE) {
+            Arrays.fill(marks, 0);
+            mark = 1;
+         }
+         return mark;
+      }
+   }
+
+   /** Similarity index size and query counters */
+   public static class SimilarityIndexStatistics {
+
+      private final int size;
+      private final int shortlistSize;
+      private final long queryCount;
+      private final long queryTimeNanos;
+      private final long candidateCount;
+      private final long comparisonCount;
+
+      public SimilarityIndexStatistics(int size, int shortlistSize, long queryCount,
+               long queryTimeNanos, long candidateCount, long comparisonCount) {
+         this.size = size;
+         this.shortlistSize = shortlistSize;
+         this.queryCount = queryCount;
+         this.queryTimeNanos = queryTimeNanos;
+         this.candidateCount = candidateCount;
+         this.comparisonCount = comparisonCount;
+      }
+
+      /** Indexed palettes */
+      public int getSize() {
+         return size;
+      }
+
+      /** Maximum palettes compared exactly per query */
+      public int getShortlistSize() {
+         return shortlistSize;
+      }
+
+      public long getQueryCount() {
+         return queryCount;
+      }
+
+      public double getAverageQueryTimeMicros() {
+         return queryCount > 0 ? queryTimeNanos / 1_000.0 / queryCount : 0.0;
+      }
+
+      /** Palettes sharing at least one probed cell with the query, on average */
+      public double getAverageCandidates() {
+         return queryCount > 0 ? (double) candidateCount / queryCount : 0.0;
+      }
+
+      /** Exact distance computations per query, on average */
+      public double getAverageComparisons() {
+         return queryCount > 0 ? (double) comparisonCount / queryCount : 0.0;
+      }
+   }
+}
@@ -0,0 +1,44 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Derives the hue, lightness and chroma columns of colors stored before they existed, and the
+ * aggregates of their combinations. New colors derive them as their hex value is set; this only
+ * catches up older rows, one transaction per batch, and finds nothing to do once they are filled.
+ */
+@Component
+public class PerceptualBackfill {
+
+   private static final Logger logger = LoggerFactory.getLogger(PerceptualBackfill.class);
+   private static final int BATCH_SIZE = 200;
+
+   private final ColorCombinationService colorCombinationService;
+
+   public PerceptualBackfill(ColorCombinationService colorCombinationService) {
+      this.colorCombinationService = colorCombinationService;
+   }
+
+   public void backfill() {
+      try {
+         int total = 0;
+         int updated;
+         do {
+            updated = colorCombinationService.backfillPerceptual(BATCH_SIZE);
+            total += updated;
+         } while (updated == BATCH_SIZE);
+         if (total > 0) {
+            logger.info("Derived hue, lightness and chroma columns for {} existing combinations",
+                     total);
+         }
+      } catch (Exception e) {
+         logger.error("Error deriving hue, lightness and chroma columns of existing combinations",
+                  e);
+      }
+   }
+}
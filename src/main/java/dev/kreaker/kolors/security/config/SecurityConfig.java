@@ -6,6 +6,7 @@ import java.util.Arrays;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -38,6 +39,18 @@ public class SecurityConfig {
                                  "/favicon.ico")
                         .permitAll().requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/api/combinations/search", "/api/combinations/{id}")
+                        .permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/combinations",
+                                 "/api/combinations/events", "/api/combinations/suggest",
+                                 "/api/combinations/{id}/swatch.*", "/api/harmonies",
+                                 "/api/combinations/{id}/similar",
+                                 "/api/combinations/{id}/contrast",
+                                 "/api/combinations/{id}/color-vision",
+                                 "/api/combinations/color-vision",
+                                 "/api/combinations/containing",
+                                 "/api/combinations/{id}/duplicates", "/api/colors/top",
+                                 "/api/colors/trending", "/api/colors/{hex}/usage",
+                                 "/api/colors/{hex}/name", "/api/colors/names")
                         .permitAll().requestMatchers("/admin/migration-status").permitAll()
                         .requestMatchers("/mobile-test.html").permitAll()
                         // Swagger UI and API Docs
@@ -66,7 +79,9 @@ public class SecurityConfig {
       CorsConfiguration configuration = new CorsConfiguration();
       configuration.setAllowedOriginPatterns(Arrays.asList("*"));
       configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-      configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+      configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "If-Match",
+               "If-None-Match", "If-Modified-Since"));
+      configuration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified"));
       configuration.setAllowCredentials(true);
       UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
       source.registerCorsConfiguration("/**", configuration);
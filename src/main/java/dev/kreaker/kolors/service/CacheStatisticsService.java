@@ -0,0 +1,122 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Service exposing Hibernate second-level and query cache statistics Requires
+ * {@code hibernate.generate_statistics=true}; otherwise all counters stay at zero
+ */
+@Service
+public class CacheStatisticsService {
+
+   private final EntityManagerFactory entityManagerFactory;
+
+   public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+      this.entityManagerFactory = entityManagerFactory;
+   }
+
+   /** Gets hit/miss/put counters for the second-level cache, the query cache and each region */
+   public CacheStatisticsSummary getCacheStatistics() {
+      Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+      Map<String, CacheRegionSummary> regions = new TreeMap<>();
+      for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+         CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+         if (region != null) {
+            regions.put(regionName, new CacheRegionSummary(region.getHitCount(),
+                     region.getMissCount(), region.getPutCount(),
+                     region.getElementCountInMemory()));
+         }
+      }
+
+      return new CacheStatisticsSummary(statistics.isStatisticsEnabled(),
+               new CacheRegionSummary(statistics.getSecondLevelCacheHitCount(),
+                        statistics.getSecondLevelCacheMissCount(),
+                        statistics.getSecondLevelCachePutCount(), -1),
+               new CacheRegionSummary(statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(),
+                        -1),
+               regions);
+   }
+
+   /** Summary of second-level and query cache effectiveness */
+   public static class CacheStatisticsSummary {
+
+      private final boolean statisticsEnabled;
+      private final CacheRegionSummary secondLevelCache;
+      private final CacheRegionSummary queryCache;
+      private final Map<String, CacheRegionSummary> regions;
+
+      public CacheStatisticsSummary(boolean statisticsEnabled,
+               CacheRegionSummary secondLevelCache, CacheRegionSummary queryCache,
+               Map<String, CacheRegionSummary> regions) {
+         this.statisticsEnabled = statisticsEnabled;
+         this.secondLevelCache = secondLevelCache;
+         this.queryCache = queryCache;
+         this.regions = regions;
+      }
+
+      public boolean isStatisticsEnabled() {
+         return statisticsEnabled;
+      }
+
+      public CacheRegionSummary getSecondLevelCache() {
+         return secondLevelCache;
+      }
+
+      public CacheRegionSummary getQueryCache() {
+         return queryCache;
+      }
+
+      public Map<String, CacheRegionSummary> getRegions() {
+         return regions;
+      }
+   }
+
+   /** Hit/miss/put counters of one cache or region; element count is -1 when not applicable */
+   public static class CacheRegionSummary {
+
+      private final long hitCount;
+      private final long missCount;
+      private final long putCount;
+      private final long elementCount;
+
+      public CacheRegionSummary(long hitCount, long missCount, long putCount, long elementCount) {
+         this.hitCount = hitCount;
+         this.missCount = missCount;
+         this.putCount = putCount;
+         this.elementCount = elementCount;
+      }
+
+      public long getHitCount() {
+         return hitCount;
+      }
+
+      public long getMissCount() {
+         return missCount;
+      }
+
+      public long getPutCount() {
+         return putCount;
+      }
+
+      public long getElementCount() {
+         return elementCount;
+      }
+
+      /** Percentage of lookups served from the cache */
+      public double getHitRatio() {
+         long lookups = hitCount + missCount;
+         return lookups == 0 ? 0.0 : (hitCount * 100.0) / lookups;
+      }
+   }
+}
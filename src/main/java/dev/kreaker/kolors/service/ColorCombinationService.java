@@ -2,29 +2,61 @@
 package dev.kreaker.kolors.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import dev.kreaker.kolors.ColorCombination;
 import dev.kreaker.kolors.ColorCombinationRepository;
 import dev.kreaker.kolors.ColorInCombination;
 import dev.kreaker.kolors.ColorInCombinationRepository;
+import dev.kreaker.kolors.accessibility.ColorVision;
+import dev.kreaker.kolors.accessibility.ColorVisionDeficiency;
+import dev.kreaker.kolors.accessibility.WcagContrast;
+import dev.kreaker.kolors.color.Hues;
+import dev.kreaker.kolors.color.Rgb;
 import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
 import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.CombinationDuplicatesResponse;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.dto.PerceptualFilter;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+import dev.kreaker.kolors.event.CombinationChangeEvent.Type;
 import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
 import dev.kreaker.kolors.exception.ColorCombinationValidationException;
 import dev.kreaker.kolors.exception.ColorRemovalException;
+import dev.kreaker.kolors.exception.CombinationVersionConflictException;
+import dev.kreaker.kolors.exception.DuplicatePaletteException;
 import dev.kreaker.kolors.exception.EmptyCombinationException;
 import dev.kreaker.kolors.exception.InvalidColorFormatException;
+import dev.kreaker.kolors.naming.ColorNames;
+import dev.kreaker.kolors.search.ColorBitmapIndex;
+import dev.kreaker.kolors.search.CombinationSpecifications;
+import dev.kreaker.kolors.search.PaletteFingerprint;
 
 /**
  * Business service for color combination management Provides CRUD operations and data validation
@@ -35,17 +67,47 @@ public class ColorCombinationService {
 
    private static final Logger logger = LoggerFactory.getLogger(ColorCombinationService.class);
    private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("^[0-9A-Fa-f]{6}$");
+   // Keeps the IN list of the hex value query well below SQLite's bound parameter limit
+   private static final int SUMMARY_ID_CHUNK = 500;
 
    private final ColorCombinationRepository colorCombinationRepository;
    private final ColorInCombinationRepository colorInCombinationRepository;
    private final ColorPositionService colorPositionService;
+   private final ApplicationEventPublisher eventPublisher;
+
+   // Bumped after every committed write; caches of rendered lists compare against it and change
+   // events are published alongside
+   private final AtomicLong writeGeneration = new AtomicLong();
+
+   private boolean rejectExactDuplicates;
+   private ColorBitmapIndex colorBitmapIndex;
+   private ColorNames colorNames;
 
    public ColorCombinationService(ColorCombinationRepository colorCombinationRepository,
             ColorInCombinationRepository colorInCombinationRepository,
-            ColorPositionService colorPositionService) {
+            ColorPositionService colorPositionService, ApplicationEventPublisher eventPublisher) {
       this.colorCombinationRepository = colorCombinationRepository;
       this.colorInCombinationRepository = colorInCombinationRepository;
       this.colorPositionService = colorPositionService;
+      this.eventPublisher = eventPublisher;
+   }
+
+   /** Whether creating a combination with the same colors, in order, as an existing one fails */
+   @Value("${kolors.duplicates.reject-exact:false}")
+   public void setRejectExactDuplicates(boolean rejectExactDuplicates) {
+      this.rejectExactDuplicates = rejectExactDuplicates;
+   }
+
+   /** Answers color containment searches from memory when the bitmap index is enabled */
+   @Autowired(required = false)
+   public void setColorBitmapIndex(ColorBitmapIndex colorBitmapIndex) {
+      this.colorBitmapIndex = colorBitmapIndex;
+   }
+
+   /** Lets the hex value filters of the searches also take color names such as "navy" */
+   @Autowired(required = false)
+   public void setColorNames(ColorNames colorNames) {
+      this.colorNames = colorNames;
    }
 
    /** Creates a new color combination */
@@ -70,8 +132,18 @@ public class ColorCombinationService {
          }
       }
 
+      applyDerivedColumns(combination);
+      if (rejectExactDuplicates) {
+         List<ColorCombination> existing = exactDuplicates(combination);
+         if (!existing.isEmpty()) {
+            throw new DuplicatePaletteException(existing.get(0).getId(),
+                     existing.get(0).getName());
+         }
+      }
+
       // Save to database
       ColorCombination savedCombination = colorCombinationRepository.save(combination);
+      onCommit(() -> CombinationChangeEvent.of(Type.CREATED, savedCombination));
       logger.info("Color combination created successfully with ID: {}", savedCombination.getId());
 
       return savedCombination;
@@ -123,31 +195,129 @@ public class ColorCombinationService {
          throw InvalidColorFormatException.forHexValue(hexValue);
       }
 
-      return colorCombinationRepository.findByContainingHexValue(hexValue.toUpperCase());
+      return findContainingHexValue(hexValue.toUpperCase());
    }
 
-   /** Advanced search with multiple criteria */
+   /** Combinations containing the upper-cased hex value, from the bitmap index when enabled */
+   private List<ColorCombination> findContainingHexValue(String hexValue) {
+      if (colorBitmapIndex == null) {
+         return colorCombinationRepository.findByContainingHexValue(hexValue);
+      }
+      long[] ids = colorBitmapIndex.containingAll(new int[] {Rgb.parseHex(hexValue)});
+      Map<Long, ColorCombination> found = new HashMap<>();
+      for (int from = 0; from < ids.length; from += SUMMARY_ID_CHUNK) {
+         List<Long> chunk = Arrays.stream(ids, from, Math.min(ids.length, from + SUMMARY_ID_CHUNK))
+                  .boxed().toList();
+         colorCombinationRepository.findWithColorsByIds(chunk)
+                  .forEach(combination -> found.put(combination.getId(), combination));
+      }
+      // Index order, newest first; IDs deleted since the index answered are skipped
+      List<ColorCombination> result = new ArrayList<>(found.size());
+      for (long id : ids) {
+         ColorCombination combination = found.get(id);
+         if (combination != null) {
+            result.add(combination);
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Combinations containing every one ({@code all}) or any of the hex values, highest ID first.
+    * Answered by the bitmap index when enabled, by a GROUP BY or EXISTS query otherwise.
+    */
    @Transactional(readOnly = true)
-   public List<ColorCombination> searchWithFilters(String name, Integer minColors,
-            Integer maxColors, String hexValue) {
-      if (minColors != null && minColors < 1) {
-         throw new IllegalArgumentException("Minimum colors must be positive");
+   public Page<ColorCombinationSummary> findContainingColors(List<String> hexValues, boolean all,
+            Pageable pageable) {
+      if (pageable == null) {
+         throw new IllegalArgumentException("Pageable cannot be null");
       }
-      if (maxColors != null && maxColors < 1) {
-         throw new IllegalArgumentException("Maximum colors must be positive");
+      if (hexValues == null || hexValues.isEmpty()) {
+         throw new IllegalArgumentException("At least one color is required");
       }
-      if (minColors != null && maxColors != null && minColors > maxColors) {
-         throw new IllegalArgumentException("Minimum colors cannot be greater than maximum colors");
+      List<String> distinct = new ArrayList<>();
+      for (String hexValue : hexValues) {
+         if (!Rgb.isHex(hexValue)) {
+            throw InvalidColorFormatException.forHexValue(hexValue);
+         }
+         String normalized = Rgb.toHex(Rgb.parseHex(hexValue));
+         if (!distinct.contains(normalized)) {
+            distinct.add(normalized);
+         }
       }
+      logger.debug("Containment search - colors: {}, all: {}", distinct, all);
+
+      if (colorBitmapIndex == null) {
+         Page<ColorCombinationSummary> summaries = all
+                  ? colorCombinationRepository.findSummariesContainingAll(distinct,
+                           distinct.size(), pageable)
+                  : colorCombinationRepository.findSummariesContainingAny(distinct, pageable);
+         return new PageImpl<>(withHexValues(summaries.getContent()), pageable,
+                  summaries.getTotalElements());
+      }
+      int[] colors = distinct.stream().mapToInt(Rgb::parseHex).toArray();
+      long[] ids = all ? colorBitmapIndex.containingAll(colors)
+               : colorBitmapIndex.containingAny(colors);
+      int from = pageable.isPaged() ? (int) Math.min(ids.length, pageable.getOffset()) : 0;
+      int to = pageable.isPaged() ? Math.min(ids.length, from + pageable.getPageSize())
+               : ids.length;
+      return new PageImpl<>(withHexValues(summariesByIds(Arrays.copyOfRange(ids, from, to))),
+               pageable, ids.length);
+   }
+
+   /** Summaries of the given combinations in the given order, querying in bounded chunks */
+   private List<ColorCombinationSummary> summariesByIds(long[] ids) {
+      Map<Long, ColorCombinationSummary> found = new HashMap<>();
+      for (int from = 0; from < ids.length; from += SUMMARY_ID_CHUNK) {
+         List<Long> chunk = Arrays.stream(ids, from, Math.min(ids.length, from + SUMMARY_ID_CHUNK))
+                  .boxed().toList();
+         colorCombinationRepository.findSummariesByIds(chunk)
+                  .forEach(summary -> found.put(summary.id(), summary));
+      }
+      List<ColorCombinationSummary> result = new ArrayList<>(found.size());
+      for (long id : ids) {
+         ColorCombinationSummary summary = found.get(id);
+         if (summary != null) {
+            result.add(summary);
+         }
+      }
+      return result;
+   }
+
+   /** Advanced search with multiple criteria */
+   @Transactional(readOnly = true)
+   public List<ColorCombination> searchWithFilters(String name, Integer minColors,
+            Integer maxColors, String hexValue) {
+      return searchWithFilters(name, minColors, maxColors, hexValue, ContrastFilter.NONE);
+   }
+
+   /** Advanced search with multiple criteria, including WCAG contrast bounds */
+   @Transactional(readOnly = true)
+   public List<ColorCombination> searchWithFilters(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast) {
+      return searchWithFilters(name, minColors, maxColors, hexValue, contrast,
+               PerceptualFilter.NONE);
+   }
+
+   /** Advanced search with multiple criteria, including contrast and hue/lightness/chroma bounds */
+   @Transactional(readOnly = true)
+   public List<ColorCombination> searchWithFilters(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast,
+            PerceptualFilter perceptual) {
+      validateColorRange(minColors, maxColors);
+      validateContrastFilter(contrast);
+      validatePerceptualFilter(perceptual);
       logger.debug("Advanced search - name: '{}', minColors: {}, maxColors: {}, hexValue: '{}'",
                name, minColors, maxColors, hexValue);
 
+      if (!contrast.isEmpty() || !perceptual.isEmpty()) {
+         return searchWithFilters(name, minColors, maxColors, hexValue, contrast, perceptual,
+                  Pageable.unpaged()).getContent();
+      }
+
       // If searching by hex value, use specific method
       if (hexValue != null && !hexValue.trim().isEmpty()) {
-         if (!isValidHexColor(hexValue)) {
-            throw InvalidColorFormatException.forHexValue(hexValue);
-         }
-         return colorCombinationRepository.findByContainingHexValue(hexValue.toUpperCase());
+         return findContainingHexValue(resolveHexValue(hexValue));
       }
 
       // If both name and color range specified
@@ -175,29 +345,48 @@ public class ColorCombinationService {
    @Transactional(readOnly = true)
    public Page<ColorCombination> searchWithFilters(String name, Integer minColors,
             Integer maxColors, String hexValue, Pageable pageable) {
+      return searchWithFilters(name, minColors, maxColors, hexValue, ContrastFilter.NONE,
+               pageable);
+   }
+
+   /** Advanced search with pagination, including WCAG contrast bounds */
+   @Transactional(readOnly = true)
+   public Page<ColorCombination> searchWithFilters(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast, Pageable pageable) {
+      return searchWithFilters(name, minColors, maxColors, hexValue, contrast,
+               PerceptualFilter.NONE, pageable);
+   }
+
+   /**
+    * Advanced search with pagination, including contrast and hue/lightness/chroma bounds.
+    * Contrast and perceptual filters are answered by {@link CombinationSpecifications}, newest
+    * first.
+    */
+   @Transactional(readOnly = true)
+   public Page<ColorCombination> searchWithFilters(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast,
+            PerceptualFilter perceptual, Pageable pageable) {
       if (pageable == null) {
          throw new IllegalArgumentException("Pageable cannot be null");
       }
-      if (minColors != null && minColors < 1) {
-         throw new IllegalArgumentException("Minimum colors must be positive");
-      }
-      if (maxColors != null && maxColors < 1) {
-         throw new IllegalArgumentException("Maximum colors must be positive");
-      }
-      if (minColors != null && maxColors != null && minColors > maxColors) {
-         throw new IllegalArgumentException("Minimum colors cannot be greater than maximum colors");
-      }
+      validateColorRange(minColors, maxColors);
       logger.debug(
                "Advanced search with pagination - name: '{}', minColors: {}, maxColors: {}, hexValue: '{}', page: {}",
                name, minColors, maxColors, hexValue, pageable);
+      validateContrastFilter(contrast);
+      validatePerceptualFilter(perceptual);
+
+      if (!contrast.isEmpty() || !perceptual.isEmpty()) {
+         return colorCombinationRepository.findAll(
+                  CombinationSpecifications.matching(trimToNull(name), minColors, maxColors,
+                           validHexOrNull(hexValue), contrast, perceptual),
+                  newestFirst(pageable));
+      }
 
       // If searching by hex value, use specific method
       if (hexValue != null && !hexValue.trim().isEmpty()) {
-         if (!isValidHexColor(hexValue)) {
-            throw InvalidColorFormatException.forHexValue(hexValue);
-         }
          return colorCombinationRepository
-                  .findByContainingHexValueWithPagination(hexValue.toUpperCase(), pageable);
+                  .findByContainingHexValueWithPagination(resolveHexValue(hexValue), pageable);
       }
 
       // Use complex query for other filters
@@ -206,6 +395,181 @@ public class ColorCombinationService {
                pageable);
    }
 
+   /**
+    * Read-only counterpart of the paged {@code searchWithFilters} for list views: returns summary
+    * records instead of managed entities. Filters are validated the same way.
+    */
+   @Transactional(readOnly = true)
+   public Page<ColorCombinationSummary> searchSummaries(String name, Integer minColors,
+            Integer maxColors, String hexValue, Pageable pageable) {
+      return searchSummaries(name, minColors, maxColors, hexValue, ContrastFilter.NONE, pageable);
+   }
+
+   /** Summary search including WCAG contrast bounds */
+   @Transactional(readOnly = true)
+   public Page<ColorCombinationSummary> searchSummaries(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast, Pageable pageable) {
+      return searchSummaries(name, minColors, maxColors, hexValue, contrast,
+               PerceptualFilter.NONE, pageable);
+   }
+
+   /** Summary search including contrast and hue/lightness/chroma bounds */
+   @Transactional(readOnly = true)
+   public Page<ColorCombinationSummary> searchSummaries(String name, Integer minColors,
+            Integer maxColors, String hexValue, ContrastFilter contrast,
+            PerceptualFilter perceptual, Pageable pageable) {
+      if (pageable == null) {
+         throw new IllegalArgumentException("Pageable cannot be null");
+      }
+      validateColorRange(minColors, maxColors);
+      validateContrastFilter(contrast);
+      validatePerceptualFilter(perceptual);
+      logger.debug("Summary search - name: '{}', minColors: {}, maxColors: {}, hexValue: '{}'",
+               name, minColors, maxColors, hexValue);
+
+      Page<ColorCombinationSummary> summaries;
+      if (!contrast.isEmpty() || !perceptual.isEmpty()) {
+         summaries = colorCombinationRepository.findSummaries(
+                  CombinationSpecifications.matching(trimToNull(name), minColors, maxColors,
+                           validHexOrNull(hexValue), contrast, perceptual),
+                  newestFirst(pageable));
+      } else if (hexValue != null && !hexValue.trim().isEmpty()) {
+         summaries = colorCombinationRepository
+                  .findSummariesByContainingHexValue(resolveHexValue(hexValue), pageable);
+      } else {
+         summaries = colorCombinationRepository.findSummariesWithFilters(
+                  name != null && !name.trim().isEmpty() ? name.trim() : null, minColors,
+                  maxColors, pageable);
+      }
+      return new PageImpl<>(withHexValues(summaries.getContent()), pageable,
+               summaries.getTotalElements());
+   }
+
+   /** Unpaged variant of {@link #searchSummaries(String, Integer, Integer, String, Pageable)} */
+   @Transactional(readOnly = true)
+   public List<ColorCombinationSummary> searchSummaries(String name, Integer minColors,
+            Integer maxColors, String hexValue) {
+      return searchSummaries(name, minColors, maxColors, hexValue, Pageable.unpaged())
+               .getContent();
+   }
+
+   private void validateContrastFilter(ContrastFilter contrast) {
+      if (contrast == null) {
+         throw new IllegalArgumentException("Contrast filter cannot be null");
+      }
+      if (!isValidRatio(contrast.minPairContrast())
+               || !isValidRatio(contrast.bestPairContrast())) {
+         throw new IllegalArgumentException("Contrast ratios must be between 1 and 21");
+      }
+      if (contrast.minAaPairs() != null && contrast.minAaPairs() < 0) {
+         throw new IllegalArgumentException("Minimum AA pairs cannot be negative");
+      }
+      if (!isValidDeltaE(contrast.minColorVisionDeltaE())) {
+         throw new IllegalArgumentException("Color vision ΔE cannot be negative");
+      }
+   }
+
+   private void validatePerceptualFilter(PerceptualFilter perceptual) {
+      if (perceptual == null) {
+         throw new IllegalArgumentException("Perceptual filter cannot be null");
+      }
+      if ((perceptual.hueFrom() == null) != (perceptual.hueTo() == null)) {
+         throw new IllegalArgumentException("Hue range needs both hueFrom and hueTo");
+      }
+      if (!isInRange(perceptual.hueFrom(), 0, 360) || !isInRange(perceptual.hueTo(), 0, 360)) {
+         throw new IllegalArgumentException("Hues must be between 0 and 360");
+      }
+      if (!isInRange(perceptual.minLightness(), 0, 100)
+               || !isInRange(perceptual.maxLightness(), 0, 100)) {
+         throw new IllegalArgumentException("Lightness must be between 0 and 100");
+      }
+      if (!isInRange(perceptual.minChroma(), 0, 0.5)
+               || !isInRange(perceptual.maxChroma(), 0, 0.5)) {
+         throw new IllegalArgumentException("Chroma must be between 0 and 0.5");
+      }
+      if (!isInRange(perceptual.maxHueSpread(), 0, 360)) {
+         throw new IllegalArgumentException("Hue spread must be between 0 and 360");
+      }
+   }
+
+   private static boolean isInRange(Double value, double min, double max) {
+      return value == null || (value >= min && value <= max);
+   }
+
+   /** The pageable's page, ordered by creation date like the fixed searches */
+   private static Pageable newestFirst(Pageable pageable) {
+      Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+      return pageable.isPaged()
+               ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+               : Pageable.unpaged(sort);
+   }
+
+   private static boolean isValidDeltaE(Double deltaE) {
+      return deltaE == null || deltaE >= 0;
+   }
+
+   private static boolean isValidRatio(Double ratio) {
+      return ratio == null || (ratio >= 1 && ratio <= 21);
+   }
+
+   private static String trimToNull(String value) {
+      return value != null && !value.trim().isEmpty() ? value.trim() : null;
+   }
+
+   /** Upper-cased hex value, or null when blank; rejects malformed values */
+   private String validHexOrNull(String hexValue) {
+      return trimToNull(hexValue) != null ? resolveHexValue(hexValue) : null;
+   }
+
+   /**
+    * Upper-cased hex value of a search filter, which may also be a color name when names are
+    * loaded; rejects anything else
+    */
+   private String resolveHexValue(String hexValue) {
+      String hex = hexValue.trim();
+      if (isValidHexColor(hex)) {
+         return hex.toUpperCase();
+      }
+      OptionalInt named = colorNames != null ? colorNames.resolve(hex) : OptionalInt.empty();
+      if (named.isPresent()) {
+         return Rgb.toHex(named.getAsInt());
+      }
+      throw InvalidColorFormatException.forHexValue(hexValue);
+   }
+
+   /** Attaches the position-ordered hex values to summaries, querying in bounded chunks */
+   private List<ColorCombinationSummary> withHexValues(List<ColorCombinationSummary> summaries) {
+      if (summaries.isEmpty()) {
+         return summaries;
+      }
+      Map<Long, List<String>> hexValues = new HashMap<>();
+      List<Long> ids = summaries.stream().map(ColorCombinationSummary::id).toList();
+      for (int from = 0; from < ids.size(); from += SUMMARY_ID_CHUNK) {
+         List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + SUMMARY_ID_CHUNK));
+         for (Object[] row : colorInCombinationRepository.findHexValuesByCombinationIds(chunk)) {
+            hexValues.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                     .add((String) row[1]);
+         }
+      }
+      List<ColorCombinationSummary> result = new ArrayList<>(summaries.size());
+      for (ColorCombinationSummary summary : summaries) {
+         result.add(summary.withHexValues(hexValues.getOrDefault(summary.id(), List.of())));
+      }
+      return result;
+   }
+
+   private void validateColorRange(Integer minColors, Integer maxColors) {
+      if (minColors != null && minColors < 1) {
+         throw new IllegalArgumentException("Minimum colors must be positive");
+      }
+      if (maxColors != null && maxColors < 1) {
+         throw new IllegalArgumentException("Maximum colors must be positive");
+      }
+      if (minColors != null && maxColors != null && minColors > maxColors) {
+         throw new IllegalArgumentException("Minimum colors cannot be greater than maximum colors");
+      }
+   }
+
    /** Search combinations by color count range */
    @Transactional(readOnly = true)
    public List<ColorCombination> findByColorCountRange(Integer minColors, Integer maxColors) {
@@ -273,6 +637,7 @@ public class ColorCombinationService {
       ColorCombination existingCombination = getById(id);
 
       // Update basic data
+      existingCombination.touch();
       existingCombination.setName(form.getName());
       existingCombination.setColorCount(form.getColorCount());
 
@@ -290,8 +655,11 @@ public class ColorCombinationService {
          }
       }
 
+      applyDerivedColumns(existingCombination);
+
       // Save changes
       ColorCombination updatedCombination = colorCombinationRepository.save(existingCombination);
+      onCommit(() -> CombinationChangeEvent.of(Type.UPDATED, updatedCombination));
       logger.info("Combination updated successfully: {}", updatedCombination.getId());
 
       return updatedCombination;
@@ -313,6 +681,7 @@ public class ColorCombinationService {
 
       // Delete (colors are automatically deleted by cascade)
       colorCombinationRepository.deleteById(id);
+      onCommit(() -> CombinationChangeEvent.deleted(id));
       logger.info("Combination deleted successfully: {}", id);
    }
 
@@ -389,8 +758,8 @@ public class ColorCombinationService {
                .findMostRecent(org.springframework.data.domain.PageRequest.of(0, limit));
    }
 
-   /** Validates a complete combination form */
-   private void validateForm(ColorCombinationForm form) {
+   /** Validates a complete combination form (package-private for the JMH benchmarks) */
+   void validateForm(ColorCombinationForm form) {
       List<String> errors = new ArrayList<>();
 
       // Validate name
@@ -430,6 +799,15 @@ public class ColorCombinationService {
 
    /** Adds a color to an existing combination */
    public ColorCombination addColorToCombination(Long combinationId, ColorForm colorForm) {
+      return addColorToCombination(combinationId, colorForm, null);
+   }
+
+   /**
+    * Adds a color to an existing combination if it is still at {@code expectedVersion} (null skips
+    * the check)
+    */
+   public ColorCombination addColorToCombination(Long combinationId, ColorForm colorForm,
+            Long expectedVersion) {
       logger.info("Adding color to combination ID: {}", combinationId);
 
       // Validate inputs
@@ -448,6 +826,8 @@ public class ColorCombinationService {
       ColorCombination combination = colorCombinationRepository.findById(combinationId)
                .orElseThrow(() -> new ColorCombinationNotFoundException(
                         "Combination not found with ID: " + combinationId));
+      verifyVersion(combination, expectedVersion);
+      combination.touch();
 
       // Determine the position for the new color
       Integer nextPosition;
@@ -475,9 +855,11 @@ public class ColorCombinationService {
       ColorInCombination newColor =
                new ColorInCombination(colorForm.getHexValue().toUpperCase(), nextPosition);
       combination.addColor(newColor);
+      applyDerivedColumns(combination);
 
       // Save and return
       ColorCombination savedCombination = colorCombinationRepository.save(combination);
+      onCommit(() -> CombinationChangeEvent.of(Type.COLOR_ADDED, savedCombination));
       logger.info("Color added successfully to combination ID: {}, new color count: {}",
                combinationId, savedCombination.getColorCount());
 
@@ -486,6 +868,15 @@ public class ColorCombinationService {
 
    /** Removes a color from an existing combination at a specific position */
    public ColorCombination removeColorFromCombination(Long combinationId, Integer position) {
+      return removeColorFromCombination(combinationId, position, null);
+   }
+
+   /**
+    * Removes a color from an existing combination if it is still at {@code expectedVersion} (null
+    * skips the check)
+    */
+   public ColorCombination removeColorFromCombination(Long combinationId, Integer position,
+            Long expectedVersion) {
       logger.info("Removing color at position {} from combination ID: {}", position, combinationId);
 
       // Validate inputs
@@ -500,6 +891,7 @@ public class ColorCombinationService {
       ColorCombination combination = colorCombinationRepository.findById(combinationId)
                .orElseThrow(() -> new ColorCombinationNotFoundException(
                         "Combination not found with ID: " + combinationId));
+      verifyVersion(combination, expectedVersion);
 
       // Check if combination has more than one color (cannot remove the last color)
       if (combination.getColors().size() <= 1) {
@@ -512,12 +904,15 @@ public class ColorCombinationService {
                .orElseThrow(() -> ColorRemovalException.forInvalidPosition(position));
 
       // Remove from list
+      combination.touch();
       combination.getColors().remove(colorToRemove);
       // Update color count to ensure data consistency
       combination.setColorCount(combination.getColors().size());
+      applyDerivedColumns(combination);
 
       // Save and flush to ensure the color is deleted from the database before reordering
       colorCombinationRepository.saveAndFlush(combination);
+      onCommit(() -> CombinationChangeEvent.of(Type.COLOR_REMOVED, combination));
 
       // Reorder positions using the service which handles sequential updates safely
       colorPositionService.reorderPositionsAfterRemoval(combinationId, position);
@@ -534,7 +929,343 @@ public class ColorCombinationService {
       if (removedPosition == null || removedPosition < 1) {
          throw new IllegalArgumentException("Removed position must be a positive integer");
       }
+      Optional<ColorCombination> combination = colorCombinationRepository.findById(combinationId);
+      combination.ifPresent(ColorCombination::touch);
       colorPositionService.reorderPositionsAfterRemoval(combinationId, removedPosition);
+      onCommit(() -> combination.map(c -> CombinationChangeEvent.of(Type.UPDATED, c))
+               .orElse(null));
+   }
+
+   /**
+    * Computes the contrast columns of up to {@code batchSize} combinations stored before they
+    * existed and returns how many were updated; call until it returns 0
+    */
+   public int backfillContrast(int batchSize) {
+      List<ColorCombination> batch = withColors(
+               colorCombinationRepository.findIdsWithoutContrast(PageRequest.of(0, batchSize)));
+      batch.forEach(this::applyContrast);
+      return onBatchCommit(batch.size());
+   }
+
+   /**
+    * The combinations of a backfill batch with their colors. Batches page IDs first: paging a
+    * query that fetches the colors would load every matching row and page in memory.
+    */
+   private List<ColorCombination> withColors(List<Long> ids) {
+      return ids.isEmpty() ? List.of() : colorCombinationRepository.findWithColorsByIds(ids);
+   }
+
+   /**
+    * Scores up to {@code batchSize} combinations not yet scored with the current
+    * {@link ColorVision#SCORE_VERSION} and returns how many were updated; call until it returns 0
+    */
+   public int scoreColorVision(int batchSize) {
+      List<ColorCombination> batch = withColors(colorCombinationRepository
+               .findIdsWithoutColorVisionScore(ColorVision.SCORE_VERSION,
+                        PageRequest.of(0, batchSize)));
+      batch.forEach(this::applyColorVision);
+      return onBatchCommit(batch.size());
+   }
+
+   /**
+    * Derives the hue, lightness and chroma columns of up to {@code batchSize} combinations whose
+    * colors were stored before they existed and returns how many were updated; call until it
+    * returns 0
+    */
+   public int backfillPerceptual(int batchSize) {
+      List<ColorCombination> batch = withColors(colorCombinationRepository
+               .findIdsWithoutPerceptualComponents(PageRequest.of(0, batchSize)));
+      for (ColorCombination combination : batch) {
+         combination.getColors().forEach(ColorInCombination::deriveComponents);
+         applyPerceptual(combination);
+      }
+      return onBatchCommit(batch.size());
+   }
+
+   /**
+    * Computes the palette fingerprints of up to {@code batchSize} combinations stored before they
+    * existed and returns how many were updated; call until it returns 0
+    */
+   public int backfillFingerprints(int batchSize) {
+      List<ColorCombination> batch = withColors(
+               colorCombinationRepository.findIdsWithoutFingerprint(PageRequest.of(0, batchSize)));
+      batch.forEach(this::applyFingerprint);
+      return onBatchCommit(batch.size());
+   }
+
+   /**
+    * Stored combinations with the same palette as a stored one: the same colors in order, in
+    * another order, and in its near-duplicate cluster
+    */
+   @Transactional(readOnly = true)
+   public CombinationDuplicatesResponse findDuplicates(Long id) {
+      ColorCombination combination = getById(id);
+      int[] packed = packedInPositionOrder(combination);
+      List<ColorCombination> exact = exactDuplicates(combination);
+      List<ColorCombination> sameColors = sameColorDuplicates(packed).stream()
+               .filter(other -> !other.getId().equals(id)).toList();
+      List<ColorCombination> near = combination.getDuplicateClusterId() == null ? List.of()
+               : colorCombinationRepository
+                        .findByDuplicateClusterIdOrderById(combination.getDuplicateClusterId())
+                        .stream().filter(other -> !other.getId().equals(id)).toList();
+      return new CombinationDuplicatesResponse(id, summaries(exact), summaries(sameColors),
+               summaries(near));
+   }
+
+   /**
+    * Stored combinations with the given colors, in this order or another; answered from the
+    * fingerprint indexes, so it is a cheap check before creating a palette
+    */
+   @Transactional(readOnly = true)
+   public CombinationDuplicatesResponse findDuplicates(int[] colors) {
+      long orderHash = PaletteFingerprint.ordered(colors);
+      List<ColorCombination> exact = colorCombinationRepository.findByPaletteOrderHash(orderHash)
+               .stream().filter(other -> Arrays.equals(packedInPositionOrder(other), colors))
+               .toList();
+      return new CombinationDuplicatesResponse(null, summaries(exact),
+               summaries(sameColorDuplicates(colors)), List.of());
+   }
+
+   private static List<ColorCombinationSummary> summaries(List<ColorCombination> combinations) {
+      return combinations.stream().map(ColorCombinationSummary::from).toList();
+   }
+
+   /**
+    * Replaces every near-duplicate cluster in one transaction; each map entry is a cluster's
+    * lowest ID and all its members
+    */
+   public int replaceDuplicateClusters(Map<Long, List<Long>> clusters) {
+      colorCombinationRepository.clearDuplicateClusters();
+      int assigned = 0;
+      for (Map.Entry<Long, List<Long>> cluster : clusters.entrySet()) {
+         List<Long> members = cluster.getValue();
+         for (int from = 0; from < members.size(); from += SUMMARY_ID_CHUNK) {
+            assigned += colorCombinationRepository.assignDuplicateCluster(cluster.getKey(),
+                     members.subList(from, Math.min(members.size(), from + SUMMARY_ID_CHUNK)));
+         }
+      }
+      // Clearing changes rows even when no cluster is left
+      onCommit(() -> null);
+      return assigned;
+   }
+
+   /** Number of combinations waiting for {@link #scoreColorVision(int)} */
+   @Transactional(readOnly = true)
+   public long countUnscoredColorVision() {
+      return colorCombinationRepository.countWithoutColorVisionScore(ColorVision.SCORE_VERSION);
+   }
+
+   /**
+    * Scored combinations whose smallest ΔE under simulation reaches {@code minDeltaE}, most
+    * distinguishable first; a null deficiency ranks by the worst of the three
+    */
+   @Transactional(readOnly = true)
+   public Page<ColorCombinationSummary> rankByColorVision(ColorVisionDeficiency deficiency,
+            Double minDeltaE, Pageable pageable) {
+      if (pageable == null) {
+         throw new IllegalArgumentException("Pageable cannot be null");
+      }
+      if (!isValidDeltaE(minDeltaE)) {
+         throw new IllegalArgumentException("Color vision ΔE cannot be negative");
+      }
+      String property = deficiency == null ? "colorVisionMinDeltaE" : switch (deficiency) {
+         case PROTANOPIA -> "protanopiaMinDeltaE";
+         case DEUTERANOPIA -> "deuteranopiaMinDeltaE";
+         case TRITANOPIA -> "tritanopiaMinDeltaE";
+      };
+      Pageable ranked = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+               Sort.by(Sort.Order.desc(property), Sort.Order.desc("id")));
+      Page<ColorCombinationSummary> summaries = colorCombinationRepository.findSummaries(
+               CombinationSpecifications.colorVisionAtLeast(property, minDeltaE), ranked);
+      return new PageImpl<>(withHexValues(summaries.getContent()), summaries.getPageable(),
+               summaries.getTotalElements());
+   }
+
+   private void applyDerivedColumns(ColorCombination combination) {
+      applyContrast(combination);
+      applyColorVision(combination);
+      applyPerceptual(combination);
+      applyFingerprint(combination);
+   }
+
+   /** Stores the PaletteFingerprint hashes and signatures of the colors in position order */
+   private void applyFingerprint(ColorCombination combination) {
+      int[] packed = packedInPositionOrder(combination);
+      combination.setPaletteHash(PaletteFingerprint.unordered(packed));
+      combination.setPaletteOrderHash(PaletteFingerprint.ordered(packed));
+      combination.setPaletteSignature(PaletteFingerprint.signature(packed, false));
+      combination.setPaletteShiftedSignature(PaletteFingerprint.signature(packed, true));
+   }
+
+   private static int[] packedInPositionOrder(ColorCombination combination) {
+      return combination.getColors().stream()
+               .sorted(Comparator.comparing(ColorInCombination::getPosition))
+               .map(ColorInCombination::getHexValue).mapToInt(Rgb::parseHex).toArray();
+   }
+
+   /** Other stored combinations with the same colors in the same order */
+   private List<ColorCombination> exactDuplicates(ColorCombination combination) {
+      int[] packed = packedInPositionOrder(combination);
+      return colorCombinationRepository
+               .findByPaletteOrderHash(PaletteFingerprint.ordered(packed)).stream()
+               .filter(other -> !other.getId().equals(combination.getId())
+                        && Arrays.equals(packedInPositionOrder(other), packed))
+               .toList();
+   }
+
+   /** Other stored combinations with the same colors in another order */
+   private List<ColorCombination> sameColorDuplicates(int[] packed) {
+      int[] sorted = packed.clone();
+      Arrays.sort(sorted);
+      return colorCombinationRepository.findByPaletteHash(PaletteFingerprint.unordered(packed))
+               .stream().filter(other -> {
+                  int[] colors = packedInPositionOrder(other);
+                  if (Arrays.equals(colors, packed)) {
+                     return false;
+                  }
+                  Arrays.sort(colors);
+                  return Arrays.equals(colors, sorted);
+               }).toList();
+   }
+
+   /**
+    * Stores the WCAG contrast of every color pair, in position order, with its minimum, maximum
+    * and number of AA pairs
+    */
+   private void applyContrast(ColorCombination combination) {
+      List<ColorInCombination> colors = new ArrayList<>(combination.getColors());
+      colors.sort(Comparator.comparing(ColorInCombination::getPosition));
+      int[] packed = new int[colors.size()];
+      for (int i = 0; i < packed.length; i++) {
+         packed[i] = Rgb.parseHex(colors.get(i).getHexValue());
+      }
+      double[] ratios = WcagContrast.pairRatios(packed);
+      Double min = null;
+      Double max = null;
+      int aaPairs = 0;
+      for (double ratio : ratios) {
+         min = min == null ? ratio : Math.min(min, ratio);
+         max = max == null ? ratio : Math.max(max, ratio);
+         if (ratio >= WcagContrast.AA_NORMAL_TEXT) {
+            aaPairs++;
+         }
+      }
+      combination.setMinContrast(min);
+      combination.setMaxContrast(max);
+      combination.setAaPairCount(aaPairs);
+      combination.setContrastMatrix(packed.length <= WcagContrast.MAX_STORED_COLORS
+               ? WcagContrast.encode(ratios)
+               : "");
+   }
+
+   /** Stores the smallest pairwise ΔE under each simulated color vision deficiency */
+   private void applyColorVision(ColorCombination combination) {
+      int[] packed = combination.getColors().stream().map(ColorInCombination::getHexValue)
+               .mapToInt(Rgb::parseHex).toArray();
+      Double protanopia = ColorVision.minPairDeltaE(packed, ColorVisionDeficiency.PROTANOPIA);
+      Double deuteranopia = ColorVision.minPairDeltaE(packed, ColorVisionDeficiency.DEUTERANOPIA);
+      Double tritanopia = ColorVision.minPairDeltaE(packed, ColorVisionDeficiency.TRITANOPIA);
+      combination.setProtanopiaMinDeltaE(protanopia);
+      combination.setDeuteranopiaMinDeltaE(deuteranopia);
+      combination.setTritanopiaMinDeltaE(tritanopia);
+      combination.setColorVisionMinDeltaE(protanopia == null ? null
+               : Math.min(protanopia, Math.min(deuteranopia, tritanopia)));
+      combination.setColorVisionScoreVersion(ColorVision.SCORE_VERSION);
+   }
+
+   /**
+    * Stores the average, minimum and maximum OKLCH lightness, the average chroma and the hue
+    * spread of the colors, from the components each color derives from its hex value
+    */
+   private void applyPerceptual(ColorCombination combination) {
+      List<ColorInCombination> colors = combination.getColors();
+      if (colors.isEmpty()) {
+         combination.setAverageLightness(null);
+         combination.setMinLightness(null);
+         combination.setMaxLightness(null);
+         combination.setAverageChroma(null);
+         combination.setHueSpread(null);
+         return;
+      }
+      double lightnessSum = 0;
+      double minLightness = Double.MAX_VALUE;
+      double maxLightness = -Double.MAX_VALUE;
+      double chromaSum = 0;
+      double[] hues = new double[colors.size()];
+      int hueCount = 0;
+      for (ColorInCombination color : colors) {
+         if (color.getOklchLightness() == null) {
+            color.deriveComponents();
+         }
+         double lightness = color.getOklchLightness();
+         lightnessSum += lightness;
+         minLightness = Math.min(minLightness, lightness);
+         maxLightness = Math.max(maxLightness, lightness);
+         chromaSum += color.getOklchChroma();
+         if (color.getHslHue() != null) {
+            hues[hueCount++] = color.getHslHue();
+         }
+      }
+      combination.setAverageLightness(lightnessSum / colors.size());
+      combination.setMinLightness(minLightness);
+      combination.setMaxLightness(maxLightness);
+      combination.setAverageChroma(chromaSum / colors.size());
+      combination.setHueSpread(Hues.spread(hues, hueCount));
+   }
+
+   /**
+    * Gets the write generation: a counter incremented after every committed change to any
+    * combination. Read it before querying; data read under one generation is current until it
+    * changes.
+    */
+   public long getWriteGeneration() {
+      return writeGeneration.get();
+   }
+
+   /**
+    * Increments the write generation and publishes the change once the current transaction
+    * commits (or right away). The event is built after commit, so it carries the flushed version.
+    */
+   private void onCommit(Supplier<CombinationChangeEvent> change) {
+      if (TransactionSynchronizationManager.isSynchronizationActive()) {
+         TransactionSynchronizationManager
+                  .registerSynchronization(new TransactionSynchronization() {
+                     @Override
+                     public void afterCommit() {
+                        committed(change);
+                     }
+                  });
+      } else {
+         committed(change);
+      }
+   }
+
+   /**
+    * Increments the write generation once for a batch of backfilled rows and returns
+    * {@code updated}. Backfills only change derived columns, so nothing is published: the
+    * listeners' names and colors are still current, while ETags and cached fragments are not.
+    */
+   private int onBatchCommit(int updated) {
+      if (updated > 0) {
+         onCommit(() -> null);
+      }
+      return updated;
+   }
+
+   private void committed(Supplier<CombinationChangeEvent> change) {
+      writeGeneration.incrementAndGet();
+      CombinationChangeEvent event = change.get();
+      if (event != null) {
+         eventPublisher.publishEvent(event);
+      }
+   }
+
+   /** Rejects a conditional update when the combination has moved past the expected version */
+   private void verifyVersion(ColorCombination combination, Long expectedVersion) {
+      if (expectedVersion != null && !expectedVersion.equals(combination.getVersion())) {
+         throw new CombinationVersionConflictException(combination.getId(), expectedVersion,
+                  combination.getVersion());
+      }
    }
 
    /** Validates that a combination has at least the minimum required colors */
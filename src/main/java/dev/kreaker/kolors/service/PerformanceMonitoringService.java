@@ -2,14 +2,22 @@
 package dev.kreaker.kolors.service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import dev.kreaker.kolors.performance.MetricSnapshot;
+
 /**
  * Service for monitoring application performance metrics Tracks query execution times, method
  * calls, and database operations
@@ -22,12 +30,18 @@ public class PerformanceMonitoringService {
 
    // Metrics storage
    private final ConcurrentHashMap<String, PerformanceMetric> metrics = new ConcurrentHashMap<>();
-   private final AtomicLong totalQueries = new AtomicLong(0);
-   private final AtomicLong slowQueries = new AtomicLong(0);
+   private final LongAdder totalQueries = new LongAdder();
+   private final LongAdder slowQueries = new LongAdder();
+
+   // Incremented on every reset so cached timer handles know their metric was discarded
+   private volatile long resetEpoch;
 
    // Thresholds
    private static final long SLOW_QUERY_THRESHOLD_MS = 1000; // 1 second
    private static final long WARNING_QUERY_THRESHOLD_MS = 500; // 500ms
+   private static final long SLOW_QUERY_THRESHOLD_NANOS = SLOW_QUERY_THRESHOLD_MS * 1_000_000L;
+   private static final long WARNING_QUERY_THRESHOLD_NANOS =
+            WARNING_QUERY_THRESHOLD_MS * 1_000_000L;
 
    /** Records the execution time of a database operation */
    public void recordDatabaseOperation(String operationName, Duration executionTime) {
@@ -35,11 +49,11 @@ public class PerformanceMonitoringService {
          long executionTimeMs = executionTime.toMillis();
 
          // Update counters
-         totalQueries.incrementAndGet();
+         totalQueries.increment();
 
          // Check if it's a slow query
          if (executionTimeMs > SLOW_QUERY_THRESHOLD_MS) {
-            slowQueries.incrementAndGet();
+            slowQueries.increment();
             performanceLogger.warn("SLOW QUERY detected: {} took {}ms", operationName,
                      executionTimeMs);
          } else if (executionTimeMs > WARNING_QUERY_THRESHOLD_MS) {
@@ -48,14 +62,8 @@ public class PerformanceMonitoringService {
          }
 
          // Update metrics
-         metrics.compute(operationName, (key, existing) -> {
-            if (existing == null) {
-               return new PerformanceMetric(operationName, executionTimeMs);
-            } else {
-               existing.addExecution(executionTimeMs);
-               return existing;
-            }
-         });
+         metrics.computeIfAbsent(operationName, PerformanceMetric::new)
+                  .addExecution(executionTimeMs);
 
          logger.debug("Database operation '{}' completed in {}ms", operationName, executionTimeMs);
       } catch (Exception e) {
@@ -73,18 +81,61 @@ public class PerformanceMonitoringService {
                   executionTimeMs);
       }
 
-      metrics.compute("service." + methodName, (key, existing) -> {
-         if (existing == null) {
-            return new PerformanceMetric("service." + methodName, executionTimeMs);
-         } else {
-            existing.addExecution(executionTimeMs);
-            return existing;
-         }
-      });
+      metrics.computeIfAbsent("service." + methodName, PerformanceMetric::new)
+               .addExecution(executionTimeMs);
 
       logger.debug("Service method '{}' completed in {}ms", methodName, executionTimeMs);
    }
 
+   /**
+    * Creates a reusable timer handle for a database operation. Callers on hot paths (the monitoring
+    * aspect) cache the handle so recording needs neither a metric key nor a map lookup per call.
+    */
+   public OperationTimer databaseOperationTimer(String operationName) {
+      return new OperationTimer(operationName, operationName, true);
+   }
+
+   /** Creates a reusable timer handle for a service method */
+   public OperationTimer serviceMethodTimer(String methodName) {
+      return new OperationTimer(methodName, "service." + methodName, false);
+   }
+
+   /** Records an execution measured with {@link System#nanoTime()} through a cached timer handle */
+   public void record(OperationTimer timer, long executionTimeNanos) {
+      record(timer, executionTimeNanos, 1);
+   }
+
+   /**
+    * Records a measured execution that stands for {@code calls} calls, as a sampled call does for
+    * the unsampled calls around it. Counts grow by {@code calls} and the time is weighted the same,
+    * so averages stay those of the measured executions.
+    */
+   public void record(OperationTimer timer, long executionTimeNanos, long calls) {
+      PerformanceMetric metric = timer.metric;
+      long epoch = resetEpoch;
+      if (metric == null || timer.epoch != epoch) {
+         metric = metrics.computeIfAbsent(timer.metricKey, PerformanceMetric::new);
+         timer.metric = metric;
+         timer.epoch = epoch;
+      }
+      metric.addExecutionNanos(executionTimeNanos, calls);
+
+      if (timer.databaseOperation) {
+         totalQueries.add(calls);
+         if (executionTimeNanos > SLOW_QUERY_THRESHOLD_NANOS) {
+            slowQueries.add(calls);
+            performanceLogger.warn("SLOW QUERY detected: {} took {}ms", timer.operationName,
+                     executionTimeNanos / 1_000_000L);
+         } else if (executionTimeNanos > WARNING_QUERY_THRESHOLD_NANOS) {
+            performanceLogger.info("Query performance warning: {} took {}ms", timer.operationName,
+                     executionTimeNanos / 1_000_000L);
+         }
+      } else if (executionTimeNanos > WARNING_QUERY_THRESHOLD_NANOS) {
+         performanceLogger.info("Service method performance: {} took {}ms", timer.operationName,
+                  executionTimeNanos / 1_000_000L);
+      }
+   }
+
    /** Gets performance statistics for a specific operation */
    public PerformanceMetric getMetrics(String operationName) {
       return metrics.get(operationName);
@@ -97,18 +148,43 @@ public class PerformanceMonitoringService {
 
    /** Gets database performance summary */
    public DatabasePerformanceSummary getDatabasePerformanceSummary() {
-      return new DatabasePerformanceSummary(totalQueries.get(), slowQueries.get(),
+      return new DatabasePerformanceSummary(totalQueries.sum(), slowQueries.sum(),
                calculateAverageQueryTime(), getSlowQueryPercentage());
    }
 
    /** Resets all performance metrics */
    public void resetMetrics() {
+      resetEpoch++;
       metrics.clear();
-      totalQueries.set(0);
-      slowQueries.set(0);
+      totalQueries.reset();
+      slowQueries.reset();
       logger.info("Performance metrics reset");
    }
 
+   /** Captures the cumulative state of every metric for the snapshot store */
+   public List<MetricSnapshot> snapshotMetrics(long timestampMillis) {
+      List<MetricSnapshot> snapshots = new ArrayList<>(metrics.size());
+      metrics.forEach((key, metric) -> snapshots.add(new MetricSnapshot(timestampMillis, key,
+               metric.getExecutionCount(), metric.totalTimeNanos.sum(), metric.minTimeNanos(),
+               metric.maxTimeNanos.get())));
+      return snapshots;
+   }
+
+   /** Merges previously snapshotted metrics back in, e.g. after a restart */
+   public void restoreMetrics(Collection<MetricSnapshot> snapshots) {
+      for (MetricSnapshot snapshot : snapshots) {
+         if (snapshot.getExecutionCount() <= 0) {
+            continue;
+         }
+         metrics.computeIfAbsent(snapshot.getOperationName(), PerformanceMetric::new)
+                  .restore(snapshot);
+         if (!snapshot.getOperationName().startsWith("service.")) {
+            totalQueries.add(snapshot.getExecutionCount());
+         }
+      }
+      logger.info("Restored {} performance metrics from snapshot", snapshots.size());
+   }
+
    /** Logs current performance summary */
    public void logPerformanceSummary() {
       DatabasePerformanceSummary summary = getDatabasePerformanceSummary();
@@ -139,40 +215,94 @@ public class PerformanceMonitoringService {
    }
 
    private double getSlowQueryPercentage() {
-      long total = totalQueries.get();
+      long total = totalQueries.sum();
       if (total == 0) {
          return 0.0;
       }
-      return (slowQueries.get() * 100.0) / total;
+      return (slowQueries.sum() * 100.0) / total;
    }
 
-   /** Performance metric for a specific operation */
+   /**
+    * Cached handle to the metric of one operation. Holds the resolved metric key and metric so that
+    * recording is a handful of adder updates; the handle re-resolves itself after a reset.
+    */
+   public static final class OperationTimer {
+
+      private final String operationName;
+      private final String metricKey;
+      private final boolean databaseOperation;
+      private volatile PerformanceMetric metric;
+      private volatile long epoch;
+
+      private OperationTimer(String operationName, String metricKey, boolean databaseOperation) {
+         this.operationName = operationName;
+         this.metricKey = metricKey;
+         this.databaseOperation = databaseOperation;
+      }
+
+      public String getOperationName() {
+         return operationName;
+      }
+
+      public String getMetricKey() {
+         return metricKey;
+      }
+   }
+
+   /**
+    * Performance metric for a specific operation. Times are accumulated in nanoseconds with
+    * lock-free adders so concurrent callers never block each other.
+    */
    public static class PerformanceMetric {
 
+      private static final ZoneId ZONE = ZoneId.systemDefault();
+
       private final String operationName;
-      private long totalTimeMs;
-      private long executionCount;
-      private long minTimeMs;
-      private long maxTimeMs;
+      private final LongAdder totalTimeNanos = new LongAdder();
+      private final LongAdder executionCount = new LongAdder();
+      private final LongAccumulator minTimeNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+      private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0L);
       private final LocalDateTime firstExecution;
-      private LocalDateTime lastExecution;
+      private volatile long lastExecutionMillis;
 
-      public PerformanceMetric(String operationName, long executionTimeMs) {
+      public PerformanceMetric(String operationName) {
          this.operationName = operationName;
-         this.totalTimeMs = executionTimeMs;
-         this.executionCount = 1;
-         this.minTimeMs = executionTimeMs;
-         this.maxTimeMs = executionTimeMs;
          this.firstExecution = LocalDateTime.now();
-         this.lastExecution = LocalDateTime.now();
+         this.lastExecutionMillis = System.currentTimeMillis();
+      }
+
+      public PerformanceMetric(String operationName, long executionTimeMs) {
+         this(operationName);
+         addExecution(executionTimeMs);
+      }
+
+      public void addExecution(long executionTimeMs) {
+         addExecutionNanos(executionTimeMs * 1_000_000L);
+      }
+
+      public void addExecutionNanos(long executionTimeNanos) {
+         addExecutionNanos(executionTimeNanos, 1);
+      }
+
+      /** Adds one measured execution counted as {@code calls} executions of the same time */
+      public void addExecutionNanos(long executionTimeNanos, long calls) {
+         totalTimeNanos.add(executionTimeNanos * calls);
+         executionCount.add(calls);
+         minTimeNanos.accumulate(executionTimeNanos);
+         maxTimeNanos.accumulate(executionTimeNanos);
+         lastExecutionMillis = System.currentTimeMillis();
+      }
+
+      void restore(MetricSnapshot snapshot) {
+         totalTimeNanos.add(snapshot.getTotalTimeNanos());
+         executionCount.add(snapshot.getExecutionCount());
+         minTimeNanos.accumulate(snapshot.getMinTimeNanos());
+         maxTimeNanos.accumulate(snapshot.getMaxTimeNanos());
       }
 
-      public synchronized void addExecution(long executionTimeMs) {
-         this.totalTimeMs += executionTimeMs;
-         this.executionCount++;
-         this.minTimeMs = Math.min(this.minTimeMs, executionTimeMs);
-         this.maxTimeMs = Math.max(this.maxTimeMs, executionTimeMs);
-         this.lastExecution = LocalDateTime.now();
+      private long minTimeNanos() {
+         long min = minTimeNanos.get();
+         return min == Long.MAX_VALUE ? 0L : min;
       }
 
       public String getOperationName() {
@@ -180,23 +310,24 @@ public class PerformanceMonitoringService {
       }
 
       public double getAverageTimeMs() {
-         return executionCount > 0 ? (double) totalTimeMs / executionCount : 0.0;
+         long count = executionCount.sum();
+         return count > 0 ? totalTimeNanos.sum() / 1_000_000.0 / count : 0.0;
       }
 
       public long getTotalTimeMs() {
-         return totalTimeMs;
+         return totalTimeNanos.sum() / 1_000_000L;
       }
 
       public long getExecutionCount() {
-         return executionCount;
+         return executionCount.sum();
       }
 
       public long getMinTimeMs() {
-         return minTimeMs;
+         return minTimeNanos() / 1_000_000L;
       }
 
       public long getMaxTimeMs() {
-         return maxTimeMs;
+         return maxTimeNanos.get() / 1_000_000L;
       }
 
       public LocalDateTime getFirstExecution() {
@@ -204,7 +335,7 @@ public class PerformanceMonitoringService {
       }
 
       public LocalDateTime getLastExecution() {
-         return lastExecution;
+         return LocalDateTime.ofInstant(Instant.ofEpochMilli(lastExecutionMillis), ZONE);
       }
    }
 
@@ -1,11 +1,22 @@
 /* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
 package dev.kreaker.kolors.service;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import dev.kreaker.kolors.performance.MetricSnapshot;
+import dev.kreaker.kolors.performance.MetricSnapshotStore;
+
 /**
  * Scheduled service for periodic performance monitoring tasks Logs performance summaries and
  * monitors system health
@@ -17,9 +28,16 @@ public class PerformanceScheduledService {
    private static final Logger logger = LoggerFactory.getLogger(PerformanceScheduledService.class);
 
    private final PerformanceMonitoringService performanceMonitoringService;
+   private final ObjectProvider<MetricSnapshotStore> snapshotStore;
+   private final boolean restoreOnStartup;
 
-   public PerformanceScheduledService(PerformanceMonitoringService performanceMonitoringService) {
+   public PerformanceScheduledService(PerformanceMonitoringService performanceMonitoringService,
+            ObjectProvider<MetricSnapshotStore> snapshotStore,
+            @Value("${kolors.performance.snapshots.restore-on-startup:true}")
+            boolean restoreOnStartup) {
       this.performanceMonitoringService = performanceMonitoringService;
+      this.snapshotStore = snapshotStore;
+      this.restoreOnStartup = restoreOnStartup;
    }
 
    /** Logs performance summary every 5 minutes */
@@ -42,4 +60,43 @@ public class PerformanceScheduledService {
          logger.error("Error resetting daily metrics", e);
       }
    }
+
+   /** Restores the metrics of the last snapshot so history carries over a restart */
+   @EventListener(ApplicationReadyEvent.class)
+   public void restoreMetricSnapshot() {
+      MetricSnapshotStore store = snapshotStore.getIfAvailable();
+      if (store == null || !restoreOnStartup) {
+         return;
+      }
+      try {
+         List<MetricSnapshot> latest = store.latest();
+         if (!latest.isEmpty()) {
+            performanceMonitoringService.restoreMetrics(latest);
+         }
+      } catch (Exception e) {
+         logger.error("Error restoring performance metrics snapshot", e);
+      }
+   }
+
+   /** Appends the current metrics to the snapshot store (every minute by default) */
+   @Scheduled(fixedRateString = "${kolors.performance.snapshots.interval-ms:60000}",
+            initialDelayString = "${kolors.performance.snapshots.interval-ms:60000}")
+   public void snapshotMetrics() {
+      MetricSnapshotStore store = snapshotStore.getIfAvailable();
+      if (store == null) {
+         return;
+      }
+      try {
+         long now = System.currentTimeMillis();
+         store.append(now, performanceMonitoringService.snapshotMetrics(now));
+      } catch (Exception e) {
+         logger.error("Error writing performance metrics snapshot", e);
+      }
+   }
+
+   /** Takes a final snapshot on shutdown so the last interval is not lost on redeploy */
+   @EventListener(ContextClosedEvent.class)
+   public void snapshotMetricsOnShutdown() {
+      snapshotMetrics();
+   }
 }
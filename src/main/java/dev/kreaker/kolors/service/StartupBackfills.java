@@ -0,0 +1,63 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.kreaker.kolors.accessibility.ColorVisionScoringJob;
+import dev.kreaker.kolors.accessibility.ContrastBackfill;
+import dev.kreaker.kolors.search.DuplicateClusteringJob;
+import dev.kreaker.kolors.search.FingerprintBackfill;
+import dev.kreaker.kolors.search.PerceptualBackfill;
+
+/**
+ * Runs the startup backfills one after another on a single virtual thread.
+ *
+ * <p>
+ * Each of them writes batches to the combinations table. Started side by side they competed for
+ * the SQLite write lock (SQLITE_BUSY) and for the version of the same rows, so they run here in a
+ * fixed order instead: contrast, perceptual columns, fingerprints, color vision scores and then
+ * duplicate clustering, which reads the fingerprints. Startup does not wait for them.
+ */
+@Component
+public class StartupBackfills {
+
+   private static final Logger logger = LoggerFactory.getLogger(StartupBackfills.class);
+
+   private final ContrastBackfill contrastBackfill;
+   private final PerceptualBackfill perceptualBackfill;
+   private final FingerprintBackfill fingerprintBackfill;
+   private final ObjectProvider<ColorVisionScoringJob> colorVisionScoringJob;
+   private final ObjectProvider<DuplicateClusteringJob> duplicateClusteringJob;
+
+   public StartupBackfills(ContrastBackfill contrastBackfill,
+            PerceptualBackfill perceptualBackfill, FingerprintBackfill fingerprintBackfill,
+            ObjectProvider<ColorVisionScoringJob> colorVisionScoringJob,
+            ObjectProvider<DuplicateClusteringJob> duplicateClusteringJob) {
+      this.contrastBackfill = contrastBackfill;
+      this.perceptualBackfill = perceptualBackfill;
+      this.fingerprintBackfill = fingerprintBackfill;
+      this.colorVisionScoringJob = colorVisionScoringJob;
+      this.duplicateClusteringJob = duplicateClusteringJob;
+   }
+
+   @EventListener(ApplicationReadyEvent.class)
+   public void start() {
+      Thread.ofVirtual().name("startup-backfills").start(this::run);
+   }
+
+   /** Runs every backfill in order; each one logs and swallows its own failures */
+   public void run() {
+      long start = System.nanoTime();
+      contrastBackfill.backfill();
+      perceptualBackfill.backfill();
+      fingerprintBackfill.backfill();
+      colorVisionScoringJob.ifAvailable(ColorVisionScoringJob::run);
+      duplicateClusteringJob.ifAvailable(DuplicateClusteringJob::run);
+      logger.info("Startup backfills finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+   }
+}
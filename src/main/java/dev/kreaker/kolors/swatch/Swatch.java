@@ -0,0 +1,10 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.swatch;
+
+import java.nio.file.Path;
+
+/**
+ * A rendered swatch in the disk cache. The key is the content hash of the colors and rendering
+ * options, so it doubles as a strong entity tag.
+ */
+public record Swatch(String key, Path file, long size, SwatchFormat format) {}
@@ -0,0 +1,36 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.swatch;
+
+import java.util.Locale;
+
+/** Image encoding of a swatch */
+public enum SwatchFormat {
+   PNG("png", "image/png"),
+   SVG("svg", "image/svg+xml");
+
+   private final String extension;
+   private final String mediaType;
+
+   SwatchFormat(String extension, String mediaType) {
+      this.extension = extension;
+      this.mediaType = mediaType;
+   }
+
+   public String getExtension() {
+      return extension;
+   }
+
+   public String getMediaType() {
+      return mediaType;
+   }
+
+   /** Gets the format for a file extension, ignoring case */
+   public static SwatchFormat fromExtension(String extension) {
+      for (SwatchFormat format : values()) {
+         if (format.extension.equals(extension.toLowerCase(Locale.ROOT))) {
+            return format;
+         }
+      }
+      throw new IllegalArgumentException("Unsupported swatch format: " + extension);
+   }
+}
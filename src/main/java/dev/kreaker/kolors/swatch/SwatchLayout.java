@@ -0,0 +1,26 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.swatch;
+
+import java.util.Locale;
+
+/** Arrangement of the colors in a swatch image */
+public enum SwatchLayout {
+
+   /** Equal vertical bands, left to right */
+   STRIP,
+
+   /** Near-square grid filled row by row; the last row shares the full width */
+   GRID,
+
+   /** Horizontal linear gradient through the colors at equal distances */
+   GRADIENT;
+
+   /** Parses a layout name, ignoring case */
+   public static SwatchLayout fromName(String name) {
+      try {
+         return valueOf(name.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException | NullPointerException e) {
+         throw new IllegalArgumentException("Unknown swatch layout: " + name);
+      }
+   }
+}
@@ -0,0 +1,296 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.swatch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import dev.kreaker.kolors.color.Rgb;
+
+/**
+ * Encodes swatch images straight to a stream, without an intermediate raster.
+ *
+ * <p>
+ * PNG output is produced one scanline at a time. A scanline is only computed where the layout
+ * changes color vertically; every repeated row is written with the PNG "Up" filter, which turns
+ * it into zeros that deflate to a few bytes. Memory per image is two scanlines, one IDAT chunk
+ * buffer and the deflater, whatever the height. SVG output is one shape per color.
+ */
+public final class SwatchRenderer {
+
+   private static final byte[] PNG_SIGNATURE =
+            {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+   private static final byte[] IHDR = "IHDR".getBytes(StandardCharsets.US_ASCII);
+   private static final byte[] IDAT = "IDAT".getBytes(StandardCharsets.US_ASCII);
+   private static final byte[] IEND = "IEND".getBytes(StandardCharsets.US_ASCII);
+
+   private static final int IDAT_CHUNK_SIZE = 32 * 1024;
+   private static final byte FILTER_NONE = 0;
+   private static final byte FILTER_UP = 2;
+   private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+   /** Parses hex values ({@code RRGGBB}, optionally prefixed with {@code #}) to RGB ints */
+   public static int[] parseColors(List<String> hexValues) {
+      int[] colors = new int[hexValues.size()];
+      for (int i = 0; i < colors.length; i++) {
+         colors[i] = Rgb.parseHex(hexValues.get(i));
+      }
+      return colors;
+   }
+
+   /** Writes a swatch of RGB colors ({@code 0xRRGGBB}); the stream is left open */
+   public void render(int[] colors, SwatchLayout layout, SwatchFormat format, int width,
+            int height, OutputStream out) throws IOException {
+      if (colors.length == 0) {
+         throw new IllegalArgumentException("A swatch needs at least one color");
+      }
+      if (width < 1 || height < 1) {
+         throw new IllegalArgumentException("Swatch size must be positive");
+      }
+      if (format == SwatchFormat.PNG) {
+         writePng(colors, layout, width, height, out);
+      } else {
+         writeSvg(colors, layout, width, height, out);
+      }
+   }
+
+   /** Number of grid columns: the smallest square that holds all colors */
+   static int gridColumns(int colorCount) {
+      int columns = (int) Math.sqrt(colorCount);
+      return columns * columns < colorCount ? columns + 1 : columns;
+   }
+
+   /** Number of horizontal bands of a layout */
+   private static int bandCount(SwatchLayout layout, int colorCount) {
+      if (layout != SwatchLayout.GRID) {
+         return 1;
+      }
+      int columns = gridColumns(colorCount);
+      return (colorCount + columns - 1) / columns;
+   }
+
+   private void writePng(int[] colors, SwatchLayout layout, int width, int height,
+            OutputStream out) throws IOException {
+      CRC32 crc = new CRC32();
+      byte[] header = new byte[13];
+      putInt(header, 0, width);
+      putInt(header, 4, height);
+      header[8] = 8; // bits per channel
+      header[9] = 2; // truecolor RGB
+      out.write(PNG_SIGNATURE);
+      writeChunk(out, IHDR, header, header.length, crc);
+
+      int bands = bandCount(layout, colors.length);
+      byte[] row = new byte[1 + 3 * width];
+      byte[] repeatedRow = new byte[row.length];
+      repeatedRow[0] = FILTER_UP;
+
+      Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+      try (DeflaterOutputStream zlib =
+               new DeflaterOutputStream(new IdatOutputStream(out, crc), deflater, 8192)) {
+         int band = -1;
+         for (int y = 0; y < height; y++) {
+            int rowBand = (int) ((long) y * bands / height);
+            if (rowBand != band) {
+               fillRow(row, colors, layout, width, rowBand);
+               zlib.write(row);
+               band = rowBand;
+            } else {
+               zlib.write(repeatedRow);
+            }
+         }
+      } finally {
+         deflater.end();
+      }
+      writeChunk(out, IEND, header, 0, crc);
+   }
+
+   private static void fillRow(byte[] row, int[] colors, SwatchLayout layout, int width,
+            int band) {
+      row[0] = FILTER_NONE;
+      if (layout == SwatchLayout.GRADIENT) {
+         fillGradient(row, colors, width);
+      } else if (layout == SwatchLayout.GRID) {
+         int columns = gridColumns(colors.length);
+         int first = band * columns;
+         fillBands(row, colors, first, Math.min(columns, colors.length - first), width);
+      } else {
+         fillBands(row, colors, 0, colors.length, width);
+      }
+   }
+
+   /** Pixel x belongs to band {@code x * count / width}, matching the SVG rectangles */
+   private static void fillBands(byte[] row, int[] colors, int first, int count, int width) {
+      for (int x = 0; x < width; x++) {
+         putRgb(row, 1 + 3 * x, colors[first + (int) ((long) x * count / width)]);
+      }
+   }
+
+   /** Linear interpolation in sRGB, like an SVG linearGradient */
+   private static void fillGradient(byte[] row, int[] colors, int width) {
+      int segments = colors.length - 1;
+      if (segments == 0 || width == 1) {
+         for (int x = 0; x < width; x++) {
+            putRgb(row, 1 + 3 * x, colors[0]);
+         }
+         return;
+      }
+      long span = width - 1;
+      for (int x = 0; x < width; x++) {
+         long position = (long) x * segments;
+         int segment = (int) Math.min(position / span, segments - 1);
+         long weight = position - segment * span;
+         int from = colors[segment];
+         int to = colors[segment + 1];
+         int offset = 1 + 3 * x;
+         for (int shift = 16, i = 0; shift >= 0; shift -= 8, i++) {
+            long a = (from >> shift) & 0xFF;
+            long b = (to >> shift) & 0xFF;
+            row[offset + i] = (byte) ((a * (span - weight) + b * weight + span / 2) / span);
+         }
+      }
+   }
+
+   private void writeSvg(int[] colors, SwatchLayout layout, int width, int height,
+            OutputStream out) throws IOException {
+      StringBuilder svg = new StringBuilder(256 + 80 * colors.length);
+      svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+               .append("\" height=\"").append(height).append("\" viewBox=\"0 0 ").append(width)
+               .append(' ').append(height).append('"');
+      if (layout == SwatchLayout.GRADIENT) {
+         svg.append(">");
+         if (colors.length == 1) {
+            appendRect(svg, 0, 0, width, height, colors[0]);
+         } else {
+            svg.append("<defs><linearGradient id=\"swatch\">");
+            for (int i = 0; i < colors.length; i++) {
+               double offset = Math.round(i * 10000.0 / (colors.length - 1)) / 100.0;
+               svg.append("<stop offset=\"").append(offset).append("%\" stop-color=\"");
+               appendHex(svg, colors[i]).append("\"/>");
+            }
+            svg.append("</linearGradient></defs><rect width=\"").append(width)
+                     .append("\" height=\"").append(height).append("\" fill=\"url(#swatch)\"/>");
+         }
+      } else {
+         svg.append(" shape-rendering=\"crispEdges\">");
+         int bands = bandCount(layout, colors.length);
+         int columns = layout == SwatchLayout.GRID ? gridColumns(colors.length) : colors.length;
+         for (int band = 0; band < bands; band++) {
+            int top = edge(band, height, bands);
+            int bottom = edge(band + 1, height, bands);
+            int first = band * columns;
+            int count = Math.min(columns, colors.length - first);
+            for (int i = 0; i < count; i++) {
+               int left = edge(i, width, count);
+               appendRect(svg, left, top, edge(i + 1, width, count) - left, bottom - top,
+                        colors[first + i]);
+            }
+         }
+      }
+      svg.append("</svg>");
+      out.write(svg.toString().getBytes(StandardCharsets.UTF_8));
+   }
+
+   /** First pixel of band {@code index} out of {@code count} over {@code size} pixels */
+   private static int edge(int index, int size, int count) {
+      return (int) (((long) index * size + count - 1) / count);
+   }
+
+   private static void appendRect(StringBuilder svg, int x, int y, int width, int height,
+            int color) {
+      svg.append("<rect x=\"").append(x).append("\" y=\"").append(y).append("\" width=\"")
+               .append(width).append("\" height=\"").append(height).append("\" fill=\"");
+      appendHex(svg, color).append("\"/>");
+   }
+
+   private static StringBuilder appendHex(StringBuilder svg, int color) {
+      svg.append('#');
+      for (int shift = 20; shift >= 0; shift -= 4) {
+         svg.append(HEX_DIGITS[(color >> shift) & 0xF]);
+      }
+      return svg;
+   }
+
+   private static void putRgb(byte[] row, int offset, int color) {
+      row[offset] = (byte) (color >> 16);
+      row[offset + 1] = (byte) (color >> 8);
+      row[offset + 2] = (byte) color;
+   }
+
+   private static void putInt(byte[] buffer, int offset, int value) {
+      buffer[offset] = (byte) (value >>> 24);
+      buffer[offset + 1] = (byte) (value >>> 16);
+      buffer[offset + 2] = (byte) (value >>> 8);
+      buffer[offset + 3] = (byte) value;
+   }
+
+   private static void writeInt(OutputStream out, long value) throws IOException {
+      out.write((int) (value >>> 24) & 0xFF);
+      out.write((int) (value >>> 16) & 0xFF);
+      out.write((int) (value >>> 8) & 0xFF);
+      out.write((int) value & 0xFF);
+   }
+
+   private static void writeChunk(OutputStream out, byte[] type, byte[] data, int length,
+            CRC32 crc) throws IOException {
+      writeInt(out, length);
+      out.write(type);
+      out.write(data, 0, length);
+      crc.reset();
+      crc.update(type);
+      crc.update(data, 0, length);
+      writeInt(out, crc.getValue());
+   }
+
+   /** Splits the zlib stream into IDAT chunks; closing it does not close the target */
+   private static final class IdatOutputStream extends OutputStream {
+
+      private final OutputStream out;
+      private final CRC32 crc;
+      private final byte[] buffer = new byte[IDAT_CHUNK_SIZE];
+      private int count;
+
+      IdatOutputStream(OutputStream out, CRC32 crc) {
+         this.out = out;
+         this.crc = crc;
+      }
+
+      @Override
+      public void write(int b) throws IOException {
+         if (count == buffer.length) {
+            writeBuffer();
+         }
+         buffer[count++] = (byte) b;
+      }
+
+      @Override
+      public void write(byte[] bytes, int offset, int length) throws IOException {
+         while (length > 0) {
+            if (count == buffer.length) {
+               writeBuffer();
+            }
+            int n = Math.min(length, buffer.length - count);
+            System.arraycopy(bytes, offset, buffer, count, n);
+            count += n;
+            offset += n;
+            length -= n;
+         }
+      }
+
+      @Override
+      public void close() throws IOException {
+         if (count > 0) {
+            writeBuffer();
+         }
+      }
+
+      private void writeBuffer() throws IOException {
+         writeChunk(out, IDAT, buffer, count, crc);
+         count = 0;
+      }
+   }
+}
@@ -0,0 +1,252 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.swatch;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Renders swatch images into a disk cache keyed by content hash.
+ *
+ * <p>
+ * The key is a SHA-256 of the ordered colors and the rendering options, not of the combination
+ * id, so an edited combination gets a new file and identical palettes share one. Files are written
+ * to a temporary name and moved into place atomically, so readers never see a partial image and
+ * concurrent renders of the same key are harmless. A hit touches the file's modification time, so
+ * when the directory holds more than {@code max-entries} swatches the least recently used ones are
+ * deleted.
+ */
+@Service
+@ConditionalOnProperty(name = "kolors.swatch.enabled", havingValue = "true")
+public class SwatchService {
+
+   private static final Logger logger = LoggerFactory.getLogger(SwatchService.class);
+
+   // Part of every key; bump when the rendered output changes so stale files are not served
+   private static final String RENDERER_VERSION = "1";
+   private static final int TRIM_INTERVAL = 64;
+
+   private final SwatchRenderer renderer = new SwatchRenderer();
+   private final Path directory;
+   private final int maxDimension;
+   private final int maxEntries;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+   private final LongAdder renderNanos = new LongAdder();
+
+   @Autowired
+   public SwatchService(
+            @Value("${kolors.swatch.cache-dir:${java.io.tmpdir}/kolors-swatches}") String cacheDir,
+            @Value("${kolors.swatch.max-dimension:2048}") int maxDimension,
+            @Value("${kolors.swatch.max-entries:10000}") int maxEntries) {
+      if (maxDimension < 1 || maxEntries < 1) {
+         throw new IllegalArgumentException("Invalid swatch cache configuration");
+      }
+      this.directory = Paths.get(cacheDir).toAbsolutePath().normalize();
+      this.maxDimension = maxDimension;
+      this.maxEntries = maxEntries;
+      try {
+         Files.createDirectories(directory);
+      } catch (IOException e) {
+         throw new UncheckedIOException("Cannot create swatch cache directory " + directory, e);
+      }
+      logger.info("Swatch rendering enabled (cache {}, max {} entries)", directory, maxEntries);
+   }
+
+   /**
+    * Gets the cached swatch for the colors in order, rendering it first if needed.
+    *
+    * @throws IllegalArgumentException for an empty palette, an invalid color or a size outside
+    *            {@code 1..max-dimension}
+    */
+   public Swatch getSwatch(List<String> hexValues, SwatchLayout layout, SwatchFormat format,
+            int width, int height) throws IOException {
+      if (width < 1 || height < 1 || width > maxDimension || height > maxDimension) {
+         throw new IllegalArgumentException(
+                  "Width and height must be between 1 and " + maxDimension);
+      }
+      int[] colors = SwatchRenderer.parseColors(hexValues);
+      String key = contentKey(colors, layout, format, width, height);
+      Path file = directory.resolve(key + "." + format.getExtension());
+
+      if (touch(file)) {
+         hits.increment();
+         return new Swatch(key, file, Files.size(file), format);
+      }
+
+      misses.increment();
+      long start = System.nanoTime();
+      Path temporary = Files.createTempFile(directory, key, ".tmp");
+      try {
+         try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+            renderer.render(colors, layout, format, width, height, out);
+         }
+         Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE,
+                  StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+         Files.deleteIfExists(temporary);
+      }
+      renderNanos.add(System.nanoTime() - start);
+
+      if (misses.sum() % TRIM_INTERVAL == 0) {
+         trim();
+      }
+      return new Swatch(key, file, Files.size(file), format);
+   }
+
+   /** Deletes the least recently used swatches beyond {@code max-entries} */
+   public synchronized void trim() {
+      List<Path> files;
+      try (Stream<Path> listing = Files.list(directory)) {
+         files = listing.filter(SwatchService::isSwatchFile).toList();
+      } catch (IOException e) {
+         logger.warn("Cannot list swatch cache {}: {}", directory, e.getMessage());
+         return;
+      }
+      if (files.size() <= maxEntries) {
+         return;
+      }
+      List<CachedFile> byAge = new ArrayList<>(files.size());
+      for (Path file : files) {
+         try {
+            byAge.add(new CachedFile(file, Files.getLastModifiedTime(file)));
+         } catch (IOException e) {
+            // Deleted concurrently
+         }
+      }
+      byAge.sort(Comparator.comparing(CachedFile::modified));
+      for (int i = 0; i < byAge.size() - maxEntries; i++) {
+         try {
+            if (Files.deleteIfExists(byAge.get(i).path())) {
+               evictions.increment();
+            }
+         } catch (IOException e) {
+            logger.debug("Cannot evict swatch {}: {}", byAge.get(i).path(), e.getMessage());
+         }
+      }
+   }
+
+   /** Gets the cache directory */
+   public Path getDirectory() {
+      return directory;
+   }
+
+   /** Gets hit/miss counters and render time */
+   public SwatchCacheStatistics getStatistics() {
+      return new SwatchCacheStatistics(hits.sum(), misses.sum(), evictions.sum(),
+               renderNanos.sum(), maxEntries);
+   }
+
+   /** Marks a cached file as just used; false when it is not in the cache */
+   private static boolean touch(Path file) {
+      try {
+         Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+         return true;
+      } catch (NoSuchFileException e) {
+         return false;
+      } catch (IOException e) {
+         logger.debug("Cannot touch swatch {}: {}", file, e.getMessage());
+         return Files.isRegularFile(file);
+      }
+   }
+
+   private static String contentKey(int[] colors, SwatchLayout layout, SwatchFormat format,
+            int width, int height) {
+      StringBuilder content = new StringBuilder(32 + 7 * colors.length);
+      content.append(RENDERER_VERSION).append('|').append(format).append('|').append(layout)
+               .append('|').append(width).append('x').append(height);
+      HexFormat hex = HexFormat.of();
+      for (int color : colors) {
+         content.append('|').append(hex.toHexDigits(color), 2, 8);
+      }
+      try {
+         MessageDigest digest = MessageDigest.getInstance("SHA-256");
+         return hex.formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+      } catch (NoSuchAlgorithmException e) {
+         throw new IllegalStateException("SHA-256 is not available", e);
+      }
+   }
+
+   private static boolean isSwatchFile(Path file) {
+      String name = file.getFileName().toString();
+      for (SwatchFormat format : SwatchFormat.values()) {
+         if (name.endsWith("." + format.getExtension())) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private record CachedFile(Path path, FileTime modified) {}
+
+   /** Swatch disk cache counters */
+   public static class SwatchCacheStatistics {
+
+      private final long hitCount;
+      private final long missCount;
+      private final long evictionCount;
+      private final long renderTimeNanos;
+      private final int maxEntries;
+
+      public SwatchCacheStatistics(long hitCount, long missCount, long evictionCount,
+               long renderTimeNanos, int maxEntries) {
+         this.hitCount = hitCount;
+         this.missCount = missCount;
+         this.evictionCount = evictionCount;
+         this.renderTimeNanos = renderTimeNanos;
+         this.maxEntries = maxEntries;
+      }
+
+      public long getHitCount() {
+         return hitCount;
+      }
+
+      /** Requests that rendered a new file */
+      public long getMissCount() {
+         return missCount;
+      }
+
+      public long getEvictionCount() {
+         return evictionCount;
+      }
+
+      public double getAverageRenderTimeMs() {
+         return missCount > 0 ? renderTimeNanos / 1_000_000.0 / missCount : 0.0;
+      }
+
+      public int getMaxEntries() {
+         return maxEntries;
+      }
+
+      /** Hit ratio as a percentage */
+      public double getHitRatio() {
+         long total = hitCount + missCount;
+         return total > 0 ? (double) hitCount / total * 100.0 : 0.0;
+      }
+   }
+}
@@ -0,0 +1,156 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+import dev.kreaker.kolors.event.CombinationChangeEvent.Type;
+import dev.kreaker.kolors.search.ColorBitmapIndex;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies containment searches through the color bitmap index and the SQL fallback */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Color Bitmap Index Integration Tests")
+class ColorBitmapIndexIntegrationTest {
+
+   private static final List<String> BOTH = List.of("1B2C3D", "#4E5F60");
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private ColorInCombinationRepository colorRepository;
+
+   private MockMvc mockMvc;
+   private ColorBitmapIndex index;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+      index = new ColorBitmapIndex(colorRepository);
+   }
+
+   @AfterEach
+   void tearDown() {
+      colorCombinationService.setColorBitmapIndex(null);
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private ColorCombination create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      ColorCombination combination = colorCombinationService.createCombination(form);
+      created.add(combination.getId());
+      return combination;
+   }
+
+   private List<Long> containing(List<String> hexValues, boolean all) {
+      return colorCombinationService
+               .findContainingColors(hexValues, all, PageRequest.of(0, 100)).getContent()
+               .stream().map(ColorCombinationSummary::id).toList();
+   }
+
+   @Test
+   @DisplayName("Should return the same combinations from the index as from the SQL queries")
+   void shouldMatchSqlQueries() {
+      Long first = create("Bitmap First", "1B2C3D", "4E5F60").getId();
+      Long second = create("Bitmap Second", "4E5F60", "718293", "1B2C3D").getId();
+      Long third = create("Bitmap Third", "718293").getId();
+
+      List<Long> sqlAll = containing(BOTH, true);
+      List<Long> sqlAny = containing(List.of("1B2C3D", "718293"), false);
+      List<ColorCombination> sqlSingle = colorCombinationService.findByHexValue("718293");
+
+      index.rebuild();
+      colorCombinationService.setColorBitmapIndex(index);
+
+      assertThat(sqlAll).containsExactly(second, first);
+      assertThat(containing(BOTH, true)).isEqualTo(sqlAll);
+      assertThat(sqlAny).containsExactly(third, second, first);
+      assertThat(containing(List.of("1B2C3D", "718293"), false)).isEqualTo(sqlAny);
+      assertThat(colorCombinationService.findByHexValue("718293"))
+               .extracting(ColorCombination::getId)
+               .containsExactlyInAnyOrderElementsOf(
+                        sqlSingle.stream().map(ColorCombination::getId).toList());
+      assertThat(colorCombinationService.findByHexValue("718293").get(0).getColors())
+               .isNotEmpty();
+
+      // Paging slices the index result and keeps the total
+      Page<ColorCombinationSummary> page =
+               colorCombinationService.findContainingColors(BOTH, true, PageRequest.of(1, 1));
+      assertThat(page.getContent()).extracting(ColorCombinationSummary::id).containsExactly(first);
+      assertThat(page.getContent().get(0).hexValues()).containsExactly("1B2C3D", "4E5F60");
+      assertThat(page.getTotalElements()).isEqualTo(2);
+   }
+
+   @Test
+   @DisplayName("Should follow color removals and deletes through change events")
+   void shouldFollowChanges() {
+      ColorCombination first = create("Bitmap Removal", "1B2C3D", "4E5F60", "718293");
+      ColorCombination second = create("Bitmap Delete", "1B2C3D", "4E5F60");
+      index.rebuild();
+      colorCombinationService.setColorBitmapIndex(index);
+      assertThat(containing(BOTH, true)).containsExactly(second.getId(), first.getId());
+
+      colorCombinationService.removeColorFromCombination(first.getId(), 2);
+      index.onChange(CombinationChangeEvent.of(Type.COLOR_REMOVED, first));
+      colorCombinationService.deleteCombination(second.getId());
+      index.onChange(CombinationChangeEvent.deleted(second.getId()));
+
+      assertThat(containing(BOTH, true)).isEmpty();
+      assertThat(containing(BOTH, false)).containsExactly(first.getId());
+      assertThat(index.getStatistics().tombstones()).isEqualTo(2);
+   }
+
+   @Test
+   @DisplayName("Should serve containment searches over the REST API")
+   void shouldSearchOverRest() throws Exception {
+      Long id = create("Bitmap Rest", "1B2C3D", "4E5F60").getId();
+
+      mockMvc.perform(get("/api/combinations/containing").param("colors", "1B2C3D,#4e5f60"))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.content[0].id").value(id))
+               .andExpect(jsonPath("$.totalElements").value(1));
+      mockMvc.perform(get("/api/combinations/containing").param("colors", "4E5F60,000001")
+               .param("match", "any")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].id").value(id));
+      mockMvc.perform(get("/api/combinations/containing").param("colors", "4E5F6"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/containing").param("colors", "4E5F60")
+               .param("match", "most")).andExpect(status().isBadRequest());
+   }
+}
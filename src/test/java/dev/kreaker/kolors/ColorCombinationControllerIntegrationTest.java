@@ -37,6 +37,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
 import dev.kreaker.kolors.dto.ColorCombinationForm;
 import dev.kreaker.kolors.dto.ColorForm;
 import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
@@ -92,6 +93,14 @@ class ColorCombinationControllerIntegrationTest {
       when(colorCombinationService.getStatistics()).thenReturn(stats);
    }
 
+   private static Page<ColorCombinationSummary> summaries(Page<ColorCombination> page) {
+      return page.map(ColorCombinationSummary::from);
+   }
+
+   private static List<ColorCombinationSummary> summaries(List<ColorCombination> combinations) {
+      return combinations.stream().map(ColorCombinationSummary::from).toList();
+   }
+
    @Nested
    @DisplayName("Página Principal")
    class IndexPageTests {
@@ -101,15 +110,15 @@ class ColorCombinationControllerIntegrationTest {
       void shouldRespondToIndexPage() throws Exception {
          // Given
          Page<ColorCombination> page = new PageImpl<>(testCombinations);
-         when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), isNull(),
-                  any(Pageable.class))).thenReturn(page);
+         when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull(),
+                  any(Pageable.class))).thenReturn(summaries(page));
 
          // When & Then
          mockMvc.perform(get("/combinations/")).andExpect(status().isOk())
                   .andExpect(model().attributeExists("combinations"))
                   .andExpect(model().attributeExists("combinationForm"));
 
-         verify(colorCombinationService).searchWithFilters(isNull(), isNull(), isNull(), isNull(),
+         verify(colorCombinationService).searchSummaries(isNull(), isNull(), isNull(), isNull(),
                   any(Pageable.class));
       }
 
@@ -119,14 +128,14 @@ class ColorCombinationControllerIntegrationTest {
          // Given
          String searchTerm = "Sunset";
          Page<ColorCombination> page = new PageImpl<>(testCombinations);
-         when(colorCombinationService.searchWithFilters(eq(searchTerm), isNull(), isNull(),
-                  isNull(), any(Pageable.class))).thenReturn(page);
+         when(colorCombinationService.searchSummaries(eq(searchTerm), isNull(), isNull(),
+                  isNull(), any(Pageable.class))).thenReturn(summaries(page));
 
          // When & Then
          mockMvc.perform(get("/combinations/").param("search", searchTerm))
                   .andExpect(status().isOk()).andExpect(model().attribute("search", searchTerm));
 
-         verify(colorCombinationService).searchWithFilters(eq(searchTerm), isNull(), isNull(),
+         verify(colorCombinationService).searchSummaries(eq(searchTerm), isNull(), isNull(),
                   isNull(), any(Pageable.class));
       }
 
@@ -136,14 +145,14 @@ class ColorCombinationControllerIntegrationTest {
          // Given
          String hexValue = "FF6B35";
          Page<ColorCombination> page = new PageImpl<>(testCombinations);
-         when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), eq(hexValue),
-                  any(Pageable.class))).thenReturn(page);
+         when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), eq(hexValue),
+                  any(Pageable.class))).thenReturn(summaries(page));
 
          // When & Then
          mockMvc.perform(get("/combinations/").param("hexValue", hexValue))
                   .andExpect(status().isOk()).andExpect(model().attribute("hexValue", hexValue));
 
-         verify(colorCombinationService).searchWithFilters(isNull(), isNull(), isNull(),
+         verify(colorCombinationService).searchSummaries(isNull(), isNull(), isNull(),
                   eq(hexValue), any(Pageable.class));
       }
    }
@@ -177,7 +186,8 @@ class ColorCombinationControllerIntegrationTest {
          List<String> validationErrors = Arrays.asList("Error 1", "Error 2");
          when(colorCombinationService.createCombination(any(ColorCombinationForm.class)))
                   .thenThrow(new ColorCombinationValidationException(validationErrors));
-         when(colorCombinationService.findAllCombinations()).thenReturn(testCombinations);
+         when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull()))
+                  .thenReturn(summaries(testCombinations));
 
          // When & Then
          mockMvc.perform(post("/combinations/create").param("name", "Test Combination")
@@ -327,14 +337,14 @@ class ColorCombinationControllerIntegrationTest {
       @DisplayName("Should handle AJAX search by term")
       void shouldHandleAjaxSearchByTerm() throws Exception {
          // Given
-         when(colorCombinationService.searchWithFilters(eq("Ocean"), isNull(), isNull(), isNull()))
-                  .thenReturn(testCombinations);
+         when(colorCombinationService.searchSummaries(eq("Ocean"), isNull(), isNull(), isNull()))
+                  .thenReturn(summaries(testCombinations));
 
          // When & Then
          mockMvc.perform(get("/combinations/search").param("term", "Ocean"))
                   .andExpect(status().isOk()).andExpect(model().attributeExists("combinations"));
 
-         verify(colorCombinationService).searchWithFilters(eq("Ocean"), isNull(), isNull(),
+         verify(colorCombinationService).searchSummaries(eq("Ocean"), isNull(), isNull(),
                   isNull());
       }
 
@@ -342,14 +352,14 @@ class ColorCombinationControllerIntegrationTest {
       @DisplayName("Should handle AJAX search by hexadecimal value")
       void shouldHandleAjaxSearchByHexValue() throws Exception {
          // Given
-         when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), eq("FF6B35")))
-                  .thenReturn(testCombinations);
+         when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), eq("FF6B35")))
+                  .thenReturn(summaries(testCombinations));
 
          // When & Then
          mockMvc.perform(get("/combinations/search").param("hexValue", "FF6B35"))
                   .andExpect(status().isOk()).andExpect(model().attributeExists("combinations"));
 
-         verify(colorCombinationService).searchWithFilters(isNull(), isNull(), isNull(),
+         verify(colorCombinationService).searchSummaries(isNull(), isNull(), isNull(),
                   eq("FF6B35"));
       }
    }
@@ -364,7 +374,8 @@ class ColorCombinationControllerIntegrationTest {
          // Given
          when(colorCombinationService.createCombination(any(ColorCombinationForm.class)))
                   .thenThrow(new RuntimeException("Unexpected error"));
-         when(colorCombinationService.findAllCombinations()).thenReturn(testCombinations);
+         when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull()))
+                  .thenReturn(summaries(testCombinations));
 
          // When & Then
          mockMvc.perform(post("/combinations/create").param("name", "Test Combination")
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.TestPropertySource;
 
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @TestPropertySource(properties = {"spring.datasource.url=jdbc:sqlite::memory:",
@@ -36,6 +40,9 @@ class ColorCombinationRepositoryTest {
    @Autowired
    private ColorCombinationRepository colorCombinationRepository;
 
+   @Autowired
+   private ColorInCombinationRepository colorInCombinationRepository;
+
    private ColorCombination combination1;
    private ColorCombination combination2;
    private ColorCombination combination3;
@@ -303,6 +310,43 @@ class ColorCombinationRepositoryTest {
       assertEquals(2, retrieved.get().getColors().size());
    }
 
+   @Test
+   @DisplayName("Should read filtered summaries without loading colors")
+   void shouldFindSummariesWithFilters() {
+      // When
+      Page<ColorCombinationSummary> page = colorCombinationRepository
+               .findSummariesWithFilters("o", 3, null, PageRequest.of(0, 10));
+
+      // Then
+      assertEquals(2, page.getTotalElements());
+      assertTrue(page.getContent().stream().allMatch(s -> s.hexValues().isEmpty()));
+      assertEquals(Set.of("Sunset Colors", "Forest Greens"), page.getContent().stream()
+               .map(ColorCombinationSummary::name).collect(Collectors.toSet()));
+   }
+
+   @Test
+   @DisplayName("Should read summaries by hex value and their hex values in position order")
+   void shouldFindSummariesByHexValueWithOrderedHexValues() {
+      // Given
+      ColorCombination reversed = new ColorCombination("Reversed", 2);
+      reversed.addColor(new ColorInCombination("3B82F6", 2));
+      reversed.addColor(new ColorInCombination("000000", 1));
+      entityManager.persistAndFlush(reversed);
+
+      // When
+      Page<ColorCombinationSummary> page = colorCombinationRepository
+               .findSummariesByContainingHexValue("3B82F6", PageRequest.of(0, 10));
+      List<Object[]> rows = colorInCombinationRepository
+               .findHexValuesByCombinationIds(List.of(reversed.getId(), combination2.getId()));
+
+      // Then
+      assertEquals(2, page.getTotalElements());
+      assertEquals(4, rows.size());
+      List<String> reversedHexValues = rows.stream().filter(r -> reversed.getId().equals(r[0]))
+               .map(r -> (String) r[1]).toList();
+      assertEquals(List.of("000000", "3B82F6"), reversedHexValues);
+   }
+
    @Test
    @DisplayName("Should delete combination and cascade to colors")
    void shouldDeleteCombinationAndCascadeToColors() {
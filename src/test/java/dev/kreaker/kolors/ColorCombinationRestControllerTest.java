@@ -3,15 +3,19 @@ package dev.kreaker.kolors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -26,9 +35,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import dev.kreaker.kolors.controller.api.ColorCombinationRestController;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
 import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.dto.PerceptualFilter;
 import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
 import dev.kreaker.kolors.exception.ColorCombinationValidationException;
+import dev.kreaker.kolors.exception.CombinationVersionConflictException;
 import dev.kreaker.kolors.security.repository.UserRepository;
 import dev.kreaker.kolors.service.ColorCombinationService;
 
@@ -58,6 +71,7 @@ class ColorCombinationRestControllerTest {
       testCombination = new ColorCombination("Test Combination", 3);
       testCombination.setId(1L);
       testCombination.setCreatedAt(LocalDateTime.now());
+      testCombination.setVersion(3L);
       testCombination.addColor(new ColorInCombination("FF0000", 1));
       testCombination.addColor(new ColorInCombination("00FF00", 2));
       testCombination.addColor(new ColorInCombination("0000FF", 3));
@@ -66,6 +80,10 @@ class ColorCombinationRestControllerTest {
       testColorForm = new ColorForm("FFFF00", 4);
    }
 
+   private static Page<ColorCombinationSummary> summaries(Page<ColorCombination> page) {
+      return page.map(ColorCombinationSummary::from);
+   }
+
    @Test
    @DisplayName("Should add color via AJAX successfully")
    void shouldAddColorViaAjaxSuccessfully() throws Exception {
@@ -218,4 +236,136 @@ class ColorCombinationRestControllerTest {
       // When & Then
       mockMvc.perform(post("/api/combinations/999").with(csrf())).andExpect(status().isNotFound());
    }
+
+   @Test
+   @DisplayName("Should return ETag and 304 when the combination is unchanged")
+   void shouldReturnNotModifiedForMatchingETag() throws Exception {
+      // Given
+      when(colorCombinationService.getById(1L)).thenReturn(testCombination);
+
+      // When & Then
+      mockMvc.perform(get("/api/combinations/1")).andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+      mockMvc.perform(get("/api/combinations/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+               .andExpect(status().isNotModified());
+      mockMvc.perform(get("/api/combinations/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+               .andExpect(status().isOk());
+   }
+
+   @Test
+   @DisplayName("Should add color with matching If-Match and return the new ETag")
+   void shouldAddColorWithMatchingIfMatch() throws Exception {
+      // Given
+      when(colorCombinationService.addColorToCombination(eq(1L), any(ColorForm.class), eq(3L)))
+               .thenAnswer(invocation -> {
+                  testCombination.setVersion(4L);
+                  return testCombination;
+               });
+
+      // When & Then
+      mockMvc.perform(post("/api/combinations/1/colors").with(csrf())
+               .header(HttpHeaders.IF_MATCH, "\"1-3\"").contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(testColorForm)))
+               .andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+   }
+
+   @Test
+   @DisplayName("Should reject stale If-Match with 412 Precondition Failed")
+   void shouldRejectStaleIfMatch() throws Exception {
+      // Given
+      when(colorCombinationService.removeColorFromCombination(1L, 2, 2L))
+               .thenThrow(new CombinationVersionConflictException(1L, 2L, 3L));
+
+      // When & Then
+      mockMvc.perform(delete("/api/combinations/1/colors/2").with(csrf())
+               .header(HttpHeaders.IF_MATCH, "\"1-2\"")).andExpect(status().isPreconditionFailed())
+               .andExpect(jsonPath("$.success").value(false));
+   }
+
+   @Test
+   @DisplayName("Should list combinations as a JSON page with an ETag")
+   void shouldListCombinationsAsJsonPage() throws Exception {
+      // Given
+      when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull(),
+               eq(ContrastFilter.NONE), eq(PerceptualFilter.NONE), any(Pageable.class)))
+               .thenReturn(summaries(
+                        new PageImpl<>(List.of(testCombination), PageRequest.of(0, 20), 1)));
+
+      // When & Then
+      String etag = mockMvc.perform(get("/api/combinations")).andExpect(status().isOk())
+               .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+               .andExpect(jsonPath("$.totalElements").value(1))
+               .andExpect(jsonPath("$.content[0].name").value("Test Combination"))
+               .andExpect(jsonPath("$.content[0].colors[0].hexValue").value("FF0000"))
+               .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+      mockMvc.perform(get("/api/combinations").header(HttpHeaders.IF_NONE_MATCH, etag))
+               .andExpect(status().isNotModified());
+   }
+
+   @Test
+   @DisplayName("Should search combinations and return only the selected fields")
+   void shouldSearchWithFieldSelection() throws Exception {
+      // Given
+      when(colorCombinationService.searchSummaries(eq("Test"), eq(2), eq(4), isNull(),
+               eq(ContrastFilter.NONE), eq(PerceptualFilter.NONE), any(Pageable.class)))
+               .thenReturn(summaries(
+                        new PageImpl<>(List.of(testCombination), PageRequest.of(0, 5), 1)));
+
+      // When & Then
+      mockMvc.perform(get("/api/combinations/search").param("name", "Test")
+               .param("minColors", "2").param("maxColors", "4").param("size", "5")
+               .param("fields", "name, id")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].id").value(1))
+               .andExpect(jsonPath("$.content[0].name").value("Test Combination"))
+               .andExpect(jsonPath("$.content[0].colors").doesNotExist())
+               .andExpect(jsonPath("$.content[0].colorCount").doesNotExist())
+               .andExpect(jsonPath("$.size").value(5));
+   }
+
+   @Test
+   @DisplayName("Should pass contrast filters to the summary search")
+   void shouldSearchByContrast() throws Exception {
+      // Given
+      when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull(),
+               eq(new ContrastFilter(4.5, null, 2)), eq(PerceptualFilter.NONE),
+               any(Pageable.class)))
+               .thenReturn(summaries(
+                        new PageImpl<>(List.of(testCombination), PageRequest.of(0, 20), 1)));
+
+      // When & Then
+      mockMvc.perform(get("/api/combinations/search").param("minPairContrast", "4.5")
+               .param("minAaPairs", "2")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[0].name").value("Test Combination"));
+   }
+
+   @Test
+   @DisplayName("Should reject unknown fields and oversized pages")
+   void shouldRejectInvalidApiParameters() throws Exception {
+      mockMvc.perform(get("/api/combinations").param("fields", "id,secret"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.success").value(false));
+      mockMvc.perform(get("/api/combinations").param("size", "1000"))
+               .andExpect(status().isBadRequest());
+   }
+
+   @Test
+   @DisplayName("Should get combination detail as a typed JSON document")
+   void shouldGetCombinationDetailAsJson() throws Exception {
+      // Given
+      when(colorCombinationService.getById(1L)).thenReturn(testCombination);
+
+      // When & Then
+      mockMvc.perform(get("/api/combinations/1").param("fields", "colors"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.colors.length()").value(3))
+               .andExpect(jsonPath("$.colors[2].formattedHex").value("#0000FF"))
+               .andExpect(jsonPath("$.name").doesNotExist());
+
+      when(colorCombinationService.getById(999L))
+               .thenThrow(new ColorCombinationNotFoundException("Combination not found"));
+      mockMvc.perform(get("/api/combinations/999")).andExpect(status().isNotFound())
+               .andExpect(jsonPath("$.success").value(false));
+   }
 }
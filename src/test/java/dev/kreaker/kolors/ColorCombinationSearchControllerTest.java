@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,11 +32,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import dev.kreaker.kolors.controller.web.ColorCombinationController;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+import dev.kreaker.kolors.naming.ColorNames;
 import dev.kreaker.kolors.security.repository.UserRepository;
 import dev.kreaker.kolors.service.ColorCombinationService;
 
 /** Tests for search and filtering functionality in ColorCombinationController */
 @WebMvcTest(ColorCombinationController.class)
+@Import(ColorNames.class)
 @WithMockUser
 @ActiveProfiles("test")
 class ColorCombinationSearchControllerTest {
@@ -72,14 +76,22 @@ class ColorCombinationSearchControllerTest {
       testCombination3.addColor(new ColorInCombination("90EE90", 4));
    }
 
+   private static Page<ColorCombinationSummary> summaries(Page<ColorCombination> page) {
+      return page.map(ColorCombinationSummary::from);
+   }
+
+   private static List<ColorCombinationSummary> summaries(List<ColorCombination> combinations) {
+      return combinations.stream().map(ColorCombinationSummary::from).toList();
+   }
+
    @Test
    void testIndex_NoFilters() throws Exception {
       // Given
       List<ColorCombination> allCombinations =
                Arrays.asList(testCombination1, testCombination2, testCombination3);
       Page<ColorCombination> page = new PageImpl<>(allCombinations);
-      when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), isNull(),
-               any(Pageable.class))).thenReturn(page);
+      when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull(),
+               any(Pageable.class))).thenReturn(summaries(page));
 
       // When & Then
       mockMvc.perform(get("/combinations/")).andExpect(status().isOk())
@@ -87,7 +99,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("combinations", hasSize(3)))
                .andExpect(model().attribute("totalCombinations", 3L));
 
-      verify(colorCombinationService).searchWithFilters(isNull(), isNull(), isNull(), isNull(),
+      verify(colorCombinationService).searchSummaries(isNull(), isNull(), isNull(), isNull(),
                any(Pageable.class));
    }
 
@@ -97,8 +109,8 @@ class ColorCombinationSearchControllerTest {
       String searchTerm = "Ocean";
       List<ColorCombination> filteredCombinations = Arrays.asList(testCombination2);
       Page<ColorCombination> page = new PageImpl<>(filteredCombinations);
-      when(colorCombinationService.searchWithFilters(eq(searchTerm), isNull(), isNull(), isNull(),
-               any(Pageable.class))).thenReturn(page);
+      when(colorCombinationService.searchSummaries(eq(searchTerm), isNull(), isNull(), isNull(),
+               any(Pageable.class))).thenReturn(summaries(page));
 
       // When & Then
       mockMvc.perform(get("/combinations/").param("search", searchTerm)).andExpect(status().isOk())
@@ -107,7 +119,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("search", searchTerm))
                .andExpect(model().attribute("totalCombinations", 1L));
 
-      verify(colorCombinationService).searchWithFilters(eq(searchTerm), isNull(), isNull(),
+      verify(colorCombinationService).searchSummaries(eq(searchTerm), isNull(), isNull(),
                isNull(), any(Pageable.class));
    }
 
@@ -117,8 +129,8 @@ class ColorCombinationSearchControllerTest {
       Integer colorCount = 3;
       List<ColorCombination> filteredCombinations = Arrays.asList(testCombination1);
       Page<ColorCombination> page = new PageImpl<>(filteredCombinations);
-      when(colorCombinationService.searchWithFilters(isNull(), eq(colorCount), eq(colorCount),
-               isNull(), any(Pageable.class))).thenReturn(page);
+      when(colorCombinationService.searchSummaries(isNull(), eq(colorCount), eq(colorCount),
+               isNull(), any(Pageable.class))).thenReturn(summaries(page));
 
       // When & Then
       mockMvc.perform(get("/combinations/").param("colorCount", colorCount.toString()))
@@ -127,7 +139,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("colorCount", colorCount))
                .andExpect(model().attribute("totalCombinations", 1L));
 
-      verify(colorCombinationService).searchWithFilters(isNull(), eq(colorCount), eq(colorCount),
+      verify(colorCombinationService).searchSummaries(isNull(), eq(colorCount), eq(colorCount),
                isNull(), any(Pageable.class));
    }
 
@@ -137,8 +149,8 @@ class ColorCombinationSearchControllerTest {
       String hexValue = "FF5733";
       List<ColorCombination> filteredCombinations = Arrays.asList(testCombination1);
       Page<ColorCombination> page = new PageImpl<>(filteredCombinations);
-      when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), eq(hexValue),
-               any(Pageable.class))).thenReturn(page);
+      when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), eq(hexValue),
+               any(Pageable.class))).thenReturn(summaries(page));
 
       // When & Then
       mockMvc.perform(get("/combinations/").param("hexValue", hexValue)).andExpect(status().isOk())
@@ -147,7 +159,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("hexValue", hexValue))
                .andExpect(model().attribute("totalCombinations", 1L));
 
-      verify(colorCombinationService).searchWithFilters(isNull(), isNull(), isNull(), eq(hexValue),
+      verify(colorCombinationService).searchSummaries(isNull(), isNull(), isNull(), eq(hexValue),
                any(Pageable.class));
    }
 
@@ -159,8 +171,8 @@ class ColorCombinationSearchControllerTest {
       List<ColorCombination> filteredCombinations =
                Arrays.asList(testCombination1, testCombination2);
       Page<ColorCombination> page = new PageImpl<>(filteredCombinations);
-      when(colorCombinationService.searchWithFilters(isNull(), eq(minColors), eq(maxColors),
-               isNull(), any(Pageable.class))).thenReturn(page);
+      when(colorCombinationService.searchSummaries(isNull(), eq(minColors), eq(maxColors),
+               isNull(), any(Pageable.class))).thenReturn(summaries(page));
 
       // When & Then
       mockMvc.perform(get("/combinations/").param("minColors", minColors.toString())
@@ -171,7 +183,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("maxColors", maxColors))
                .andExpect(model().attribute("totalCombinations", 2L));
 
-      verify(colorCombinationService).searchWithFilters(isNull(), eq(minColors), eq(maxColors),
+      verify(colorCombinationService).searchSummaries(isNull(), eq(minColors), eq(maxColors),
                isNull(), any(Pageable.class));
    }
 
@@ -183,8 +195,8 @@ class ColorCombinationSearchControllerTest {
       Integer maxColors = 4;
       List<ColorCombination> filteredCombinations = Arrays.asList(testCombination1);
       Page<ColorCombination> page = new PageImpl<>(filteredCombinations);
-      when(colorCombinationService.searchWithFilters(eq(searchTerm), eq(minColors), eq(maxColors),
-               isNull(), any(Pageable.class))).thenReturn(page);
+      when(colorCombinationService.searchSummaries(eq(searchTerm), eq(minColors), eq(maxColors),
+               isNull(), any(Pageable.class))).thenReturn(summaries(page));
 
       // When & Then
       mockMvc.perform(get("/combinations/").param("search", searchTerm)
@@ -196,7 +208,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("maxColors", maxColors))
                .andExpect(model().attribute("totalCombinations", 1L));
 
-      verify(colorCombinationService).searchWithFilters(eq(searchTerm), eq(minColors),
+      verify(colorCombinationService).searchSummaries(eq(searchTerm), eq(minColors),
                eq(maxColors), isNull(), any(Pageable.class));
    }
 
@@ -206,8 +218,8 @@ class ColorCombinationSearchControllerTest {
       String searchTerm = "Ocean";
       Integer colorCount = 2;
       List<ColorCombination> filteredCombinations = Arrays.asList(testCombination2);
-      when(colorCombinationService.searchWithFilters(eq(searchTerm), eq(colorCount), eq(colorCount),
-               isNull())).thenReturn(filteredCombinations);
+      when(colorCombinationService.searchSummaries(eq(searchTerm), eq(colorCount), eq(colorCount),
+               isNull())).thenReturn(summaries(filteredCombinations));
 
       // When & Then
       mockMvc.perform(get("/combinations/search").param("term", searchTerm).param("colorCount",
@@ -215,7 +227,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(view().name("combinations/fragments/combination-list :: combinationList"))
                .andExpect(model().attribute("combinations", hasSize(1)));
 
-      verify(colorCombinationService).searchWithFilters(eq(searchTerm), eq(colorCount),
+      verify(colorCombinationService).searchSummaries(eq(searchTerm), eq(colorCount),
                eq(colorCount), isNull());
    }
 
@@ -224,8 +236,8 @@ class ColorCombinationSearchControllerTest {
       // Given
       String hexValue = "228B22";
       List<ColorCombination> filteredCombinations = Arrays.asList(testCombination3);
-      when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), eq(hexValue)))
-               .thenReturn(filteredCombinations);
+      when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), eq(hexValue)))
+               .thenReturn(summaries(filteredCombinations));
 
       // When & Then
       mockMvc.perform(get("/combinations/search").param("hexValue", hexValue))
@@ -233,7 +245,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(view().name("combinations/fragments/combination-list :: combinationList"))
                .andExpect(model().attribute("combinations", hasSize(1)));
 
-      verify(colorCombinationService).searchWithFilters(isNull(), isNull(), isNull(), eq(hexValue));
+      verify(colorCombinationService).searchSummaries(isNull(), isNull(), isNull(), eq(hexValue));
    }
 
    @Test
@@ -243,8 +255,8 @@ class ColorCombinationSearchControllerTest {
       Integer maxColors = 4;
       List<ColorCombination> filteredCombinations =
                Arrays.asList(testCombination1, testCombination3);
-      when(colorCombinationService.searchWithFilters(isNull(), eq(minColors), eq(maxColors),
-               isNull())).thenReturn(filteredCombinations);
+      when(colorCombinationService.searchSummaries(isNull(), eq(minColors), eq(maxColors),
+               isNull())).thenReturn(summaries(filteredCombinations));
 
       // When & Then
       mockMvc.perform(get("/combinations/search").param("minColors", minColors.toString())
@@ -252,7 +264,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(view().name("combinations/fragments/combination-list :: combinationList"))
                .andExpect(model().attribute("combinations", hasSize(2)));
 
-      verify(colorCombinationService).searchWithFilters(isNull(), eq(minColors), eq(maxColors),
+      verify(colorCombinationService).searchSummaries(isNull(), eq(minColors), eq(maxColors),
                isNull());
    }
 
@@ -266,8 +278,8 @@ class ColorCombinationSearchControllerTest {
       Page<ColorCombination> combinationPage =
                new PageImpl<>(combinations, PageRequest.of(page, size), 10);
 
-      when(colorCombinationService.searchWithFilters(eq(searchTerm), isNull(), isNull(), isNull(),
-               any(PageRequest.class))).thenReturn(combinationPage);
+      when(colorCombinationService.searchSummaries(eq(searchTerm), isNull(), isNull(), isNull(),
+               any(PageRequest.class))).thenReturn(summaries(combinationPage));
 
       // When & Then
       mockMvc.perform(get("/combinations/paginated").param("search", searchTerm)
@@ -282,7 +294,7 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("hasNext", true))
                .andExpect(model().attribute("hasPrevious", false));
 
-      verify(colorCombinationService).searchWithFilters(eq(searchTerm), isNull(), isNull(),
+      verify(colorCombinationService).searchSummaries(eq(searchTerm), isNull(), isNull(),
                isNull(), any(PageRequest.class));
    }
 
@@ -298,8 +310,8 @@ class ColorCombinationSearchControllerTest {
       Page<ColorCombination> combinationPage =
                new PageImpl<>(combinations, PageRequest.of(page, size), 1);
 
-      when(colorCombinationService.searchWithFilters(eq(searchTerm), eq(colorCount), eq(colorCount),
-               eq(hexValue), any())).thenReturn(combinationPage);
+      when(colorCombinationService.searchSummaries(eq(searchTerm), eq(colorCount), eq(colorCount),
+               eq(hexValue), any())).thenReturn(summaries(combinationPage));
 
       // When & Then
       mockMvc.perform(get("/combinations/paginated").param("search", searchTerm)
@@ -317,14 +329,14 @@ class ColorCombinationSearchControllerTest {
                .andExpect(model().attribute("hasPrevious", false));
 
       // Should search by hex value when provided (takes precedence)
-      verify(colorCombinationService).searchWithFilters(eq(searchTerm), eq(colorCount),
+      verify(colorCombinationService).searchSummaries(eq(searchTerm), eq(colorCount),
                eq(colorCount), eq(hexValue), any());
    }
 
    @Test
    void testIndex_ErrorHandling() throws Exception {
       // Given
-      when(colorCombinationService.searchWithFilters(isNull(), isNull(), isNull(), isNull(),
+      when(colorCombinationService.searchSummaries(isNull(), isNull(), isNull(), isNull(),
                any(Pageable.class))).thenThrow(new RuntimeException("Database error"));
 
       // When & Then
@@ -339,7 +351,7 @@ class ColorCombinationSearchControllerTest {
    @Test
    void testSearchEndpoint_ErrorHandling() throws Exception {
       // Given
-      when(colorCombinationService.searchWithFilters(anyString(), any(), any(), any()))
+      when(colorCombinationService.searchSummaries(anyString(), any(), any(), any()))
                .thenThrow(new RuntimeException("Search error"));
 
       // When & Then
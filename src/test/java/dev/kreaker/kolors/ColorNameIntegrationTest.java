@@ -0,0 +1,96 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.exception.InvalidColorFormatException;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies nearest color names and name filters in searches */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Color Name Integration Tests")
+class ColorNameIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   @Test
+   @DisplayName("Should accept a color name wherever searches take a hex value")
+   void shouldSearchByColorName() {
+      ColorCombinationForm form = new ColorCombinationForm("Named Navy");
+      form.setColors(List.of(new ColorForm("000080", 1), new ColorForm("F08080", 2)));
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+
+      assertThat(colorCombinationService.searchSummaries(null, null, null, "Navy"))
+               .extracting(ColorCombinationSummary::id).contains(id);
+      assertThat(colorCombinationService.searchWithFilters(null, null, null, "light coral"))
+               .extracting(ColorCombination::getId).contains(id);
+      assertThat(colorCombinationService
+               .searchWithFilters(null, null, null, "navy", PageRequest.of(0, 20)).getContent())
+               .extracting(ColorCombination::getId).contains(id);
+      assertThatThrownBy(() -> colorCombinationService.searchSummaries(null, null, null, "navi"))
+               .isInstanceOf(InvalidColorFormatException.class);
+   }
+
+   @Test
+   @DisplayName("Should serve nearest names and name search over the REST API")
+   void shouldServeNamesOverRest() throws Exception {
+      mockMvc.perform(get("/api/colors/{hex}/name", "ff7f51")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.hexValue").value("FF7F51"))
+               .andExpect(jsonPath("$.name").value("coral"))
+               .andExpect(jsonPath("$.nameHexValue").value("FF7F50"));
+      mockMvc.perform(get("/api/colors/{hex}/name", "FF7F5")).andExpect(status().isBadRequest());
+
+      mockMvc.perform(get("/api/colors/names").param("q", "coral")).andExpect(status().isOk())
+               .andExpect(jsonPath("$[0].name").value("coral"))
+               .andExpect(jsonPath("$[1].name").value("lightcoral"));
+      mockMvc.perform(get("/api/colors/names").param("q", " "))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/performance/color-names")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.names").value(148));
+   }
+}
@@ -0,0 +1,118 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import dev.kreaker.kolors.analytics.ColorUsageTracker;
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.ColorUsageCount;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+import dev.kreaker.kolors.event.CombinationChangeEvent.Type;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies incremental color usage counts, the top-N cache, trending colors and rebuilds */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Color Usage Integration Tests")
+class ColorUsageIntegrationTest {
+
+   private static final int PLUM = 0x8E4585;
+   private static final int TEAL = 0x2A9D8F;
+   private static final int SAND = 0xE9C46A;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private ColorInCombinationRepository colorRepository;
+
+   private ColorUsageTracker tracker;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      tracker = new ColorUsageTracker(colorRepository, 100, 24, 60, 64);
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private ColorCombination create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      ColorCombination combination = colorCombinationService.createCombination(form);
+      created.add(combination.getId());
+      return combination;
+   }
+
+   @Test
+   @DisplayName("Should follow change events with exact counts and a fresh top list")
+   void shouldCountIncrementally() {
+      ColorCombination first = create("Usage First", "8E4585", "2A9D8F");
+      tracker.rebuild();
+      int plumBefore = tracker.usageOf(PLUM);
+      int tealBefore = tracker.usageOf(TEAL);
+
+      ColorCombination second = create("Usage Second", "8E4585", "E9C46A", "8E4585");
+      tracker.onChange(CombinationChangeEvent.of(Type.CREATED, second));
+      assertThat(tracker.usageOf(PLUM)).isEqualTo(plumBefore + 2);
+      assertThat(tracker.usageOf(SAND)).isGreaterThanOrEqualTo(1);
+      assertThat(tracker.topColors(100)).contains(
+               new ColorUsageCount("8E4585", plumBefore + 2, 0));
+
+      colorCombinationService.removeColorFromCombination(second.getId(), 3);
+      tracker.onChange(CombinationChangeEvent.of(Type.COLOR_REMOVED, second));
+      tracker.onChange(CombinationChangeEvent.of(Type.COLOR_REMOVED, second));
+      assertThat(tracker.usageOf(PLUM)).isEqualTo(plumBefore + 1);
+
+      colorCombinationService.deleteCombination(first.getId());
+      tracker.onChange(CombinationChangeEvent.deleted(first.getId()));
+      assertThat(tracker.usageOf(PLUM)).isEqualTo(plumBefore);
+      assertThat(tracker.usageOf(TEAL)).isEqualTo(tealBefore - 1);
+      assertThat(tracker.topColors(1)).hasSize(1);
+      assertThat(tracker.getStatistics().topRecomputations()).isEqualTo(2);
+
+      assertThat(tracker.trendingColors(60, 10)).extracting(ColorUsageCount::hexValue)
+               .startsWith("8E4585").contains("E9C46A");
+   }
+
+   @Test
+   @DisplayName("Should rebuild the counts it reached by following changes")
+   void shouldRebuildIncrementalCounts() {
+      create("Usage Rebuild", "8E4585", "2A9D8F");
+      tracker.rebuild();
+
+      ColorCombination sand = create("Usage Sand", "E9C46A", "8E4585");
+      tracker.onChange(CombinationChangeEvent.of(Type.CREATED, sand));
+      int plum = tracker.usageOf(PLUM);
+      int sandCount = tracker.usageOf(SAND);
+      List<ColorUsageCount> top = tracker.topColors(100);
+
+      tracker.rebuild();
+      assertThat(tracker.usageOf(PLUM)).isEqualTo(plum);
+      assertThat(tracker.usageOf(SAND)).isEqualTo(sandCount);
+      assertThat(tracker.topColors(100)).isEqualTo(top);
+   }
+}
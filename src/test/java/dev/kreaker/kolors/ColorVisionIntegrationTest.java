@@ -0,0 +1,169 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.accessibility.ColorVisionDeficiency;
+import dev.kreaker.kolors.accessibility.ColorVisionScoringJob;
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies write-time color vision scores, their ranking and filter, and the scoring job */
+@SpringBootTest(properties = "kolors.color-vision.scoring.enabled=true")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Color Vision Integration Tests")
+class ColorVisionIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private ColorCombinationRepository colorCombinationRepository;
+
+   @Autowired
+   private ColorVisionScoringJob scoringJob;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private Long create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+      return id;
+   }
+
+   private List<Long> rank(ColorVisionDeficiency deficiency, Double minDeltaE) {
+      return colorCombinationService
+               .rankByColorVision(deficiency, minDeltaE, PageRequest.of(0, 500))
+               .map(ColorCombinationSummary::id).getContent();
+   }
+
+   @Test
+   @DisplayName("Should score on write and simulate each deficiency")
+   void shouldScoreOnWrite() throws Exception {
+      Long id = create("Vision Confusable", "D01C1F", "1C9E3C");
+      ColorCombination stored = colorCombinationService.getById(id);
+
+      assertThat(stored.getProtanopiaMinDeltaE()).isLessThan(stored.getTritanopiaMinDeltaE());
+      assertThat(stored.getColorVisionMinDeltaE()).isEqualTo(Math.min(
+               stored.getProtanopiaMinDeltaE(),
+               Math.min(stored.getDeuteranopiaMinDeltaE(), stored.getTritanopiaMinDeltaE())));
+
+      mockMvc.perform(get("/api/combinations/{id}/color-vision", id)).andExpect(status().isOk())
+               .andExpect(jsonPath("$.minDeltaE").value(stored.getColorVisionMinDeltaE()))
+               .andExpect(jsonPath("$.simulations.length()").value(3))
+               .andExpect(jsonPath("$.simulations[0].deficiency").value("PROTANOPIA"))
+               .andExpect(jsonPath("$.simulations[0].colors.length()").value(2))
+               .andExpect(jsonPath("$.simulations[0].minDeltaE")
+                        .value(stored.getProtanopiaMinDeltaE()))
+               .andExpect(jsonPath("$.simulations[0].closestFirst").value("D01C1F"))
+               .andExpect(jsonPath("$.simulations[0].closestSecond").value("1C9E3C"));
+      mockMvc.perform(get("/api/combinations/{id}/color-vision", Long.MAX_VALUE))
+               .andExpect(status().isNotFound());
+   }
+
+   @Test
+   @DisplayName("Should rank by a deficiency's score and filter searches by the overall score")
+   void shouldRankAndFilterByScore() throws Exception {
+      Long confusable = create("Vision Confusable", "D01C1F", "1C9E3C");
+      Long distinct = create("Vision Distinct", "0B0B0B", "F4F4F4");
+      double confusableProtan =
+               colorCombinationService.getById(confusable).getProtanopiaMinDeltaE();
+      double threshold = (colorCombinationService.getById(confusable).getColorVisionMinDeltaE()
+               + colorCombinationService.getById(distinct).getColorVisionMinDeltaE()) / 2;
+
+      List<Long> ranked = rank(ColorVisionDeficiency.PROTANOPIA, null);
+      assertThat(ranked).contains(confusable, distinct);
+      assertThat(ranked.indexOf(distinct)).isLessThan(ranked.indexOf(confusable));
+      assertThat(rank(ColorVisionDeficiency.PROTANOPIA, confusableProtan + 0.01))
+               .contains(distinct).doesNotContain(confusable);
+      assertThat(rank(null, threshold)).contains(distinct).doesNotContain(confusable);
+
+      assertThat(colorCombinationService
+               .searchWithFilters("Vision", null, null, null,
+                        new ContrastFilter(null, null, null, threshold), PageRequest.of(0, 50))
+               .map(ColorCombination::getId).getContent()).containsExactly(distinct);
+
+      mockMvc.perform(get("/api/combinations/color-vision").param("deficiency", "protanopia")
+               .param("minDeltaE", String.valueOf(confusableProtan + 0.01)).param("size", "100"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.content[?(@.id == %d)]", confusable).isEmpty())
+               .andExpect(jsonPath("$.content[?(@.id == %d)]", distinct).isNotEmpty());
+      mockMvc.perform(get("/api/combinations/search").param("name", "Vision")
+               .param("minCvdDeltaE", String.valueOf(threshold))).andExpect(status().isOk())
+               .andExpect(jsonPath("$.totalElements").value(1))
+               .andExpect(jsonPath("$.content[0].id").value(distinct));
+      mockMvc.perform(get("/api/combinations/color-vision").param("deficiency", "achromatopsia"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/color-vision").param("minDeltaE", "-1"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/search").param("minCvdDeltaE", "-1"))
+               .andExpect(status().isBadRequest());
+   }
+
+   @Test
+   @DisplayName("Should score combinations stored without color vision columns")
+   void shouldScoreOlderRows() {
+      Long id = create("Vision Legacy", "2B2D42", "EDF2F4");
+      ColorCombination legacy = colorCombinationRepository.findById(id).orElseThrow();
+      double expected = legacy.getColorVisionMinDeltaE();
+      legacy.setProtanopiaMinDeltaE(null);
+      legacy.setDeuteranopiaMinDeltaE(null);
+      legacy.setTritanopiaMinDeltaE(null);
+      legacy.setColorVisionMinDeltaE(null);
+      legacy.setColorVisionScoreVersion(null);
+      colorCombinationRepository.save(legacy);
+      long generation = colorCombinationService.getWriteGeneration();
+
+      scoringJob.run();
+
+      assertThat(colorCombinationService.getById(id).getColorVisionMinDeltaE())
+               .isEqualTo(expected);
+      assertThat(colorCombinationService.countUnscoredColorVision()).isZero();
+      assertThat(colorCombinationService.getWriteGeneration()).isGreaterThan(generation);
+   }
+}
@@ -0,0 +1,139 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+import dev.kreaker.kolors.event.CombinationEventBroadcaster;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Verifies that committed combination changes reach Server-Sent Events subscribers, that rolled
+ * back changes are never published and that reconnecting clients get the replay window.
+ */
+@SpringBootTest(properties = {"kolors.events.enabled=true", "kolors.events.replay-size=2"})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Combination Event Stream Integration Tests")
+class CombinationEventStreamIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private CombinationEventBroadcaster broadcaster;
+
+   @Autowired
+   private PlatformTransactionManager transactionManager;
+
+   private MockMvc mockMvc;
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   private ColorCombinationForm form(String name) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      form.setColors(List.of(new ColorForm("FF0000", 1), new ColorForm("00FF00", 2)));
+      return form;
+   }
+
+   /** Waits until the streamed body contains all expected fragments and returns it */
+   private String awaitStream(MvcResult stream, String... expected) throws Exception {
+      long deadline = System.currentTimeMillis() + 5_000;
+      String body = stream.getResponse().getContentAsString();
+      while (!containsAll(body, expected) && System.currentTimeMillis() < deadline) {
+         Thread.sleep(20);
+         body = stream.getResponse().getContentAsString();
+      }
+      return body;
+   }
+
+   private static boolean containsAll(String body, String... expected) {
+      for (String fragment : expected) {
+         if (!body.contains(fragment)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   @Test
+   @DisplayName("Should stream create, color add, color remove and delete events")
+   void shouldStreamCommittedChanges() throws Exception {
+      MvcResult stream = mockMvc.perform(get("/api/combinations/events"))
+               .andExpect(request().asyncStarted()).andReturn();
+
+      Long id = colorCombinationService.createCombination(form("Streamed Palette")).getId();
+      colorCombinationService.addColorToCombination(id, new ColorForm("0000FF", 3));
+      colorCombinationService.removeColorFromCombination(id, 1);
+      colorCombinationService.deleteCombination(id);
+
+      String body = awaitStream(stream, "\"type\":\"DELETED\"");
+      assertThat(body).contains("event:combination").contains("\"combinationId\":" + id)
+               .contains("\"name\":\"Streamed Palette\"");
+      assertThat(body.indexOf("\"type\":\"CREATED\""))
+               .isLessThan(body.indexOf("\"type\":\"COLOR_ADDED\""));
+      assertThat(body.indexOf("\"type\":\"COLOR_ADDED\""))
+               .isLessThan(body.indexOf("\"type\":\"COLOR_REMOVED\""));
+      assertThat(body.indexOf("\"type\":\"COLOR_REMOVED\""))
+               .isLessThan(body.indexOf("\"type\":\"DELETED\""));
+   }
+
+   @Test
+   @DisplayName("Should not publish changes of rolled back transactions")
+   void shouldNotPublishRolledBackChanges() {
+      long published = broadcaster.getStatistics().getPublishedCount();
+      long generation = colorCombinationService.getWriteGeneration();
+
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+         colorCombinationService.createCombination(form("Rolled Back Palette"));
+         status.setRollbackOnly();
+      });
+
+      assertThat(broadcaster.getStatistics().getPublishedCount()).isEqualTo(published);
+      assertThat(colorCombinationService.getWriteGeneration()).isEqualTo(generation);
+   }
+
+   @Test
+   @DisplayName("Should replay only the retained events after Last-Event-ID")
+   void shouldReplayRetainedEvents() throws Exception {
+      for (String name : List.of("Replay One", "Replay Two", "Replay Three")) {
+         broadcaster.publish(new CombinationChangeEvent(CombinationChangeEvent.Type.UPDATED,
+                  -1L, name, 2, 0L, null));
+      }
+
+      MvcResult stream = mockMvc
+               .perform(get("/api/combinations/events").header("Last-Event-ID", "0"))
+               .andExpect(request().asyncStarted()).andReturn();
+
+      String body = awaitStream(stream, "Replay Two", "Replay Three");
+      assertThat(body).contains("Replay Two").contains("Replay Three")
+               .doesNotContain("Replay One");
+   }
+}
@@ -0,0 +1,151 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.accessibility.ContrastBackfill;
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies write-time contrast columns, contrast filters and the backfill of older rows */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Contrast Search Integration Tests")
+class ContrastSearchIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private ColorCombinationRepository colorCombinationRepository;
+
+   @Autowired
+   private ContrastBackfill contrastBackfill;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private Long create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+      return id;
+   }
+
+   private List<Long> search(ContrastFilter contrast) {
+      return colorCombinationService
+               .searchWithFilters("Contrast", null, null, null, contrast, PageRequest.of(0, 50))
+               .map(ColorCombination::getId).getContent();
+   }
+
+   @Test
+   @DisplayName("Should compute contrast on write and follow color edits")
+   void shouldComputeContrastOnWrite() throws Exception {
+      Long id = create("Contrast Mono", "000000", "FFFFFF", "767676");
+      ColorCombination stored = colorCombinationService.getById(id);
+
+      assertThat(stored.getAaPairCount()).isEqualTo(3);
+      assertThat(stored.getMaxContrast()).isEqualTo(21.0);
+      assertThat(stored.getMinContrast()).isBetween(4.5, 4.7);
+
+      mockMvc.perform(get("/api/combinations/{id}/contrast", id)).andExpect(status().isOk())
+               .andExpect(jsonPath("$.pairs.length()").value(3))
+               .andExpect(jsonPath("$.pairs[0].first").value("000000"))
+               .andExpect(jsonPath("$.pairs[0].second").value("FFFFFF"))
+               .andExpect(jsonPath("$.pairs[0].ratio").value(21.0))
+               .andExpect(jsonPath("$.pairs[0].aaa").value(true));
+
+      colorCombinationService.addColorToCombination(id, new ColorForm("FFFFFE", 4));
+      assertThat(colorCombinationService.getById(id).getMinContrast()).isLessThan(1.01);
+      colorCombinationService.removeColorFromCombination(id, 4);
+      assertThat(colorCombinationService.getById(id).getAaPairCount()).isEqualTo(3);
+   }
+
+   @Test
+   @DisplayName("Should filter by minimum pair contrast, best pair contrast and AA pairs")
+   void shouldFilterByContrast() throws Exception {
+      Long readable = create("Contrast Readable", "000000", "FFFFFF");
+      Long pastel = create("Contrast Pastel", "FFE4E1", "E6E6FA", "F0FFF0");
+      Long mixed = create("Contrast Mixed", "000000", "FFFFFF", "FFFFF0");
+
+      assertThat(search(new ContrastFilter(4.5, null, null))).contains(readable)
+               .doesNotContain(pastel, mixed);
+      assertThat(search(new ContrastFilter(null, 7.0, null))).contains(readable, mixed)
+               .doesNotContain(pastel);
+      assertThat(search(new ContrastFilter(null, null, 2))).contains(mixed)
+               .doesNotContain(readable, pastel);
+      assertThat(colorCombinationService.searchWithFilters(null, null, null, "FFFFF0",
+               new ContrastFilter(null, 7.0, null))).extracting(ColorCombination::getId)
+               .contains(mixed).doesNotContain(readable);
+
+      mockMvc.perform(get("/api/combinations/search").param("name", "Contrast Readable")
+               .param("minPairContrast", "7")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.totalElements").value(1))
+               .andExpect(jsonPath("$.content[0].id").value(readable));
+      mockMvc.perform(get("/api/combinations/search").param("minPairContrast", "30"))
+               .andExpect(status().isBadRequest());
+   }
+
+   @Test
+   @DisplayName("Should backfill combinations stored without contrast columns")
+   void shouldBackfillOlderRows() {
+      Long id = create("Contrast Legacy", "000000", "FFFFFF");
+      ColorCombination legacy = colorCombinationRepository.findById(id).orElseThrow();
+      legacy.setMinContrast(null);
+      legacy.setMaxContrast(null);
+      legacy.setAaPairCount(null);
+      legacy.setContrastMatrix(null);
+      colorCombinationRepository.save(legacy);
+      long generation = colorCombinationService.getWriteGeneration();
+
+      contrastBackfill.backfill();
+
+      ColorCombination filled = colorCombinationService.getById(id);
+      assertThat(filled.getContrastMatrix()).isEqualTo("21.0");
+      assertThat(filled.getAaPairCount()).isEqualTo(1);
+      // ETags and cached fragments of the backfilled rows must not stay valid
+      assertThat(colorCombinationService.getWriteGeneration()).isGreaterThan(generation);
+   }
+}
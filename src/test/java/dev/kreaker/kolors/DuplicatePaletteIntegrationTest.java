@@ -0,0 +1,155 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.CombinationDuplicatesResponse;
+import dev.kreaker.kolors.exception.DuplicatePaletteException;
+import dev.kreaker.kolors.search.DuplicateClusteringJob;
+import dev.kreaker.kolors.search.FingerprintBackfill;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies palette fingerprints, duplicate lookups, exact duplicate rejection and clustering */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Duplicate Palette Integration Tests")
+class DuplicatePaletteIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private ColorCombinationRepository combinationRepository;
+
+   @Autowired
+   private ColorInCombinationRepository colorRepository;
+
+   @Autowired
+   private FingerprintBackfill fingerprintBackfill;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      colorCombinationService.setRejectExactDuplicates(false);
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private Long create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+      return id;
+   }
+
+   private static List<Long> ids(List<ColorCombinationSummary> summaries) {
+      return summaries.stream().map(ColorCombinationSummary::id).toList();
+   }
+
+   @Test
+   @DisplayName("Should find exact and same-color duplicates from the fingerprints")
+   void shouldFindDuplicates() throws Exception {
+      Long original = create("Duplicate Original", "FF0000", "00FF00", "0000FF");
+      Long copy = create("Duplicate Copy", "FF0000", "00FF00", "0000FF");
+      Long reversed = create("Duplicate Reversed", "0000FF", "00FF00", "FF0000");
+      Long nudged = create("Duplicate Nudged", "FE0000", "00FF01", "0000FE");
+
+      CombinationDuplicatesResponse duplicates = colorCombinationService.findDuplicates(original);
+      assertThat(ids(duplicates.exact())).contains(copy).doesNotContain(original, reversed);
+      assertThat(ids(duplicates.sameColors())).contains(reversed).doesNotContain(copy, nudged);
+
+      CombinationDuplicatesResponse byColors = colorCombinationService
+               .findDuplicates(new int[] {0x0000FF, 0x00FF00, 0xFF0000});
+      assertThat(byColors.id()).isNull();
+      assertThat(ids(byColors.exact())).contains(reversed).doesNotContain(original);
+      assertThat(ids(byColors.sameColors())).contains(original, copy);
+
+      mockMvc.perform(get("/api/combinations/{id}/duplicates", original))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.id").value(original));
+      mockMvc.perform(get("/api/combinations/duplicates").param("colors", "#FF0000,00FF00"))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.id").doesNotExist());
+      mockMvc.perform(get("/api/combinations/duplicates").param("colors", "FF00"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/{id}/duplicates", Long.MAX_VALUE))
+               .andExpect(status().isNotFound());
+   }
+
+   @Test
+   @DisplayName("Should reject exact duplicates only when configured")
+   void shouldRejectExactDuplicates() {
+      Long original = create("Duplicate Guarded", "123456", "654321");
+      colorCombinationService.setRejectExactDuplicates(true);
+
+      assertThatThrownBy(() -> create("Duplicate Rejected", "123456", "654321"))
+               .isInstanceOf(DuplicatePaletteException.class)
+               .satisfies(e -> assertThat(((DuplicatePaletteException) e).getExistingId())
+                        .isEqualTo(original));
+      create("Duplicate Reordered", "654321", "123456");
+   }
+
+   @Test
+   @DisplayName("Should cluster near-duplicate palettes under their lowest ID")
+   void shouldClusterNearDuplicates() {
+      Long original = create("Cluster Original", "FF0000", "00FF00", "0000FF");
+      Long reversed = create("Cluster Reversed", "0000FF", "00FF00", "FF0000");
+      Long nudged = create("Cluster Nudged", "FE0000", "00FF01", "0000FE");
+      Long unrelated = create("Cluster Unrelated", "336699", "993366", "669933");
+
+      DuplicateClusteringJob job = new DuplicateClusteringJob(combinationRepository,
+               colorRepository, colorCombinationService, fingerprintBackfill, 3.0, 2000);
+      long generation = colorCombinationService.getWriteGeneration();
+      job.run();
+
+      Long cluster = colorCombinationService.getById(original).getDuplicateClusterId();
+      assertThat(cluster).isNotNull().isLessThanOrEqualTo(original);
+      assertThat(colorCombinationService.getById(reversed).getDuplicateClusterId())
+               .isEqualTo(cluster);
+      assertThat(colorCombinationService.getById(nudged).getDuplicateClusterId())
+               .isEqualTo(cluster);
+      assertThat(colorCombinationService.getById(unrelated).getDuplicateClusterId())
+               .isNotEqualTo(cluster);
+      assertThat(ids(colorCombinationService.findDuplicates(original).nearDuplicates()))
+               .contains(reversed, nudged).doesNotContain(original, unrelated);
+      assertThat(job.getStatistics().runCount()).isEqualTo(1);
+      assertThat(colorCombinationService.getWriteGeneration()).isGreaterThan(generation);
+   }
+}
@@ -0,0 +1,109 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.cache.RenderedFragmentCache;
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Verifies that rendered combination lists are served from the fragment cache and re-rendered
+ * after every committed write.
+ */
+@SpringBootTest(properties = "kolors.web.fragment-cache.enabled=true")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Fragment Cache Integration Tests")
+class FragmentCacheIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private RenderedFragmentCache fragmentCache;
+
+   private MockMvc mockMvc;
+   private Long combinationId;
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+      fragmentCache.clear();
+
+      ColorCombinationForm form = new ColorCombinationForm("Fragment Palette");
+      form.setColors(List.of(new ColorForm("FF0000", 1), new ColorForm("00FF00", 2)));
+      combinationId = colorCombinationService.createCombination(form).getId();
+   }
+
+   @AfterEach
+   void tearDown() {
+      if (colorCombinationService.findById(combinationId).isPresent()) {
+         colorCombinationService.deleteCombination(combinationId);
+      }
+   }
+
+   private String search(String term) throws Exception {
+      return mockMvc.perform(get("/combinations/search").param("term", term))
+               .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+   }
+
+   @Test
+   @DisplayName("Should serve equivalent searches from one cached fragment")
+   void shouldServeRepeatedSearchFromCache() throws Exception {
+      long hits = fragmentCache.getStatistics().getHitCount();
+
+      String first = search("fragment palette");
+      String second = search("  FRAGMENT Palette ");
+
+      assertThat(first).contains("Fragment Palette").contains("#FF0000");
+      assertThat(second).isEqualTo(first);
+      assertThat(fragmentCache.getStatistics().getHitCount()).isEqualTo(hits + 1);
+   }
+
+   @Test
+   @DisplayName("Should re-render after a write")
+   void shouldReRenderAfterWrite() throws Exception {
+      assertThat(search("Fragment")).contains("Fragment Palette");
+
+      colorCombinationService.addColorToCombination(combinationId, new ColorForm("ABCDEF", 3));
+
+      assertThat(search("Fragment")).contains("#ABCDEF");
+      assertThat(fragmentCache.getStatistics().getStaleCount()).isPositive();
+   }
+
+   @Test
+   @DisplayName("Should cache the main page results section")
+   void shouldCacheMainPageResults() throws Exception {
+      String first = mockMvc.perform(get("/combinations/").param("search", "Fragment"))
+               .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+      long hits = fragmentCache.getStatistics().getHitCount();
+      String second = mockMvc.perform(get("/combinations/").param("search", "Fragment"))
+               .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+      assertThat(first).contains("Fragment Palette").contains("combinaciones encontradas");
+      assertThat(second).isEqualTo(first);
+      assertThat(fragmentCache.getStatistics().getHitCount()).isEqualTo(hits + 1);
+   }
+}
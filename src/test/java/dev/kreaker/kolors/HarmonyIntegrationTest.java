@@ -0,0 +1,110 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.harmony.HarmonyService;
+import dev.kreaker.kolors.harmony.HarmonySpace;
+import dev.kreaker.kolors.harmony.HarmonyType;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies harmony generation through the API and the create-from-seed flow */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Harmony Integration Tests")
+class HarmonyIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private HarmonyService harmonyService;
+
+   @Autowired
+   private ObjectMapper objectMapper;
+
+   private MockMvc mockMvc;
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @Test
+   @DisplayName("Should return every scheme for a seed, or only the requested one")
+   void shouldGeneratePalettes() throws Exception {
+      mockMvc.perform(get("/api/harmonies").param("seed", "#FF5733"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(HarmonyType.values().length))
+               .andExpect(jsonPath("$[0].type").value("COMPLEMENTARY"))
+               .andExpect(jsonPath("$[0].space").value("OKLCH"))
+               .andExpect(jsonPath("$[0].colors[0]").value("FF5733"));
+
+      mockMvc.perform(get("/api/harmonies").param("seed", "FF0000").param("type", "triadic")
+               .param("space", "hsl")).andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(1))
+               .andExpect(jsonPath("$[0].colors[1]").value("00FF00"));
+
+      mockMvc.perform(get("/api/harmonies").param("seed", "XYZ"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/harmonies").param("seed", "FF0000").param("type", "pentadic"))
+               .andExpect(status().isBadRequest());
+   }
+
+   @Test
+   @DisplayName("Should save a generated scheme as a combination")
+   void shouldCreateCombinationFromSeed() throws Exception {
+      String body = mockMvc
+               .perform(post("/api/harmonies/combinations").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Seeded Split\",\"seed\":\"3A7BD5\","
+                                 + "\"type\":\"split-complementary\"}"))
+               .andExpect(status().isCreated()).andExpect(header().exists("Location"))
+               .andExpect(jsonPath("$.combination.colorCount").value(3))
+               .andReturn().getResponse().getContentAsString();
+
+      JsonNode combination = objectMapper.readTree(body).get("combination");
+      Long id = combination.get("id").asLong();
+      List<String> expected = harmonyService.generate("3A7BD5",
+               HarmonyType.SPLIT_COMPLEMENTARY, HarmonySpace.OKLCH);
+      assertThat(colorCombinationService.getById(id).getColors())
+               .extracting(ColorInCombination::getHexValue).containsExactlyElementsOf(expected);
+
+      colorCombinationService.deleteCombination(id);
+   }
+
+   @Test
+   @DisplayName("Should reject a create request without a name")
+   void shouldRejectMissingName() throws Exception {
+      mockMvc.perform(post("/api/harmonies/combinations").contentType(MediaType.APPLICATION_JSON)
+               .content("{\"seed\":\"3A7BD5\",\"type\":\"triadic\"}"))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.success").value(false));
+   }
+}
@@ -0,0 +1,102 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/**
+ * Verifies that the suggestion endpoint follows committed creates, renames and deletes, and
+ * ignores rolled back writes.
+ */
+@SpringBootTest(properties = "kolors.suggest.enabled=true")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Name Suggest Integration Tests")
+class NameSuggestIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private PlatformTransactionManager transactionManager;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private ColorCombinationForm form(String name) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      form.setColors(List.of(new ColorForm("FF0000", 1), new ColorForm("00FF00", 2)));
+      return form;
+   }
+
+   @Test
+   @DisplayName("Should suggest created names and follow renames and deletes")
+   void shouldFollowCommittedWrites() throws Exception {
+      Long id = colorCombinationService.createCombination(form("Typeahead Lagoon")).getId();
+      created.add(id);
+
+      mockMvc.perform(get("/api/combinations/suggest").param("q", "typeahead la"))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(1))
+               .andExpect(jsonPath("$[0].id").value(id))
+               .andExpect(jsonPath("$[0].name").value("Typeahead Lagoon"));
+
+      colorCombinationService.updateCombination(id, form("Typeahead Glacier"));
+      mockMvc.perform(get("/api/combinations/suggest").param("q", "glac"))
+               .andExpect(jsonPath("$[0].name").value("Typeahead Glacier"));
+      mockMvc.perform(get("/api/combinations/suggest").param("q", "lagoon"))
+               .andExpect(jsonPath("$.length()").value(0));
+
+      colorCombinationService.deleteCombination(id);
+      mockMvc.perform(get("/api/combinations/suggest").param("q", "typeahead"))
+               .andExpect(jsonPath("$.length()").value(0));
+   }
+
+   @Test
+   @DisplayName("Should not index names of rolled back transactions")
+   void shouldIgnoreRolledBackWrites() throws Exception {
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+         colorCombinationService.createCombination(form("Phantom Palette"));
+         status.setRollbackOnly();
+      });
+
+      mockMvc.perform(get("/api/combinations/suggest").param("q", "phantom"))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(0));
+   }
+}
@@ -0,0 +1,172 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.dto.ContrastFilter;
+import dev.kreaker.kolors.dto.PerceptualFilter;
+import dev.kreaker.kolors.search.PerceptualBackfill;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/** Verifies write-time hue, lightness and chroma columns, their filters and the backfill */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Perceptual Search Integration Tests")
+class PerceptualSearchIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private PerceptualBackfill perceptualBackfill;
+
+   @Autowired
+   private JdbcTemplate jdbcTemplate;
+
+   @Autowired
+   private EntityManagerFactory entityManagerFactory;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private Long create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+      return id;
+   }
+
+   private List<Long> search(PerceptualFilter perceptual) {
+      return colorCombinationService
+               .searchWithFilters("Perceptual", null, null, null, ContrastFilter.NONE, perceptual,
+                        PageRequest.of(0, 50))
+               .map(ColorCombination::getId).getContent();
+   }
+
+   @Test
+   @DisplayName("Should derive components and aggregates on write and follow color edits")
+   void shouldDeriveOnWrite() {
+      Long id = create("Perceptual Mono", "000000", "FFFFFF");
+      ColorCombination stored = colorCombinationService.getById(id);
+
+      assertThat(stored.getAverageLightness()).isCloseTo(50.0, within(0.01));
+      assertThat(stored.getMinLightness()).isCloseTo(0.0, within(0.01));
+      assertThat(stored.getMaxLightness()).isCloseTo(100.0, within(0.01));
+      assertThat(stored.getHueSpread()).isZero();
+      assertThat(stored.getColors()).allSatisfy(color -> assertThat(color.getHslHue()).isNull());
+
+      colorCombinationService.addColorToCombination(id, new ColorForm("FF0000", 3));
+      colorCombinationService.addColorToCombination(id, new ColorForm("0000FF", 4));
+      assertThat(colorCombinationService.getById(id).getHueSpread()).isEqualTo(120.0);
+      colorCombinationService.removeColorFromCombination(id, 4);
+      assertThat(colorCombinationService.getById(id).getHueSpread()).isZero();
+   }
+
+   @Test
+   @DisplayName("Should filter by wrapping hue ranges, lightness, chroma and hue spread")
+   void shouldFilterByPerceptualRanges() throws Exception {
+      Long warm = create("Perceptual Warm", "FF2000", "FF8C00", "FFD700");
+      Long cool = create("Perceptual Cool", "0040FF", "00C060");
+      Long rose = create("Perceptual Rose", "FF0080", "800040");
+      Long dark = create("Perceptual Dark", "1A1A1A", "202020");
+
+      assertThat(search(new PerceptualFilter(320.0, 20.0, null, null, null, null, null)))
+               .contains(warm, rose).doesNotContain(cool, dark);
+      assertThat(search(new PerceptualFilter(170.0, 230.0, null, null, null, null, null)))
+               .contains(cool).doesNotContain(warm, rose, dark);
+      assertThat(search(new PerceptualFilter(null, null, null, 30.0, null, null, null)))
+               .contains(dark).doesNotContain(warm, cool, rose);
+      assertThat(search(new PerceptualFilter(null, null, null, null, 0.15, null, null)))
+               .contains(warm, cool, rose).doesNotContain(dark);
+      assertThat(search(new PerceptualFilter(null, null, null, null, null, null, 60.0)))
+               .contains(warm, rose).doesNotContain(cool);
+
+      Page<ColorCombinationSummary> summaries = colorCombinationService.searchSummaries(
+               "Perceptual", null, null, null, ContrastFilter.NONE,
+               new PerceptualFilter(320.0, 20.0, null, null, null, null, null),
+               PageRequest.of(0, 1));
+      assertThat(summaries.getTotalElements()).isEqualTo(2);
+      assertThat(summaries.getContent()).singleElement().satisfies(summary -> {
+         assertThat(summary.id()).isEqualTo(rose);
+         assertThat(summary.hexValues()).containsExactly("FF0080", "800040");
+      });
+
+      mockMvc.perform(get("/api/combinations/search").param("name", "Perceptual")
+               .param("hueFrom", "320").param("hueTo", "20").param("minLightness", "60"))
+               .andExpect(status().isOk()).andExpect(jsonPath("$.totalElements").value(1))
+               .andExpect(jsonPath("$.content[0].id").value(warm));
+      mockMvc.perform(get("/api/combinations/search").param("hueFrom", "330"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/search").param("maxLightness", "101"))
+               .andExpect(status().isBadRequest());
+   }
+
+   @Test
+   @DisplayName("Should backfill colors stored without component columns")
+   void shouldBackfillOlderRows() {
+      Long id = create("Perceptual Legacy", "FF0000", "00FF00");
+      jdbcTemplate.update("UPDATE color_in_combination SET hsl_hue = NULL, "
+               + "oklch_lightness = NULL, oklch_chroma = NULL WHERE combination_id = ?", id);
+      jdbcTemplate.update("UPDATE color_combination SET hue_spread = NULL WHERE id = ?", id);
+      entityManagerFactory.getCache().evictAll();
+      long generation = colorCombinationService.getWriteGeneration();
+
+      perceptualBackfill.backfill();
+
+      Integer missing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM color_in_combination "
+               + "WHERE combination_id = ? AND oklch_lightness IS NULL", Integer.class, id);
+      assertThat(missing).isZero();
+      assertThat(jdbcTemplate.queryForObject(
+               "SELECT hue_spread FROM color_combination WHERE id = ?", Double.class, id))
+               .isEqualTo(120.0);
+      assertThat(colorCombinationService.getWriteGeneration()).isGreaterThan(generation);
+   }
+}
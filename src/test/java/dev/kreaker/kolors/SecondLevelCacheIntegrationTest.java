@@ -0,0 +1,165 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
+import dev.kreaker.kolors.exception.CombinationVersionConflictException;
+import dev.kreaker.kolors.service.CacheStatisticsService;
+import dev.kreaker.kolors.service.CacheStatisticsService.CacheStatisticsSummary;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that cached combinations, colors and query results stay consistent through every write
+ * path (orphan removal, position shifts, deletes). Runs without a test transaction so that each
+ * service call commits and reads go through the second-level cache.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Second-Level Cache Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private CacheStatisticsService cacheStatisticsService;
+
+   @Autowired
+   private EntityManagerFactory entityManagerFactory;
+
+   private Statistics statistics;
+   private Long combinationId;
+
+   @BeforeEach
+   void setUp() {
+      statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+      statistics.setStatisticsEnabled(true);
+
+      ColorCombinationForm form = new ColorCombinationForm("Cached Palette");
+      form.setColors(List.of(new ColorForm("FF0000", 1), new ColorForm("00FF00", 2),
+               new ColorForm("0000FF", 3)));
+      combinationId = colorCombinationService.createCombination(form).getId();
+      statistics.clear();
+   }
+
+   @AfterEach
+   void tearDown() {
+      if (colorCombinationService.findById(combinationId).isPresent()) {
+         colorCombinationService.deleteCombination(combinationId);
+      }
+      statistics.setStatisticsEnabled(false);
+   }
+
+   private List<String> hexValues(ColorCombination combination) {
+      return combination.getColors().stream()
+               .sorted((a, b) -> a.getPosition().compareTo(b.getPosition()))
+               .map(ColorInCombination::getHexValue).toList();
+   }
+
+   @Test
+   @DisplayName("Should serve repeated reads from the cache")
+   void shouldServeRepeatedReadsFromCache() {
+      colorCombinationService.getById(combinationId);
+      ColorCombination cached = colorCombinationService.getById(combinationId);
+
+      assertThat(hexValues(cached)).containsExactly("FF0000", "00FF00", "0000FF");
+      CacheStatisticsSummary summary = cacheStatisticsService.getCacheStatistics();
+      assertThat(summary.isStatisticsEnabled()).isTrue();
+      assertThat(summary.getQueryCache().getHitCount()).isPositive();
+      assertThat(summary.getRegions()).containsKey(ColorCombination.class.getName());
+   }
+
+   @Test
+   @DisplayName("Should reflect color removal and position shift after caching")
+   void shouldInvalidateOnRemovalAndReorder() {
+      colorCombinationService.getById(combinationId);
+
+      colorCombinationService.removeColorFromCombination(combinationId, 1);
+
+      ColorCombination updated = colorCombinationService.getById(combinationId);
+      assertThat(hexValues(updated)).containsExactly("00FF00", "0000FF");
+      assertThat(updated.getColors()).extracting(ColorInCombination::getPosition)
+               .containsExactlyInAnyOrder(1, 2);
+      assertThat(updated.getColorCount()).isEqualTo(2);
+   }
+
+   @Test
+   @DisplayName("Should reflect insertion with position shift after caching")
+   void shouldInvalidateOnInsertionShift() {
+      colorCombinationService.getById(combinationId);
+
+      colorCombinationService.addColorToCombination(combinationId, new ColorForm("FFFFFF", 1));
+
+      ColorCombination updated = colorCombinationService.getById(combinationId);
+      assertThat(hexValues(updated)).containsExactly("FFFFFF", "FF0000", "00FF00", "0000FF");
+   }
+
+   @Test
+   @DisplayName("Should reflect replaced colors and cached searches after update")
+   void shouldInvalidateOnOrphanRemovalUpdate() {
+      colorCombinationService.getById(combinationId);
+      assertThat(colorCombinationService.findByHexValue("FF0000"))
+               .extracting(ColorCombination::getId).contains(combinationId);
+
+      ColorCombinationForm form = new ColorCombinationForm("Cached Palette Updated");
+      form.setColors(List.of(new ColorForm("ABCDEF", 1), new ColorForm("123456", 2)));
+      colorCombinationService.updateCombination(combinationId, form);
+
+      ColorCombination updated = colorCombinationService.getById(combinationId);
+      assertThat(updated.getName()).isEqualTo("Cached Palette Updated");
+      assertThat(hexValues(updated)).containsExactly("ABCDEF", "123456");
+      assertThat(colorCombinationService.findByHexValue("FF0000"))
+               .extracting(ColorCombination::getId).doesNotContain(combinationId);
+   }
+
+   @Test
+   @DisplayName("Should not return deleted combinations from the cache")
+   void shouldInvalidateOnDelete() {
+      colorCombinationService.getById(combinationId);
+
+      colorCombinationService.deleteCombination(combinationId);
+
+      assertThatThrownBy(() -> colorCombinationService.getById(combinationId))
+               .isInstanceOf(ColorCombinationNotFoundException.class);
+   }
+
+   @Test
+   @DisplayName("Should bump the version on every mutation and reject stale versions")
+   void shouldBumpVersionOnMutation() {
+      Long initial = colorCombinationService.getById(combinationId).getVersion();
+
+      colorCombinationService.addColorToCombination(combinationId, new ColorForm("FFFFFF", 4),
+               initial);
+      ColorCombination afterAdd = colorCombinationService.getById(combinationId);
+      assertThat(afterAdd.getVersion()).isGreaterThan(initial);
+      assertThat(afterAdd.getUpdatedAt()).isNotNull();
+
+      colorCombinationService.removeColorFromCombination(combinationId, 1);
+      Long afterRemove = colorCombinationService.getById(combinationId).getVersion();
+      assertThat(afterRemove).isGreaterThan(afterAdd.getVersion());
+
+      assertThatThrownBy(() -> colorCombinationService.removeColorFromCombination(combinationId,
+               1, initial)).isInstanceOf(CombinationVersionConflictException.class);
+   }
+}
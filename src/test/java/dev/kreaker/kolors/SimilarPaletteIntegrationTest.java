@@ -0,0 +1,97 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.service.ColorCombinationService;
+
+/** Verifies that similar-palette search follows committed creates, color edits and deletes */
+@SpringBootTest(properties = "kolors.similar.enabled=true")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Similar Palette Integration Tests")
+class SimilarPaletteIntegrationTest {
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.stream().filter(id -> colorCombinationService.findById(id).isPresent())
+               .forEach(colorCombinationService::deleteCombination);
+   }
+
+   private Long create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+      return id;
+   }
+
+   @Test
+   @DisplayName("Should rank a reordered palette first and follow color edits and deletes")
+   void shouldFollowCommittedWrites() throws Exception {
+      Long original = create("Similar Original", "0B1D2E", "1E90FF", "F5F5DC");
+      Long reordered = create("Similar Reordered", "F5F5DC", "0B1D2E", "1E90FF");
+
+      mockMvc.perform(get("/api/combinations/{id}/similar", original))
+               .andExpect(status().isOk()).andExpect(jsonPath("$[0].id").value(reordered))
+               .andExpect(jsonPath("$[0].distance").value(0.0))
+               .andExpect(jsonPath("$[0].name").value("Similar Reordered"));
+
+      colorCombinationService.addColorToCombination(reordered, new ColorForm("FF00FF", 4));
+      mockMvc.perform(get("/api/combinations/similar").param("colors", "1E90FF,#0B1D2E,F5F5DC"))
+               .andExpect(status().isOk()).andExpect(jsonPath("$[0].id").value(original))
+               .andExpect(jsonPath("$[1].id").value(reordered))
+               .andExpect(jsonPath("$[1].colors.length()").value(4));
+
+      colorCombinationService.deleteCombination(original);
+      mockMvc.perform(get("/api/combinations/{id}/similar", original))
+               .andExpect(status().isNotFound());
+   }
+
+   @Test
+   @DisplayName("Should reject invalid query colors")
+   void shouldRejectInvalidColors() throws Exception {
+      mockMvc.perform(get("/api/combinations/similar").param("colors", "GG0000"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/similar").param("colors", ""))
+               .andExpect(status().isBadRequest());
+   }
+}
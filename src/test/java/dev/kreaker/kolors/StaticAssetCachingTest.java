@@ -0,0 +1,89 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import dev.kreaker.kolors.config.TestConfig;
+
+/**
+ * Verifies fingerprinted asset URLs in rendered pages, immutable caching of fingerprinted assets,
+ * revalidation of plain asset URLs and serving of the build-time gzip variants.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Static Asset Caching Tests")
+class StaticAssetCachingTest {
+
+   private static final String IMMUTABLE = "max-age=31536000, public, immutable";
+
+   @Autowired
+   private MockMvc mockMvc;
+
+   @Autowired
+   private ResourceUrlProvider resourceUrlProvider;
+
+   @Test
+   @WithMockUser
+   @DisplayName("Should link fingerprinted assets from rendered pages")
+   void shouldRenderFingerprintedUrls() throws Exception {
+      String html = mockMvc.perform(get("/combinations/")).andExpect(status().isOk()).andReturn()
+               .getResponse().getContentAsString();
+
+      assertThat(html).containsPattern("/css/theme-[0-9a-f]{32}\\.css")
+               .containsPattern("/js/mobile-enhancements-[0-9a-f]{32}\\.js")
+               .doesNotContain("\"/css/theme.css\"");
+   }
+
+   @Test
+   @DisplayName("Should cache fingerprinted assets as immutable for a year")
+   void shouldServeFingerprintedAssetAsImmutable() throws Exception {
+      String url = resourceUrlProvider.getForLookupPath("/css/theme.css");
+
+      assertThat(url).matches("/css/theme-[0-9a-f]{32}\\.css");
+      mockMvc.perform(get(url)).andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, IMMUTABLE));
+   }
+
+   @Test
+   @DisplayName("Should serve the precompressed variant to gzip clients")
+   void shouldServeGzipVariant() throws Exception {
+      String url = resourceUrlProvider.getForLookupPath("/js/mobile-enhancements.js");
+
+      mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+               .andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+               .andExpect(header().string(HttpHeaders.VARY, "Accept-Encoding"))
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, IMMUTABLE));
+   }
+
+   @Test
+   @DisplayName("Should revalidate assets requested without a fingerprint")
+   void shouldRevalidateUnversionedAsset() throws Exception {
+      mockMvc.perform(get("/css/theme.css")).andExpect(status().isOk())
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+   }
+
+   @Test
+   @DisplayName("Should not serve a fingerprint that does not match the content")
+   void shouldRejectStaleFingerprint() throws Exception {
+      mockMvc.perform(get("/css/theme-00000000000000000000000000000000.css"))
+               .andExpect(status().isNotFound());
+   }
+}
@@ -0,0 +1,211 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import dev.kreaker.kolors.config.TestConfig;
+import dev.kreaker.kolors.controller.api.SwatchController;
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.service.ColorCombinationService;
+import dev.kreaker.kolors.swatch.Swatch;
+import dev.kreaker.kolors.swatch.SwatchFormat;
+import dev.kreaker.kolors.swatch.SwatchLayout;
+import dev.kreaker.kolors.swatch.SwatchService;
+
+/**
+ * Verifies swatch rendering through the API, reuse of the content-addressed disk cache,
+ * conditional requests and the nginx X-Accel-Redirect mode.
+ */
+@SpringBootTest(properties = "kolors.swatch.enabled=true")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Swatch Endpoint Integration Tests")
+class SwatchEndpointIntegrationTest {
+
+   @TempDir
+   static Path cacheDir;
+
+   @DynamicPropertySource
+   static void swatchProperties(DynamicPropertyRegistry registry) {
+      registry.add("kolors.swatch.cache-dir", () -> cacheDir.toString());
+   }
+
+   @Autowired
+   private WebApplicationContext webApplicationContext;
+
+   @Autowired
+   private ColorCombinationService colorCombinationService;
+
+   @Autowired
+   private SwatchService swatchService;
+
+   private MockMvc mockMvc;
+   private final List<Long> created = new ArrayList<>();
+
+   @BeforeEach
+   void setUp() {
+      mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+   }
+
+   @AfterEach
+   void tearDown() {
+      created.forEach(colorCombinationService::deleteCombination);
+   }
+
+   private Long create(String name, String... hexValues) {
+      ColorCombinationForm form = new ColorCombinationForm(name);
+      List<ColorForm> colors = new ArrayList<>();
+      for (String hex : hexValues) {
+         colors.add(new ColorForm(hex, colors.size() + 1));
+      }
+      form.setColors(colors);
+      Long id = colorCombinationService.createCombination(form).getId();
+      created.add(id);
+      return id;
+   }
+
+   @Test
+   @DisplayName("Should render a PNG once and share it between identical palettes")
+   void shouldCachePngByContent() throws Exception {
+      Long first = create("Swatch One", "FF0000", "00FF00", "0000FF");
+      Long second = create("Swatch Two", "FF0000", "00FF00", "0000FF");
+      long misses = swatchService.getStatistics().getMissCount();
+
+      MvcResult result = mockMvc.perform(get("/api/combinations/{id}/swatch.png", first))
+               .andExpect(status().isOk()).andExpect(content().contentType("image/png"))
+               .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+               .andReturn();
+      String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+      byte[] png = result.getResponse().getContentAsByteArray();
+
+      mockMvc.perform(get("/api/combinations/{id}/swatch.png", second))
+               .andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, etag));
+
+      assertThat(png).startsWith(0x89, 'P', 'N', 'G');
+      assertThat(swatchService.getStatistics().getMissCount()).isEqualTo(misses + 1);
+      Path file = cacheDir.resolve(etag.replace("\"", "") + ".png");
+      assertThat(Files.readAllBytes(file)).isEqualTo(png);
+   }
+
+   @Test
+   @DisplayName("Should answer a matching If-None-Match with 304 and re-render after an edit")
+   void shouldRevalidateByContentHash() throws Exception {
+      Long id = create("Swatch Edit", "112233", "445566");
+      String etag = mockMvc.perform(get("/api/combinations/{id}/swatch.svg", id))
+               .andExpect(status().isOk()).andExpect(content().contentType("image/svg+xml"))
+               .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+      mockMvc.perform(get("/api/combinations/{id}/swatch.svg", id)
+               .header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+
+      colorCombinationService.addColorToCombination(id, new ColorForm("778899", 3));
+      mockMvc.perform(get("/api/combinations/{id}/swatch.svg", id)
+               .header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isOk())
+               .andExpect(content().string(containsString("#778899")));
+   }
+
+   @Test
+   @DisplayName("Should touch a cached swatch on a hit so trimming evicts the least recently used")
+   void shouldTouchCachedSwatchOnHit() throws Exception {
+      List<String> colors = List.of("0F0F0F", "F0F0F0");
+      Path file = swatchService.getSwatch(colors, SwatchLayout.STRIP, SwatchFormat.SVG, 40, 10)
+               .file();
+      FileTime old = FileTime.fromMillis(System.currentTimeMillis() - 3_600_000L);
+      Files.setLastModifiedTime(file, old);
+
+      swatchService.getSwatch(colors, SwatchLayout.STRIP, SwatchFormat.SVG, 40, 10);
+
+      assertThat(Files.getLastModifiedTime(file)).isGreaterThan(old);
+   }
+
+   @Test
+   @DisplayName("Should render again when the cached file is trimmed before it is sent")
+   void shouldRenderAgainWhenTrimmedBeforeSend() throws Exception {
+      Long id = create("Swatch Trimmed", "ABCDEF", "123456");
+      Swatch rendered = swatchService.getSwatch(List.of("ABCDEF", "123456"), SwatchLayout.STRIP,
+               SwatchFormat.SVG, 40, 10);
+      Swatch trimmed = new Swatch(rendered.key(), cacheDir.resolve("trimmed.svg"),
+               rendered.size(), rendered.format());
+      SwatchService swatches = mock(SwatchService.class);
+      when(swatches.getSwatch(any(), any(), any(), anyInt(), anyInt())).thenReturn(trimmed,
+               rendered);
+      SwatchController controller = new SwatchController(
+               new StaticListableBeanFactory(Map.of("swatchService", swatches))
+                        .getBeanProvider(SwatchService.class),
+               colorCombinationService, "");
+      MockMvc trimmedMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+      trimmedMvc.perform(get("/api/combinations/{id}/swatch.svg", id))
+               .andExpect(status().isOk())
+               .andExpect(content().bytes(Files.readAllBytes(rendered.file())));
+   }
+
+   @Test
+   @DisplayName("Should reject unknown layouts, formats and oversized images")
+   void shouldRejectInvalidRequests() throws Exception {
+      Long id = create("Swatch Invalid", "FF0000", "00FF00");
+
+      mockMvc.perform(get("/api/combinations/{id}/swatch.png", id).param("layout", "spiral"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/{id}/swatch.gif", id))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/{id}/swatch.png", id).param("width", "100000"))
+               .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/combinations/{id}/swatch.png", 999_999L))
+               .andExpect(status().isNotFound());
+   }
+
+   @Test
+   @DisplayName("Should hand the file to nginx with X-Accel-Redirect when configured")
+   void shouldDelegateToNginx() throws Exception {
+      Long id = create("Swatch Accel", "FF0000", "00FF00");
+      SwatchController controller = new SwatchController(
+               webApplicationContext.getBeanProvider(SwatchService.class),
+               colorCombinationService, "/internal/swatches/");
+      MockMvc accelMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+      MvcResult result = accelMvc
+               .perform(get("/api/combinations/{id}/swatch.png", id).param("layout", "grid"))
+               .andExpect(status().isOk()).andReturn();
+
+      String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+      assertThat(result.getResponse().getHeader("X-Accel-Redirect"))
+               .isEqualTo("/internal/swatches/" + etag.replace("\"", "") + ".png");
+      assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+   }
+}
@@ -0,0 +1,70 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ColorVision Tests")
+class ColorVisionTest {
+
+   // A red/green pair chosen to look alike without L or M cones
+   private static final int[] RED_GREEN = {0xD03030, 0x6E8A20};
+
+   @Test
+   @DisplayName("Should collapse red/green pairs for protanopia and deuteranopia only")
+   void shouldCollapseRedGreen() {
+      double normal = ColorVision.deltaE(RED_GREEN[0], RED_GREEN[1]);
+      Double protan = ColorVision.minPairDeltaE(RED_GREEN, ColorVisionDeficiency.PROTANOPIA);
+      Double deutan = ColorVision.minPairDeltaE(RED_GREEN, ColorVisionDeficiency.DEUTERANOPIA);
+      Double tritan = ColorVision.minPairDeltaE(RED_GREEN, ColorVisionDeficiency.TRITANOPIA);
+
+      assertThat(protan).isLessThan(normal / 2);
+      assertThat(deutan).isLessThan(normal / 2);
+      assertThat(tritan).isGreaterThan(Math.max(protan, deutan) * 2);
+   }
+
+   @Test
+   @DisplayName("Should keep grays unchanged")
+   void shouldKeepGrays() {
+      for (ColorVisionDeficiency deficiency : ColorVisionDeficiency.values()) {
+         assertThat(ColorVision.simulate(0x000000, deficiency)).isEqualTo(0x000000);
+         assertThat(ColorVision.simulate(0xFFFFFF, deficiency)).isEqualTo(0xFFFFFF);
+         assertThat(ColorVision.deltaE(ColorVision.simulate(0x808080, deficiency), 0x808080))
+                  .isLessThan(1.0);
+      }
+   }
+
+   @Test
+   @DisplayName("Should find the closest pair and score it")
+   void shouldFindClosestPair() {
+      int[] colors = {0x000000, 0xFFFFFF, 0x101010, 0xFF0000};
+      long pair = ColorVision.closestPair(colors);
+
+      assertThat((int) (pair >>> 32)).isZero();
+      assertThat((int) pair).isEqualTo(2);
+      assertThat(ColorVision.closestPair(new int[] {0x123456})).isEqualTo(-1L);
+      assertThat(ColorVision.minPairDeltaE(new int[] {0x123456},
+               ColorVisionDeficiency.TRITANOPIA)).isNull();
+   }
+
+   @Test
+   @DisplayName("Should truncate scores, never round them up past a threshold")
+   void shouldTruncate() {
+      assertThat(ColorVision.truncate(9.999)).isEqualTo(9.99);
+      assertThat(ColorVision.truncate(10.0)).isEqualTo(10.0);
+   }
+
+   @Test
+   @DisplayName("Should parse deficiency names ignoring case")
+   void shouldParseNames() {
+      assertThat(ColorVisionDeficiency.fromName(" Deuteranopia"))
+               .isEqualTo(ColorVisionDeficiency.DEUTERANOPIA);
+      assertThatThrownBy(() -> ColorVisionDeficiency.fromName("achromatopsia"))
+               .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ColorVisionDeficiency.fromName(null))
+               .isInstanceOf(IllegalArgumentException.class);
+   }
+}
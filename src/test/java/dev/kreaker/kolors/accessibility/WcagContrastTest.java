@@ -0,0 +1,45 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.accessibility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WcagContrast Tests")
+class WcagContrastTest {
+
+   @Test
+   @DisplayName("Should compute WCAG ratios independently of color order")
+   void shouldComputeRatios() {
+      assertThat(WcagContrast.ratio(0x000000, 0xFFFFFF)).isCloseTo(21.0, within(1e-9));
+      assertThat(WcagContrast.ratio(0xFFFFFF, 0x000000)).isCloseTo(21.0, within(1e-9));
+      assertThat(WcagContrast.ratio(0x777777, 0x777777)).isCloseTo(1.0, within(1e-9));
+      // #767676 on white is the well-known lightest gray passing AA
+      assertThat(WcagContrast.ratio(0x767676, 0xFFFFFF)).isCloseTo(4.54, within(0.01));
+   }
+
+   @Test
+   @DisplayName("Should list pair ratios in upper-triangle order")
+   void shouldListPairsInOrder() {
+      int[] colors = {0x000000, 0xFFFFFF, 0x767676};
+      double[] ratios = WcagContrast.pairRatios(colors);
+
+      assertThat(ratios).hasSize(3);
+      assertThat(ratios[0]).isCloseTo(WcagContrast.ratio(0x000000, 0xFFFFFF), within(1e-12));
+      assertThat(ratios[1]).isCloseTo(WcagContrast.ratio(0x000000, 0x767676), within(1e-12));
+      assertThat(ratios[2]).isCloseTo(WcagContrast.ratio(0xFFFFFF, 0x767676), within(1e-12));
+      assertThat(WcagContrast.pairRatios(new int[] {0xFF0000})).isEmpty();
+   }
+
+   @Test
+   @DisplayName("Should store ratios truncated, never rounded up past a threshold")
+   void shouldTruncateStoredRatios() {
+      String encoded = WcagContrast.encode(new double[] {21.0, 4.4999, 7.126});
+
+      assertThat(encoded).isEqualTo("21.0,4.49,7.12");
+      assertThat(WcagContrast.decode(encoded)).containsExactly(21.0, 4.49, 7.12);
+      assertThat(WcagContrast.decode("")).isEmpty();
+   }
+}
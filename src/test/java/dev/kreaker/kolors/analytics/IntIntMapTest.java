@@ -0,0 +1,58 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IntIntMap Tests")
+class IntIntMapTest {
+
+   @Test
+   @DisplayName("Should add, drop zero counts and grow")
+   void shouldCount() {
+      IntIntMap map = new IntIntMap(2);
+
+      assertThat(map.add(0xFF0000, 1)).isEqualTo(1);
+      assertThat(map.add(0xFF0000, 2)).isEqualTo(3);
+      assertThat(map.add(0x000000, 1)).isEqualTo(1);
+      for (int color = 1; color <= 100; color++) {
+         map.put(color, color);
+      }
+      assertThat(map.size()).isEqualTo(102);
+      assertThat(map.add(0xFF0000, -3)).isZero();
+      assertThat(map.containsKey(0xFF0000)).isFalse();
+      assertThat(map.get(50, -1)).isEqualTo(50);
+      assertThat(map.get(0x123456, -1)).isEqualTo(-1);
+      assertThat(map.size()).isEqualTo(101);
+   }
+
+   @Test
+   @DisplayName("Should match a HashMap through random updates and removals")
+   void shouldMatchHashMap() {
+      IntIntMap map = new IntIntMap(16);
+      Map<Integer, Integer> expected = new HashMap<>();
+      Random random = new Random(46);
+      for (int i = 0; i < 50_000; i++) {
+         int key = random.nextInt(2_000);
+         if (random.nextInt(8) == 0) {
+            map.remove(key);
+            expected.remove(key);
+         } else {
+            int delta = random.nextInt(3) - 1;
+            map.add(key, delta);
+            expected.merge(key, delta, Integer::sum);
+            expected.remove(key, 0);
+         }
+      }
+      Map<Integer, Integer> actual = new HashMap<>();
+      map.forEach(actual::put);
+      assertThat(actual).isEqualTo(expected);
+      assertThat(map.size()).isEqualTo(expected.size());
+   }
+}
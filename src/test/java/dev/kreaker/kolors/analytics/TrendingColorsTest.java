@@ -0,0 +1,68 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.kreaker.kolors.dto.ColorUsageCount;
+
+@DisplayName("TrendingColors Tests")
+class TrendingColorsTest {
+
+   private static final long MINUTE = 60_000L;
+
+   @Test
+   @DisplayName("Should keep heavy hitters within the error bound of a space-saving summary")
+   void shouldKeepHeavyHitters() {
+      SpaceSaving summary = new SpaceSaving(16);
+      Random random = new Random(46);
+      for (int i = 0; i < 10_000; i++) {
+         summary.offer(i % 4 == 0 ? 0xFF0000 : i % 10 == 1 ? 0x00FF00 : random.nextInt(1 << 24));
+      }
+
+      assertThat(summary.size()).isEqualTo(16);
+      boolean red = false;
+      boolean green = false;
+      for (int i = 0; i < summary.size(); i++) {
+         long lower = summary.countAt(i) - summary.errorAt(i);
+         if (summary.keyAt(i) == 0xFF0000) {
+            red = summary.countAt(i) >= 2_500 && lower <= 2_500;
+         } else if (summary.keyAt(i) == 0x00FF00) {
+            green = summary.countAt(i) >= 1_000 && lower <= 1_000;
+         }
+      }
+      assertThat(red).isTrue();
+      assertThat(green).isTrue();
+   }
+
+   @Test
+   @DisplayName("Should merge the buckets of the window and forget expired ones")
+   void shouldMergeWindow() {
+      TrendingColors trending = new TrendingColors(3, MINUTE, 8);
+      trending.offer(0x0000FF, 0);
+      trending.offer(0xFF0000, 30_000);
+      trending.offer(0xFF0000, MINUTE + 1);
+      trending.offer(0x00FF00, 2 * MINUTE);
+      trending.offer(0x00FF00, 2 * MINUTE + 1);
+      trending.offer(0x00FF00, 2 * MINUTE + 2);
+
+      List<ColorUsageCount> all = trending.top(3, 10, 2 * MINUTE + 10);
+      assertThat(all).extracting(ColorUsageCount::hexValue)
+               .containsExactly("00FF00", "FF0000", "0000FF");
+      assertThat(all.get(1).count()).isEqualTo(2);
+      assertThat(trending.top(1, 10, 2 * MINUTE + 10)).extracting(ColorUsageCount::hexValue)
+               .containsExactly("00FF00");
+      assertThat(trending.top(3, 1, 2 * MINUTE + 10)).hasSize(1);
+
+      // The fourth minute reuses the first minute's bucket; late additions to it are dropped
+      trending.offer(0x123456, 3 * MINUTE);
+      trending.offer(0x0000FF, 10);
+      assertThat(trending.top(3, 10, 3 * MINUTE)).extracting(ColorUsageCount::hexValue)
+               .containsExactly("00FF00", "123456", "FF0000");
+   }
+}
@@ -0,0 +1,119 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import dev.kreaker.kolors.aspect.PerformanceMonitoringAspect.MonitoringMode;
+import dev.kreaker.kolors.service.ColorCombinationService;
+import dev.kreaker.kolors.service.PerformanceMonitoringService;
+import dev.kreaker.kolors.service.PerformanceMonitoringService.PerformanceMetric;
+
+@DisplayName("PerformanceMonitoringAspect Tests")
+class PerformanceMonitoringAspectTest {
+
+   private static final String METRIC_KEY = "service.ColorCombinationService.isValidHexColor";
+
+   private PerformanceMonitoringService monitoringService;
+
+   @BeforeEach
+   void setUp() {
+      monitoringService = new PerformanceMonitoringService();
+   }
+
+   @Test
+   @DisplayName("Should parse monitoring modes from property values")
+   void shouldParseMonitoringModes() {
+      assertThat(MonitoringMode.fromProperty("low-overhead"))
+               .isEqualTo(MonitoringMode.LOW_OVERHEAD);
+      assertThat(MonitoringMode.fromProperty(" FULL ")).isEqualTo(MonitoringMode.FULL);
+      assertThat(MonitoringMode.fromProperty("off")).isEqualTo(MonitoringMode.OFF);
+      assertThat(MonitoringMode.fromProperty(null)).isEqualTo(MonitoringMode.FULL);
+   }
+
+   @Test
+   @DisplayName("Should reject sample rates outside 0..1")
+   void shouldRejectInvalidSampleRate() {
+      assertThatThrownBy(() -> new PerformanceMonitoringAspect(monitoringService, "full", 1.5))
+               .isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   @DisplayName("Should record every call in full mode")
+   void shouldRecordEveryCallInFullMode() {
+      ColorCombinationService service = proxy("full", 1.0);
+
+      for (int i = 0; i < 10; i++) {
+         service.isValidHexColor("FF5733");
+      }
+
+      PerformanceMetric metric = monitoringService.getMetrics(METRIC_KEY);
+      assertThat(metric).isNotNull();
+      assertThat(metric.getExecutionCount()).isEqualTo(10);
+   }
+
+   @Test
+   @DisplayName("Should record through cached timers in low-overhead mode")
+   void shouldRecordThroughCachedTimersInLowOverheadMode() {
+      ColorCombinationService service = proxy("low-overhead", 1.0);
+
+      for (int i = 0; i < 10; i++) {
+         service.isValidHexColor("FF5733");
+      }
+      assertThat(monitoringService.getMetrics(METRIC_KEY).getExecutionCount()).isEqualTo(10);
+
+      // Cached handles must keep working after the metrics are reset
+      monitoringService.resetMetrics();
+      service.isValidHexColor("FF5733");
+      assertThat(monitoringService.getMetrics(METRIC_KEY).getExecutionCount()).isEqualTo(1);
+   }
+
+   @Test
+   @DisplayName("Should skip unsampled calls")
+   void shouldSkipUnsampledCalls() {
+      ColorCombinationService service = proxy("low-overhead", 0.0);
+
+      for (int i = 0; i < 100; i++) {
+         assertThat(service.isValidHexColor("FF5733")).isTrue();
+      }
+
+      assertThat(monitoringService.getMetrics(METRIC_KEY)).isNull();
+   }
+
+   @Test
+   @DisplayName("Should count each sampled call as 1 / sample-rate calls")
+   void shouldScaleSampledCounts() {
+      ColorCombinationService service = proxy("low-overhead", 0.25);
+
+      for (int i = 0; i < 20_000; i++) {
+         service.isValidHexColor("FF5733");
+      }
+
+      long count = monitoringService.getMetrics(METRIC_KEY).getExecutionCount();
+      assertThat(count % 4).isZero();
+      assertThat(count).isBetween(18_000L, 22_000L);
+   }
+
+   @Test
+   @DisplayName("Should not record anything when monitoring is off")
+   void shouldNotRecordWhenOff() {
+      ColorCombinationService service = proxy("off", 1.0);
+
+      service.isValidHexColor("FF5733");
+
+      assertThat(monitoringService.getAllMetrics()).isEmpty();
+   }
+
+   private ColorCombinationService proxy(String mode, double sampleRate) {
+      AspectJProxyFactory factory =
+               new AspectJProxyFactory(new ColorCombinationService(null, null, null, null));
+      factory.setProxyTargetClass(true);
+      factory.addAspect(new PerformanceMonitoringAspect(monitoringService, mode, sampleRate));
+      return factory.getProxy();
+   }
+}
@@ -0,0 +1,233 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.backup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import dev.kreaker.kolors.backup.DatabaseBackupService.BackupFile;
+import dev.kreaker.kolors.backup.DatabaseBackupService.BackupStatistics;
+import dev.kreaker.kolors.backup.DatabaseBackupService.Operation;
+
+@DisplayName("DatabaseBackupService Tests")
+class DatabaseBackupServiceTest {
+
+   private static final int ROWS = 2000;
+
+   @TempDir
+   Path directory;
+
+   private SQLiteDataSource dataSource;
+
+   @BeforeEach
+   void createDatabase() throws SQLException {
+      dataSource = new SQLiteDataSource();
+      dataSource.setUrl("jdbc:sqlite:" + directory.resolve("kolors.db"));
+      try (Connection connection = dataSource.getConnection();
+               Statement statement = connection.createStatement()) {
+         statement.execute("CREATE TABLE color (id INTEGER PRIMARY KEY, payload TEXT)");
+         connection.setAutoCommit(false);
+         insert(connection, ROWS);
+         connection.commit();
+      }
+   }
+
+   private static void insert(Connection connection, int rows) throws SQLException {
+      try (PreparedStatement insert = connection
+               .prepareStatement("INSERT INTO color (payload) VALUES (?)")) {
+         for (int i = 0; i < rows; i++) {
+            insert.setString(1, UUID.randomUUID() + "x".repeat(964));
+            insert.executeUpdate();
+         }
+      }
+   }
+
+   /** Every row as {@code id:payload}, in ID order */
+   private static List<String> rows(String url) throws SQLException {
+      SQLiteDataSource source = new SQLiteDataSource();
+      source.setUrl(url);
+      List<String> rows = new ArrayList<>();
+      try (Connection connection = source.getConnection();
+               Statement statement = connection.createStatement();
+               ResultSet result =
+                        statement.executeQuery("SELECT id, payload FROM color ORDER BY id")) {
+         while (result.next()) {
+            rows.add(result.getLong(1) + ":" + result.getString(2));
+         }
+      }
+      return rows;
+   }
+
+   private static int count(String url) throws SQLException {
+      SQLiteDataSource source = new SQLiteDataSource();
+      source.setUrl(url);
+      try (Connection connection = source.getConnection();
+               Statement statement = connection.createStatement();
+               ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM color")) {
+         rows.next();
+         return rows.getInt(1);
+      }
+   }
+
+   private DatabaseBackupService service(int pagesPerStep, long pauseMs, int retention) {
+      return new DatabaseBackupService(dataSource, directory.resolve("backups").toString(),
+               pagesPerStep, pauseMs, retention);
+   }
+
+   @Test
+   @DisplayName("Should copy every row into a checked backup named after the database")
+   void shouldBackUpDatabase() throws Exception {
+      DatabaseBackupService service = service(64, 0, 7);
+      List<String> original = rows(dataSource.getUrl());
+
+      BackupFile backup = service.backup();
+
+      assertThat(backup.name()).matches("kolors-\\d{8}-\\d{6}-\\d{3}\\.db");
+      Path file = directory.resolve("backups").resolve(backup.name());
+      assertThat(original).hasSize(ROWS);
+      assertThat(rows("jdbc:sqlite:" + file)).isEqualTo(original);
+      assertThat(backup.bytes()).isEqualTo(Files.size(file));
+      try (Stream<Path> files = Files.list(directory.resolve("backups"))) {
+         assertThat(files.filter(path -> path.toString().endsWith(".partial"))).isEmpty();
+      }
+
+      BackupStatistics statistics = service.getStatistics();
+      assertThat(statistics.operation()).isEqualTo(Operation.IDLE);
+      assertThat(statistics.backupCount()).isEqualTo(1);
+      assertThat(statistics.failureCount()).isZero();
+      assertThat(statistics.lastBackup()).isEqualTo(backup);
+   }
+
+   @Test
+   @DisplayName("Should keep only the newest backups beyond the retention")
+   void shouldApplyRetention() throws Exception {
+      DatabaseBackupService service = service(256, 0, 2);
+
+      service.backup();
+      Thread.sleep(5);
+      BackupFile second = service.backup();
+      Thread.sleep(5);
+      BackupFile third = service.backup();
+
+      assertThat(service.listBackups()).containsExactly(third, second);
+   }
+
+   @Test
+   @DisplayName("Should finish a paused backup while another connection keeps writing")
+   void shouldBackUpWhileWriting() throws Exception {
+      DatabaseBackupService service = service(8, 2, 7);
+      AtomicInteger written = new AtomicInteger();
+      Thread writer = new Thread(() -> {
+         try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < 20; i++) {
+               insert(connection, 5);
+               written.addAndGet(5);
+               Thread.sleep(3);
+            }
+         } catch (SQLException | InterruptedException e) {
+            throw new IllegalStateException(e);
+         }
+      });
+      writer.start();
+
+      BackupFile backup = service.backup();
+      writer.join();
+
+      // Every write went through, and the backup holds the rows of some moment in between
+      assertThat(written.get()).isEqualTo(100);
+      int rows = count("jdbc:sqlite:" + directory.resolve("backups").resolve(backup.name()));
+      assertThat(rows).isBetween(ROWS, ROWS + 100);
+   }
+
+   @Test
+   @DisplayName("Should restore a backup after saving the current database")
+   void shouldRestoreBackup() throws Exception {
+      DatabaseBackupService service = service(256, 0, 7);
+      List<String> original = rows(dataSource.getUrl());
+      BackupFile backup = service.backup();
+      changeDatabase();
+      List<String> changed = rows(dataSource.getUrl());
+
+      service.restore(directory.resolve("backups").resolve(backup.name()));
+
+      assertThat(rows(dataSource.getUrl())).isEqualTo(original);
+      List<BackupFile> backups = service.listBackups();
+      assertThat(backups).hasSize(2);
+      BackupFile safety = backups.stream().filter(file -> file.name().contains("-pre-restore-"))
+               .findFirst().orElseThrow();
+      assertThat(rows("jdbc:sqlite:" + directory.resolve("backups").resolve(safety.name())))
+               .isEqualTo(changed);
+   }
+
+   /** Deletes most rows and rewrites one, so a restore has to bring back both */
+   private void changeDatabase() throws SQLException {
+      try (Connection connection = dataSource.getConnection();
+               Statement statement = connection.createStatement()) {
+         statement.executeUpdate("DELETE FROM color WHERE id > 10");
+         statement.executeUpdate("UPDATE color SET payload = 'changed' WHERE id = 1");
+      }
+   }
+
+   @Test
+   @DisplayName("Should restore from the command line without starting the application")
+   void shouldRestoreFromCommand() throws Exception {
+      List<String> original = rows(dataSource.getUrl());
+      BackupFile backup = service(256, 0, 7).backup();
+      Path file = directory.resolve("backups").resolve(backup.name());
+      changeDatabase();
+      String[] args = {"--spring.datasource.url=" + dataSource.getUrl(),
+               "--spring.datasource.driver-class-name=org.sqlite.JDBC",
+               "--kolors.backup.directory=" + directory.resolve("backups"),
+               "--kolors.backup.restore-from=" + file};
+
+      assertThat(DatabaseRestoreCommand.isRequested(args)).isTrue();
+      assertThat(DatabaseRestoreCommand.execute(args)).isZero();
+      assertThat(rows(dataSource.getUrl())).isEqualTo(original);
+
+      Path broken = directory.resolve("broken.db");
+      Files.writeString(broken, "not a database");
+      args[3] = "--kolors.backup.restore-from=" + broken;
+      assertThat(DatabaseRestoreCommand.execute(args)).isEqualTo(1);
+      assertThat(rows(dataSource.getUrl())).isEqualTo(original);
+      assertThat(DatabaseRestoreCommand.isRequested(new String[] {"--server.port=8080"}))
+               .isFalse();
+   }
+
+   @Test
+   @DisplayName("Should refuse to restore a file that is not a database")
+   void shouldRejectCorruptBackup() throws Exception {
+      Path file = directory.resolve("broken.db");
+      Files.writeString(file, "not a database");
+      DatabaseBackupService service = service(256, 0, 7);
+      List<String> original = rows(dataSource.getUrl());
+
+      assertThatThrownBy(() -> service.restore(file)).isInstanceOf(SQLException.class);
+      assertThat(rows(dataSource.getUrl())).isEqualTo(original);
+   }
+
+   @Test
+   @DisplayName("Should reject invalid configuration")
+   void shouldRejectInvalidConfiguration() {
+      assertThatThrownBy(() -> service(0, 0, 7)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> service(1, -1, 7)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> service(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+   }
+}
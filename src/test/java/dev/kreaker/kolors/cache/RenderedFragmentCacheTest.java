@@ -0,0 +1,68 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.kreaker.kolors.cache.RenderedFragmentCache.FragmentCacheStatistics;
+
+@DisplayName("RenderedFragmentCache Tests")
+class RenderedFragmentCacheTest {
+
+   @Test
+   @DisplayName("Should serve entries until the write generation advances")
+   void shouldInvalidateOnNewGeneration() {
+      RenderedFragmentCache cache = new RenderedFragmentCache(10);
+      cache.put("list|||", 3L, "<div>a</div>", 1);
+
+      assertEquals("<div>a</div>", cache.get("list|||", 3L).getHtml());
+      assertNull(cache.get("list|||", 4L));
+      assertNull(cache.get("list|||", 3L));
+
+      FragmentCacheStatistics statistics = cache.getStatistics();
+      assertEquals(1, statistics.getHitCount());
+      assertEquals(2, statistics.getMissCount());
+      assertEquals(1, statistics.getStaleCount());
+      assertEquals(0, statistics.getSize());
+      assertEquals(100.0 / 3, statistics.getHitRatio(), 0.001);
+   }
+
+   @Test
+   @DisplayName("Should not replace a newer entry with one rendered at an older generation")
+   void shouldKeepNewerEntries() {
+      RenderedFragmentCache cache = new RenderedFragmentCache(10);
+      cache.put("key", 5L, "new", 2);
+      cache.put("key", 4L, "old", 1);
+
+      assertEquals("new", cache.get("key", 5L).getHtml());
+      // A reader that sampled an older generation may still use newer HTML
+      assertEquals("new", cache.get("key", 4L).getHtml());
+   }
+
+   @Test
+   @DisplayName("Should evict the least recently used entry when full")
+   void shouldEvictLeastRecentlyUsed() {
+      RenderedFragmentCache cache = new RenderedFragmentCache(2);
+      cache.put("a", 0L, "a", 0);
+      cache.put("b", 0L, "b", 0);
+      cache.get("a", 0L);
+      cache.put("c", 0L, "c", 0);
+
+      assertNotNull(cache.get("a", 0L));
+      assertNull(cache.get("b", 0L));
+      assertNotNull(cache.get("c", 0L));
+      assertEquals(1, cache.getStatistics().getEvictionCount());
+      assertEquals(2, cache.getStatistics().getSize());
+   }
+
+   @Test
+   @DisplayName("Should reject a non-positive size")
+   void shouldRejectInvalidSize() {
+      assertThrows(IllegalArgumentException.class, () -> new RenderedFragmentCache(0));
+   }
+}
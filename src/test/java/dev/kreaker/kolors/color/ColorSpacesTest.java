@@ -0,0 +1,107 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ColorSpaces Tests")
+class ColorSpacesTest {
+
+   private static int[] sampleColors() {
+      Random random = new Random(7);
+      int[] colors = new int[2000];
+      for (int i = 0; i < colors.length; i++) {
+         colors[i] = random.nextInt(0x1000000);
+      }
+      colors[0] = 0x000000;
+      colors[1] = 0xFFFFFF;
+      colors[2] = 0xFF0000;
+      colors[3] = 0x808080;
+      return colors;
+   }
+
+   @Test
+   @DisplayName("Should parse and format packed hex colors")
+   void shouldParseAndFormatHex() {
+      assertThat(Rgb.parseHex("FF5733")).isEqualTo(0xFF5733);
+      assertThat(Rgb.parseHex("#ff5733")).isEqualTo(0xFF5733);
+      assertThat(Rgb.toHex(0x00A0ff)).isEqualTo("00A0FF");
+      assertThat(Rgb.toFormattedHex(0x0A0B0C)).isEqualTo("#0A0B0C");
+      assertThat(Rgb.isHex("#12345G")).isFalse();
+      assertThatThrownBy(() -> Rgb.parseHex("12345")).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> Rgb.parseHex("#1234567"))
+               .isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   @DisplayName("Should match reference values for well-known colors")
+   void shouldMatchReferenceValues() {
+      double[] out = new double[3];
+
+      ColorSpaces.toHsl(0xFF8000, out, 0);
+      assertThat(out).containsExactly(new double[] {30.1176, 1.0, 0.5}, within(1e-3));
+      ColorSpaces.toHsv(0x336699, out, 0);
+      assertThat(out).containsExactly(new double[] {210.0, 0.6667, 0.6}, within(1e-3));
+      ColorSpaces.toLab(0xFF0000, out, 0);
+      assertThat(out).containsExactly(new double[] {53.2408, 80.0925, 67.2032}, within(1e-2));
+      ColorSpaces.toOklab(0xFFFFFF, out, 0);
+      assertThat(out).containsExactly(new double[] {1.0, 0.0, 0.0}, within(1e-4));
+      ColorSpaces.toOklch(0x0000FF, out, 0);
+      assertThat(out).containsExactly(new double[] {0.4520, 0.3132, 264.052}, within(1e-3));
+      assertThat(ColorSpaces.srgbToLinear(128)).isCloseTo(0.2158605, within(1e-6));
+   }
+
+   @Test
+   @DisplayName("Should round-trip every space back to the same packed color")
+   void shouldRoundTrip() {
+      double[] out = new double[3];
+      for (int rgb : sampleColors()) {
+         ColorSpaces.toLinear(rgb, out, 0);
+         assertThat(ColorSpaces.fromLinear(out[0], out[1], out[2])).isEqualTo(rgb);
+         ColorSpaces.toHsl(rgb, out, 0);
+         assertThat(ColorSpaces.fromHsl(out[0], out[1], out[2])).isEqualTo(rgb);
+         ColorSpaces.toHsv(rgb, out, 0);
+         assertThat(ColorSpaces.fromHsv(out[0], out[1], out[2])).isEqualTo(rgb);
+         ColorSpaces.toLab(rgb, out, 0);
+         assertThat(ColorSpaces.fromLab(out[0], out[1], out[2])).isEqualTo(rgb);
+         ColorSpaces.toOklab(rgb, out, 0);
+         assertThat(ColorSpaces.isOklabInGamut(out[0], out[1], out[2])).isTrue();
+         assertThat(ColorSpaces.fromOklab(out[0], out[1], out[2])).isEqualTo(rgb);
+         ColorSpaces.toOklch(rgb, out, 0);
+         assertThat(ColorSpaces.fromOklch(out[0], out[1], out[2])).isEqualTo(rgb);
+      }
+   }
+
+   @Test
+   @DisplayName("Should encode linear light to the same channel as the exact formula")
+   void shouldEncodeLinearLight() {
+      for (int i = 0; i <= 100_000; i++) {
+         double linear = i / 100_000.0;
+         int expected = (int) Math.round(ColorSpaces.linearToSrgb(linear) * 255);
+         assertThat(ColorSpaces.linearToChannel(linear)).isEqualTo(expected);
+      }
+      assertThat(ColorSpaces.linearToChannel(-0.5)).isZero();
+      assertThat(ColorSpaces.linearToChannel(1.5)).isEqualTo(255);
+      assertThat(ColorSpaces.linearToChannel(Double.NaN)).isZero();
+   }
+
+   @Test
+   @DisplayName("Should reduce chroma, not lightness or hue, to reach the sRGB gamut")
+   void shouldMapOutOfGamutChroma() {
+      int mapped = ColorSpaces.fromOklchInGamut(0.7, 0.4, 150);
+      double[] lch = new double[3];
+      ColorSpaces.toOklch(mapped, lch, 0);
+
+      assertThat(ColorSpaces.isOklabInGamut(0.7, 0.4 * Math.cos(Math.toRadians(150)),
+               0.4 * Math.sin(Math.toRadians(150)))).isFalse();
+      assertThat(lch[0]).isCloseTo(0.7, within(0.01));
+      assertThat(lch[1]).isLessThan(0.4);
+      assertThat(lch[2]).isCloseTo(150, within(2.0));
+   }
+}
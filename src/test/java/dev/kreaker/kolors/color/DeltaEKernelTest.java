@@ -0,0 +1,91 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DeltaEKernel Tests")
+class DeltaEKernelTest {
+
+   private static List<DeltaEKernel> kernels() {
+      List<DeltaEKernel> kernels = new ArrayList<>(List.of(DeltaEKernels.scalar()));
+      DeltaEKernels.vector().ifPresent(kernels::add);
+      return kernels;
+   }
+
+   @Test
+   @DisplayName("Should use the Vector API kernel when the incubator module is present")
+   void shouldPreferVectorKernel() {
+      // The Gradle test task adds jdk.incubator.vector
+      assertThat(DeltaEKernels.vector()).isPresent();
+      assertThat(DeltaEKernels.preferred()).isSameAs(DeltaEKernels.vector().get());
+      assertThat(DeltaEKernels.scalar().name()).isEqualTo("scalar");
+   }
+
+   @Test
+   @DisplayName("Should compute the same distances and nearest points as a plain loop")
+   void shouldMatchPlainLoop() {
+      Random random = new Random(17);
+      // Counts around the vector width exercise the full-vector and leftover loops
+      for (int count : new int[] {0, 1, 3, 7, 8, 9, 15, 16, 17, 33, 148, 1000}) {
+         float[] ls = new float[count];
+         float[] as = new float[count];
+         float[] bs = new float[count];
+         float[] lab = new float[3];
+         for (int i = 0; i < count; i++) {
+            ColorSpaces.toLab(random.nextInt(0x1000000), lab, 0);
+            ls[i] = lab[0];
+            as[i] = lab[1];
+            bs[i] = lab[2];
+         }
+         for (int n = 0; n < 200; n++) {
+            ColorSpaces.toLab(random.nextInt(0x1000000), lab, 0);
+            float[] expected = new float[count];
+            int nearest = -1;
+            for (int i = 0; i < count; i++) {
+               float dl = lab[0] - ls[i];
+               float da = lab[1] - as[i];
+               float db = lab[2] - bs[i];
+               expected[i] = dl * dl + da * da + db * db;
+               if (nearest < 0 || expected[i] < expected[nearest]) {
+                  nearest = i;
+               }
+            }
+            for (DeltaEKernel kernel : kernels()) {
+               float[] out = new float[count];
+               kernel.squaredDistances(lab[0], lab[1], lab[2], ls, as, bs, count, out);
+               assertThat(out).as(kernel.name()).containsExactly(expected);
+               assertThat(kernel.nearest(lab[0], lab[1], lab[2], ls, as, bs, count))
+                        .as(kernel.name()).isEqualTo(nearest);
+            }
+         }
+      }
+   }
+
+   @Test
+   @DisplayName("Should return the lowest index among equally near points")
+   void shouldBreakTiesByLowestIndex() {
+      int count = 40;
+      float[] ls = new float[count];
+      float[] as = new float[count];
+      float[] bs = new float[count];
+      for (int i = 0; i < count; i++) {
+         ls[i] = 90;
+      }
+      // Equally near copies in different lanes and in the leftover loop
+      for (int i : new int[] {5, 13, 22, 39}) {
+         ls[i] = 50;
+      }
+      for (DeltaEKernel kernel : kernels()) {
+         assertThat(kernel.nearest(50, 0, 0, ls, as, bs, count)).as(kernel.name()).isEqualTo(5);
+         assertThat(kernel.nearest(50, 0, 0, ls, as, bs, 6)).as(kernel.name()).isEqualTo(5);
+         assertThat(kernel.nearest(90, 0, 0, ls, as, bs, count)).as(kernel.name()).isZero();
+      }
+   }
+}
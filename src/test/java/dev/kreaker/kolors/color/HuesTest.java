@@ -0,0 +1,32 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.color;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Hues Tests")
+class HuesTest {
+
+   @Test
+   @DisplayName("Should match plain and wrapping hue ranges inclusively")
+   void shouldMatchRanges() {
+      assertThat(Hues.inRange(120, 90, 150)).isTrue();
+      assertThat(Hues.inRange(90, 90, 150)).isTrue();
+      assertThat(Hues.inRange(200, 90, 150)).isFalse();
+
+      assertThat(Hues.inRange(350, 330, 30)).isTrue();
+      assertThat(Hues.inRange(10, 330, 30)).isTrue();
+      assertThat(Hues.inRange(180, 330, 30)).isFalse();
+   }
+
+   @Test
+   @DisplayName("Should measure the smallest arc holding every hue, across 0")
+   void shouldMeasureSpread() {
+      assertThat(Hues.spread(new double[] {10, 350, 20}, 3)).isEqualTo(30.0);
+      assertThat(Hues.spread(new double[] {0, 120, 240}, 3)).isEqualTo(240.0);
+      assertThat(Hues.spread(new double[] {200, 0}, 1)).isZero();
+      assertThat(Hues.spread(new double[0], 0)).isZero();
+   }
+}
@@ -0,0 +1,94 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.harmony;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HarmonyGenerator Tests")
+class HarmonyGeneratorTest {
+
+   private static int[] generate(int seed, HarmonyType type, HarmonySpace space) {
+      int[] out = new int[8];
+      int count = HarmonyGenerator.generate(seed, type, space, out,
+               new double[HarmonyGenerator.SCRATCH_LENGTH]);
+      return Arrays.copyOf(out, count);
+   }
+
+   /** OKLab lightness of a packed color, computed independently of the generator */
+   private static double oklabLightness(int rgb) {
+      double r = linear((rgb >> 16) & 0xFF);
+      double g = linear((rgb >> 8) & 0xFF);
+      double b = linear(rgb & 0xFF);
+      double l = Math.cbrt(0.4122214708 * r + 0.5363325363 * g + 0.0514459929 * b);
+      double m = Math.cbrt(0.2119034982 * r + 0.6806995451 * g + 0.1073969566 * b);
+      double s = Math.cbrt(0.0883024619 * r + 0.2817188376 * g + 0.6299787005 * b);
+      return 0.2104542553 * l + 0.7936177850 * m - 0.0040720468 * s;
+   }
+
+   private static double linear(int channel) {
+      double c = channel / 255.0;
+      return c <= 0.04045 ? c / 12.92 : Math.pow((c + 0.055) / 1.055, 2.4);
+   }
+
+   @Test
+   @DisplayName("Should rotate hues on the HSL color wheel")
+   void shouldRotateHslHues() {
+      assertThat(generate(0xFF0000, HarmonyType.COMPLEMENTARY, HarmonySpace.HSL))
+               .containsExactly(0xFF0000, 0x00FFFF);
+      assertThat(generate(0xFF0000, HarmonyType.TRIADIC, HarmonySpace.HSL))
+               .containsExactly(0xFF0000, 0x00FF00, 0x0000FF);
+      assertThat(generate(0xFF0000, HarmonyType.ANALOGOUS, HarmonySpace.HSL))
+               .containsExactly(0xFF00FF, 0xFF0080, 0xFF0000, 0xFF8000, 0xFFFF00);
+   }
+
+   @Test
+   @DisplayName("Should keep OKLCH lightness and return the seed unchanged")
+   void shouldKeepPerceptualLightness() {
+      int seed = 0x3A7BD5;
+      for (HarmonyType type : new HarmonyType[] {HarmonyType.COMPLEMENTARY,
+               HarmonyType.SPLIT_COMPLEMENTARY, HarmonyType.TRIADIC, HarmonyType.TETRADIC}) {
+         int[] palette = generate(seed, type, HarmonySpace.OKLCH);
+
+         assertThat(palette).hasSize(type.size());
+         assertThat(palette[0]).isEqualTo(seed);
+         for (int color : palette) {
+            assertThat(oklabLightness(color)).isCloseTo(oklabLightness(seed), within(0.01));
+         }
+      }
+   }
+
+   @Test
+   @DisplayName("Should spread monochromatic lightness from dark to light around the seed")
+   void shouldRampLightness() {
+      for (HarmonySpace space : HarmonySpace.values()) {
+         int[] palette = generate(0x2E8B57, HarmonyType.MONOCHROMATIC, space);
+
+         assertThat(palette).hasSize(5).contains(0x2E8B57).doesNotHaveDuplicates();
+         for (int i = 1; i < palette.length; i++) {
+            assertThat(oklabLightness(palette[i])).isGreaterThan(oklabLightness(palette[i - 1]));
+         }
+      }
+   }
+
+   @Test
+   @DisplayName("Should reject an output array that is too small")
+   void shouldRejectSmallOutput() {
+      assertThatThrownBy(() -> HarmonyGenerator.generate(0xFF0000, HarmonyType.TETRADIC,
+               HarmonySpace.HSL, new int[3], new double[HarmonyGenerator.SCRATCH_LENGTH]))
+                        .isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   @DisplayName("Should reject a scratch buffer that is too small")
+   void shouldRejectSmallScratch() {
+      assertThatThrownBy(() -> HarmonyGenerator.generate(0xFF0000, HarmonyType.TRIADIC,
+               HarmonySpace.OKLCH, new int[3], new double[2]))
+                        .isInstanceOf(IllegalArgumentException.class);
+   }
+}
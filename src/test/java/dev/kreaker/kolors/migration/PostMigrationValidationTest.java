@@ -57,13 +57,13 @@ class PostMigrationValidationTest {
    }
 
    @Test
-   void shouldCreateBackupSuccessfully() {
-      // Given - Current data exists
+   void shouldNotReportBackupWhenBackupsAreDisabled() {
+      // Given - Backups are disabled in tests (and H2 has no online backup)
 
       // When - Create backup
       boolean backupCreated = migrationService.createBackup();
 
-      // Then - Backup should be created successfully
-      assertThat(backupCreated).isTrue();
+      // Then - No backup is claimed
+      assertThat(backupCreated).isFalse();
    }
 }
@@ -0,0 +1,125 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.naming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import dev.kreaker.kolors.color.ColorSpaces;
+import dev.kreaker.kolors.color.DeltaEKernels;
+import dev.kreaker.kolors.dto.ColorName;
+import dev.kreaker.kolors.dto.NearestColorName;
+import dev.kreaker.kolors.naming.ColorNames.TableState;
+
+@DisplayName("ColorNames Tests")
+class ColorNamesTest {
+
+   private static final String[] CSS = {"classpath:color-names/css.txt"};
+
+   private static ColorNames names(boolean tableEnabled, String directory) {
+      return new ColorNames(new DefaultResourceLoader(), CSS, tableEnabled, directory);
+   }
+
+   @Test
+   @DisplayName("Should find the same nearest point with the k-d tree, the scan and brute force")
+   void shouldMatchBruteForce() {
+      Random random = new Random(11);
+      float[] lab = new float[300 * 3];
+      for (int i = 0; i < 300; i++) {
+         ColorSpaces.toLab(random.nextInt(0x1000000), lab, i * 3);
+      }
+      LabKdTree tree = new LabKdTree(lab);
+      LabScan scan = new LabScan(lab, DeltaEKernels.preferred());
+      float[] query = new float[3];
+      for (int n = 0; n < 5000; n++) {
+         ColorSpaces.toLab(random.nextInt(0x1000000), query, 0);
+         int expected = 0;
+         float best = Float.POSITIVE_INFINITY;
+         for (int i = 0; i < 300; i++) {
+            float dl = query[0] - lab[i * 3];
+            float da = query[1] - lab[i * 3 + 1];
+            float db = query[2] - lab[i * 3 + 2];
+            float distance = dl * dl + da * da + db * db;
+            if (distance < best) {
+               best = distance;
+               expected = i;
+            }
+         }
+         assertThat(tree.nearest(query[0], query[1], query[2])).isEqualTo(expected);
+         assertThat(scan.nearest(query[0], query[1], query[2])).isEqualTo(expected);
+      }
+   }
+
+   @Test
+   @DisplayName("Should name colors by the nearest listed color, first listed name on ties")
+   void shouldNameNearestColor() {
+      ColorNames names = names(false, "");
+
+      NearestColorName exact = names.nearest(0x000080);
+      assertThat(exact.name()).isEqualTo("navy");
+      assertThat(exact.deltaE()).isZero();
+      NearestColorName close = names.nearest(0xFF7F51);
+      assertThat(close.name()).isEqualTo("coral");
+      assertThat(close.nameHexValue()).isEqualTo("FF7F50");
+      assertThat(close.deltaE()).isPositive();
+      // aqua and cyan share 00FFFF; aqua comes first
+      assertThat(names.nearestName("00FFFF")).isEqualTo("aqua");
+      assertThat(names.nearestName("nope")).isNull();
+      assertThat(names.getStatistics().tableState()).isEqualTo(TableState.DISABLED);
+      assertThat(names.getStatistics().searchLookups()).isEqualTo(3);
+   }
+
+   @Test
+   @DisplayName("Should resolve and search names ignoring case, spaces and hyphens")
+   void shouldResolveAndSearch() {
+      ColorNames names = names(false, "");
+
+      assertThat(names.resolve("Light Coral")).hasValue(0xF08080);
+      assertThat(names.resolve("light-coral")).hasValue(0xF08080);
+      assertThat(names.resolve("NAVY")).hasValue(0x000080);
+      assertThat(names.resolve("notacolor")).isEmpty();
+      assertThat(names.resolve(null)).isEmpty();
+
+      assertThat(names.search("coral", 5)).extracting(ColorName::name)
+               .containsExactly("coral", "lightcoral");
+      assertThat(names.search("blue", 3)).extracting(ColorName::name)
+               .containsExactly("blue", "blueviolet", "skyblue");
+      assertThatThrownBy(() -> names.search(" ", 5)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> names.search("red", 0))
+               .isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   @DisplayName("Should map a table that agrees with the search and reuse it on the next start")
+   void shouldBuildAndReuseMappedTable(@TempDir Path directory) throws Exception {
+      ColorNames first = names(true, directory.toString());
+      first.buildTable();
+      assertThat(first.getStatistics().tableState()).isEqualTo(TableState.READY);
+      assertThat(first.getStatistics().tableMapped()).isTrue();
+      assertThat(first.getStatistics().tableBytes()).isEqualTo(ColorNameTable.ENTRIES);
+      try (Stream<Path> files = Files.list(directory)) {
+         assertThat(files.map(path -> path.getFileName().toString()))
+                  .singleElement().asString().startsWith("color-names-").endsWith(".bin");
+      }
+
+      ColorNames direct = names(false, "");
+      ColorNames second = names(true, directory.toString());
+      second.buildTable();
+      Random random = new Random(3);
+      for (int n = 0; n < 20000; n++) {
+         int rgb = random.nextInt(0x1000000);
+         assertThat(second.nearest(rgb)).isEqualTo(direct.nearest(rgb));
+      }
+      assertThat(second.getStatistics().tableLookups()).isEqualTo(20000);
+      assertThat(second.getStatistics().searchLookups()).isZero();
+   }
+}
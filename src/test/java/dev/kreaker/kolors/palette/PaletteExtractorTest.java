@@ -0,0 +1,158 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.palette;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.kreaker.kolors.dto.ColorCombinationForm;
+import dev.kreaker.kolors.dto.ColorForm;
+
+@DisplayName("PaletteExtractor Tests")
+class PaletteExtractorTest {
+
+   private static ForkJoinPool pool;
+
+   @BeforeAll
+   static void startPool() {
+      pool = new ForkJoinPool(4);
+   }
+
+   @AfterAll
+   static void stopPool() {
+      pool.shutdown();
+   }
+
+   /** Opaque pixels: 60% red, 30% blue, 10% yellow, each with a little noise */
+   private static int[] threeColorPixels(int count) {
+      Random random = new Random(11);
+      int[] pixels = new int[count];
+      for (int i = 0; i < count; i++) {
+         int base = i % 10 < 6 ? 0xD02020 : i % 10 < 9 ? 0x2040C0 : 0xF0D020;
+         int noise = random.nextInt(5) - 2;
+         pixels[i] = 0xFF000000 | clamp((base >> 16) + noise) << 16
+                  | clamp(((base >> 8) & 0xFF) + noise) << 8 | clamp((base & 0xFF) + noise);
+      }
+      return pixels;
+   }
+
+   private static int clamp(int channel) {
+      return Math.max(0, Math.min(255, channel));
+   }
+
+   private static int distance(int first, int second) {
+      return Math.abs(((first >> 16) & 0xFF) - ((second >> 16) & 0xFF))
+               + Math.abs(((first >> 8) & 0xFF) - ((second >> 8) & 0xFF))
+               + Math.abs((first & 0xFF) - (second & 0xFF));
+   }
+
+   @Test
+   @DisplayName("Should find the dominant colors, most common first")
+   void shouldFindDominantColors() {
+      int[] pixels = threeColorPixels(300_000);
+      int[] out = new int[3];
+
+      int count = PaletteExtractor.extract(pixels, pixels.length, 3, pool, out);
+
+      assertThat(count).isEqualTo(3);
+      assertThat(distance(out[0], 0xD02020)).isLessThanOrEqualTo(6);
+      assertThat(distance(out[1], 0x2040C0)).isLessThanOrEqualTo(6);
+      assertThat(distance(out[2], 0xF0D020)).isLessThanOrEqualTo(6);
+   }
+
+   @Test
+   @DisplayName("Should give the same palette in parallel and on one thread")
+   void shouldBeDeterministic() {
+      int[] pixels = new int[200_000];
+      Random random = new Random(3);
+      for (int i = 0; i < pixels.length; i++) {
+         pixels[i] = 0xFF000000 | random.nextInt(0x1000000);
+      }
+      int[] parallel = new int[8];
+      int[] single = new int[8];
+      ForkJoinPool one = new ForkJoinPool(1);
+      try {
+         assertThat(PaletteExtractor.extract(pixels, pixels.length, 8, pool, parallel))
+                  .isEqualTo(PaletteExtractor.extract(pixels, pixels.length, 8, one, single))
+                  .isEqualTo(8);
+      } finally {
+         one.shutdown();
+      }
+      assertThat(parallel).containsExactly(single);
+   }
+
+   @Test
+   @DisplayName("Should return fewer colors than asked and skip transparent pixels")
+   void shouldHandleFewColors() {
+      int[] pixels = new int[1000];
+      Arrays.fill(pixels, 0, 700, 0xFF336699);
+      Arrays.fill(pixels, 700, 1000, 0x00FFFFFF);
+      int[] out = new int[5];
+
+      assertThat(PaletteExtractor.extract(pixels, pixels.length, 5, pool, out)).isEqualTo(1);
+      assertThat(out[0]).isEqualTo(0x336699);
+
+      Arrays.fill(pixels, 0x10FFFFFF);
+      assertThat(PaletteExtractor.extract(pixels, pixels.length, 5, pool, out)).isZero();
+      assertThatThrownBy(() -> PaletteExtractor.extract(pixels, pixels.length, 11, pool,
+               new int[11])).isInstanceOf(IllegalArgumentException.class);
+   }
+
+   @Test
+   @DisplayName("Should keep the subsampled image within the pixel budget")
+   void shouldChooseSubsamplingStep() {
+      assertThat(PaletteExtractionService.subsamplingStep(400, 300, 262_144)).isEqualTo(1);
+      assertThat(PaletteExtractionService.subsamplingStep(4000, 3000, 262_144)).isEqualTo(7);
+      for (int width = 1000; width < 1100; width += 7) {
+         int step = PaletteExtractionService.subsamplingStep(width, 777, 10_000);
+         long sampled = (long) ((width + step - 1) / step) * ((777 + step - 1) / step);
+         assertThat(sampled).isLessThanOrEqualTo(10_000);
+      }
+   }
+
+   @Test
+   @DisplayName("Should decode a subsampled image into a combination form")
+   void shouldExtractFromImage() throws IOException {
+      BufferedImage image = new BufferedImage(900, 600, BufferedImage.TYPE_INT_RGB);
+      for (int y = 0; y < 600; y++) {
+         for (int x = 0; x < 900; x++) {
+            image.setRGB(x, y, x < 600 ? 0x1E824C : 0xF5F5DC);
+         }
+      }
+      ByteArrayOutputStream png = new ByteArrayOutputStream();
+      ImageIO.write(image, "png", png);
+      PaletteExtractionService service = new PaletteExtractionService(10_000, 1_000_000, 2);
+      try {
+         ColorCombinationForm form = service
+                  .extract(new ByteArrayInputStream(png.toByteArray()), "Forest", 4);
+
+         assertThat(form.getName()).isEqualTo("Forest");
+         assertThat(form.getColors()).extracting(ColorForm::getHexValue)
+                  .containsExactly("1E824C", "F5F5DC");
+         assertThat(form.getColors()).extracting(ColorForm::getPosition).containsExactly(1, 2);
+         assertThat(service.getStatistics().getExtractionCount()).isEqualTo(1);
+
+         assertThatThrownBy(() -> service.extract(new ByteArrayInputStream(new byte[] {1, 2, 3}),
+                  "Broken", 4)).isInstanceOf(IllegalArgumentException.class);
+         assertThatThrownBy(() -> new PaletteExtractionService(10_000, 100, 2)
+                  .extract(new ByteArrayInputStream(png.toByteArray()), "Too big", 4))
+                           .isInstanceOf(IllegalArgumentException.class);
+      } finally {
+         service.shutdown();
+      }
+   }
+}
@@ -0,0 +1,145 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import dev.kreaker.kolors.service.PerformanceMonitoringService;
+import dev.kreaker.kolors.service.PerformanceMonitoringService.PerformanceMetric;
+
+@DisplayName("MetricSnapshotStore Tests")
+class MetricSnapshotStoreTest {
+
+   @TempDir
+   Path tempDir;
+
+   private static MetricSnapshot snapshot(String name, long count) {
+      return new MetricSnapshot(0L, name, count, count * 2_000_000L, 1_000_000L, 3_000_000L);
+   }
+
+   @Test
+   @DisplayName("Should query snapshots by time range and operation")
+   void shouldQueryByTimeRange() {
+      try (MetricSnapshotStore store = new MetricSnapshotStore(tempDir.resolve("m.dat"), 1000)) {
+         store.append(1_000L, List.of(snapshot("findAll", 1), snapshot("save", 1)));
+         store.append(2_000L, List.of(snapshot("findAll", 2), snapshot("save", 3)));
+         store.append(3_000L, List.of(snapshot("findAll", 5)));
+
+         List<MetricSnapshot> middle = store.query(1_500L, 2_500L, null, 100);
+         assertEquals(2, middle.size());
+         assertTrue(middle.stream().allMatch(s -> s.getTimestampMillis() == 2_000L));
+
+         List<MetricSnapshot> findAll = store.query(0L, Long.MAX_VALUE, "findAll", 100);
+         assertEquals(List.of(1L, 2L, 5L),
+                  findAll.stream().map(MetricSnapshot::getExecutionCount).toList());
+         assertEquals(2.0, findAll.get(0).getAverageTimeMs(), 0.001);
+
+         assertEquals(1, store.query(0L, Long.MAX_VALUE, null, 1).size());
+      }
+   }
+
+   @Test
+   @DisplayName("Should reopen the file and return the latest batch")
+   void shouldRestoreLatestBatchAfterReopen() {
+      Path file = tempDir.resolve("m.dat");
+      try (MetricSnapshotStore store = new MetricSnapshotStore(file, 1000)) {
+         store.append(1_000L, List.of(snapshot("findAll", 1)));
+         store.append(2_000L, List.of(snapshot("findAll", 4), snapshot("save", 2)));
+      }
+
+      try (MetricSnapshotStore reopened = new MetricSnapshotStore(file, 1000)) {
+         assertEquals(5, reopened.getRecordCount());
+         List<MetricSnapshot> latest = reopened.latest();
+         assertEquals(2, latest.size());
+         assertEquals("findAll", latest.get(0).getOperationName());
+         assertEquals(4, latest.get(0).getExecutionCount());
+
+         // Timestamps going backwards are clamped to keep the file ordered
+         reopened.append(500L, List.of(snapshot("findAll", 6)));
+         assertEquals(2_000L, reopened.latest().get(0).getTimestampMillis());
+      }
+   }
+
+   @Test
+   @DisplayName("Should drop the oldest batches when the store is full")
+   void shouldCompactWhenFull() {
+      try (MetricSnapshotStore store = new MetricSnapshotStore(tempDir.resolve("m.dat"), 10)) {
+         for (int i = 1; i <= 20; i++) {
+            store.append(i * 1_000L, List.of(snapshot("findAll", i), snapshot("save", i)));
+         }
+         assertTrue(store.getRecordCount() <= 10);
+         assertEquals(20, store.latest().get(0).getExecutionCount());
+         // Every surviving metric record still belongs to a complete batch
+         List<MetricSnapshot> all = store.query(0L, Long.MAX_VALUE, null, 100);
+         assertEquals(0, all.size() % 2);
+      }
+   }
+
+   @Test
+   @DisplayName("Should truncate long names without splitting UTF-8 characters")
+   void shouldTruncateLongNames() {
+      String longName = "é".repeat(100);
+      try (MetricSnapshotStore store = new MetricSnapshotStore(tempDir.resolve("m.dat"), 100)) {
+         store.append(1_000L, List.of(snapshot(longName, 1)));
+         String stored = store.latest().get(0).getOperationName();
+         assertTrue(longName.startsWith(stored));
+         assertTrue(stored.getBytes(StandardCharsets.UTF_8).length
+                  <= MetricSnapshotStore.MAX_NAME_BYTES);
+      }
+   }
+
+   @Test
+   @DisplayName("Should reject files that are not snapshot stores")
+   void shouldRejectForeignFiles() throws Exception {
+      Path file = tempDir.resolve("other.dat");
+      Files.write(file, new byte[256]);
+      assertThrows(IllegalStateException.class, () -> new MetricSnapshotStore(file, 100));
+   }
+
+   @Test
+   @DisplayName("Should round-trip metrics through PerformanceMonitoringService")
+   void shouldRoundTripServiceMetrics() {
+      PerformanceMonitoringService source = new PerformanceMonitoringService();
+      source.recordDatabaseOperation("ColorCombinationRepository.findAll", Duration.ofMillis(5));
+      source.recordDatabaseOperation("ColorCombinationRepository.findAll", Duration.ofMillis(15));
+
+      PerformanceMonitoringService restored = new PerformanceMonitoringService();
+      try (MetricSnapshotStore store = new MetricSnapshotStore(tempDir.resolve("m.dat"), 100)) {
+         store.append(1_000L, source.snapshotMetrics(1_000L));
+         restored.restoreMetrics(store.latest());
+      }
+
+      PerformanceMetric metric = restored.getMetrics("ColorCombinationRepository.findAll");
+      assertEquals(2, metric.getExecutionCount());
+      assertEquals(10.0, metric.getAverageTimeMs(), 0.001);
+      assertEquals(5, metric.getMinTimeMs());
+      assertEquals(15, metric.getMaxTimeMs());
+      assertEquals(2, restored.getDatabasePerformanceSummary().getTotalQueries());
+   }
+
+   @Test
+   @DisplayName("Should be created as a bean from its configuration properties")
+   void shouldCreateBeanFromProperties() {
+      new ApplicationContextRunner().withUserConfiguration(MetricSnapshotStore.class)
+               .withPropertyValues("kolors.performance.snapshots.enabled=true",
+                        "kolors.performance.snapshots.file=" + tempDir.resolve("bean.dat"),
+                        "kolors.performance.snapshots.max-records=100")
+               .run(context -> {
+                  assertNull(context.getStartupFailure());
+                  assertEquals(0, context.getBean(MetricSnapshotStore.class).latest().size());
+               });
+   }
+}
@@ -0,0 +1,93 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ColorBitmapIndex Tests")
+class ColorBitmapIndexTest {
+
+   private static final int RED = 0xFF0000;
+   private static final int GREEN = 0x00FF00;
+   private static final int BLUE = 0x0000FF;
+
+   @Test
+   @DisplayName("Should answer contains all and contains any, highest ID first")
+   void shouldContainColors() {
+      ColorBitmapIndex index = new ColorBitmapIndex(null);
+      index.put(1L, new int[] {RED, GREEN});
+      index.put(2L, new int[] {RED, GREEN, BLUE});
+      index.put(3L, new int[] {BLUE});
+
+      assertThat(index.containingAll(new int[] {RED, GREEN})).containsExactly(2L, 1L);
+      assertThat(index.containingAll(new int[] {GREEN, BLUE})).containsExactly(2L);
+      assertThat(index.containingAll(new int[] {RED, 0x123456})).isEmpty();
+      assertThat(index.containingAny(new int[] {GREEN, BLUE})).containsExactly(3L, 2L, 1L);
+      assertThat(index.containingAny(new int[] {0x123456})).isEmpty();
+      assertThat(index.getStatistics().queryCount()).isEqualTo(5);
+   }
+
+   @Test
+   @DisplayName("Should hide deleted and replaced palettes behind tombstones")
+   void shouldTombstone() {
+      ColorBitmapIndex index = new ColorBitmapIndex(null);
+      index.put(1L, new int[] {RED, GREEN});
+      index.put(2L, new int[] {RED});
+
+      index.remove(2L);
+      index.put(1L, new int[] {BLUE});
+
+      assertThat(index.containingAny(new int[] {RED, GREEN})).isEmpty();
+      assertThat(index.containingAll(new int[] {BLUE})).containsExactly(1L);
+      assertThat(index.size()).isEqualTo(1);
+      assertThat(index.getStatistics().tombstones()).isEqualTo(2);
+   }
+
+   @Test
+   @DisplayName("Should match a brute-force scan through updates, deletes and compactions")
+   void shouldMatchBruteForce() {
+      Random random = new Random(5);
+      int[] palette = new int[40];
+      Arrays.setAll(palette, i -> random.nextInt(0x1000000));
+      ColorBitmapIndex index = new ColorBitmapIndex(null);
+      Map<Long, int[]> expected = new HashMap<>();
+      for (int step = 0; step < 20_000; step++) {
+         long id = 1 + random.nextInt(1500);
+         if (random.nextInt(4) == 0) {
+            index.remove(id);
+            expected.remove(id);
+         } else {
+            int[] colors = new int[1 + random.nextInt(5)];
+            Arrays.setAll(colors, i -> palette[random.nextInt(palette.length)]);
+            index.put(id, colors);
+            expected.put(id, colors);
+         }
+      }
+
+      assertThat(index.getStatistics().compactions()).isPositive();
+      assertThat(index.size()).isEqualTo(expected.size());
+      for (int query = 0; query < 100; query++) {
+         int[] colors = {palette[random.nextInt(palette.length)],
+                  palette[random.nextInt(palette.length)]};
+         assertThat(index.containingAll(colors)).containsExactly(scan(expected, colors, true));
+         assertThat(index.containingAny(colors)).containsExactly(scan(expected, colors, false));
+      }
+   }
+
+   private static long[] scan(Map<Long, int[]> palettes, int[] colors, boolean all) {
+      return palettes.entrySet().stream().filter(entry -> {
+         long found = Arrays.stream(colors)
+                  .filter(color -> Arrays.stream(entry.getValue()).anyMatch(c -> c == color))
+                  .count();
+         return all ? found == colors.length : found > 0;
+      }).mapToLong(Map.Entry::getKey).boxed().sorted((a, b) -> Long.compare(b, a))
+               .mapToLong(Long::longValue).toArray();
+   }
+}
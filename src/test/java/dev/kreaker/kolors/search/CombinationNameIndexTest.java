@@ -0,0 +1,65 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.kreaker.kolors.dto.CombinationSuggestion;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
+
+@DisplayName("CombinationNameIndex Tests")
+class CombinationNameIndexTest {
+
+   private CombinationNameIndex index;
+
+   @BeforeEach
+   void setUp() {
+      index = new CombinationNameIndex(null, 5);
+      index.put(1L, "Ocean Breeze");
+      index.put(2L, "Deep Ocean");
+      index.put(3L, "Café Crème");
+      index.put(4L, "Sunset-Orange");
+   }
+
+   private List<Long> ids(String query, int limit) {
+      return index.suggest(query, limit).stream().map(CombinationSuggestion::id).toList();
+   }
+
+   @Test
+   @DisplayName("Should match whole-name prefixes before word prefixes")
+   void shouldRankWholeNameMatchesFirst() {
+      assertThat(ids("oce", 10)).containsExactly(1L, 2L);
+      assertThat(ids("deep o", 10)).containsExactly(2L);
+      assertThat(ids("breeze", 10)).containsExactly(1L);
+      assertThat(ids("oce", 1)).containsExactly(1L);
+   }
+
+   @Test
+   @DisplayName("Should ignore case, accents and punctuation")
+   void shouldNormalizeNamesAndQueries() {
+      assertThat(ids("CAFE CRE", 10)).containsExactly(3L);
+      assertThat(ids("sunset orange", 10)).containsExactly(4L);
+      assertThat(index.suggest("creme", 10)).containsExactly(
+               new CombinationSuggestion(3L, "Café Crème"));
+      assertThat(ids("  ", 10)).isEmpty();
+   }
+
+   @Test
+   @DisplayName("Should follow renames and deletes from change events")
+   void shouldApplyChangeEvents() {
+      index.onChange(new CombinationChangeEvent(CombinationChangeEvent.Type.UPDATED, 1L,
+               "Forest Breeze", 2, 1L, null));
+      index.onChange(CombinationChangeEvent.deleted(2L));
+
+      assertThat(ids("ocean", 10)).isEmpty();
+      assertThat(ids("forest", 10)).containsExactly(1L);
+      assertThat(ids("breeze", 10)).containsExactly(1L);
+      assertThat(index.size()).isEqualTo(3);
+      assertThat(index.getStatistics().getKeyCount()).isEqualTo(6);
+   }
+}
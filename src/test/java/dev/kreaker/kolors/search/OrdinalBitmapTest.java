@@ -0,0 +1,92 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrdinalBitmap Tests")
+class OrdinalBitmapTest {
+
+   @Test
+   @DisplayName("Should match a sorted set for AND, OR and AND NOT on sparse and dense containers")
+   void shouldMatchSortedSet() {
+      Random random = new Random(11);
+      for (int trial = 0; trial < 50; trial++) {
+         // Alternate sparse (array) and dense (bitmap) containers over three high keys
+         TreeSet<Integer> first = randomSet(random, trial % 2 == 0 ? 300 : 20_000);
+         TreeSet<Integer> second = randomSet(random, trial % 3 == 0 ? 20_000 : 500);
+         OrdinalBitmap left = bitmapOf(first);
+         OrdinalBitmap right = bitmapOf(second);
+
+         TreeSet<Integer> and = new TreeSet<>(first);
+         and.retainAll(second);
+         TreeSet<Integer> or = new TreeSet<>(first);
+         or.addAll(second);
+         TreeSet<Integer> andNot = new TreeSet<>(first);
+         andNot.removeAll(second);
+
+         assertThat(left.toArray()).containsExactly(toArray(first));
+         assertThat(left.and(right).toArray()).containsExactly(toArray(and));
+         assertThat(left.or(right).toArray()).containsExactly(toArray(or));
+         assertThat(left.andNot(right).toArray()).containsExactly(toArray(andNot));
+         assertThat(left.or(right).cardinality()).isEqualTo(or.size());
+         int probe = random.nextInt(3 << 16);
+         assertThat(left.contains(probe)).isEqualTo(first.contains(probe));
+      }
+   }
+
+   @Test
+   @DisplayName("Should leave operands unchanged and drop empty containers")
+   void shouldNotModifyOperands() {
+      OrdinalBitmap left = OrdinalBitmap.of(1, 2, 70_000);
+      OrdinalBitmap right = OrdinalBitmap.of(2, 70_000);
+
+      assertThat(left.andNot(right).toArray()).containsExactly(1);
+      assertThat(right.andNot(left).isEmpty()).isTrue();
+      assertThat(left.toArray()).containsExactly(1, 2, 70_000);
+      assertThat(right.toArray()).containsExactly(2, 70_000);
+   }
+
+   @Test
+   @DisplayName("Should keep ascending ordinals compact")
+   void shouldStayCompact() {
+      OrdinalBitmap dense = new OrdinalBitmap();
+      for (int i = 0; i < 200_000; i++) {
+         dense.add(i);
+      }
+      OrdinalBitmap sparse = new OrdinalBitmap();
+      for (int i = 0; i < 200_000; i += 1000) {
+         sparse.add(i);
+      }
+
+      assertThat(dense.cardinality()).isEqualTo(200_000);
+      assertThat(dense.sizeInBytes()).isLessThan(40_000);
+      assertThat(sparse.sizeInBytes()).isLessThan(1_000);
+      assertThatThrownBy(() -> dense.add(-1)).isInstanceOf(IllegalArgumentException.class);
+   }
+
+   private static TreeSet<Integer> randomSet(Random random, int count) {
+      TreeSet<Integer> values = new TreeSet<>();
+      for (int i = 0; i < count; i++) {
+         values.add(random.nextInt(3) << 16 | random.nextInt(OrdinalBitmap.ARRAY_LIMIT * 4));
+      }
+      return values;
+   }
+
+   private static OrdinalBitmap bitmapOf(TreeSet<Integer> values) {
+      OrdinalBitmap bitmap = new OrdinalBitmap();
+      // Out of order on purpose: inserts must keep containers sorted
+      values.descendingSet().forEach(bitmap::add);
+      return bitmap;
+   }
+
+   private static int[] toArray(TreeSet<Integer> values) {
+      return values.stream().mapToInt(Integer::intValue).toArray();
+   }
+}
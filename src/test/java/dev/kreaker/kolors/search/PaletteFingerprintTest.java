@@ -0,0 +1,48 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PaletteFingerprint Tests")
+class PaletteFingerprintTest {
+
+   private static final int[] RGB = {0xFF0000, 0x00FF00, 0x0000FF};
+   private static final int[] BGR = {0x0000FF, 0x00FF00, 0xFF0000};
+   private static final int[] RGB_NUDGED = {0xFE0000, 0x00FF01, 0x0000FE};
+
+   @Test
+   @DisplayName("Should tell order apart only in the ordered hash")
+   void shouldHashOrder() {
+      assertThat(PaletteFingerprint.ordered(RGB)).isEqualTo(PaletteFingerprint.ordered(RGB.clone()))
+               .isNotEqualTo(PaletteFingerprint.ordered(BGR));
+      assertThat(PaletteFingerprint.unordered(RGB)).isEqualTo(PaletteFingerprint.unordered(BGR))
+               .isNotEqualTo(PaletteFingerprint.unordered(RGB_NUDGED));
+      assertThat(PaletteFingerprint.unordered(RGB)).isNotEqualTo(PaletteFingerprint.ordered(RGB));
+   }
+
+   @Test
+   @DisplayName("Should count colors, so a repeated color changes every hash")
+   void shouldHashLength() {
+      int[] repeated = {0xFF0000, 0xFF0000, 0x00FF00, 0x0000FF};
+
+      assertThat(PaletteFingerprint.unordered(repeated))
+               .isNotEqualTo(PaletteFingerprint.unordered(RGB));
+      assertThat(PaletteFingerprint.signature(repeated, false))
+               .isNotEqualTo(PaletteFingerprint.signature(RGB, false));
+   }
+
+   @Test
+   @DisplayName("Should share a signature between nearly equal palettes in any order")
+   void shouldShareSignatures() {
+      assertThat(PaletteFingerprint.signature(RGB_NUDGED, false))
+               .isEqualTo(PaletteFingerprint.signature(RGB, false))
+               .isEqualTo(PaletteFingerprint.signature(BGR, false));
+      assertThat(PaletteFingerprint.signature(RGB, true))
+               .isNotEqualTo(PaletteFingerprint.signature(RGB, false));
+      assertThat(PaletteFingerprint.signature(new int[] {0x336699, 0x993366}, false))
+               .isNotEqualTo(PaletteFingerprint.signature(RGB, false));
+   }
+}
@@ -0,0 +1,97 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.kreaker.kolors.dto.SimilarCombination;
+
+@DisplayName("PaletteSimilarityIndex Tests")
+class PaletteSimilarityIndexTest {
+
+   private static final int[] SUNSET = {0xFF5733, 0xFFC300, 0xC70039};
+
+   @Test
+   @DisplayName("Should measure palette distance regardless of color order")
+   void shouldIgnoreColorOrder() {
+      float[] sunset = PaletteDistance.toLab(SUNSET);
+      float[] shuffled = PaletteDistance.toLab(new int[] {0xC70039, 0xFF5733, 0xFFC300});
+      float[] nudged = PaletteDistance.toLab(new int[] {0xFFC301, 0xC7003A, 0xFF5734});
+      float[] ocean = PaletteDistance.toLab(new int[] {0x003F5C, 0x2F4B7C, 0x665191});
+
+      assertThat(PaletteDistance.distance(sunset, shuffled)).isZero();
+      assertThat(PaletteDistance.distance(sunset, nudged)).isLessThan(1.0);
+      assertThat(PaletteDistance.distance(sunset, ocean)).isGreaterThan(30.0);
+      assertThat(PaletteDistance.distance(sunset, ocean))
+               .isCloseTo(PaletteDistance.distance(ocean, sunset), within(1e-9));
+   }
+
+   @Test
+   @DisplayName("Should charge unmatched colors their distance to the nearest color")
+   void shouldCompareDifferentSizes() {
+      float[] pair = PaletteDistance.toLab(new int[] {0xFF0000, 0x0000FF});
+      float[] withExtraRed = PaletteDistance.toLab(new int[] {0x0000FF, 0xFF0000, 0xFF0000});
+      float[] white = PaletteDistance.toLab(new int[] {0xFFFFFF});
+
+      assertThat(PaletteDistance.distance(pair, withExtraRed)).isZero();
+      assertThat(PaletteDistance.distance(white, pair))
+               .isCloseTo(PaletteDistance.distance(pair, white), within(1e-9));
+
+      float[] lab = new float[3];
+      PaletteDistance.toLab(0xFFFFFF, lab, 0);
+      assertThat(lab[0]).isCloseTo(100f, within(0.01f));
+      assertThat(lab[1]).isCloseTo(0f, within(0.01f));
+   }
+
+   @Test
+   @DisplayName("Should find the nearest palette through the shortlist")
+   void shouldMatchExhaustiveSearch() {
+      Random random = new Random(7);
+      PaletteSimilarityIndex index = new PaletteSimilarityIndex(null, null, 64, 10);
+      PaletteSimilarityIndex exhaustive = new PaletteSimilarityIndex(null, null, 5000, 10);
+      for (long id = 1; id <= 3000; id++) {
+         int[] colors = IntStream.range(0, 2 + random.nextInt(5))
+                  .map(i -> random.nextInt(0x1000000)).toArray();
+         index.put(id, "Palette " + id, colors);
+         exhaustive.put(id, "Palette " + id, colors);
+      }
+      int[] nearSunset = {0xC5003B, 0xFF5A30, 0xFFC005};
+      index.put(5000L, "Near Sunset", nearSunset);
+      exhaustive.put(5000L, "Near Sunset", nearSunset);
+
+      List<SimilarCombination> found = index.findSimilar(SUNSET, 5);
+      assertThat(found.get(0).id()).isEqualTo(5000L);
+      assertThat(found.get(0).colors()).containsExactly("C5003B", "FF5A30", "FFC005");
+      assertThat(found)
+               .isSortedAccordingTo(Comparator.comparingDouble(SimilarCombination::distance));
+      assertThat(found.get(0)).isEqualTo(exhaustive.findSimilar(SUNSET, 5).get(0));
+      assertThat(index.getStatistics().getAverageComparisons()).isLessThanOrEqualTo(64);
+   }
+
+   @Test
+   @DisplayName("Should exclude the queried palette and follow replacements and removals")
+   void shouldFollowUpdates() {
+      PaletteSimilarityIndex index = new PaletteSimilarityIndex(null, null, 16, 10);
+      index.put(1L, "Sunset", SUNSET);
+      index.put(2L, "Sunset Copy", SUNSET);
+      index.put(3L, "Ocean", new int[] {0x003F5C, 0x2F4B7C});
+
+      assertThat(index.findSimilar(1L, 10).orElseThrow()).extracting(SimilarCombination::id)
+               .containsExactly(2L, 3L);
+
+      index.put(2L, "Now Ocean", new int[] {0x003F5C, 0x2F4B7C});
+      index.remove(3L);
+      assertThat(index.findSimilar(1L, 10).orElseThrow()).extracting(SimilarCombination::name)
+               .containsExactly("Now Ocean");
+      assertThat(index.findSimilar(3L, 10)).isEmpty();
+      assertThat(index.size()).isEqualTo(2);
+   }
+}
@@ -23,6 +23,7 @@ import dev.kreaker.kolors.ColorCombination;
 import dev.kreaker.kolors.ColorCombinationRepository;
 import dev.kreaker.kolors.ColorInCombination;
 import dev.kreaker.kolors.ColorInCombinationRepository;
+import dev.kreaker.kolors.dto.ColorCombinationSummary;
 import dev.kreaker.kolors.exception.InvalidColorFormatException;
 
 /** Tests for search functionality in ColorCombinationService */
@@ -47,7 +48,7 @@ class ColorCombinationSearchServiceTest {
    @BeforeEach
    void setUp() {
       colorCombinationService = new ColorCombinationService(colorCombinationRepository,
-               colorInCombinationRepository, colorPositionService);
+               colorInCombinationRepository, colorPositionService, event -> {});
 
       // Create test combinations
       testCombination1 = new ColorCombination("Sunset Colors", 3);
@@ -324,6 +325,35 @@ class ColorCombinationSearchServiceTest {
                .hasMessageContaining("Minimum colors cannot be greater than maximum colors");
    }
 
+   @Test
+   void testSearchSummaries_AttachesOrderedHexValues() {
+      // Given
+      Pageable pageable = PageRequest.of(0, 10);
+      ColorCombinationSummary ocean = new ColorCombinationSummary(2L, "Ocean Blues", 2, null, null);
+      ColorCombinationSummary sunset = new ColorCombinationSummary(1L, "Sunset Colors", 1, null,
+               null);
+      when(colorCombinationRepository.findSummariesWithFilters("Blues", null, null, pageable))
+               .thenReturn(new PageImpl<>(List.of(ocean, sunset), pageable, 2));
+      when(colorInCombinationRepository.findHexValuesByCombinationIds(List.of(2L, 1L)))
+               .thenReturn(List.of(new Object[] {1L, "FF5733"}, new Object[] {2L, "0077BE"},
+                        new Object[] {2L, "87CEEB"}));
+
+      // When
+      Page<ColorCombinationSummary> results =
+               colorCombinationService.searchSummaries(" Blues ", null, null, null, pageable);
+
+      // Then
+      assertThat(results.getTotalElements()).isEqualTo(2);
+      assertThat(results.getContent()).extracting(ColorCombinationSummary::hexValues)
+               .containsExactly(List.of("0077BE", "87CEEB"), List.of("FF5733"));
+   }
+
+   @Test
+   void testSearchSummaries_InvalidHexValue() {
+      assertThatThrownBy(() -> colorCombinationService.searchSummaries(null, null, null, "XYZ",
+               PageRequest.of(0, 10))).isInstanceOf(InvalidColorFormatException.class);
+   }
+
    @Test
    void testIsValidHexColor() {
       // Valid hex colors
@@ -22,9 +22,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +38,7 @@ import dev.kreaker.kolors.ColorInCombination;
 import dev.kreaker.kolors.ColorInCombinationRepository;
 import dev.kreaker.kolors.dto.ColorCombinationForm;
 import dev.kreaker.kolors.dto.ColorForm;
+import dev.kreaker.kolors.event.CombinationChangeEvent;
 import dev.kreaker.kolors.exception.ColorCombinationNotFoundException;
 import dev.kreaker.kolors.exception.ColorCombinationValidationException;
 import dev.kreaker.kolors.exception.InvalidColorFormatException;
@@ -53,6 +56,9 @@ class ColorCombinationServiceTest {
    @Mock
    private ColorPositionService colorPositionService;
 
+   @Mock
+   private ApplicationEventPublisher eventPublisher;
+
    @InjectMocks
    private ColorCombinationService colorCombinationService;
 
@@ -97,6 +103,11 @@ class ColorCombinationServiceTest {
          assertThat(result.getColors()).hasSize(3);
 
          verify(colorCombinationRepository).save(any(ColorCombination.class));
+         ArgumentCaptor<CombinationChangeEvent> event =
+                  ArgumentCaptor.forClass(CombinationChangeEvent.class);
+         verify(eventPublisher).publishEvent(event.capture());
+         assertThat(event.getValue().type()).isEqualTo(CombinationChangeEvent.Type.CREATED);
+         assertThat(event.getValue().combinationId()).isEqualTo(1L);
       }
 
       @Test
@@ -0,0 +1,63 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.service;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import dev.kreaker.kolors.accessibility.ColorVisionScoringJob;
+import dev.kreaker.kolors.accessibility.ContrastBackfill;
+import dev.kreaker.kolors.search.DuplicateClusteringJob;
+import dev.kreaker.kolors.search.FingerprintBackfill;
+import dev.kreaker.kolors.search.PerceptualBackfill;
+
+@DisplayName("StartupBackfills Tests")
+class StartupBackfillsTest {
+
+   private final ContrastBackfill contrast = mock(ContrastBackfill.class);
+   private final PerceptualBackfill perceptual = mock(PerceptualBackfill.class);
+   private final FingerprintBackfill fingerprints = mock(FingerprintBackfill.class);
+   private final ColorVisionScoringJob colorVision = mock(ColorVisionScoringJob.class);
+   private final DuplicateClusteringJob clustering = mock(DuplicateClusteringJob.class);
+
+   @Test
+   @DisplayName("Should run every backfill one after another in a fixed order")
+   void shouldRunBackfillsInOrder() {
+      StaticListableBeanFactory beans = new StaticListableBeanFactory(
+               Map.of("colorVisionScoringJob", colorVision, "duplicateClusteringJob", clustering));
+      StartupBackfills backfills = new StartupBackfills(contrast, perceptual, fingerprints,
+               beans.getBeanProvider(ColorVisionScoringJob.class),
+               beans.getBeanProvider(DuplicateClusteringJob.class));
+
+      backfills.run();
+
+      InOrder order = inOrder(contrast, perceptual, fingerprints, colorVision, clustering);
+      order.verify(contrast).backfill();
+      order.verify(perceptual).backfill();
+      order.verify(fingerprints).backfill();
+      order.verify(colorVision).run();
+      order.verify(clustering).run();
+   }
+
+   @Test
+   @DisplayName("Should skip the jobs that are disabled")
+   void shouldSkipDisabledJobs() {
+      StaticListableBeanFactory beans = new StaticListableBeanFactory();
+      StartupBackfills backfills = new StartupBackfills(contrast, perceptual, fingerprints,
+               beans.getBeanProvider(ColorVisionScoringJob.class),
+               beans.getBeanProvider(DuplicateClusteringJob.class));
+
+      backfills.run();
+
+      verify(contrast).backfill();
+      verify(perceptual).backfill();
+      verify(fingerprints).backfill();
+   }
+}
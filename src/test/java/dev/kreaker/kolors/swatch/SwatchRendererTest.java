@@ -0,0 +1,102 @@
+/* (c) 2026 Alejandro Lopez Monzon <alejandro@kreaker.dev> for Kreaker Developments */
+package dev.kreaker.kolors.swatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SwatchRenderer Tests")
+class SwatchRendererTest {
+
+   private static final int[] RGB =
+            SwatchRenderer.parseColors(List.of("FF0000", "#00FF00", "0000FF"));
+
+   private final SwatchRenderer renderer = new SwatchRenderer();
+
+   private byte[] render(int[] colors, SwatchLayout layout, SwatchFormat format, int width,
+            int height) throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      renderer.render(colors, layout, format, width, height, out);
+      return out.toByteArray();
+   }
+
+   private BufferedImage renderPng(int[] colors, SwatchLayout layout, int width, int height)
+            throws IOException {
+      return ImageIO.read(
+               new ByteArrayInputStream(render(colors, layout, SwatchFormat.PNG, width, height)));
+   }
+
+   private static int rgb(BufferedImage image, int x, int y) {
+      return image.getRGB(x, y) & 0xFFFFFF;
+   }
+
+   @Test
+   @DisplayName("Should encode a strip as equal vertical bands")
+   void shouldRenderStripPng() throws IOException {
+      BufferedImage image = renderPng(RGB, SwatchLayout.STRIP, 300, 40);
+
+      assertThat(image.getWidth()).isEqualTo(300);
+      assertThat(image.getHeight()).isEqualTo(40);
+      assertThat(rgb(image, 0, 0)).isEqualTo(0xFF0000);
+      assertThat(rgb(image, 99, 39)).isEqualTo(0xFF0000);
+      assertThat(rgb(image, 100, 20)).isEqualTo(0x00FF00);
+      assertThat(rgb(image, 299, 39)).isEqualTo(0x0000FF);
+   }
+
+   @Test
+   @DisplayName("Should fill a grid row by row and stretch the last row")
+   void shouldRenderGridPng() throws IOException {
+      BufferedImage image = renderPng(RGB, SwatchLayout.GRID, 200, 200);
+
+      assertThat(rgb(image, 50, 50)).isEqualTo(0xFF0000);
+      assertThat(rgb(image, 150, 50)).isEqualTo(0x00FF00);
+      assertThat(rgb(image, 50, 150)).isEqualTo(0x0000FF);
+      assertThat(rgb(image, 150, 150)).isEqualTo(0x0000FF);
+   }
+
+   @Test
+   @DisplayName("Should interpolate a gradient between neighbouring colors")
+   void shouldRenderGradientPng() throws IOException {
+      BufferedImage image = renderPng(SwatchRenderer.parseColors(List.of("000000", "FFFFFF")),
+               SwatchLayout.GRADIENT, 101, 10);
+
+      assertThat(rgb(image, 0, 5)).isEqualTo(0x000000);
+      assertThat(rgb(image, 50, 5)).isEqualTo(0x808080);
+      assertThat(rgb(image, 100, 5)).isEqualTo(0xFFFFFF);
+   }
+
+   @Test
+   @DisplayName("Should write one rectangle per color or a gradient definition as SVG")
+   void shouldRenderSvg() throws IOException {
+      String strip = new String(render(RGB, SwatchLayout.STRIP, SwatchFormat.SVG, 300, 40),
+               StandardCharsets.UTF_8);
+      String gradient = new String(render(RGB, SwatchLayout.GRADIENT, SwatchFormat.SVG, 300, 40),
+               StandardCharsets.UTF_8);
+
+      assertThat(strip).startsWith("<svg").endsWith("</svg>")
+               .contains("<rect x=\"0\" y=\"0\" width=\"100\" height=\"40\" fill=\"#FF0000\"/>")
+               .contains("<rect x=\"200\" y=\"0\" width=\"100\" height=\"40\" fill=\"#0000FF\"/>");
+      assertThat(gradient).contains("<linearGradient")
+               .contains("<stop offset=\"50.0%\" stop-color=\"#00FF00\"/>");
+   }
+
+   @Test
+   @DisplayName("Should reject invalid colors and empty palettes")
+   void shouldRejectInvalidInput() {
+      assertThatThrownBy(() -> SwatchRenderer.parseColors(List.of("GG0000")))
+               .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> render(new int[0], SwatchLayout.STRIP, SwatchFormat.PNG, 10, 10))
+               .isInstanceOf(IllegalArgumentException.class);
+   }
+}